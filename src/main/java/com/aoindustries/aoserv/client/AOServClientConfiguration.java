@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -129,6 +129,38 @@ final public class AOServClientConfiguration {
 		return S==null || S.length()==0 ? AOPool.DEFAULT_MAX_CONNECTION_AGE : Long.parseLong(S);
 	}
 
+	/**
+	 * Gets the loopback port of the local cache.
+	 *
+	 * @see  LocalCacheConnector
+	 * @see  LocalCacheServer
+	 */
+	static Port getLocalPort() throws ConfigurationException {
+		try {
+			return Port.valueOf(
+				Integer.parseInt(getProperty("aoserv.client.local.port")),
+				com.aoapps.net.Protocol.TCP
+			);
+		} catch(ValidationException e) {
+			throw new ConfigurationException(e);
+		}
+	}
+
+	/**
+	 * Gets the local cache pool size.
+	 */
+	static int getLocalConnectionPoolSize() throws ConfigurationException {
+		return Integer.parseInt(getProperty("aoserv.client.local.connection.pool.size"));
+	}
+
+	/**
+	 * Gets the local cache connection max age in milliseconds.
+	 */
+	static long getLocalConnectionMaxAge() throws ConfigurationException {
+		String S = getProperty("aoserv.client.local.connection.max_age");
+		return S==null || S.length()==0 ? AOPool.DEFAULT_MAX_CONNECTION_AGE : Long.parseLong(S);
+	}
+
 	/**
 	 * Gets the SSL hostname to connect to.
 	 */
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -75,4 +75,10 @@ abstract public class AOServConnection implements Closeable {
 	 * Gets the stream to read from the server.
 	 */
 	abstract StreamableInput getResponseIn() throws IOException;
+
+	/**
+	 * Gets the number of bytes read from the server so far, or <code>-1</code>
+	 * when unknown.  This includes any bytes read ahead into buffers.
+	 */
+	abstract long getBytesRead();
 }
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,9 +28,11 @@ import com.aoapps.hodgepodge.io.stream.StreamWritable;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.hodgepodge.sort.ComparisonSortAlgorithm;
+import com.aoapps.hodgepodge.sort.JavaSort;
 import com.aoapps.hodgepodge.table.TableListener;
 import com.aoapps.lang.Throwables;
 import com.aoapps.lang.exception.ConfigurationException;
+import com.aoapps.lang.exception.WrappedException;
 import com.aoapps.lang.io.IoUtils;
 import com.aoapps.net.DomainLabel;
 import com.aoapps.net.DomainLabels;
@@ -53,20 +55,29 @@ import com.aoindustries.aoserv.client.linux.LinuxId;
 import com.aoindustries.aoserv.client.linux.PosixPath;
 import com.aoindustries.aoserv.client.linux.User.Gecos;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.ForeignKey;
 import com.aoindustries.aoserv.client.schema.Table;
+import com.aoindustries.aoserv.client.schema.TableTable;
 import com.aoindustries.aoserv.client.sql.SQLComparator;
 import com.aoindustries.aoserv.client.sql.SQLExpression;
+import com.aoindustries.aoserv.client.sql.SQLSortKeys;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.security.SecureRandom;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -298,6 +309,34 @@ abstract public class AOServConnector implements SchemaParent {
 	private final SimpleAOClient simpleAOClient;
 	public SimpleAOClient getSimpleAOClient() {return simpleAOClient;}
 
+	private final ValuePool valuePool = new ValuePool();
+
+	/**
+	 * Gets the pool deduplicating the values read into the rows of this connector.
+	 */
+	public ValuePool getValuePool() {
+		return valuePool;
+	}
+
+	/**
+	 * Estimates the heap retained by the rows and indexes cached by each table
+	 * of this connector, in table order, skipping tables with nothing cached on
+	 * the heap.  Values shared between tables are counted once.  Tables shared
+	 * by all connectors, such as {@link GlobalTable}, are included in the
+	 * estimates of every connector.
+	 *
+	 * @see  AOServTable#getHeapEstimate()
+	 */
+	public List<HeapEstimate> getHeapEstimates() {
+		HeapEstimator estimator = new HeapEstimator();
+		List<HeapEstimate> estimates = new ArrayList<>();
+		for(AOServTable<?, ?> table : tables) {
+			HeapEstimate estimate = table.estimateHeap(estimator);
+			if(estimate != null) estimates.add(estimate);
+		}
+		return Collections.unmodifiableList(estimates);
+	}
+
 	protected AOServConnector(
 		HostAddress hostname,
 		InetAddress local_ip,
@@ -567,6 +606,103 @@ abstract public class AOServConnector implements SchemaParent {
 		}
 	}
 
+	/**
+	 * Gets the given tables along with all the tables they reference,
+	 * directly or indirectly, as determined by the schema foreign keys.
+	 *
+	 * @param  roots  the tables to start from
+	 *
+	 * @return  the roots and all referenced tables
+	 */
+	public Set<Table.TableID> getReferencedTables(Iterable<Table.TableID> roots) throws IOException, SQLException {
+		Set<Table.TableID> found = EnumSet.noneOf(Table.TableID.class);
+		List<Table.TableID> toVisit = new ArrayList<>();
+		for(Table.TableID root : roots) {
+			if(found.add(root)) toVisit.add(root);
+		}
+		TableTable schemaTables = getSchema().getTable();
+		while(!toVisit.isEmpty()) {
+			Table.TableID tableID = toVisit.remove(toVisit.size() - 1);
+			Table schemaTable = schemaTables.get(tableID);
+			if(schemaTable != null) {
+				for(ForeignKey key : schemaTable.getSchemaForeignKeys(this)) {
+					Table.TableID referenced = key.getForeignColumn(this).getTable(this).getTableID();
+					if(found.add(referenced)) toVisit.add(referenced);
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Loads the tables of the given profile, along with all the tables they reference,
+	 * concurrently.
+	 *
+	 * @see  #prefetch(java.lang.Iterable)
+	 */
+	public void prefetch(PrefetchProfile profile) throws IOException, SQLException {
+		prefetch(profile.getRoots());
+	}
+
+	/**
+	 * Loads the given tables, along with all the tables they reference,
+	 * concurrently.
+	 *
+	 * @see  #prefetch(java.lang.Iterable)
+	 */
+	public void prefetch(Table.TableID ... roots) throws IOException, SQLException {
+		prefetch(Arrays.asList(roots));
+	}
+
+	/**
+	 * Loads the given tables, along with all the tables they reference,
+	 * concurrently.  Navigating the object graph on a cold cache otherwise loads
+	 * one table at a time, in sequence, as each is first touched.  After prefetch,
+	 * the first use takes about as long as the slowest table instead of the sum of all.
+	 * <p>
+	 * Only cached tables that are not already loaded are fetched.  Returns once
+	 * all have been loaded.
+	 * </p>
+	 *
+	 * @param  roots  the tables to start from
+	 *
+	 * @see  #getReferencedTables(java.lang.Iterable)
+	 */
+	public void prefetch(Iterable<Table.TableID> roots) throws IOException, SQLException {
+		List<Future<?>> futures = new ArrayList<>();
+		for(Table.TableID tableID : getReferencedTables(roots)) {
+			final AOServTable<?, ?> table = getTable(tableID.ordinal());
+			if(
+				(table instanceof CachedTable<?, ?> || table instanceof GlobalTable<?, ?>)
+				&& !table.isLoaded()
+			) {
+				futures.add(executorService.submit(() -> {
+					table.getRows();
+					return null;
+				}));
+			}
+		}
+		Throwable t0 = null;
+		for(Future<?> future : futures) {
+			try {
+				future.get();
+			} catch(InterruptedException err) {
+				// Restore the interrupted status
+				Thread.currentThread().interrupt();
+				InterruptedIOException ioErr = new InterruptedIOException("Interrupted while prefetching tables");
+				ioErr.initCause(err);
+				t0 = Throwables.addSuppressed(t0, ioErr);
+				break;
+			} catch(ExecutionException err) {
+				t0 = Throwables.addSuppressed(t0, err.getCause());
+			}
+		}
+		if(t0 != null) {
+			if(t0 instanceof SQLException) throw (SQLException)t0;
+			throw Throwables.wrap(t0, IOException.class, IOException::new);
+		}
+	}
+
 	/**
 	 * Executes an aosh command and captures its output into a <code>String</code>.
 	 *
@@ -607,6 +743,16 @@ abstract public class AOServConnector implements SchemaParent {
 	 */
 	protected abstract AOServConnection getConnection(int maxConnections) throws InterruptedIOException, IOException;
 
+	/**
+	 * Allocates a connection to the server for the given command.  This default
+	 * implementation uses {@link #getConnection(int)} for all commands.
+	 *
+	 * @see  #getConnection(int)
+	 */
+	AOServConnection getConnection(AoservProtocol.CommandID commID, int maxConnections) throws InterruptedIOException, IOException {
+		return getConnection(maxConnections);
+	}
+
 	/**
 	 * Gets the default <code>AOServConnector</code> as defined in the
 	 * <code>com/aoindustries/aoserv/client/aoserv-client.properties</code>
@@ -670,13 +816,46 @@ abstract public class AOServConnector implements SchemaParent {
 		String password,
 		DomainName daemonServer
 	) throws ConfigurationException {
-		List<String> protocols = AOServClientConfiguration.getProtocols();
+		return getConnector(
+			AOServClientConfiguration.getProtocols(),
+			connectAs,
+			authenticateAs,
+			password,
+			daemonServer
+		);
+	}
+
+	/**
+	 * Gets the <code>AOServConnector</code> for the first of the given protocols
+	 * that is configured.  A {@linkplain LocalCacheConnector local cache}
+	 * connects to the server using the protocols that follow it.
+	 */
+	static AOServConnector getConnector(
+		List<String> protocols,
+		User.Name connectAs,
+		User.Name authenticateAs,
+		String password,
+		DomainName daemonServer
+	) throws ConfigurationException {
 		int size = protocols.size();
 		for(int c = 0; c < size; c++) {
 			String protocol = protocols.get(c);
 			try {
 				AOServConnector connector;
-				if(TCPConnector.TCP_PROTOCOL.equals(protocol)) {
+				if(LocalCacheConnector.LOCAL_PROTOCOL.equals(protocol)) {
+					connector = LocalCacheConnector.getLocalCacheConnector(
+						AOServClientConfiguration.getLocalPort(),
+						getConnector(
+							protocols.subList(c + 1, size),
+							connectAs,
+							authenticateAs,
+							password,
+							daemonServer
+						),
+						AOServClientConfiguration.getLocalConnectionPoolSize(),
+						AOServClientConfiguration.getLocalConnectionMaxAge()
+					);
+				} else if(TCPConnector.TCP_PROTOCOL.equals(protocol)) {
 					connector = TCPConnector.getTCPConnector(
 						AOServClientConfiguration.getTcpHostname(),
 						AOServClientConfiguration.getTcpLocalIp(),
@@ -1020,7 +1199,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						resultRequest.writeRequest(out);
@@ -1053,7 +1232,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1091,7 +1270,7 @@ abstract public class AOServConnector implements SchemaParent {
 			try {
 				boolean result;
 				IntList invalidateList;
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1133,7 +1312,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1171,7 +1350,7 @@ abstract public class AOServConnector implements SchemaParent {
 			try {
 				int result;
 				IntList invalidateList;
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1213,7 +1392,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1249,7 +1428,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1287,7 +1466,7 @@ abstract public class AOServConnector implements SchemaParent {
 			try {
 				short result;
 				IntList invalidateList;
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1329,7 +1508,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1368,7 +1547,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1408,7 +1587,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1455,6 +1634,15 @@ abstract public class AOServConnector implements SchemaParent {
 		 */
 		void readResponse(StreamableInput in) throws IOException, SQLException;
 
+		/**
+		 * Called with the approximate number of bytes read by {@link #readResponse(com.aoapps.hodgepodge.io.stream.StreamableInput)},
+		 * or <code>-1</code> when unknown, before {@link #afterRelease()}.
+		 * This is approximate because input is buffered.
+		 */
+		default void setResponseBytes(long bytes) {
+			// Not tracked by default
+		}
+
 		/**
 		 * If both the request and response were successful, this is called after the
 		 * connection to the server is released.
@@ -1472,13 +1660,17 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						updateRequest.writeRequest(out);
 						out.flush();
 
-						updateRequest.readResponse(connection.getResponseIn());
+						StreamableInput in = connection.getResponseIn();
+						long bytesBefore = connection.getBytesRead();
+						updateRequest.readResponse(in);
+						long bytesAfter = connection.getBytesRead();
+						updateRequest.setResponseBytes(bytesBefore == -1 || bytesAfter == -1 ? -1 : bytesAfter - bytesBefore);
 					} catch(Error | RuntimeException | IOException err) {
 						throw Throwables.wrap(connection.abort(err), IOException.class, IOException::new);
 					}
@@ -1506,7 +1698,7 @@ abstract public class AOServConnector implements SchemaParent {
 		int attempts = allowRetry ? RETRY_ATTEMPTS : 1;
 		while(!Thread.interrupted()) {
 			try {
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1542,7 +1734,7 @@ abstract public class AOServConnector implements SchemaParent {
 		while(!Thread.interrupted()) {
 			try {
 				IntList invalidateList;
-				try (AOServConnection connection = getConnection(1)) {
+				try (AOServConnection connection = getConnection(commID, 1)) {
 					try {
 						StreamableOutput out = connection.getRequestOut(commID);
 						writeParams(params, out);
@@ -1578,14 +1770,86 @@ abstract public class AOServConnector implements SchemaParent {
 
 	public abstract AOServConnector switchUsers(User.Name username) throws IOException;
 
+	/**
+	 * Stores in columnar form the tables of the given connector that are stored in
+	 * columnar form by this connector, so that a connector from
+	 * {@link #switchUsers(com.aoindustries.aoserv.client.account.User.Name)}
+	 * shares its rows wherever identical.
+	 *
+	 * @return  the given connector
+	 *
+	 * @see  CachedTable#setColumnar(boolean)
+	 */
+	protected final <C extends AOServConnector> C inheritColumnar(C switched) {
+		List<? extends AOServTable<?, ?>> switchedTables = switched.getTables();
+		for(int i = 0, size = tables.size(); i < size; i++) {
+			AOServTable<?, ?> table = tables.get(i);
+			if(table instanceof CachedTable && ((CachedTable<?, ?>)table).isColumnar()) {
+				((CachedTable<?, ?>)switchedTables.get(i)).setColumnar(true);
+			}
+		}
+		return switched;
+	}
+
+	/**
+	 * Makes sure this connector receives invalidations for the given table,
+	 * such as when a listener is added.  This does not wait for the server.
+	 * This default implementation does nothing.
+	 */
+	void listenFor(Table.TableID tableID) {
+		// Nothing to do
+	}
+
+	/**
+	 * Makes sure this connector receives invalidations for the given table
+	 * before it is loaded, waiting for the server to confirm when a subscription
+	 * is added.  This must not be called while synchronized on the table, since
+	 * invalidations are delivered while synchronized on the table.
+	 * This default implementation does nothing.
+	 */
+	void listenForBeforeLoad(Table.TableID tableID) throws InterruptedIOException {
+		// Nothing to do
+	}
+
+	/**
+	 * Incremented before and after clearing the caches for each invalidation, so
+	 * is odd while invalidations are being applied.
+	 */
+	private final AtomicLong invalidationSequence = new AtomicLong();
+
+	/**
+	 * Gets the invalidation sequence, which is odd while invalidations are being applied.
+	 */
+	long getInvalidationSequence() {
+		return invalidationSequence.get();
+	}
+
+	/**
+	 * Pins the rows of the given tables together at one point in time, loading
+	 * them as needed and reloading any invalidated before all are loaded.
+	 *
+	 * @exception  IllegalArgumentException  if any table is from a different connector
+	 * @exception  UnsupportedOperationException  if any table does not cache its rows in a snapshot
+	 * @exception  IOException  if unable to pin the tables while they are continually invalidated
+	 */
+	public ConsistentSnapshot getConsistentSnapshot(AOServTable<?, ?> ... tables) throws IOException, SQLException {
+		return ConsistentSnapshot.pin(this, tables);
+	}
+
 	final public void tablesUpdated(IntList invalidateList) {
 		if(invalidateList!=null) {
 			int size=invalidateList.size();
+			tablesUpdating(invalidateList);
 
 			// Clear the caches
-			for(int c=0;c<size;c++) {
-				int tableID=invalidateList.getInt(c);
-				tables.get(tableID).clearCache();
+			invalidationSequence.incrementAndGet();
+			try {
+				for(int c=0;c<size;c++) {
+					int tableID=invalidateList.getInt(c);
+					tables.get(tableID).clearCache();
+				}
+			} finally {
+				invalidationSequence.incrementAndGet();
 			}
 
 			// Then send the events
@@ -1597,6 +1861,14 @@ abstract public class AOServConnector implements SchemaParent {
 		}
 	}
 
+	/**
+	 * Is notified of invalidations before the caches are cleared.
+	 * This default implementation does nothing.
+	 */
+	@SuppressWarnings("NoopMethodInAbstractClass")
+	void tablesUpdating(IntList invalidateList) {
+	}
+
 	/**
 	 * Tests the connectivity to the server.  This test is only
 	 * performed once per server per protocol.  Following that,
@@ -1717,20 +1989,66 @@ abstract public class AOServConnector implements SchemaParent {
 		);
 	}
 
+	/**
+	 * The default minimum number of rows sorted in parallel.
+	 */
+	public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 50000;
+
+	private volatile int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+
+	/**
+	 * Gets the minimum number of rows sorted in parallel by {@link JavaSort}.
+	 *
+	 * @see  #setParallelSortThreshold(int)
+	 */
+	final public int getParallelSortThreshold() {
+		return parallelSortThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of rows sorted in parallel by {@link JavaSort},
+	 * including the default ordering of tables as loaded.  The rows are in the
+	 * same order either way.  Below the threshold, the cost of splitting the
+	 * sort between threads is more than its gain.  Use
+	 * {@link Integer#MAX_VALUE} to never sort in parallel.
+	 *
+	 * @see  SQLSortKeys
+	 */
+	final public void setParallelSortThreshold(int parallelSortThreshold) {
+		if(parallelSortThreshold < 2) throw new IllegalArgumentException("parallelSortThreshold < 2: " + parallelSortThreshold);
+		this.parallelSortThreshold = parallelSortThreshold;
+	}
+
+	/**
+	 * Checks if the given number of rows are sorted in parallel.
+	 */
+	boolean isParallelSort(int size) {
+		return size >= parallelSortThreshold && Runtime.getRuntime().availableProcessors() > 1;
+	}
+
 	public <K, T extends AOServObject<K, T>> void sort(
 		ComparisonSortAlgorithm<? super T> sortAlgorithm,
 		T[] list,
 		SQLExpression[] sortExpressions,
 		boolean[] sortOrders
 	) {
-		sortAlgorithm.sort(
-			list,
-			new SQLComparator<>(
-				this,
-				sortExpressions,
-				sortOrders
-			)
-		);
+		if(sortAlgorithm instanceof JavaSort) {
+			// Evaluate the keys once per row instead of once per comparison
+			try {
+				SQLSortKeys.sort(this, list, sortExpressions, sortOrders, isParallelSort(list.length));
+			} catch(IOException | SQLException e) {
+				throw new WrappedException(e);
+			}
+		} else {
+			sortAlgorithm.sort(
+				list,
+				new SQLComparator<>(
+					this,
+					sortExpressions,
+					sortOrders
+				)
+			);
+		}
 	}
 
 	public <K, T extends AOServObject<K, T>> void sort(
@@ -1739,13 +2057,22 @@ abstract public class AOServConnector implements SchemaParent {
 		SQLExpression[] sortExpressions,
 		boolean[] sortOrders
 	) {
-		sortAlgorithm.sort(
-			list,
-			new SQLComparator<>(
-				this,
-				sortExpressions,
-				sortOrders
-			)
-		);
+		if(sortAlgorithm instanceof JavaSort) {
+			// Evaluate the keys once per row instead of once per comparison
+			try {
+				SQLSortKeys.sort(this, list, sortExpressions, sortOrders, isParallelSort(list.size()));
+			} catch(IOException | SQLException e) {
+				throw new WrappedException(e);
+			}
+		} else {
+			sortAlgorithm.sort(
+				list,
+				new SQLComparator<>(
+					this,
+					sortExpressions,
+					sortOrders
+				)
+			);
+		}
 	}
 }
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -47,6 +47,7 @@ import com.aoindustries.aoserv.client.linux.User.Gecos;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import com.aoindustries.aoserv.client.schema.Type;
+import com.aoindustries.aoserv.client.sql.SQLEvaluator;
 import com.aoindustries.aoserv.client.sql.SQLExpression;
 import java.io.IOException;
 import java.net.UnknownHostException;
@@ -155,46 +156,87 @@ abstract public class AOServObject<K, T extends AOServObject<K, T>> implements R
 				int diff = type.compareTo(value1, value2);
 				if(diff != 0) return sortOrders[c] ? diff : -diff;
 			} catch(RuntimeException e) {
-				String getString1;
-				if(!value1Set) {
-					getString1 = "<unset>";
-				} else if(value1 == null) {
-					getString1 = "[NULL]";
-				} else {
-					try {
-						getString1 = type.getString(value1, -1);
-					} catch(RuntimeException e2) {
-						getString1 = value1.toString();
-					}
-				}
-				String getString2;
-				if(!value2Set) {
-					getString2 = "<unset>";
-				} else if(value2 == null) {
-					getString2 = "[NULL]";
-				} else {
-					try {
-						getString2 = type.getString(value2, -1);
-					} catch(RuntimeException e2) {
-						getString2 = value2.toString();
-					}
-				}
-				throw new SQLException(
-					"expr......: " + expr + "\n"
-					+ "type......: " + type + "\n"
-					+ "this......: " + this + "\n"
-					+ "other.....: " + other + "\n"
-					+ "thisKey...: " + this.getKey() + "\n"
-					+ "otherKey..: " + other.getKey() + "\n"
-					+ "thisValue.: " + getString1 + "\n"
-					+ "otherValue: " + getString2,
-					e
-				);
+				throw newCompareException(expr, type, other, value1Set, value1, value2Set, value2, e);
 			}
 		}
 		return 0;
 	}
 
+	/**
+	 * Compares to another object by expressions compiled once for the whole sort.
+	 *
+	 * @see  com.aoindustries.aoserv.client.sql.SQLComparator
+	 */
+	@SuppressWarnings("BroadCatchBlock")
+	final public int compareTo(SQLEvaluator evaluator, AOServObject<?, ?> other, boolean[] sortOrders) throws IllegalArgumentException, SQLException, UnknownHostException, IOException {
+		int len = evaluator.size();
+		for(int c = 0; c < len; c++) {
+			Type type = evaluator.getType(c);
+			Object value1 = null;
+			boolean value1Set = false;
+			Object value2 = null;
+			boolean value2Set = false;
+			try {
+				value1 = evaluator.evaluate(c, this);
+				value1Set = true;
+				value2 = evaluator.evaluate(c, other);
+				value2Set = true;
+				int diff = type.compareTo(value1, value2);
+				if(diff != 0) return sortOrders[c] ? diff : -diff;
+			} catch(RuntimeException e) {
+				throw newCompareException(evaluator.getExpression(c), type, other, value1Set, value1, value2Set, value2, e);
+			}
+		}
+		return 0;
+	}
+
+	private SQLException newCompareException(
+		SQLExpression expr,
+		Type type,
+		AOServObject<?, ?> other,
+		boolean value1Set,
+		Object value1,
+		boolean value2Set,
+		Object value2,
+		RuntimeException e
+	) {
+		String getString1;
+		if(!value1Set) {
+			getString1 = "<unset>";
+		} else if(value1 == null) {
+			getString1 = "[NULL]";
+		} else {
+			try {
+				getString1 = type.getString(value1, -1);
+			} catch(RuntimeException e2) {
+				getString1 = value1.toString();
+			}
+		}
+		String getString2;
+		if(!value2Set) {
+			getString2 = "<unset>";
+		} else if(value2 == null) {
+			getString2 = "[NULL]";
+		} else {
+			try {
+				getString2 = type.getString(value2, -1);
+			} catch(RuntimeException e2) {
+				getString2 = value2.toString();
+			}
+		}
+		return new SQLException(
+			"expr......: " + expr + "\n"
+			+ "type......: " + type + "\n"
+			+ "this......: " + this + "\n"
+			+ "other.....: " + other + "\n"
+			+ "thisKey...: " + this.getKey() + "\n"
+			+ "otherKey..: " + other.getKey() + "\n"
+			+ "thisValue.: " + getString1 + "\n"
+			+ "otherValue: " + getString2,
+			e
+		);
+	}
+
 	// TODO: Remove in AOServ 2
 	final public int compareTo(AOServConnector conn, Comparable<?> value, SQLExpression[] sortExpressions, boolean[] sortOrders) throws IllegalArgumentException, SQLException, UnknownHostException, IOException {
 		int len=sortExpressions.length;
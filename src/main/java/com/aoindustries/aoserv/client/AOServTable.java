@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -51,6 +51,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
@@ -69,6 +72,11 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	//final SimpleAOClient client;
 	final Class<V> clazz;
 
+	/**
+	 * The statistics for this table in this connector.
+	 */
+	final TableStatistics statistics = new TableStatistics();
+
 	private class TableListenersLock {
 		@Override
 		public String toString() {
@@ -81,7 +89,15 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		private final TableListener listener;
 		private final long delay;
 		// All accesses should be protected by the table.eventLock
-		long delayStart = -1;
+		boolean scheduled;
+		long dueNanos;
+		/**
+		 * While the listener is being called, further events are coalesced
+		 * into at most one pending event, delivered once the call returns.
+		 */
+		boolean running;
+		boolean pending;
+		long pendingDueNanos;
 
 		private TableListenerEntry(TableListener listener, long delay) {
 			this.listener = listener;
@@ -107,81 +123,107 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	}
 	final EventLock eventLock=new EventLock();
 
-	final private class TableEventThread extends Thread {
+	/**
+	 * Delivers the batched events of all tables from a single thread.
+	 * The listeners are called by {@link AOServConnector#executorService} so
+	 * that a slow listener does not delay the others.
+	 */
+	private static final ScheduledExecutorService eventScheduler = Executors.newSingleThreadScheduledExecutor(
+		runnable -> {
+			Thread thread = new Thread(runnable, "AOServTable - eventScheduler");
+			thread.setDaemon(true);
+			return thread;
+		}
+	);
 
-		private TableEventThread() {
-			setName("TableEventThread #" + getId() + " ("+AOServTable.this.getTableID()+") - "+AOServTable.this.getClass().getName());
-			setDaemon(true);
+	/**
+	 * A listener call taking at least this long is logged and counted as slow.
+	 */
+	private static final long SLOW_LISTENER_NANOS = 1000L * 1000000;
+
+	private boolean isRegistered(TableListenerEntry entry) {
+		synchronized(tableListenersLock) {
+			return tableListeners != null && tableListeners.contains(entry);
 		}
+	}
 
-		@Override
-		@SuppressWarnings({"NestedSynchronizedStatement", "UseSpecificCatch", "TooBroadCatch"})
-		public void run() {
-			OUTER_LOOP :
-			while(true) {
-				try {
-					synchronized(eventLock) {
-						while(true) {
-							if(thread != this) break OUTER_LOOP;
-							long time = System.currentTimeMillis();
-							// Run anything that should be ran, calculating the minimum sleep time
-							// for the next wait period.
-							long minTime = Long.MAX_VALUE;
-							// Get a copy to not hold lock too long
-							List<TableListenerEntry> tableListenersSnapshot;
-							synchronized(tableListenersLock) {
-								tableListenersSnapshot = (tableListeners == null) ? null : new ArrayList<>(tableListeners);
-							}
-							if(tableListenersSnapshot != null) {
-								int size = tableListenersSnapshot.size();
-								for (TableListenerEntry entry : tableListenersSnapshot) {
-									// skip immediate listeners
-									long delay = entry.delay;
-									if(delay>0) {
-										long delayStart = entry.delayStart;
-										// Is the table idle?
-										if (delayStart != -1) {
-											// Has the system time been modified to an earlier time?
-											if (delayStart > time) delayStart = entry.delayStart = time;
-											long endTime = delayStart + delay;
-											if (time >= endTime) {
-												// Ready to run
-												entry.delayStart = -1;
-												// System.out.println("DEBUG: Started TableEventThread: run: "+getName()+" calling tableUpdated on "+entry.listener);
-												// Run in a different thread to avoid deadlock and increase concurrency responding to table update events.
-												AOServConnector.executorService.submit(() -> entry.listener.tableUpdated(AOServTable.this));
-											} else {
-												// Remaining delay
-												long remaining = endTime - time;
-												if (remaining < minTime) minTime = remaining;
-											}
-										}
-									}
-								}
-							}
-							if(minTime==Long.MAX_VALUE) {
-								// System.out.println("DEBUG: TableEventThread: run: "+getName()+" size="+size+", waiting indefinitely");
-								eventLock.wait();
-							} else {
-								// System.out.println("DEBUG: TableEventThread: run: "+getName()+" size="+size+", waiting for "+minTime+" ms");
-								eventLock.wait(minTime);
-							}
-						}
-					}
-				} catch (ThreadDeath td) {
-					throw td;
-				} catch (Throwable t) {
-					connector.getLogger().log(Level.SEVERE, null, t);
+	/**
+	 * Delivers a batched event once its delay has passed.
+	 */
+	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+	private void deliverBatched(TableListenerEntry entry) {
+		try {
+			boolean registered = isRegistered(entry);
+			long dueNanos;
+			synchronized(eventLock) {
+				entry.scheduled = false;
+				dueNanos = entry.dueNanos;
+			}
+			if(registered) deliver(entry, dueNanos);
+		} catch (ThreadDeath td) {
+			throw td;
+		} catch (Throwable t) {
+			connector.getLogger().log(Level.SEVERE, null, t);
+		}
+	}
+
+	/**
+	 * Calls the listener in a different thread, or coalesces the event into the
+	 * one pending event while the listener is still being called.  Each
+	 * listener is called by at most one thread at a time, so a burst of
+	 * events costs at most one more call per listener.
+	 *
+	 * @param  dueNanos  the {@link System#nanoTime()} the event was due
+	 */
+	private void deliver(TableListenerEntry entry, long dueNanos) {
+		synchronized(eventLock) {
+			if(entry.running) {
+				if(entry.pending) {
+					statistics.coalesced();
+				} else {
+					entry.pending = true;
+					entry.pendingDueNanos = dueNanos;
 				}
+				return;
 			}
+			entry.running = true;
 		}
+		// Run in a different thread to avoid deadlock and increase concurrency responding to table update events.
+		AOServConnector.executorService.submit(() -> callListener(entry, dueNanos));
 	}
 
 	/**
-	 * The thread that is performing the batched updates.
-	 * All access should be protected by the eventLock.
+	 * Calls the listener, then again for any event that arrived during the call.
 	 */
-	private TableEventThread thread;
+	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+	private void callListener(TableListenerEntry entry, long dueNanos) {
+		while(true) {
+			long startNanos = System.nanoTime();
+			statistics.delivered(startNanos - dueNanos);
+			try {
+				entry.listener.tableUpdated(AOServTable.this);
+			} catch (ThreadDeath td) {
+				throw td;
+			} catch (Throwable t) {
+				connector.getLogger().log(Level.SEVERE, null, t);
+			}
+			long nanos = System.nanoTime() - startNanos;
+			if(nanos >= SLOW_LISTENER_NANOS) {
+				statistics.slow(nanos);
+				connector.getLogger().log(Level.WARNING, "Slow table listener on {0}: {1} took {2} ms", new Object[] {getTableID(), entry.listener, nanos / 1000000});
+			}
+			boolean registered = isRegistered(entry);
+			synchronized(eventLock) {
+				if(!entry.pending || !registered) {
+					entry.pending = false;
+					entry.running = false;
+					return;
+				}
+				entry.pending = false;
+				dueNanos = entry.pendingDueNanos;
+			}
+		}
+	}
 
 	/**
 	 * The list of <code>ProgressListener</code>s.
@@ -258,6 +300,12 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	 * a batchTime of zero unless you absolutely need your code to
 	 * run immediately, because it causes serial processing of the event
 	 * and may potentially slow down the responsiveness of the server.
+	 * <p>
+	 * Each listener is called by one thread at a time.  Events that arrive
+	 * while the listener is being called are coalesced into a single call once
+	 * it returns.  Calls taking a second or more are logged and counted in
+	 * {@link TableStatistics#getSlowCalls()}.
+	 * </p>
 	 */
 	@Override
 	final public void addTableListener(TableListener listener, long batchTime) {
@@ -267,16 +315,189 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 			if(tableListeners==null) tableListeners=new ArrayList<>();
 			tableListeners.add(new TableListenerEntry(listener, batchTime));
 		}
-		synchronized(eventLock) {
-			if(batchTime > 0 && thread == null) {
-				(thread = new TableEventThread()).start();
-				// System.out.println("DEBUG: Started TableEventThread: "+thread.getName());
+		connector.listenFor(getTableID());
+
+		connector.addingTableListener();
+	}
+
+	/**
+	 * Adapts a {@link TableChangeListener} to the batched table events, keeping
+	 * the snapshot the listener was last notified with.  The table is not
+	 * reloaded by the adapter: once updated, the changes are found when the
+	 * table is next reloaded, which then notifies the waiting adapters through
+	 * {@link #snapshotLoaded()}.
+	 */
+	private final class TableChangeAdapter implements TableListener {
+
+		private final TableChangeListener<V> listener;
+		private TableSnapshot<V> base;
+
+		/**
+		 * Set while updated and not yet reloaded.
+		 */
+		private volatile boolean awaitingReload;
+
+		private TableChangeAdapter(TableChangeListener<V> listener, TableSnapshot<V> base) {
+			this.listener = listener;
+			this.base = base;
+		}
+
+		@Override
+		public void tableUpdated(com.aoapps.hodgepodge.table.Table<?> table) {
+			try {
+				// One event at a time per listener, each since the last
+				synchronized(this) {
+					TableSnapshot<V> current = peekSnapshot();
+					if(current == null) {
+						awaitingReload = true;
+						awaitReload();
+						// Reloaded before the flag was seen
+						current = peekSnapshot();
+						if(current == null) return;
+					}
+					awaitingReload = false;
+					if(current != base) {
+						TableChanges<V> changes = getChanges(base, current);
+						base = current;
+						if(!changes.isEmpty()) listener.tableChanged(changes);
+					}
+				}
+			} catch(IOException | SQLException e) {
+				connector.getLogger().log(Level.SEVERE, "Unable to find the changes to " + getTableID() + " for " + listener, e);
 			}
-			// Tell the thread to recalc its stuff
-			eventLock.notifyAll();
 		}
+	}
 
-		connector.addingTableListener();
+	/**
+	 * Gets the current snapshot without loading, or <code>null</code> when not
+	 * loaded.  This default implementation does not cache in a snapshot.
+	 */
+	TableSnapshot<V> peekSnapshot() {
+		return null;
+	}
+
+	/**
+	 * Called by a change listener that is waiting for this table to be reloaded.
+	 * This default implementation does nothing, as the same table that reloads
+	 * notifies its own change listeners.
+	 */
+	void awaitReload() {
+		// Nothing to do
+	}
+
+	/**
+	 * Notifies the change listeners waiting for a reload, once a new snapshot
+	 * has been loaded.  The changes are found by the listener threads, so this
+	 * may be called while holding the lock used for loading.
+	 */
+	final void snapshotLoaded() {
+		List<TableListenerEntry> waiting = null;
+		synchronized(tableListenersLock) {
+			if(tableListeners != null) {
+				for(TableListenerEntry entry : tableListeners) {
+					if(
+						entry.listener instanceof AOServTable<?, ?>.TableChangeAdapter
+						&& ((AOServTable<?, ?>.TableChangeAdapter)entry.listener).awaitingReload
+					) {
+						if(waiting == null) waiting = new ArrayList<>();
+						waiting.add(entry);
+					}
+				}
+			}
+		}
+		if(waiting != null) {
+			long dueNanos = System.nanoTime();
+			for(TableListenerEntry entry : waiting) {
+				deliver(entry, dueNanos);
+			}
+		}
+	}
+
+	/**
+	 * The most recently computed changes, shared by all change listeners
+	 * notified of the same reload.
+	 */
+	private static final class ChangesBetween<V extends AOServObject<?, ?>> {
+		private final TableSnapshot<V> from;
+		private final TableSnapshot<V> to;
+		private final TableChanges<V> changes;
+
+		private ChangesBetween(TableSnapshot<V> from, TableSnapshot<V> to, TableChanges<V> changes) {
+			this.from = from;
+			this.to = to;
+			this.changes = changes;
+		}
+	}
+
+	private final Object changesLock = new Object();
+	private ChangesBetween<V> lastChanges;
+
+	/**
+	 * Gets the changes between two snapshots, computed once for all change listeners.
+	 */
+	private TableChanges<V> getChanges(TableSnapshot<V> from, TableSnapshot<V> to) throws IOException, SQLException {
+		synchronized(changesLock) {
+			ChangesBetween<V> last = lastChanges;
+			if(last != null && last.from == from && last.to == to) return last.changes;
+			TableChanges<V> changes = TableChanges.diff(this, from, to);
+			lastChanges = new ChangesBetween<>(from, to, changes);
+			return changes;
+		}
+	}
+
+	/**
+	 * Registers a {@link TableChangeListener} to be notified of the rows
+	 * inserted, updated, and removed each time this table is updated.  The
+	 * default of 1000ms of batching is used.
+	 *
+	 * @see  #addTableChangeListener(com.aoindustries.aoserv.client.TableChangeListener, long)
+	 */
+	final public void addTableChangeListener(TableChangeListener<V> listener) throws IOException, SQLException {
+		addTableChangeListener(listener, 1000);
+	}
+
+	/**
+	 * Registers a {@link TableChangeListener} to be notified of the rows
+	 * inserted, updated, and removed each time this table is updated, batched
+	 * as in {@link #addTableListener(com.aoapps.hodgepodge.table.TableListener, long)}.
+	 * The table is loaded now, if not already loaded, as the starting point of
+	 * the changes.
+	 * <p>
+	 * Once updated, the table is not reloaded for the listener.  The changes
+	 * are found when the table is next reloaded by any use, comparing with the
+	 * previous load once, no matter how many change listeners.  For a global
+	 * table, the reload may be by any connector.
+	 * </p>
+	 * <p>
+	 * Each listener retains the snapshot it was last notified with, so while
+	 * the table is reloaded, both the previous and current rows are on the
+	 * heap, and the previous rows remain retained until the listener is
+	 * notified or removed.
+	 * </p>
+	 *
+	 * @exception  UnsupportedOperationException  if this table does not cache its rows in a snapshot
+	 */
+	final public void addTableChangeListener(TableChangeListener<V> listener, long batchTime) throws IOException, SQLException {
+		addTableListener(new TableChangeAdapter(listener, pinSnapshot()), batchTime);
+	}
+
+	/**
+	 * Removes a {@link TableChangeListener} from the list of
+	 * objects being notified when the data is updated.
+	 */
+	final public void removeTableChangeListener(TableChangeListener<V> listener) {
+		synchronized(tableListenersLock) {
+			if(tableListeners != null) {
+				int size = tableListeners.size();
+				for(int i = size - 1; i >= 0; i--) {
+					TableListener registered = tableListeners.get(i).listener;
+					if(registered instanceof AOServTable<?, ?>.TableChangeAdapter && ((AOServTable<?, ?>.TableChangeAdapter)registered).listener == listener) {
+						tableListeners.remove(i);
+						break;
+					}
+				}
+			}
+		}
 	}
 
 	final public void addTableLoadListener(TableLoadListener listener, Object param) {
@@ -289,8 +510,52 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	 * Clears the cache, freeing up memory.  The data will be reloaded upon
 	 * next use.
 	 */
-	@SuppressWarnings("NoopMethodInAbstractClass")
 	public void clearCache() {
+		statistics.invalidated();
+	}
+
+	/**
+	 * Gets the statistics for this table in this connector.
+	 */
+	final public TableStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Estimates the heap retained by the rows and indexes currently cached by this table.
+	 *
+	 * @return  the estimate or <code>null</code> when nothing cached on the heap
+	 *
+	 * @see  AOServConnector#getHeapEstimates()
+	 */
+	final public HeapEstimate getHeapEstimate() {
+		return estimateHeap(new HeapEstimator());
+	}
+
+	/**
+	 * Gets the current snapshot for a {@link ConsistentSnapshot}, loading when needed.
+	 *
+	 * @exception  UnsupportedOperationException  if the rows are not cached in a snapshot
+	 */
+	TableSnapshot<V> pinSnapshot() throws IOException, SQLException {
+		throw new UnsupportedOperationException("Table not cached: " + getTableID());
+	}
+
+	/**
+	 * Checks if the given snapshot is still the current snapshot, not yet invalidated.
+	 */
+	boolean isCurrent(TableSnapshot<?> pinned) {
+		return false;
+	}
+
+	/**
+	 * Estimates the heap retained by this table.  This default implementation
+	 * caches nothing.
+	 *
+	 * @return  the estimate or <code>null</code> when nothing cached on the heap
+	 */
+	HeapEstimate estimateHeap(HeapEstimator estimator) {
+		return null;
 	}
 
 	final public AOServConnector getConnector() {
@@ -368,6 +633,23 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		return exprs;
 	}
 
+	/**
+	 * Gets the {@link #ASCENDING} or {@link #DESCENDING} order of each of the
+	 * {@link #getDefaultOrderBySQLExpressions() default sort expressions}.
+	 *
+	 * @return  {@code null} if the sorting is performed by the server
+	 */
+	final public boolean[] getDefaultOrderBySortOrders() {
+		OrderBy[] orderBys = getDefaultOrderBy();
+		if(orderBys == null) return null;
+		int len = orderBys.length;
+		boolean[] orders = new boolean[len];
+		for(int c = 0; c < len; c++) {
+			orders[c] = orderBys[c].getOrder();
+		}
+		return orders;
+	}
+
 	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 	protected V getNewObject() throws IOException {
 		try {
@@ -407,7 +689,12 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 					int code=in.readByte();
 					if(code==AoservProtocol.NEXT) {
 						V obj=getNewObject();
-						obj.read(in, AoservProtocol.Version.CURRENT_VERSION);
+						ValuePool previous = ValuePool.enter(connector.getValuePool());
+						try {
+							obj.read(in, AoservProtocol.Version.CURRENT_VERSION);
+						} finally {
+							ValuePool.exit(previous);
+						}
 						if(obj instanceof SingleTableObject) {
 							@SuppressWarnings("unchecked")
 							SingleTableObject<K, V> sto = (SingleTableObject)obj;
@@ -434,8 +721,32 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		return list;
 	}
 
-	private void getObjects(boolean allowRetry, final boolean withProgress, final List<V> list, final AoservProtocol.CommandID commID, final Object ... params) throws IOException, SQLException {
+	/**
+	 * Loads the full table for caching, recording the load in the statistics.
+	 */
+	List<V> loadTable() throws IOException, SQLException {
+		return loadTable(new ArrayList<>(), true);
+	}
+
+	/**
+	 * Loads the full table into the given list, recording the load in the statistics.
+	 *
+	 * @param  sort  when <code>true</code>, sorts the list by {@link #sortIfNeeded(java.util.List)}.
+	 *               Otherwise the rows are left in the order received and the caller must sort them.
+	 */
+	<L extends List<V>> L loadTable(L list, boolean sort) throws IOException, SQLException {
+		long startNanos = System.nanoTime();
+		long bytes = getObjects(true, true, sort, list, AoservProtocol.CommandID.GET_TABLE, getTableID());
+		statistics.loaded(System.nanoTime() - startNanos, list.size(), bytes);
+		return list;
+	}
+
+	/**
+	 * @return  the approximate number of bytes in the response or <code>-1</code> when unknown
+	 */
+	private long getObjects(boolean allowRetry, final boolean withProgress, final boolean sort, final List<V> list, final AoservProtocol.CommandID commID, final Object ... params) throws IOException, SQLException {
 		final int initialSize = list.size();
+		final long[] responseBytes = {-1};
 		// Get a snapshot of all listeners
 		final ProgressListener[] progListeners = withProgress ? getProgressListeners() : null;
 		final int progCount = progListeners == null ? 0 : progListeners.length;
@@ -520,9 +831,15 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 								}
 								
 								long objCount = 0;
+								ValuePool pool = connector.getValuePool();
 								while((code = in.readByte()) == AoservProtocol.NEXT) {
 									V obj = getNewObject();
-									obj.read(in, AoservProtocol.Version.CURRENT_VERSION);
+									ValuePool previous = ValuePool.enter(pool);
+									try {
+										obj.read(in, AoservProtocol.Version.CURRENT_VERSION);
+									} finally {
+										ValuePool.exit(previous);
+									}
 									if(obj instanceof SingleTableObject) {
 										@SuppressWarnings("unchecked")
 										SingleTableObject<K, V> sto = (SingleTableObject)obj;
@@ -564,10 +881,15 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 							}
 						}
 
+						@Override
+						public void setResponseBytes(long bytes) {
+							responseBytes[0] = bytes;
+						}
+
 						@Override
 						public void afterRelease() {
 							try {
-								sortIfNeeded(list);
+								if(sort) sortIfNeeded(list);
 							} catch(IOException | SQLException err) {
 								throw new WrappedException(err);
 							}
@@ -604,10 +926,11 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 			TableLoadListenerEntry entry = loadListeners[c];
 			entry.param = entry.listener.onTableLoadCompleted(AOServTable.this, entry.param);
 		}
+		return responseBytes[0];
 	}
 
 	protected void getObjects(boolean allowRetry, final List<V> list, final AoservProtocol.CommandID commID, final Object ... params) throws IOException, SQLException {
-		getObjects(allowRetry, true, list, commID, params);
+		getObjects(allowRetry, true, true, list, commID, params);
 	}
 
 	/**
@@ -622,7 +945,7 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	}
 
 	protected void getObjectsNoProgress(boolean allowRetry, final List<V> list, final AoservProtocol.CommandID commID, final Object ... params) throws IOException, SQLException {
-		getObjects(allowRetry, false, list, commID, params);
+		getObjects(allowRetry, false, true, list, commID, params);
 	}
 
 	/**
@@ -657,15 +980,20 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		// Get the details for the sorting
 		SQLExpression[] sortExpressions = getDefaultOrderBySQLExpressions();
 		if(sortExpressions != null) {
-			OrderBy[] orderBys = getDefaultOrderBy();
-			boolean[] sortOrders = new boolean[orderBys.length];
-			for(int c = 0; c < orderBys.length; c++) {
-				sortOrders[c] = orderBys[c].getOrder();
-			}
+			boolean[] sortOrders = getDefaultOrderBySortOrders();
 			connector.sort(getSortAlgorithm(), list, sortExpressions, sortOrders);
 		}
 	}
 
+	/**
+	 * Sorts rows of this table into the default order, for a
+	 * {@link TableSnapshot} that sorts when first needed.
+	 */
+	@SuppressWarnings("unchecked")
+	final void sortDefault(List<?> list) throws SQLException, IOException {
+		sortIfNeeded((List<V>)list);
+	}
+
 	/**
 	 * Gets a copy of the progress listeners, or {@code null} when none registered.
 	 */
@@ -778,12 +1106,20 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		throw new UnsupportedOperationException("getIndexedRows now supported by table implementation");
 	}
 
-	// TODO: Why do these exist as final?  Seems they should not exist at all since there's no way to implement primitive optimizations in subclasses
+	/**
+	 * Gets a row given a unique <code>int</code> column value.
+	 *
+	 * @see  #getUniqueRowImpl(int, int)
+	 */
 	final public V getUniqueRow(int col, int value) throws IOException, SQLException {
 		return getUniqueRowImpl(col, value);
 	}
 
-	// TODO: Why do these exist as final?  Seems they should not exist at all since there's no way to implement primitive optimizations in subclasses
+	/**
+	 * Gets a row given a unique <code>long</code> column value.
+	 *
+	 * @see  #getUniqueRowImpl(int, long)
+	 */
 	final public V getUniqueRow(int col, long value) throws IOException, SQLException {
 		return getUniqueRowImpl(col, value);
 	}
@@ -795,7 +1131,8 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 
 	// TODO: Why do these exist as final?  Seems they should not exist at all since there's no way to implement primitive optimizations in subclasses
 	final public V getUniqueRow(int col, short value) throws IOException, SQLException {
-		return getUniqueRowImpl(col, value);
+		// Boxed to Short, not widened to int
+		return getUniqueRowImpl(col, (Object)value);
 	}
 
 	/**
@@ -806,6 +1143,112 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	 */
 	protected abstract V getUniqueRowImpl(int col, Object value) throws IOException, SQLException;
 
+	/**
+	 * Gets a row given a unique <code>int</code> column value.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation boxes the value and calls {@link #getUniqueRowImpl(int, java.lang.Object)}.
+	 * Cached tables override this to use primitive indexes.
+	 * </p>
+	 */
+	protected V getUniqueRowImpl(int col, int value) throws IOException, SQLException {
+		return getUniqueRowImpl(col, (Object)value);
+	}
+
+	/**
+	 * Gets a row given a unique <code>long</code> column value.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation boxes the value and calls {@link #getUniqueRowImpl(int, java.lang.Object)}.
+	 * Cached tables override this to use primitive indexes.
+	 * </p>
+	 */
+	protected V getUniqueRowImpl(int col, long value) throws IOException, SQLException {
+		return getUniqueRowImpl(col, (Object)value);
+	}
+
+	/**
+	 * Gets a row given the values of all columns of a unique composite index.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation searches all rows.  Cached tables override this
+	 * to build the index.
+	 * </p>
+	 *
+	 * @param  values  the values, in the order of the index columns.  When any is {@code null}, no row is matched.
+	 *
+	 * @exception  IllegalArgumentException  if the index is not unique or the wrong number of values given
+	 */
+	public V getUniqueRow(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		if(!index.isUnique()) throw new IllegalArgumentException("Index is not unique: " + index);
+		index.checkValues(values);
+		for(Object value : values) {
+			if(value == null) return null;
+		}
+		for(V row : getRows()) {
+			if(index.matches(row, values)) return row;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the rows given the values of all columns of a composite index.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation searches all rows.  Cached tables override this
+	 * to build the index.
+	 * </p>
+	 *
+	 * @param  values  the values, in the order of the index columns
+	 *
+	 * @exception  IllegalArgumentException  if the wrong number of values given
+	 */
+	public List<V> getIndexedRows(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		if(index.isUnique()) {
+			V row = getUniqueRow(index, values);
+			return row == null ? Collections.emptyList() : Collections.singletonList(row);
+		}
+		index.checkValues(values);
+		List<V> matches = new ArrayList<>();
+		for(V row : getRows()) {
+			if(index.matches(row, values)) matches.add(row);
+		}
+		return Collections.unmodifiableList(matches);
+	}
+
+	/**
+	 * Gets the rows with values of a range index from <code>from</code>, inclusive,
+	 * to <code>to</code>, exclusive, in ascending order of the index.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation sorts all rows on each call.  Cached tables override
+	 * this to sort once per load.
+	 * </p>
+	 *
+	 * @param  from  the lower bound or {@code null} for no lower bound
+	 * @param  to    the upper bound or {@code null} for no upper bound
+	 *
+	 * @return  an unmodifiable list of the rows
+	 */
+	public <T extends Comparable<? super T>> List<V> getRowsBetween(RangeIndex<T> index, T from, T to) throws IOException, SQLException {
+		return index.sort(getRows()).between(from, to);
+	}
+
+	/**
+	 * Gets up to the given number of rows with the greatest values of a range index,
+	 * in ascending order of the index.
+	 * <p>
+	 * <b>Implementation Note:</b><br>
+	 * This default implementation sorts all rows on each call.  Cached tables override
+	 * this to sort once per load.
+	 * </p>
+	 *
+	 * @return  an unmodifiable list of the rows
+	 */
+	public List<V> getLatestRows(RangeIndex<?> index, int count) throws IOException, SQLException {
+		return index.sort(getRows()).latest(count);
+	}
+
 	public boolean handleCommand(String[] args, Reader in, TerminalWriter out, TerminalWriter err, boolean isInteractive) throws IOException, SQLException {
 		return false;
 	}
@@ -936,45 +1379,19 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 	 */
 	@Override
 	final public void removeTableListener(TableListener listener) {
-		// Get thread reference and release eventLock to avoid deadlock
-		Thread myThread;
-		synchronized(eventLock) {
-			myThread = thread;
-		}
-		boolean stopThread = false;
 		synchronized(tableListenersLock) {
 			if(tableListeners != null) {
 				int size = tableListeners.size();
 				for(int i = size - 1; i >= 0; i--) {
 					TableListenerEntry entry = tableListeners.get(i);
 					if(entry.listener == listener) {
+						// Any scheduled event is discarded once no longer registered
 						tableListeners.remove(i);
-						size--;
-						if(entry.delay > 0 && myThread != null) {
-							// If all remaining listeners are immediate (delay 0), kill the thread
-							boolean foundDelayed = false;
-							for(int j = 0; j < size; j++) {
-								TableListenerEntry tle = tableListeners.get(j);
-								if(tle.delay > 0) {
-									foundDelayed = true;
-									break;
-								}
-							}
-							if(!foundDelayed) stopThread = true;
-						}
 						break;
 					}
 				}
 			}
 		}
-		synchronized(eventLock) {
-			if(stopThread) {
-				// The thread will terminate itself once the reference to it is removed
-				thread = null;
-			}
-			// Tell the thread to recalc its stuff
-			eventLock.notifyAll();
-		}
 	}
 
 	/**
@@ -1004,24 +1421,20 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 			Iterator<TableListenerEntry> I=tableListenersSnapshot.iterator();
 			while(I.hasNext()) {
 				final TableListenerEntry entry=I.next();
-				if(entry.delay<=0) {
-					// Run in a different thread to avoid deadlock and increase concurrency responding to table update events.
-					AOServConnector.executorService.submit(() -> entry.listener.tableUpdated(AOServTable.this));
-				}
+				if(entry.delay<=0) deliver(entry, System.nanoTime());
 			}
 
 			synchronized(eventLock) {
-				// Notify the batching thread of the update
+				// Schedule each batched listener not already waiting, later updates are part of the same event
 				int size=tableListenersSnapshot.size();
-				boolean modified = false;
 				for(int c=0;c<size;c++) {
-					TableListenerEntry entry=tableListenersSnapshot.get(c);
-					if(entry.delay>0 && entry.delayStart==-1) {
-						entry.delayStart=System.currentTimeMillis();
-						modified = true;
+					final TableListenerEntry entry=tableListenersSnapshot.get(c);
+					if(entry.delay>0 && !entry.scheduled) {
+						entry.scheduled = true;
+						entry.dueNanos = System.nanoTime() + entry.delay * 1000000;
+						eventScheduler.schedule(() -> deliverBatched(entry), entry.delay, TimeUnit.MILLISECONDS);
 					}
 				}
-				if(modified) eventLock.notify();
 			}
 		}
 	}
@@ -1163,8 +1576,11 @@ abstract public class AOServTable<K, V extends AOServObject<K, V>> implements It
 		return getRows().isEmpty();
 	}
 
+	/**
+	 * Gets the number of rows.  Cached tables override this to count the rows
+	 * without sorting them.
+	 */
 	public int size() throws IOException, SQLException {
-		// TODO: A variant of getRows() that does not sort, sort when first needed (See ao-rtd)
 		return getRows().size();
 	}
 
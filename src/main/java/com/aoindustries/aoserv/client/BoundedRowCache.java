@@ -0,0 +1,193 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A least-recently-used cache of unique rows and index entries, used by
+ * {@link CachedTable} when limited to a maximum number of entries.
+ * A unique row counts as one entry, while an index entry counts as the
+ * number of rows in its list.
+ * <p>
+ * This is not thread-safe; all access is synchronized by the table.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class BoundedRowCache<V> {
+
+	/**
+	 * Cached in place of a unique row that does not exist.
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	private static final class Key {
+
+		private final boolean indexed;
+		private final int col;
+		private final Object value;
+
+		private Key(boolean indexed, int col, Object value) {
+			this.indexed = indexed;
+			this.col = col;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Key)) return false;
+			Key other = (Key)obj;
+			return
+				indexed == other.indexed
+				&& col == other.col
+				&& Objects.equals(value, other.value)
+			;
+		}
+
+		@Override
+		public int hashCode() {
+			return (col * 31 + Objects.hashCode(value)) * 31 + (indexed ? 1 : 0);
+		}
+	}
+
+	private final int maxEntries;
+
+	private final Map<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int size;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	BoundedRowCache(int maxEntries) {
+		if(maxEntries <= 0) throw new IllegalArgumentException("maxEntries <= 0: " + maxEntries);
+		this.maxEntries = maxEntries;
+	}
+
+	int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Gets the number of entries currently cached, with each index entry counted by its number of rows.
+	 */
+	int getSize() {
+		return size;
+	}
+
+	long getHits() {
+		return hits;
+	}
+
+	long getMisses() {
+		return misses;
+	}
+
+	long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Determines if the given unique value is cached, counting the hit or miss.
+	 */
+	boolean containsUnique(int col, Object value) {
+		// Use get instead of containsKey to update the access order
+		if(entries.get(new Key(false, col, value)) != null) {
+			hits++;
+			return true;
+		} else {
+			misses++;
+			return false;
+		}
+	}
+
+	/**
+	 * Gets a unique row previously found by {@link #containsUnique(int, java.lang.Object)}.
+	 *
+	 * @return  the row or <code>null</code> when cached as not existing
+	 */
+	@SuppressWarnings("unchecked")
+	V getUnique(int col, Object value) {
+		Object cached = entries.get(new Key(false, col, value));
+		return cached == NOT_FOUND ? null : (V)cached;
+	}
+
+	/**
+	 * Caches a unique row, including when not found.
+	 */
+	void putUnique(int col, Object value, V row) {
+		put(new Key(false, col, value), row == null ? NOT_FOUND : row);
+	}
+
+	/**
+	 * Gets the cached list of rows for an index value, counting the hit or miss.
+	 *
+	 * @return  the unmodifiable list of rows or <code>null</code> when not cached
+	 */
+	@SuppressWarnings("unchecked")
+	List<V> getIndexed(int col, Object value) {
+		List<V> list = (List<V>)entries.get(new Key(true, col, value));
+		if(list != null) hits++;
+		else misses++;
+		return list;
+	}
+
+	/**
+	 * Caches the unmodifiable list of rows for an index value.
+	 */
+	void putIndexed(int col, Object value, List<V> rows) {
+		put(new Key(true, col, value), rows);
+	}
+
+	private static int weigh(Object cached) {
+		return (cached instanceof List) ? Math.max(1, ((List<?>)cached).size()) : 1;
+	}
+
+	private void put(Key key, Object cached) {
+		Object old = entries.put(key, cached);
+		if(old != null) size -= weigh(old);
+		size += weigh(cached);
+		// Evict least recently used, but always keep the entry just added
+		Iterator<Map.Entry<Key, Object>> iter = entries.entrySet().iterator();
+		while(size > maxEntries && entries.size() > 1) {
+			Map.Entry<Key, Object> eldest = iter.next();
+			size -= weigh(eldest.getValue());
+			iter.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Removes all entries, keeping the statistics.
+	 */
+	void clear() {
+		entries.clear();
+		size = 0;
+	}
+}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -22,17 +22,16 @@
  */
 package com.aoindustries.aoserv.client;
 
-import com.aoapps.collections.AoCollections;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.ref.WeakReference;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * A <code>CachedTable</code> stores all of the
@@ -41,125 +40,358 @@ import java.util.Map;
  * notifies the client when a table is updated, and
  * the caches are then invalidated.  Once invalidated,
  * the data is reloaded upon next use.
+ * <p>
+ * For very large, mostly cold tables, the cache may instead be limited to a
+ * maximum number of entries with {@link #setMaxCachedEntries(int)}.  Only
+ * the most recently used lookups are then kept, and the full table is never
+ * cached.
+ * </p>
+ * <p>
+ * For very large tables that are fully cached, the rows may instead be
+ * stored in compact columnar form with {@link #setColumnar(boolean)}.
+ * </p>
  *
  * @author  AO Industries, Inc.
  */
 public abstract class CachedTable<K, V extends CachedObject<K, V>> extends AOServTable<K, V> {
 
 	/**
-	 * The last time that the data was loaded, or
-	 * <code>-1</code> if not yet loaded.
+	 * The rows and their hashes and indexes, or <code>null</code> if not yet loaded.
+	 * Only changed while synchronized, but volatile for the unsynchronized status methods.
 	 */
-	private long lastLoaded=-1;
+	private volatile TableSnapshot<V> snapshot;
 
 	/**
-	 * The internal objects are stored in <code>HashMaps</code>
-	 * based on unique columns.
+	 * The bounded cache, or <code>null</code> when all rows are cached.
 	 */
-	private List<Map<Object, V>> columnHashes;
-	private BitSet columnsHashed;
+	private BoundedRowCache<V> boundedCache;
 
 	/**
-	 * The internal objects are stored in <code>HashMaps</code> of <code>CachedObject[]</code>
-	 * based on indexed columns.  Each of the contained List<T> are unmodifiable.
+	 * The last full load while limited by {@link #setMaxCachedEntries(int)},
+	 * kept only while referenced elsewhere, such as by a pinned snapshot.
+	 * Only changed while synchronized, but volatile for {@link #isCurrent(TableSnapshot)}.
 	 */
-	private List<Map<Object, List<V>>> indexHashes;
-	private BitSet indexesHashed;
+	private volatile WeakReference<TableSnapshot<V>> transientSnapshot;
 
 	/**
-	 * The internal objects are stored in an unmodifiable list
-	 * for access to the entire table.
+	 * When the rows are stored in {@link ColumnarRows}.
 	 */
-	private List<V> tableData;
+	private boolean columnar;
 
 	protected CachedTable(AOServConnector connector, Class<V> clazz) {
 		super(connector, clazz);
 	}
 
+	/**
+	 * Limits this table to caching the given number of most recently used
+	 * entries, or caches all rows when <code>0</code> (the default).
+	 * A unique row counts as one entry, and an index entry counts as the number
+	 * of rows it contains.
+	 * <p>
+	 * When limited, misses on the primary key are fetched individually with
+	 * {@link AoservProtocol.CommandID#GET_OBJECT}, and misses on other columns
+	 * with {@link #fetchIndexedRows(int, java.lang.Object)}.  Lookups without
+	 * a keyed command, and {@link #getRows()} and the other scans, load the full
+	 * table without caching it, so each scan is a round-trip to the server.
+	 * Limiting therefore only saves memory for tables that are mostly accessed
+	 * by lookups.
+	 * </p>
+	 *
+	 * @see  #getPrimaryKeyColumn()
+	 */
+	public void setMaxCachedEntries(int maxEntries) {
+		if(maxEntries < 0) throw new IllegalArgumentException("maxEntries < 0: " + maxEntries);
+		synchronized(this) {
+			boundedCache = maxEntries == 0 ? null : new BoundedRowCache<>(maxEntries);
+			snapshot = null;
+			transientSnapshot = null;
+		}
+	}
+
+	/**
+	 * Gets the maximum number of entries cached, or <code>0</code> when all rows are cached.
+	 */
+	public int getMaxCachedEntries() {
+		synchronized(this) {
+			return boundedCache == null ? 0 : boundedCache.getMaxEntries();
+		}
+	}
+
+	/**
+	 * Stores the rows of this table in compact columnar form instead of as
+	 * objects, reducing the memory used by large tables.  Each row is kept
+	 * serialized and materialized as an object on access, and the
+	 * columns used for lookups are extracted into primitive or
+	 * dictionary-encoded arrays.  The primary key and the columns already looked
+	 * up are extracted as loaded, so only the rows matched by lookups are ever
+	 * decoded again.
+	 * <p>
+	 * Columnar rows are shared by all connectors that load identical rows, such
+	 * as connectors from {@link AOServConnector#switchUsers(com.aoindustries.aoserv.client.account.User.Name)}
+	 * with the same visibility, so memory grows with the distinct data instead
+	 * of with the number of connectors.
+	 * </p>
+	 * <p>
+	 * Lookups only materialize the matching rows.  Materialized rows are
+	 * reused while still referenced, so a row keeps its identity while in use,
+	 * but {@link #getRows()} materializes again any rows released since, so this
+	 * is best for tables that are mostly accessed by lookups.  Has no effect while limited by
+	 * {@link #setMaxCachedEntries(int)}.
+	 * </p>
+	 */
+	public void setColumnar(boolean columnar) {
+		synchronized(this) {
+			if(this.columnar != columnar) {
+				this.columnar = columnar;
+				snapshot = null;
+			}
+		}
+	}
+
+	/**
+	 * Gets the columns extracted when loaded in columnar form: the
+	 * {@linkplain #getPrimaryKeyColumn() primary key} and any column already
+	 * looked up in this table.
+	 */
+	private SortedSet<Integer> getKeyColumns() {
+		SortedSet<Integer> keyColumns = new TreeSet<>(statistics.getLookupColumns());
+		int primaryKey = getPrimaryKeyColumn();
+		if(primaryKey != -1) keyColumns.add(primaryKey);
+		return keyColumns;
+	}
+
+	/**
+	 * Determines if the rows are stored in compact columnar form.
+	 *
+	 * @see  #setColumnar(boolean)
+	 */
+	public boolean isColumnar() {
+		synchronized(this) {
+			return columnar;
+		}
+	}
+
+	/**
+	 * Gets the number of lookups found in the bounded cache.
+	 */
+	public long getBoundedCacheHits() {
+		synchronized(this) {
+			return boundedCache == null ? 0 : boundedCache.getHits();
+		}
+	}
+
+	/**
+	 * Gets the number of lookups not found in the bounded cache.
+	 */
+	public long getBoundedCacheMisses() {
+		synchronized(this) {
+			return boundedCache == null ? 0 : boundedCache.getMisses();
+		}
+	}
+
+	/**
+	 * Gets the number of entries evicted from the bounded cache.
+	 */
+	public long getBoundedCacheEvictions() {
+		synchronized(this) {
+			return boundedCache == null ? 0 : boundedCache.getEvictions();
+		}
+	}
+
+	/**
+	 * Gets the column that may be fetched individually by
+	 * {@link AoservProtocol.CommandID#GET_OBJECT} when this table is limited
+	 * by {@link #setMaxCachedEntries(int)}, or <code>-1</code> when none.
+	 */
+	protected int getPrimaryKeyColumn() {
+		return -1;
+	}
+
+	/**
+	 * Fetches the rows for an index value individually with a keyed command,
+	 * when this table is limited by {@link #setMaxCachedEntries(int)}.  The rows
+	 * are then kept in the bounded cache.  This default implementation has no
+	 * keyed commands.
+	 *
+	 * @return  the rows, in any order, or <code>null</code> when there is no keyed command for
+	 *          the column, in which case the full table is loaded without caching it
+	 */
+	protected List<V> fetchIndexedRows(int col, Object value) throws IOException, SQLException {
+		return null;
+	}
+
+	/**
+	 * Makes sure invalidations will be received for this table before it may
+	 * be loaded, then gets the time to measure blocking on the table monitor.
+	 * This is called before synchronizing because invalidations are delivered
+	 * while synchronized on the table.
+	 */
+	private long beforeSynchronized() throws InterruptedIOException {
+		connector.listenForBeforeLoad(getTableID());
+		return System.nanoTime();
+	}
+
 	@Override
 	public List<V> getIndexedRows(int col, Object value) throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
 		synchronized(this) {
-			validateCache();
-			int minLength=col+1;
-			if(indexHashes==null) {
-				indexHashes=new ArrayList<>(minLength);
-				indexesHashed=new BitSet(minLength);
-			}
-			while(indexHashes.size()<minLength) {
-				indexHashes.add(null);
-			}
-			Map<Object, List<V>> map=indexHashes.get(col);
-			if(map==null) indexHashes.set(col, map=new HashMap<>());
-			if(!indexesHashed.get(col)) {
-				// Build the modifiable lists in a temporary Map
-				Map<Object, List<V>> modifiableIndexes=new HashMap<>();
-				for(V obj : tableData) {
-					Object cvalue=obj.getColumn(col);
-					List<V> list=modifiableIndexes.get(cvalue);
-					if(list==null) modifiableIndexes.put(cvalue, list=new ArrayList<>());
-					list.add(obj);
-				}
-				// Wrap each of the newly-created indexes to be unmodifiable
-				map.clear();
-				Iterator<Object> keys=modifiableIndexes.keySet().iterator();
-				while(keys.hasNext()) {
-					Object key=keys.next();
-					List<V> list=modifiableIndexes.get(key);
-					map.put(key, Collections.unmodifiableList(list));
-				}
-				indexesHashed.set(col);
-			}
-			// Conversion to array is delayed so that indexed but unused parts save the step.
-			List<V> list = map.get(value);
-			if(list==null) return Collections.emptyList();
-			return list;
+			statistics.blocked(startNanos);
+			if(boundedCache != null) return getIndexedRowsBounded(col, value);
+			statistics.lookup(col, snapshot != null);
+			current = validateCache();
+		}
+		// Sorted outside the table monitor, when first needed
+		return current.getIndexedRows(col, value);
+	}
+
+	/**
+	 * Gets indexed rows from the bounded cache, fetching misses by keyed command
+	 * when available.  Called while synchronized on this table.
+	 */
+	private List<V> getIndexedRowsBounded(int col, Object value) throws IOException, SQLException {
+		List<V> rows = boundedCache.getIndexed(col, value);
+		statistics.lookup(col, rows != null);
+		if(rows == null) {
+			List<V> fetched = fetchIndexedRows(col, value);
+			rows = fetched == null ? getSnapshot().getIndexedRows(col, value) : Collections.unmodifiableList(fetched);
+			boundedCache.putIndexed(col, value, rows);
 		}
+		return rows;
 	}
 
 	@Override
 	final protected V getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
 		if(value == null) return null;
+		long startNanos = beforeSynchronized();
 		synchronized(this) {
-			validateCache();
-			int minLength=col+1;
-			if(columnHashes==null) {
-				columnHashes=new ArrayList<>(minLength);
-				columnsHashed=new BitSet(minLength);
-			}
-			while(columnHashes.size()<minLength) {
-				columnHashes.add(null);
-			}
-			Map<Object, V> map=columnHashes.get(col);
-			if(!columnsHashed.get(col)) {
-				List<V> table=tableData;
-				int size=table.size();
-				// Allow 25% growth before rehash
-				if(map == null) columnHashes.set(col, map = AoCollections.newHashMap((size * 5) >> 2));
-				else map.clear();
-				for(int c=0;c<size;c++) {
-					V O=table.get(c);
-					Object cvalue=O.getColumn(col);
-					if(cvalue!=null) {
-						Object old=map.put(cvalue, O);
-						if(old!=null) throw new SQLException("Duplicate unique entry for table #"+getTableID()+" ("+getTableName()+"), column "+col+": "+cvalue);
-					}
-				}
-				columnsHashed.set(col);
+			statistics.blocked(startNanos);
+			return getUniqueRowLocked(col, value);
+		}
+	}
+
+	/**
+	 * Gets a unique row while already synchronized on this table.  While
+	 * limited, misses are fetched by keyed command when available.
+	 */
+	private V getUniqueRowLocked(int col, Object value) throws IOException, SQLException {
+		if(boundedCache != null) {
+			boolean hit = boundedCache.containsUnique(col, value);
+			statistics.lookup(col, hit);
+			if(hit) return boundedCache.getUnique(col, value);
+			V row;
+			if(col == getPrimaryKeyColumn()) {
+				row = getObject(true, AoservProtocol.CommandID.GET_OBJECT, getTableID(), value);
+			} else {
+				List<V> fetched = fetchIndexedRows(col, value);
+				if(fetched == null) row = getSnapshot().getUniqueRow(this, col, value);
+				else if(fetched.isEmpty()) row = null;
+				else if(fetched.size() == 1) row = fetched.get(0);
+				else throw new SQLException("Duplicate unique entry for table #" + getTableID() + " (" + getTableName() + "), column " + col + ": " + value);
 			}
-			return map.get(value);
+			boundedCache.putUnique(col, value, row);
+			return row;
 		}
+		statistics.lookup(col, snapshot != null);
+		return validateCache().getUniqueRow(this, col, value);
+	}
+
+	@Override
+	final protected V getUniqueRowImpl(int col, int value) throws IOException, SQLException {
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			if(boundedCache != null) return getUniqueRowLocked(col, value);
+			statistics.lookup(col, snapshot != null);
+			return validateCache().getUniqueRow(this, col, value);
+		}
+	}
+
+	@Override
+	final protected V getUniqueRowImpl(int col, long value) throws IOException, SQLException {
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			if(boundedCache != null) return getUniqueRowLocked(col, value);
+			statistics.lookup(col, snapshot != null);
+			return validateCache().getUniqueRow(this, col, value);
+		}
+	}
+
+	@Override
+	public V getUniqueRow(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			return getSnapshot().getUniqueRow(this, index, values);
+		}
+	}
+
+	@Override
+	public List<V> getIndexedRows(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			current = getSnapshot();
+		}
+		return current.getIndexedRows(this, index, values);
+	}
+
+	@Override
+	public <T extends Comparable<? super T>> List<V> getRowsBetween(RangeIndex<T> index, T from, T to) throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			current = getSnapshot();
+		}
+		return current.getSorted(index).between(from, to);
+	}
+
+	@Override
+	public List<V> getLatestRows(RangeIndex<?> index, int count) throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			current = getSnapshot();
+		}
+		return current.getSorted(index).latest(count);
 	}
 
 	/**
 	 * Gets the complete list of objects in the table.
 	 */
 	@Override
-	@SuppressWarnings("ReturnOfCollectionOrArrayField") // Returning unmodifiable
 	public List<V> getRows() throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
 		synchronized(this) {
-			validateCache();
-			return tableData;
+			statistics.blocked(startNanos);
+			current = getSnapshot();
 		}
+		// Sorted outside the table monitor, when first needed
+		return current.getRows();
+	}
+
+	/**
+	 * Gets the number of rows without sorting them.
+	 */
+	@Override
+	public int size() throws IOException, SQLException {
+		TableSnapshot<V> current;
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			current = getSnapshot();
+		}
+		return current.size();
+	}
+
+	@Override
+	public boolean isEmpty() throws IOException, SQLException {
+		return size() == 0;
 	}
 
 	@Override
@@ -171,25 +403,68 @@ public abstract class CachedTable<K, V extends CachedObject<K, V>> extends AOSer
 	 * Determines if the contents are currently hashed in a hashmap.
 	 */
 	boolean isHashed(int uniqueColumn) {
-		return
-			columnsHashed!=null
-			&& columnsHashed.get(uniqueColumn)
-		;
+		TableSnapshot<V> current=snapshot;
+		return current!=null && current.isHashed(uniqueColumn);
 	}
 
 	/**
 	 * Determines if the contents of this column are indexed.
 	 */
 	boolean isIndexed(int uniqueColumn) {
-		return
-			indexesHashed!=null
-			&& indexesHashed.get(uniqueColumn)
-		;
+		TableSnapshot<V> current=snapshot;
+		return current!=null && current.isIndexed(uniqueColumn);
 	}
 
 	@Override
 	final public boolean isLoaded() {
-		return lastLoaded!=-1;
+		return snapshot!=null;
+	}
+
+	/**
+	 * Loads the full table, even when limited by {@link #setMaxCachedEntries(int)},
+	 * in which case it is only kept while pinned.
+	 */
+	@Override
+	TableSnapshot<V> pinSnapshot() throws IOException, SQLException {
+		long startNanos = beforeSynchronized();
+		synchronized(this) {
+			statistics.blocked(startNanos);
+			return getSnapshot();
+		}
+	}
+
+	/**
+	 * While limited, the snapshot is current until invalidated or released.
+	 */
+	@Override
+	boolean isCurrent(TableSnapshot<?> pinned) {
+		return pinned != null && peekSnapshot() == pinned;
+	}
+
+	/**
+	 * While limited, gets the last full load when still referenced elsewhere.
+	 */
+	@Override
+	TableSnapshot<V> peekSnapshot() {
+		TableSnapshot<V> current = snapshot;
+		if(current == null) {
+			WeakReference<TableSnapshot<V>> ref = transientSnapshot;
+			if(ref != null) current = ref.get();
+		}
+		return current;
+	}
+
+	/**
+	 * Counts the bounded cache as rows, one per entry.
+	 */
+	@Override
+	HeapEstimate estimateHeap(HeapEstimator estimator) {
+		TableSnapshot<V> current = snapshot;
+		if(current != null) return estimator.estimate(this, current);
+		synchronized(this) {
+			if(boundedCache == null) return null;
+			return new HeapEstimate(getTableID(), boundedCache.getSize(), estimator.add(boundedCache), 0);
+		}
 	}
 
 	/**
@@ -200,55 +475,60 @@ public abstract class CachedTable<K, V extends CachedObject<K, V>> extends AOSer
 	public void clearCache() {
 		super.clearCache();
 		synchronized(this) {
-			lastLoaded=-1;
-			if(columnHashes!=null) {
-				int len=columnHashes.size();
-				for(int c=0;c<len;c++) {
-					Map<Object, V> map = columnHashes.get(c);
-					if(map!=null) map.clear();
-				}
-			}
-			if(columnsHashed!=null) columnsHashed.clear();
-			if(indexHashes!=null) {
-				int len=indexHashes.size();
-				for(int c=0;c<len;c++) {
-					Map<Object, List<V>> map=indexHashes.get(c);
-					if(map!=null) map.clear();
-				}
-			}
-			if(indexesHashed!=null) indexesHashed.clear();
+			snapshot=null;
+			transientSnapshot=null;
+			if(boundedCache!=null) boundedCache.clear();
 		}
 	}
 
+	/**
+	 * Gets the full table while already synchronized on this table.  While
+	 * limited by {@link #setMaxCachedEntries(int)}, the full table is loaded
+	 * without caching it: the last load is only reused while still referenced
+	 * elsewhere.
+	 */
+	private TableSnapshot<V> getSnapshot() throws IOException, SQLException {
+		if(boundedCache == null) return validateCache();
+		long currentTime = System.currentTimeMillis();
+		TableSnapshot<V> current = peekSnapshot();
+		if(
+			current == null
+			// If the system time was reset to previous time
+			|| currentTime < current.getLoadedTime()
+		) {
+			// Sorted by the snapshot when first needed
+			current = new TableSnapshot<>(this, loadTable(new ArrayList<>(), false), currentTime);
+			transientSnapshot = new WeakReference<>(current);
+			snapshotLoaded();
+		}
+		return current;
+	}
+
 	/**
 	 * Reloads the cache if the cache time has expired.  All accesses are already synchronized.
+	 * Not used while limited by {@link #setMaxCachedEntries(int)}.
+	 *
+	 * @return  the current snapshot
 	 */
-	private void validateCache() throws IOException, SQLException {
+	private TableSnapshot<V> validateCache() throws IOException, SQLException {
 		long currentTime=System.currentTimeMillis();
 		if(
 		   // If cache never loaded
-		   lastLoaded==-1
+		   snapshot==null
 		   // If the system time was reset to previous time
-		   || currentTime<lastLoaded
+		   || currentTime<snapshot.getLoadedTime()
 		) {
-			tableData=Collections.unmodifiableList(getObjects(true, AoservProtocol.CommandID.GET_TABLE, getTableID()));
-			lastLoaded=currentTime;
-			if(columnHashes!=null) {
-				int len=columnHashes.size();
-				for(int c=0;c<len;c++) {
-					Map<Object, V> map = columnHashes.get(c);
-					if(map!=null) map.clear();
-				}
-			}
-			if(columnsHashed!=null) columnsHashed.clear();
-			if(indexHashes!=null) {
-				int len=indexHashes.size();
-				for(int c=0;c<len;c++) {
-					Map<Object, List<V>> map=indexHashes.get(c);
-					if(map!=null) map.clear();
-				}
+			// Sorted by the snapshot when first needed
+			List<V> rows = loadTable(new ArrayList<>(), false);
+			if(columnar) {
+				ColumnarRows<V> columnarRows = new ColumnarRows<>(this, rows, getKeyColumns());
+				if(columnarRows.isShared()) statistics.shared();
+				snapshot = new TableSnapshot<>(this, columnarRows, currentTime);
+			} else {
+				snapshot = new TableSnapshot<>(this, rows, currentTime);
 			}
-			if(indexesHashed!=null) indexesHashed.clear();
+			snapshotLoaded();
 		}
+		return snapshot;
 	}
 }
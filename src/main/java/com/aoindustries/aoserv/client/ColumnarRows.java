@@ -0,0 +1,628 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.hodgepodge.io.stream.StreamableInput;
+import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import com.aoapps.lang.exception.WrappedException;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Table;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Stores the rows of a table in compact form instead of as objects.
+ * Each row is kept in its serialized protocol form, and is materialized as an
+ * object on first access.  The columns used for lookups are extracted once
+ * into primitive arrays for <code>int</code> and <code>long</code> columns, or
+ * into dictionary-encoded arrays for all other columns, so that lookups only
+ * materialize the matching rows.  Key columns are extracted up front, from the
+ * rows as loaded, and any other column on first use.
+ * <p>
+ * Materialized rows are weakly referenced and reused, so a row is always
+ * returned as the same object while that object is still in use.  Only rows
+ * no longer referenced are released, and are materialized again on next access.
+ * This relies on {@link AOServObject#write(com.aoapps.hodgepodge.io.stream.StreamableOutput, com.aoindustries.aoserv.client.schema.AoservProtocol.Version)}
+ * and {@link AOServObject#read(com.aoapps.hodgepodge.io.stream.StreamableInput, com.aoindustries.aoserv.client.schema.AoservProtocol.Version)}
+ * being inverses, as they are for the rows sent by the master.
+ * </p>
+ * <p>
+ * The storage does not depend on the connector, so when connectors load
+ * identical rows for a table, such as connectors created by
+ * {@link AOServConnector#switchUsers(com.aoindustries.aoserv.client.account.User.Name)}
+ * for users with the same visibility, they share one copy of the rows and
+ * of the extracted columns.  Each connector still materializes its own objects.
+ * </p>
+ *
+ * @see  CachedTable#setColumnar(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ColumnarRows<V extends AOServObject<?, ?>> extends AbstractList<V> implements RandomAccess {
+
+	/**
+	 * The values of one column for all rows.
+	 */
+	private abstract static class Column {
+
+		/**
+		 * Gets the value of the given row.
+		 */
+		abstract Object get(int row);
+
+		/**
+		 * Finds the rows, in ascending order, with the given non-null value.
+		 */
+		abstract int[] find(Object value);
+
+		/**
+		 * Finds the rows, in ascending order, with a <code>null</code> value.
+		 */
+		final int[] findNull(int size) {
+			int count = 0;
+			for(int row = 0; row < size; row++) {
+				if(get(row) == null) count++;
+			}
+			int[] found = new int[count];
+			int i = 0;
+			for(int row = 0; row < size && i < count; row++) {
+				if(get(row) == null) found[i++] = row;
+			}
+			return found;
+		}
+	}
+
+	private static final int[] NO_ROWS = new int[0];
+
+	/**
+	 * An <code>int</code> column, with its rows sorted by value for lookups.
+	 */
+	private static final class IntColumn extends Column {
+
+		private final int[] values;
+		private final BitSet nulls;
+
+		/**
+		 * The rows sorted by value then row, packed as value in the high 32 bits and row in the low.
+		 */
+		private final long[] sorted;
+
+		private IntColumn(int[] values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+			int count = 0;
+			long[] packed = new long[values.length - nulls.cardinality()];
+			for(int row = 0; row < values.length; row++) {
+				if(!nulls.get(row)) packed[count++] = ((long)values[row] << 32) | row;
+			}
+			Arrays.sort(packed);
+			this.sorted = packed;
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get(row) ? null : values[row];
+		}
+
+		@Override
+		int[] find(Object value) {
+			if(!(value instanceof Integer)) return NO_ROWS;
+			long key = (long)(Integer)value << 32;
+			int start = Arrays.binarySearch(sorted, key);
+			if(start < 0) start = -(start + 1);
+			int end = start;
+			while(end < sorted.length && (sorted[end] & 0xffffffff00000000L) == key) end++;
+			if(start == end) return NO_ROWS;
+			int[] found = new int[end - start];
+			for(int i = start; i < end; i++) {
+				found[i - start] = (int)sorted[i];
+			}
+			return found;
+		}
+	}
+
+	/**
+	 * A <code>long</code> column, with its rows sorted by value for lookups.
+	 */
+	private static final class LongColumn extends Column {
+
+		private final long[] values;
+		private final BitSet nulls;
+
+		/**
+		 * The non-null rows, stably sorted by value.
+		 */
+		private final int[] sorted;
+
+		private LongColumn(long[] values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+			Integer[] rows = new Integer[values.length - nulls.cardinality()];
+			int count = 0;
+			for(int row = 0; row < values.length; row++) {
+				if(!nulls.get(row)) rows[count++] = row;
+			}
+			Arrays.sort(rows, (row1, row2) -> Long.compare(values[row1], values[row2]));
+			sorted = new int[count];
+			for(int i = 0; i < count; i++) {
+				sorted[i] = rows[i];
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get(row) ? null : values[row];
+		}
+
+		@Override
+		int[] find(Object value) {
+			if(!(value instanceof Long)) return NO_ROWS;
+			long key = (Long)value;
+			int low = 0;
+			int high = sorted.length;
+			while(low < high) {
+				int mid = (low + high) >>> 1;
+				if(values[sorted[mid]] < key) low = mid + 1;
+				else high = mid;
+			}
+			int end = low;
+			while(end < sorted.length && values[sorted[end]] == key) end++;
+			return low == end ? NO_ROWS : Arrays.copyOfRange(sorted, low, end);
+		}
+	}
+
+	/**
+	 * Any other column, with each distinct value stored once.
+	 */
+	private static final class DictionaryColumn extends Column {
+
+		private final Object[] dictionary;
+
+		/**
+		 * The index into the dictionary for each row, or <code>-1</code> for <code>null</code>.
+		 */
+		private final int[] codes;
+
+		private final Map<Object, Integer> codeOf;
+
+		/**
+		 * The rows of each code, starting at <code>postingStarts[code]</code>.
+		 */
+		private final int[] postingStarts;
+		private final int[] postings;
+
+		private DictionaryColumn(Object[] dictionary, int[] codes, Map<Object, Integer> codeOf) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+			this.codeOf = codeOf;
+			int[] starts = new int[dictionary.length + 1];
+			for(int code : codes) {
+				if(code != -1) starts[code + 1]++;
+			}
+			for(int code = 0; code < dictionary.length; code++) {
+				starts[code + 1] += starts[code];
+			}
+			int[] next = Arrays.copyOf(starts, dictionary.length);
+			int[] rows = new int[starts[dictionary.length]];
+			for(int row = 0; row < codes.length; row++) {
+				int code = codes[row];
+				if(code != -1) rows[next[code]++] = row;
+			}
+			this.postingStarts = starts;
+			this.postings = rows;
+		}
+
+		@Override
+		Object get(int row) {
+			int code = codes[row];
+			return code == -1 ? null : dictionary[code];
+		}
+
+		@Override
+		int[] find(Object value) {
+			Integer code = codeOf.get(value);
+			if(code == null) return NO_ROWS;
+			return Arrays.copyOfRange(postings, postingStarts[code], postingStarts[code + 1]);
+		}
+	}
+
+	/**
+	 * The rows of one table, independent of any connector, so that connectors
+	 * with identical rows may share one copy.
+	 */
+	private static final class Storage {
+
+		private final Table.TableID tableID;
+
+		/**
+		 * The serialized rows, row <code>i</code> from <code>offsets[i]</code>
+		 * to <code>offsets[i + 1]</code>.
+		 */
+		private final byte[] data;
+		private final int[] offsets;
+		private final int hash;
+
+		/**
+		 * The columns extracted so far, published copy-on-write while synchronized on this storage.
+		 */
+		private volatile Column[] columns;
+
+		private Storage(Table.TableID tableID, byte[] data, int[] offsets, Column[] columns) {
+			this.tableID = tableID;
+			this.data = data;
+			this.offsets = offsets;
+			this.hash = tableID.hashCode() * 31 + Arrays.hashCode(data);
+			this.columns = columns;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj) return true;
+			if(!(obj instanceof Storage)) return false;
+			Storage other = (Storage)obj;
+			return
+				hash == other.hash
+				&& tableID == other.tableID
+				&& Arrays.equals(offsets, other.offsets)
+				&& Arrays.equals(data, other.data)
+			;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * Adds any columns extracted by the other storage that this storage does not have.
+		 */
+		private synchronized void addColumns(Column[] other) {
+			Column[] current = columns;
+			Column[] copy = null;
+			for(int col = 0; col < other.length; col++) {
+				if(other[col] != null && (col >= current.length || current[col] == null)) {
+					if(copy == null) copy = Arrays.copyOf(current, Math.max(current.length, other.length));
+					copy[col] = other[col];
+				}
+			}
+			if(copy != null) columns = copy;
+		}
+	}
+
+	/**
+	 * The storage shared by all connectors, weakly referenced so that storage is
+	 * released once no longer used by any connector.
+	 */
+	private static final Map<Storage, WeakReference<Storage>> sharedStorage = new WeakHashMap<>();
+
+	/**
+	 * Gets the storage already used by any connector with identical rows, or
+	 * registers the given storage.
+	 */
+	private static Storage share(Storage storage) {
+		synchronized(sharedStorage) {
+			WeakReference<Storage> ref = sharedStorage.get(storage);
+			Storage existing = ref == null ? null : ref.get();
+			if(existing != null) {
+				existing.addColumns(storage.columns);
+				return existing;
+			}
+			sharedStorage.put(storage, new WeakReference<>(storage));
+			return storage;
+		}
+	}
+
+	private final AOServTable<?, ?> table;
+
+	private final Storage storage;
+
+	/**
+	 * When the storage was already loaded by another connector.
+	 */
+	private final boolean shared;
+
+	/**
+	 * The rows materialized by this connector, reused while still referenced.
+	 */
+	private final AtomicReferenceArray<WeakReference<V>> materialized;
+
+	/**
+	 * @param  rows        the rows to store, which are not retained
+	 * @param  keyColumns  the columns to extract up front, while the rows are
+	 *                     still available, instead of materializing every row
+	 *                     on first use
+	 */
+	ColumnarRows(AOServTable<?, ?> table, List<V> rows, Iterable<Integer> keyColumns) throws IOException {
+		this.table = table;
+		int size = rows.size();
+		Column[] keys = new Column[0];
+		for(int col : keyColumns) {
+			if(col >= keys.length) keys = Arrays.copyOf(keys, col + 1);
+			if(keys[col] == null) {
+				Object[] values = new Object[size];
+				for(int row = 0; row < size; row++) {
+					values[row] = rows.get(row).getColumn(col);
+				}
+				keys[col] = newColumn(values);
+			}
+		}
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		int[] offsets = new int[size + 1];
+		for(int row = 0; row < size; row++) {
+			// A new stream per row, so each row is read independently
+			StreamableOutput out = new StreamableOutput(bout);
+			rows.get(row).write(out, AoservProtocol.Version.CURRENT_VERSION);
+			out.flush();
+			offsets[row + 1] = bout.size();
+		}
+		Storage newStorage = new Storage(table.getTableID(), bout.toByteArray(), offsets, keys);
+		this.storage = share(newStorage);
+		this.shared = storage != newStorage;
+		this.materialized = new AtomicReferenceArray<>(size);
+	}
+
+	/**
+	 * Determines if the rows are shared with another connector that loaded identical rows.
+	 */
+	boolean isShared() {
+		return shared;
+	}
+
+	@Override
+	public int size() {
+		return storage.offsets.length - 1;
+	}
+
+	/**
+	 * Gets the given row, materializing it when not already in use.
+	 */
+	@Override
+	public V get(int row) {
+		if(row < 0 || row >= size()) throw new IndexOutOfBoundsException("row: " + row + ", size: " + size());
+		while(true) {
+			WeakReference<V> ref = materialized.get(row);
+			V obj = ref == null ? null : ref.get();
+			if(obj != null) return obj;
+			obj = materialize(row);
+			// Another thread may have materialized the same row
+			if(materialized.compareAndSet(row, ref, new WeakReference<>(obj))) return obj;
+		}
+	}
+
+	/**
+	 * Materializes the given row as a new object.
+	 */
+	private V materialize(int row) {
+		try {
+			@SuppressWarnings("unchecked")
+			V obj = (V)table.getNewObject();
+			int[] offsets = storage.offsets;
+			int start = offsets[row];
+			try (StreamableInput in = new StreamableInput(new ByteArrayInputStream(storage.data, start, offsets[row + 1] - start))) {
+				obj.read(in, AoservProtocol.Version.CURRENT_VERSION);
+			}
+			if(obj instanceof SingleTableObject) setTable((SingleTableObject<?, ?>)obj);
+			return obj;
+		} catch(IOException e) {
+			throw new WrappedException(e);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void setTable(SingleTableObject sto) {
+		sto.setTable((AOServTable)table);
+	}
+
+	/**
+	 * Gets the number of bytes used by the serialized rows.
+	 */
+	int getDataSize() {
+		return storage.data.length;
+	}
+
+	/**
+	 * Gets the value of a column without materializing the row.
+	 */
+	Object getValue(int row, int col) {
+		return getColumn(col).get(row);
+	}
+
+	/**
+	 * Finds the rows, in ascending order, with the given value.
+	 */
+	int[] find(int col, Object value) {
+		Column column = getColumn(col);
+		return value == null ? column.findNull(size()) : column.find(value);
+	}
+
+	/**
+	 * Finds the rows, in ascending order, with the given values of a composite index.
+	 */
+	int[] find(CompositeIndex index, Object[] values) {
+		int[] candidates = find(index.getColumn(0), values[0]);
+		int columnCount = index.getColumnCount();
+		if(columnCount == 1 || candidates.length == 0) return candidates;
+		int count = 0;
+		for(int candidate : candidates) {
+			boolean matches = true;
+			for(int i = 1; i < columnCount; i++) {
+				Object value = values[i];
+				Object cvalue = getValue(candidate, index.getColumn(i));
+				if(value == null ? cvalue != null : !value.equals(cvalue)) {
+					matches = false;
+					break;
+				}
+			}
+			if(matches) candidates[count++] = candidate;
+		}
+		return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+	}
+
+	/**
+	 * Materializes the given rows as an unmodifiable list.
+	 */
+	List<V> getRows(int[] rows) {
+		switch(rows.length) {
+			case 0 : return Collections.emptyList();
+			case 1 : return Collections.singletonList(get(rows[0]));
+			default : {
+				List<V> list = new ArrayList<>(rows.length);
+				for(int row : rows) {
+					list.add(get(row));
+				}
+				return Collections.unmodifiableList(list);
+			}
+		}
+	}
+
+	/**
+	 * Gets a view of the rows in the given order, materialized on access.
+	 */
+	List<V> view(int[] rows) {
+		return new ViewList(rows);
+	}
+
+	private final class ViewList extends AbstractList<V> implements RandomAccess {
+
+		private final int[] rows;
+
+		private ViewList(int[] rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public V get(int index) {
+			return ColumnarRows.this.get(rows[index]);
+		}
+
+		@Override
+		public int size() {
+			return rows.length;
+		}
+	}
+
+	/**
+	 * Determines if the given column has been extracted.
+	 */
+	boolean isExtracted(int col) {
+		Column[] current = storage.columns;
+		return col < current.length && current[col] != null;
+	}
+
+	private Column getColumn(int col) {
+		Column[] current = storage.columns;
+		Column column = col < current.length ? current[col] : null;
+		if(column == null) column = extractColumn(col);
+		return column;
+	}
+
+	private Column extractColumn(int col) {
+		synchronized(storage) {
+			Column[] current = storage.columns;
+			if(col < current.length && current[col] != null) return current[col];
+			int size = size();
+			Object[] values = new Object[size];
+			for(int row = 0; row < size; row++) {
+				WeakReference<V> ref = materialized.get(row);
+				V obj = ref == null ? null : ref.get();
+				// Not retained, since only the column is needed
+				if(obj == null) obj = materialize(row);
+				values[row] = obj.getColumn(col);
+			}
+			Column column = newColumn(values);
+			Column[] copy = Arrays.copyOf(current, Math.max(current.length, col + 1));
+			copy[col] = column;
+			storage.columns = copy;
+			return column;
+		}
+	}
+
+	/**
+	 * Encodes the values of a column as <code>int</code>, <code>long</code>,
+	 * or dictionary-encoded, depending on the types of the values.
+	 */
+	private static Column newColumn(Object[] values) {
+		int size = values.length;
+		boolean allInt = true;
+		boolean allLong = true;
+		for(Object value : values) {
+			if(value != null) {
+				if(!(value instanceof Integer)) allInt = false;
+				if(!(value instanceof Long)) allLong = false;
+			}
+		}
+		Column column;
+		if(allInt) {
+			int[] ints = new int[size];
+			BitSet nulls = new BitSet(size);
+			for(int row = 0; row < size; row++) {
+				Object value = values[row];
+				if(value == null) nulls.set(row);
+				else ints[row] = (Integer)value;
+			}
+			column = new IntColumn(ints, nulls);
+		} else if(allLong) {
+			long[] longs = new long[size];
+			BitSet nulls = new BitSet(size);
+			for(int row = 0; row < size; row++) {
+				Object value = values[row];
+				if(value == null) nulls.set(row);
+				else longs[row] = (Long)value;
+			}
+			column = new LongColumn(longs, nulls);
+		} else {
+			Map<Object, Integer> codeOf = new HashMap<>();
+			List<Object> dictionary = new ArrayList<>();
+			int[] codes = new int[size];
+			for(int row = 0; row < size; row++) {
+				Object value = values[row];
+				if(value == null) {
+					codes[row] = -1;
+				} else {
+					Integer code = codeOf.get(value);
+					if(code == null) {
+						code = dictionary.size();
+						codeOf.put(value, code);
+						dictionary.add(value);
+					}
+					codes[row] = code;
+				}
+			}
+			column = new DictionaryColumn(dictionary.toArray(), codes, codeOf);
+		}
+		return column;
+	}
+}
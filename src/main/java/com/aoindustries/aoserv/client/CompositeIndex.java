@@ -0,0 +1,136 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.Arrays;
+
+/**
+ * Declares an index over multiple columns of a table.  A table declares its
+ * composite indexes as constants, then looks up rows by the values of all
+ * columns at once with {@link AOServTable#getUniqueRow(com.aoindustries.aoserv.client.CompositeIndex, java.lang.Object...)}
+ * or {@link AOServTable#getIndexedRows(com.aoindustries.aoserv.client.CompositeIndex, java.lang.Object...)}.
+ * Cached tables build each composite index once per load, when first used.
+ * <p>
+ * Index instances are compared by identity, so each should be created once.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class CompositeIndex {
+
+	private final boolean unique;
+	private final int[] columns;
+
+	/**
+	 * @param  unique   when <code>true</code>, only one row may have any given
+	 *                  combination of non-null values
+	 * @param  columns  the column indexes, at least two
+	 */
+	public CompositeIndex(boolean unique, int ... columns) {
+		if(columns.length < 2) throw new IllegalArgumentException("At least two columns required: " + columns.length);
+		this.unique = unique;
+		this.columns = columns.clone();
+	}
+
+	public boolean isUnique() {
+		return unique;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	public int getColumn(int index) {
+		return columns[index];
+	}
+
+	@Override
+	public String toString() {
+		return (unique ? "unique" : "index") + Arrays.toString(columns);
+	}
+
+	/**
+	 * Checks the number of values given for a lookup.
+	 */
+	void checkValues(Object[] values) {
+		if(values.length != columns.length) throw new IllegalArgumentException("Expected " + columns.length + " values, got " + values.length);
+	}
+
+	/**
+	 * Gets the key of a row or <code>null</code> when unique and any column is <code>null</code>.
+	 */
+	Key getKey(AOServObject<?, ?> row) {
+		Object[] values = new Object[columns.length];
+		for(int i = 0; i < columns.length; i++) {
+			Object value = row.getColumn(columns[i]);
+			if(value == null && unique) return null;
+			values[i] = value;
+		}
+		return new Key(values);
+	}
+
+	/**
+	 * Determines if a row matches the given values.
+	 */
+	boolean matches(AOServObject<?, ?> row, Object[] values) {
+		for(int i = 0; i < columns.length; i++) {
+			Object value = values[i];
+			Object cvalue = row.getColumn(columns[i]);
+			if(value == null ? cvalue != null : !value.equals(cvalue)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The combined values of all columns of an index.
+	 */
+	static final class Key {
+
+		private final Object[] values;
+		private final int hash;
+
+		Key(Object[] values) {
+			this.values = values;
+			this.hash = Arrays.hashCode(values);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return
+				(obj instanceof Key)
+				&& hash == ((Key)obj).hash
+				&& Arrays.equals(values, ((Key)obj).values)
+			;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(values);
+		}
+	}
+}
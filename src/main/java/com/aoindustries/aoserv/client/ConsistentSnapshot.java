@@ -0,0 +1,192 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The rows of a set of tables, pinned together at one point in time when none
+ * of them had been invalidated since loaded.  Reads through a snapshot never
+ * block on the tables and always see the same rows, even as the tables are
+ * invalidated and reloaded, so a computation across several tables sees one
+ * coherent dataset without re-reading.
+ * <p>
+ * Only the rows cached from the server are pinned.  Object methods that look up
+ * related rows, such as <code>getPackage()</code>, still use the current
+ * tables, so related rows should be looked up through the snapshot instead.
+ * </p>
+ *
+ * @see  AOServConnector#getConsistentSnapshot(com.aoindustries.aoserv.client.AOServTable...)
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class ConsistentSnapshot {
+
+	/**
+	 * The number of times the tables are pinned before giving up while they
+	 * are continually invalidated.
+	 */
+	private static final int MAX_ATTEMPTS = 10;
+
+	/**
+	 * Pins the current snapshots of the given tables, reloading any invalidated
+	 * while the others were loaded.
+	 */
+	static ConsistentSnapshot pin(AOServConnector connector, AOServTable<?, ?>[] tables) throws IOException, SQLException {
+		Map<AOServTable<?, ?>, TableSnapshot<?>> pinned = new IdentityHashMap<>();
+		for(int attempt = 1; ; attempt++) {
+			for(AOServTable<?, ?> table : tables) {
+				if(table.getConnector() != connector) throw new IllegalArgumentException("Table from a different connector: " + table.getTableID());
+				TableSnapshot<?> snapshot = pinned.get(table);
+				if(snapshot == null || !table.isCurrent(snapshot)) pinned.put(table, table.pinSnapshot());
+			}
+			// Only consistent when all are current while no invalidations are being applied
+			long sequence = connector.getInvalidationSequence();
+			if((sequence & 1) == 0) {
+				boolean current = true;
+				for(Map.Entry<AOServTable<?, ?>, TableSnapshot<?>> entry : pinned.entrySet()) {
+					if(!entry.getKey().isCurrent(entry.getValue())) {
+						current = false;
+						break;
+					}
+				}
+				if(current && connector.getInvalidationSequence() == sequence) {
+					return new ConsistentSnapshot(pinned, System.currentTimeMillis());
+				}
+			}
+			if(attempt >= MAX_ATTEMPTS) throw new IOException("Unable to pin a consistent snapshot after " + attempt + " attempts");
+		}
+	}
+
+	private final Map<AOServTable<?, ?>, TableSnapshot<?>> snapshots;
+	private final long pinnedTime;
+
+	private ConsistentSnapshot(Map<AOServTable<?, ?>, TableSnapshot<?>> snapshots, long pinnedTime) {
+		this.snapshots = snapshots;
+		this.pinnedTime = pinnedTime;
+	}
+
+	/**
+	 * Gets the time the tables were all known to be current.
+	 */
+	public long getPinnedTime() {
+		return pinnedTime;
+	}
+
+	/**
+	 * Gets the tables in this snapshot.
+	 */
+	public Set<AOServTable<?, ?>> getTables() {
+		return Collections.unmodifiableSet(snapshots.keySet());
+	}
+
+	/**
+	 * @exception  IllegalArgumentException  if the table is not in this snapshot
+	 */
+	private <K, V extends AOServObject<K, V>> TableSnapshot<V> getSnapshot(AOServTable<K, V> table) {
+		@SuppressWarnings("unchecked")
+		TableSnapshot<V> snapshot = (TableSnapshot<V>)snapshots.get(table);
+		if(snapshot == null) throw new IllegalArgumentException("Table not in snapshot: " + table.getTableID());
+		return snapshot;
+	}
+
+	/**
+	 * Gets the unmodifiable list of all pinned rows of the given table.
+	 *
+	 * @see  AOServTable#getRows()
+	 */
+	public <K, V extends AOServObject<K, V>> List<V> getRows(AOServTable<K, V> table) throws IOException, SQLException {
+		return getSnapshot(table).getRows();
+	}
+
+	/**
+	 * Gets a pinned row of the given table given a unique column value.
+	 *
+	 * @see  AOServTable#getUniqueRow(int, java.lang.Object)
+	 */
+	public <K, V extends AOServObject<K, V>> V getUniqueRow(AOServTable<K, V> table, int col, Object value) throws IOException, SQLException {
+		if(value == null) return null;
+		return getSnapshot(table).getUniqueRow(table, col, value);
+	}
+
+	/**
+	 * Gets a pinned row of the given table given a unique <code>int</code> column value.
+	 *
+	 * @see  AOServTable#getUniqueRow(int, int)
+	 */
+	public <K, V extends AOServObject<K, V>> V getUniqueRow(AOServTable<K, V> table, int col, int value) throws IOException, SQLException {
+		return getSnapshot(table).getUniqueRow(table, col, value);
+	}
+
+	/**
+	 * Gets the pinned rows of the given table given an indexed column value.
+	 *
+	 * @see  AOServTable#getIndexedRows(int, java.lang.Object)
+	 */
+	public <K, V extends AOServObject<K, V>> List<V> getIndexedRows(AOServTable<K, V> table, int col, Object value) throws IOException, SQLException {
+		return getSnapshot(table).getIndexedRows(col, value);
+	}
+
+	/**
+	 * Gets the pinned rows of the given table given an indexed <code>int</code> column value.
+	 *
+	 * @see  AOServTable#getIndexedRows(int, int)
+	 */
+	public <K, V extends AOServObject<K, V>> List<V> getIndexedRows(AOServTable<K, V> table, int col, int value) throws IOException, SQLException {
+		return getSnapshot(table).getIndexedRows(col, value);
+	}
+
+	/**
+	 * Gets a pinned row of the given table given the values of a unique composite index.
+	 *
+	 * @see  AOServTable#getUniqueRow(com.aoindustries.aoserv.client.CompositeIndex, java.lang.Object...)
+	 */
+	public <K, V extends AOServObject<K, V>> V getUniqueRow(AOServTable<K, V> table, CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return getSnapshot(table).getUniqueRow(table, index, values);
+	}
+
+	/**
+	 * Gets the pinned rows of the given table given the values of a composite index.
+	 *
+	 * @see  AOServTable#getIndexedRows(com.aoindustries.aoserv.client.CompositeIndex, java.lang.Object...)
+	 */
+	public <K, V extends AOServObject<K, V>> List<V> getIndexedRows(AOServTable<K, V> table, CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return getSnapshot(table).getIndexedRows(table, index, values);
+	}
+
+	/**
+	 * Gets the pinned rows of the given table with values of a range index from
+	 * <code>from</code>, inclusive, to <code>to</code>, exclusive.
+	 *
+	 * @see  AOServTable#getRowsBetween(com.aoindustries.aoserv.client.RangeIndex, java.lang.Comparable, java.lang.Comparable)
+	 */
+	public <K, V extends AOServObject<K, V>, T extends Comparable<? super T>> List<V> getRowsBetween(AOServTable<K, V> table, RangeIndex<T> index, T from, T to) throws IOException, SQLException {
+		return getSnapshot(table).getSorted(index).between(from, to);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An <code>ExpiringTable</code> keeps the rows of an operational table, which
+ * changes too often to be cached until invalidated, for a short time to live.
+ * All access within the time to live, including lookups and indexes, is
+ * performed locally, so that frequent polling of the same table does not
+ * repeatedly retrieve the full table from the server.
+ * <p>
+ * Once expired, lookups on the {@linkplain #getPrimaryKeyColumn() primary key}
+ * are fetched individually instead of retrieving the full table.  Tables with
+ * other keyed commands override the lookups to use them while not
+ * {@linkplain #isLoaded() loaded}.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class ExpiringTable<K, V extends AOServObject<K, V>> extends AOServTable<K, V> {
+
+	/**
+	 * The rows and their hashes and indexes, or <code>null</code> if not yet loaded.
+	 * Only changed while synchronized, but volatile for the unsynchronized status methods.
+	 */
+	private volatile TableSnapshot<V> snapshot;
+
+	private volatile long timeToLive;
+
+	/**
+	 * @param  timeToLive  the default time to live, in milliseconds
+	 */
+	protected ExpiringTable(AOServConnector connector, Class<V> clazz, long timeToLive) {
+		super(connector, clazz);
+		if(timeToLive < 0) throw new IllegalArgumentException("timeToLive < 0: " + timeToLive);
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Gets the time to live, in milliseconds.
+	 */
+	final public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Sets the time to live, in milliseconds.  A time to live of <code>0</code>
+	 * retrieves the full table on each access, like a table that is not cached.
+	 */
+	final public void setTimeToLive(long timeToLive) {
+		if(timeToLive < 0) throw new IllegalArgumentException("timeToLive < 0: " + timeToLive);
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Gets the column that may be fetched individually by
+	 * {@link AoservProtocol.CommandID#GET_OBJECT} when not loaded, or
+	 * <code>-1</code> when none.
+	 */
+	protected int getPrimaryKeyColumn() {
+		return -1;
+	}
+
+	/**
+	 * Gets the snapshot when still within its time to live.
+	 */
+	private TableSnapshot<V> getCurrentSnapshot() {
+		TableSnapshot<V> current = snapshot;
+		if(current != null) {
+			long age = System.currentTimeMillis() - current.getLoadedTime();
+			// Also expired when the system time was reset to previous time
+			if(age >= 0 && age < timeToLive) return current;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the snapshot, reloading once expired.  Listens for the table before
+	 * synchronizing, as invalidations are delivered while synchronized on the
+	 * table, so that changes made by other clients also clear the snapshot.
+	 */
+	private TableSnapshot<V> validateSnapshot() throws IOException, SQLException {
+		TableSnapshot<V> current = getCurrentSnapshot();
+		if(current == null) {
+			connector.listenForBeforeLoad(getTableID());
+			long startNanos = System.nanoTime();
+			synchronized(this) {
+				statistics.blocked(startNanos);
+				current = getCurrentSnapshot();
+				if(current == null) {
+					long currentTime = System.currentTimeMillis();
+					// Sorted by the snapshot when first needed
+					current = new TableSnapshot<>(this, loadTable(new ArrayList<>(), false), currentTime);
+					snapshot = current;
+					snapshotLoaded();
+				}
+			}
+		}
+		return current;
+	}
+
+	@Override
+	public List<V> getRows() throws IOException, SQLException {
+		return validateSnapshot().getRows();
+	}
+
+	@Override
+	public List<V> getRowsCopy() throws IOException, SQLException {
+		return new ArrayList<>(getRows());
+	}
+
+	/**
+	 * Gets the number of rows without sorting them.
+	 */
+	@Override
+	public int size() throws IOException, SQLException {
+		return validateSnapshot().size();
+	}
+
+	@Override
+	public boolean isEmpty() throws IOException, SQLException {
+		return size() == 0;
+	}
+
+	@Override
+	public List<V> getIndexedRows(int col, Object value) throws IOException, SQLException {
+		statistics.lookup(col, isLoaded());
+		return validateSnapshot().getIndexedRows(col, value);
+	}
+
+	@Override
+	protected V getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
+		if(value == null) return null;
+		TableSnapshot<V> current = getCurrentSnapshot();
+		statistics.lookup(col, current != null);
+		if(current == null) {
+			if(col == getPrimaryKeyColumn()) return getObject(true, AoservProtocol.CommandID.GET_OBJECT, getTableID(), value);
+			current = validateSnapshot();
+		}
+		return current.getUniqueRow(this, col, value);
+	}
+
+	@Override
+	public V getUniqueRow(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return validateSnapshot().getUniqueRow(this, index, values);
+	}
+
+	@Override
+	public List<V> getIndexedRows(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return validateSnapshot().getIndexedRows(this, index, values);
+	}
+
+	@Override
+	public <T extends Comparable<? super T>> List<V> getRowsBetween(RangeIndex<T> index, T from, T to) throws IOException, SQLException {
+		return validateSnapshot().getSorted(index).between(from, to);
+	}
+
+	@Override
+	public List<V> getLatestRows(RangeIndex<?> index, int count) throws IOException, SQLException {
+		return validateSnapshot().getSorted(index).latest(count);
+	}
+
+	/**
+	 * Loaded while within the time to live.
+	 */
+	@Override
+	final public boolean isLoaded() {
+		return getCurrentSnapshot() != null;
+	}
+
+	@Override
+	TableSnapshot<V> pinSnapshot() throws IOException, SQLException {
+		return validateSnapshot();
+	}
+
+	/**
+	 * Current until invalidated or reloaded, even once expired.
+	 */
+	@Override
+	boolean isCurrent(TableSnapshot<?> pinned) {
+		return snapshot == pinned;
+	}
+
+	@Override
+	TableSnapshot<V> peekSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Estimates the snapshot, which is retained until reloaded even once expired.
+	 */
+	@Override
+	HeapEstimate estimateHeap(HeapEstimator estimator) {
+		return estimator.estimate(this, snapshot);
+	}
+
+	/**
+	 * Clears the cache, freeing up memory.  The data will be reloaded upon
+	 * next use.
+	 */
+	@Override
+	public void clearCache() {
+		super.clearCache();
+		synchronized(this) {
+			snapshot = null;
+		}
+	}
+}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,7 +26,7 @@ import com.aoapps.hodgepodge.io.FileList;
 import com.aoapps.hodgepodge.io.FileListObjectFactory;
 import com.aoapps.hodgepodge.sort.ComparisonSortAlgorithm;
 import com.aoapps.hodgepodge.sort.FastQSort;
-import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoapps.lang.exception.WrappedException;
 import com.aoindustries.aoserv.client.schema.Column;
 import com.aoindustries.aoserv.client.schema.Table;
 import com.aoindustries.aoserv.client.sql.SQLColumnValue;
@@ -41,20 +41,27 @@ import java.util.List;
 /**
  * A <code>FilesystemCachedTable</code> stores all of the
  * available <code>FilesystemCachedObject</code>s in a
- * temporary file and performs all subsequent data access
+ * memory-mapped temporary file and performs all subsequent data access
  * locally.  The server notifies the client when a table
  * is updated, and the caches are then invalidated.  Once
  * invalidated, the data is reloaded upon next use.
  * <p>
- * The file format is a simple fixed record length format.
+ * The file format is a simple fixed record length format.  Records are only
+ * deserialized when accessed, and the pages are cached by the operating system
+ * instead of the heap.
+ * </p>
+ * <p>
+ * Lookups are indexed off-heap.  Columns with an <code>int</code> at a known
+ * offset of each record, declared by {@link #getRecordOffset(int)}, are indexed
+ * and searched directly on the mapped file, without deserializing any record
+ * other than the matches.  Other unique columns are indexed by a sorted
+ * permutation of the records.
+ * </p>
  *
- * TODO: It is possible to use the same column sorting technique
- * to implement the getIndexedRows method from AOServTable.
+ * @see  MappedRecords
  *
  * @author  AO Industries, Inc.
  */
-// TODO: Is this worth maintaining?
-// TODO: Build on persistent collections instead?
 public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<K, V>> extends AOServTable<K, V> implements FileListObjectFactory<V> {
 
 	/**
@@ -64,18 +71,11 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 	private long lastLoaded=-1;
 
 	/**
-	 * One file list may exist per column.  Only the unique columns will have a non-null value.
-	 * Once a file is sorted on the specific column, its FileList is wrapped in an
-	 * unmodifiable list.  This allows the list to be returned to any number of callers without
-	 * any additional copying.  If the data is reloaded, a new FileList will be created, leaving
-	 * the old copy intact for those still using the previous copy.
-	 */
-	private List<List<V>> columnLists;
-
-	/**
-	 * The raw list of objects as downloaded from the master.
+	 * The mapped records as downloaded from the master.  If the data is
+	 * reloaded, new records will be mapped, leaving the old copy intact for
+	 * those still using the previous copy.
 	 */
-	private FileList<V> tableList;
+	private MappedRecords<V> tableList;
 
 	/**
 	 * This is an unmodifiable list and may be returned to any number of callers without copying.
@@ -89,12 +89,19 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 	abstract protected int getRecordLength();
 
 	/**
-	 * Clears the cache, freeing up memory.  The data will be reloaded upon
-	 * next use.
+	 * Gets the offset of an <code>int</code> column within each record, as
+	 * written by {@link FilesystemCachedObject#writeRecord(java.io.DataOutputStream)},
+	 * or <code>-1</code> when the column is not an <code>int</code> at a fixed offset.
+	 * Lookups on these columns are performed directly on the mapped file.
+	 */
+	protected int getRecordOffset(int col) {
+		return -1;
+	}
+
+	/**
+	 * Clears the cache.  The data will be reloaded upon next use.
+	 * The mapped file is freed once no longer used by any API users.
 	 */
-	// TODO: Should we close the tableList right away to free disk space?  What if API users are using the list?
-	// TODO: Currently this relies on the garbage collector, which could not run for a very long time and disk
-	// TODO: space could grow significantly.
 	@Override
 	public void clearCache() {
 		super.clearCache();
@@ -102,14 +109,13 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 			lastLoaded=-1;
 			tableList=null;
 			unmodifiableTableList=null;
-			if(columnLists!=null) columnLists.clear();
 		}
 	}
 
 	/**
 	 * Reloads the cache if the cache has expired.  All accesses are already synchronized.
 	 */
-	private void validateCache() throws IOException, SQLException {
+	private MappedRecords<V> validateCache() throws IOException, SQLException {
 		assert Thread.holdsLock(this);
 		long currentTime=System.currentTimeMillis();
 		if(
@@ -118,19 +124,51 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 		   // If the system time was reset to previous time
 		   || currentTime<lastLoaded
 		) {
-			Table schemaTable = getTableSchema();
-			FileList<V> newTableList=new FileList<>(
-				schemaTable.getName(),
-				"rows",
+			MappedRecords.Writer<V> writer = new MappedRecords.Writer<>(
+				getTableSchema().getName(),
 				getRecordLength(),
 				this
 			);
-			getObjects(true, newTableList, AoservProtocol.CommandID.GET_TABLE, getTableID());
+			MappedRecords<V> newTableList;
+			try {
+				loadTable(writer, false);
+				newTableList = writer.map();
+			} catch(Throwable t) {
+				writer.discard();
+				throw t;
+			}
+			// Sort by a permutation since the mapped records cannot be moved
+			SQLExpression[] sortExpressions = getDefaultOrderBySQLExpressions();
+			if(sortExpressions != null) {
+				OrderBy[] orderBys = getDefaultOrderBy();
+				boolean[] sortOrders = new boolean[orderBys.length];
+				for(int c = 0; c < orderBys.length; c++) {
+					sortOrders[c] = orderBys[c].getOrder();
+				}
+				try {
+					newTableList.setOrder(connector, sortExpressions, sortOrders);
+				} catch(WrappedException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof IOException) throw (IOException)cause;
+					if(cause instanceof SQLException) throw (SQLException)cause;
+					throw e;
+				}
+			}
 			tableList=newTableList;
 			unmodifiableTableList=Collections.unmodifiableList(tableList);
 			lastLoaded=currentTime;
+		}
+		return tableList;
+	}
 
-			if(columnLists!=null) columnLists.clear();
+	/**
+	 * Gets the current records, reloading when needed.  Listens for the table
+	 * before synchronizing, as invalidations are delivered while synchronized on the table.
+	 */
+	private MappedRecords<V> getRecords() throws IOException, SQLException {
+		connector.listenForBeforeLoad(getTableID());
+		synchronized(this) {
+			return validateCache();
 		}
 	}
 
@@ -140,12 +178,10 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 	 * safely assume the data is constant as long as the code uses the same reference to List returned
 	 * here.
 	 */
-	// TODO: Create a way to copy the set of rows from this table in List form, which would then allow them to be sorted
-	//       This is necessary since lists from getRows() are unmodifiable.
-	//       Also, need a way to "close" this list as soon as no longer using it to free up disk resources.
 	@Override
 	@SuppressWarnings("ReturnOfCollectionOrArrayField") // Returning unmodifiable
 	public final List<V> getRows() throws IOException, SQLException {
+		connector.listenForBeforeLoad(getTableID());
 		synchronized(this) {
 			validateCache();
 			return unmodifiableTableList;
@@ -154,16 +190,16 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 
 	@Override
 	public List<V> getRowsCopy() throws IOException, SQLException {
+		connector.listenForBeforeLoad(getTableID());
 		synchronized(this) {
 			validateCache();
 			Table schemaTable = getTableSchema();
 			FileList<V> newCopyList = new FileList<>(
 				schemaTable.getName(),
 				"rowsCopy",
-				tableList.getRecordLength(), // Use the same record length to support disk-to-disk copy
+				getRecordLength(),
 				this
 			);
-			// addAll will do a disk-to-disk copy of the objects
 			newCopyList.addAll(tableList);
 			return newCopyList;
 		}
@@ -182,16 +218,16 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 	@Override
 	final protected V getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
 		if(value == null) return null;
+		if(value instanceof Integer && getRecordOffset(col) != -1) return getUniqueRowImpl(col, ((Integer)value).intValue());
+		return getUniqueRowSorted(col, value);
+	}
+
+	/**
+	 * Gets a unique row by binary search of the records sorted on the column.
+	 */
+	private V getUniqueRowSorted(int col, Object value) throws IOException, SQLException {
 		Table schemaTable=getTableSchema();
 		Column schemaColumn=schemaTable.getSchemaColumn(connector, col);
-		SQLComparator<V> Vcomparator=new SQLComparator<>(
-			connector,
-			new SQLExpression[] {
-				new SQLColumnValue(connector, schemaColumn)
-			},
-			new boolean[] {ASCENDING}
-		);
-
 		SQLComparator<Object> Ocomparator=new SQLComparator<>(
 			connector,
 			new SQLExpression[] {
@@ -200,45 +236,60 @@ public abstract class FilesystemCachedTable<K, V extends FilesystemCachedObject<
 			new boolean[] {ASCENDING}
 		);
 
-		synchronized(this) {
-			validateCache();
-			// Create any needed objects
-			int minLength=col+1;
-			if(columnLists==null) {
-				columnLists=new ArrayList<>(minLength);
-			} else {
-				while(columnLists.size()<minLength) {
-					columnLists.add(null);
-				}
+		MappedRecords<V> records = getRecords();
+		try {
+			int index = records.findSorted(col, connector, new SQLColumnValue(connector, schemaColumn), Ocomparator, value);
+			return index == -1 ? null : records.get(index);
+		} catch(WrappedException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof IOException) throw (IOException)cause;
+			if(cause instanceof SQLException) throw (SQLException)cause;
+			throw e;
+		}
+	}
+
+	@Override
+	final protected V getUniqueRowImpl(int col, int value) throws IOException, SQLException {
+		int offset = getRecordOffset(col);
+		if(offset == -1) return getUniqueRowSorted(col, value);
+		MappedRecords<V> records = getRecords();
+		int[] found = records.findInt(col, offset, value);
+		if(found.length == 0) return null;
+		if(found.length > 1) throw new SQLException("Duplicate unique entry for table #" + getTableID() + " (" + getTableName() + "), column " + col + ": " + value);
+		return records.get(found[0]);
+	}
+
+	/**
+	 * Indexed directly on the mapped file for columns with a {@linkplain #getRecordOffset(int) known offset},
+	 * otherwise scans all records.
+	 */
+	@Override
+	public List<V> getIndexedRows(int col, Object value) throws IOException, SQLException {
+		MappedRecords<V> records = getRecords();
+		List<V> matches = new ArrayList<>();
+		int offset = getRecordOffset(col);
+		if(offset != -1 && value instanceof Integer) {
+			for(int index : records.findInt(col, offset, (Integer)value)) {
+				matches.add(records.get(index));
 			}
-			List<V> unmodifiableSortedList = columnLists.get(col);
-			if(unmodifiableSortedList==null) {
-				FileList<V> sortedFileList=new FileList<>(
-					schemaTable.getName() + '.' + schemaColumn.getName(),
-					"unique",
-					getRecordLength(),
-					tableList.getObjectFactory()
-				);
-				sortedFileList.addAll(tableList);
-				getSortAlgorithm().sort(sortedFileList, Vcomparator);
-				unmodifiableSortedList=Collections.unmodifiableList(sortedFileList);
-				columnLists.set(col, unmodifiableSortedList);
+		} else {
+			for(V obj : records) {
+				Object cvalue = obj.getColumn(col);
+				if(value == null ? cvalue == null : value.equals(cvalue)) matches.add(obj);
 			}
-			int index=Collections.binarySearch(unmodifiableSortedList, value, Ocomparator);
-			// TODO: Assertion to ensure unique, reading the record before and after to make sure has a different value?
-			return index<0?null:unmodifiableSortedList.get(index);
 		}
+		return matches.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matches);
 	}
 
 	/**
 	 * Determines if the contents are currently sorted for quick unique lookups.
 	 */
 	boolean isSorted(int uniqueColumn) {
-		return
-			columnLists!=null
-			&& columnLists.size()>uniqueColumn
-			&& columnLists.get(uniqueColumn)!=null
-		;
+		MappedRecords<V> records;
+		synchronized(this) {
+			records = tableList;
+		}
+		return records != null && records.isIndexed(uniqueColumn);
 	}
 
 	@Override
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -22,24 +22,25 @@
  */
 package com.aoindustries.aoserv.client;
 
-import com.aoapps.collections.AoCollections;
-import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A <code>GlobalTable</code> is shared between all users.
  * The data is cached so that subsequent lookups need not
  * access the server.
+ * <p>
+ * Each table has its own {@link GlobalCache}, holding an immutable
+ * {@link TableSnapshot} that is shared by all connectors.  Reads never lock;
+ * only a load is serialized, and only per table.
+ * </p>
  *
  * @author  AO Industries, Inc.
  */
@@ -48,201 +49,169 @@ abstract public class GlobalTable<K, V extends GlobalObject<K, V>> extends AOSer
 	private static final int numTables = Table.TableID.values().length;
 
 	/**
-	 * Each table has its own lock because we were getting deadlocks with one lock on GlobalTable.class.
+	 * The per-table shared state.  Each table has its own lock because we were
+	 * getting deadlocks with one lock on GlobalTable.class.  The lock is only
+	 * held while loading, never while reading a loaded snapshot.
 	 */
-	private static class Lock {}
-	private static final Lock[] locks = new Lock[numTables];
+	private static final class GlobalCache {
+
+		/**
+		 * The current snapshot or <code>null</code> when not loaded.
+		 */
+		private volatile TableSnapshot<?> snapshot;
+
+		/**
+		 * Incremented on each invalidation, used to discard a load that
+		 * was in progress while the table was invalidated.
+		 */
+		private final AtomicLong invalidations = new AtomicLong();
+
+		/**
+		 * The number of times loaded from the server.
+		 */
+		private final AtomicLong loads = new AtomicLong();
+
+		/**
+		 * The number of times a connector used a snapshot loaded by another connector.
+		 */
+		private final AtomicLong shares = new AtomicLong();
+
+		/**
+		 * The tables, of any connector, with change listeners waiting for a reload.
+		 */
+		private final Set<GlobalTable<?, ?>> awaitingReload = Collections.newSetFromMap(new WeakHashMap<>());
+	}
+
+	private static final GlobalCache[] caches = new GlobalCache[numTables];
 	static {
-		for(int c=0;c<locks.length;c++) {
-			locks[c] = new Lock();
+		for(int c=0;c<caches.length;c++) {
+			caches[c] = new GlobalCache();
 		}
 	}
 
 	/**
-	 * The last time that the data was loaded, or
-	 * <code>-1</code> if not yet loaded.
+	 * The last snapshot seen by this connector, used to count shared loads.
 	 */
-	private static final long[] lastLoadeds = new long[numTables];
-	static {
-		Arrays.fill(lastLoadeds, -1);
+	private volatile TableSnapshot<V> lastSeen;
+
+	protected GlobalTable(AOServConnector connector, Class<V> clazz) {
+		super(connector, clazz);
+	}
+
+	private GlobalCache getGlobalCache() {
+		return caches[getTableID().ordinal()];
 	}
 
 	/**
-	 * The internal objects are stored in a <code>HashMap</code>
-	 * based on the server and then the table ID, and then the
-	 * column number.
+	 * Gets the number of accessible rows in the table or <code>-1</code> if the
+	 * table is not yet loaded.
 	 */
-	@SuppressWarnings("rawtypes")
-	private static final List<List<Map<Object, GlobalObject>>> tableHashes=new ArrayList<>(numTables);
-	static {
-		for(int c=0;c<numTables;c++) {
-			tableHashes.add(null);
-		}
+	public final int getGlobalRowCount() {
+		TableSnapshot<?> snapshot = getGlobalCache().snapshot;
+		if(snapshot!=null) return snapshot.size();
+		return -1;
+	}
+
+	@Override
+	TableSnapshot<V> pinSnapshot() throws IOException, SQLException {
+		return getSnapshot();
+	}
+
+	@Override
+	boolean isCurrent(TableSnapshot<?> pinned) {
+		return getGlobalCache().snapshot == pinned;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	TableSnapshot<V> peekSnapshot() {
+		return (TableSnapshot<V>)getGlobalCache().snapshot;
 	}
-	private static final BitSet[] hashLoadeds=new BitSet[numTables];
 
 	/**
-	 * The internal indexes are stored in a <code>HashMap</code>
-	 * based on the server and then the table ID, and then the
-	 * column number.  Each element of the <code>HashMap</code> is
-	 * a <code>ArrayList</code> or <code>AOServObject[]</code>.
-	 * All of the List<GlobalObject> stored here are unmodifiable.
+	 * Waits for the shared snapshot to be reloaded by any connector.
 	 */
-	private static final List<List<Map<Object, List<GlobalObject<?, ?>>>>> indexHashes=new ArrayList<>(numTables);
-	static {
-		for(int c=0;c<numTables;c++) {
-			indexHashes.add(null);
+	@Override
+	void awaitReload() {
+		Set<GlobalTable<?, ?>> awaiting = getGlobalCache().awaitingReload;
+		synchronized(awaiting) {
+			awaiting.add(this);
 		}
 	}
-	private static final BitSet[] indexLoadeds=new BitSet[numTables];
 
 	/**
-	 * The internal objects are stored in this list.  Each of the contained
-	 * List<GlobalObject> is unmodifiable.
+	 * Estimates the shared snapshot, which is also retained by all other
+	 * connectors using this table.
 	 */
-	private static final List<List<GlobalObject<?, ?>>> tableObjs=new ArrayList<>(numTables);
-	static {
-		for(int c=0;c<numTables;c++) {
-			tableObjs.add(null);
-		}
+	@Override
+	HeapEstimate estimateHeap(HeapEstimator estimator) {
+		return estimator.estimate(this, getGlobalCache().snapshot);
 	}
 
-	protected GlobalTable(AOServConnector connector, Class<V> clazz) {
-		super(connector, clazz);
+	/**
+	 * Gets the number of times this table has been loaded from the server,
+	 * across all connectors.
+	 */
+	public final long getGlobalLoadCount() {
+		return getGlobalCache().loads.get();
 	}
 
 	/**
-	 * Gets the number of accessible rows in the table or <code>-1</code> if the
-	 * table is not yet loaded.
+	 * Gets the number of times a connector has used this table as already
+	 * loaded by another connector, instead of loading it again.
 	 */
-	@SuppressWarnings("NestedSynchronizedStatement")
-	public final int getGlobalRowCount() {
-		int ordinal = getTableID().ordinal();
-		List<GlobalObject<?, ?>> objs;
-		synchronized(locks[ordinal]) {
-			synchronized(tableObjs) {
-				objs=tableObjs.get(ordinal);
-			}
-		}
-		if(objs!=null) return objs.size();
-		return -1;
+	public final long getGlobalShareCount() {
+		return getGlobalCache().shares.get();
 	}
 
 	@Override
 	final public List<V> getIndexedRows(int col, Object value) throws IOException, SQLException {
-		Table.TableID tableID=getTableID();
-		int ordinal = tableID.ordinal();
-		synchronized(locks[ordinal]) {
-			validateCache();
-
-			BitSet tableLoadeds=indexLoadeds[ordinal];
-			if(tableLoadeds==null) indexLoadeds[ordinal]=tableLoadeds=new BitSet(col+1);
-			boolean isHashed=tableLoadeds.get(col);
-
-			List<Map<Object, List<GlobalObject<?, ?>>>> tableValues;
-			synchronized(indexHashes) {
-				tableValues = indexHashes.get(ordinal);
-				if(tableValues==null) indexHashes.set(ordinal, tableValues=new ArrayList<>(col+1));
-			}
-			while(tableValues.size()<=col) {
-				tableValues.add(null);
-			}
-			Map<Object, List<GlobalObject<?, ?>>> colIndexes=tableValues.get(col);
-			if(colIndexes==null) tableValues.set(col, colIndexes=new HashMap<>());
-
-			if(!isHashed) {
-				// Build the modifiable lists in a temporary Map
-				Map<Object, List<GlobalObject<?, ?>>> modifiableIndexes=new HashMap<>();
-				for(GlobalObject<K, V> O : getRows()) {
-					Object cvalue=O.getColumn(col);
-					List<GlobalObject<?, ?>> list=modifiableIndexes.get(cvalue);
-					if(list==null) modifiableIndexes.put(cvalue, list=new ArrayList<>());
-					list.add(O);
-				}
-				// Wrap each of the newly-created indexes to be unmodifiable
-				colIndexes.clear();
-				Iterator<Object> keys=modifiableIndexes.keySet().iterator();
-				while(keys.hasNext()) {
-					Object key=keys.next();
-					List<GlobalObject<?, ?>> list=modifiableIndexes.get(key);
-					colIndexes.put(key, Collections.unmodifiableList(list));
-				}
-				tableLoadeds.set(col);
-			}
-			// This returns unmodifiable lists.
-			@SuppressWarnings("unchecked")
-			List<V> list=(List<V>)colIndexes.get(value);
-			if(list==null) return Collections.emptyList();
-			return list;
-		}
+		statistics.lookup(col, isLoaded());
+		return getSnapshot().getIndexedRows(col, value);
 	}
 
 	@Override
 	final protected V getUniqueRowImpl(int col, Object value) throws SQLException, IOException {
 		if(value == null) return null;
-		Table.TableID tableID=getTableID();
-		int ordinal = tableID.ordinal();
-		synchronized(locks[ordinal]) {
-			validateCache();
+		statistics.lookup(col, isLoaded());
+		return getSnapshot().getUniqueRow(this, col, value);
+	}
 
-			BitSet tableLoadeds=hashLoadeds[ordinal];
-			if(tableLoadeds==null) hashLoadeds[ordinal]=tableLoadeds=new BitSet(col+1);
-			boolean isHashed=tableLoadeds.get(col);
+	@Override
+	final protected V getUniqueRowImpl(int col, int value) throws SQLException, IOException {
+		statistics.lookup(col, isLoaded());
+		return getSnapshot().getUniqueRow(this, col, value);
+	}
 
-			List<V> table=getRows();
-			int size=table.size();
+	@Override
+	final protected V getUniqueRowImpl(int col, long value) throws SQLException, IOException {
+		statistics.lookup(col, isLoaded());
+		return getSnapshot().getUniqueRow(this, col, value);
+	}
 
-			final List<Map<Object, V>> tableValues;
-			synchronized(tableHashes) {
-				@SuppressWarnings("unchecked")
-				List<Map<Object, V>> existing = (List)tableHashes.get(ordinal);
-				if(existing != null) {
-					tableValues = existing;
-				} else {
-					tableValues = new ArrayList<>(col+1);
-					@SuppressWarnings({"unchecked", "rawtypes"})
-					List<Map<Object, GlobalObject>> toCache = (List)tableValues;
-					tableHashes.set(ordinal, toCache);
-				}
-			}
-			while(tableValues.size()<=col) {
-				tableValues.add(null);
-			}
-			Map<Object, V> colValues=tableValues.get(col);
-			// Allow 25% growth before rehash
-			if(colValues == null) tableValues.set(col, colValues = AoCollections.newHashMap((size * 5) >> 2));
-
-			if(!isHashed) {
-				colValues.clear();
-				for(int c=0;c<size;c++) {
-					V O=table.get(c);
-					Object cvalue=O.getColumn(col);
-					if(cvalue!=null) {
-						V old=colValues.put(cvalue, O);
-						if(old!=null) throw new SQLException("Duplicate pkey entry for table "+getTableID()+" ("+getTableName()+"), column #"+col+": "+cvalue);
-					}
-				}
+	@Override
+	public V getUniqueRow(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return getSnapshot().getUniqueRow(this, index, values);
+	}
 
-				tableLoadeds.set(col);
-			}
+	@Override
+	public List<V> getIndexedRows(CompositeIndex index, Object ... values) throws IOException, SQLException {
+		return getSnapshot().getIndexedRows(this, index, values);
+	}
 
-			return colValues.get(value);
-		}
+	@Override
+	public <T extends Comparable<? super T>> List<V> getRowsBetween(RangeIndex<T> index, T from, T to) throws IOException, SQLException {
+		return getSnapshot().getSorted(index).between(from, to);
+	}
+
+	@Override
+	public List<V> getLatestRows(RangeIndex<?> index, int count) throws IOException, SQLException {
+		return getSnapshot().getSorted(index).latest(count);
 	}
 
 	@Override
 	public List<V> getRows() throws IOException, SQLException {
-		Table.TableID tableID = getTableID();
-		int ordinal = tableID.ordinal();
-		// We synchronize here to make sure tableObjs is not cleared between validateCache and get, but only on a per-table ID basis
-		synchronized(locks[ordinal]) {
-			validateCache();
-			synchronized(tableObjs) {
-				@SuppressWarnings("unchecked")
-				List<V> objs = (List)tableObjs.get(ordinal);
-				return objs;
-			}
-		}
+		return getSnapshot().getRows();
 	}
 
 	@Override
@@ -250,68 +219,95 @@ abstract public class GlobalTable<K, V extends GlobalObject<K, V>> extends AOSer
 		return new ArrayList<>(getRows());
 	}
 
+	/**
+	 * Gets the number of rows without sorting them.
+	 */
+	@Override
+	public int size() throws IOException, SQLException {
+		return getSnapshot().size();
+	}
+
+	@Override
+	public boolean isEmpty() throws IOException, SQLException {
+		return size() == 0;
+	}
+
 	/**
 	 * Determines if the contents are currently hashed in a hashmap.
 	 */
 	boolean isHashed(int column) {
-		int ordinal = getTableID().ordinal();
-		synchronized(locks[ordinal]) {
-			BitSet table=hashLoadeds[ordinal];
-			return table!=null && table.get(column);
-		}
+		TableSnapshot<?> snapshot = getGlobalCache().snapshot;
+		return snapshot!=null && snapshot.isHashed(column);
 	}
 
 	/**
 	 * Determines if the contents are currently indexed.
 	 */
 	boolean isIndexed(int column) {
-		int ordinal = getTableID().ordinal();
-		synchronized(locks[ordinal]) {
-			BitSet table=indexLoadeds[ordinal];
-			return table!=null && table.get(column);
-		}
+		TableSnapshot<?> snapshot = getGlobalCache().snapshot;
+		return snapshot!=null && snapshot.isIndexed(column);
 	}
 
 	@Override
 	final public boolean isLoaded() {
-		Table.TableID tableID=getTableID();
-		int ordinal = tableID.ordinal();
-		synchronized(locks[ordinal]) {
-			return lastLoadeds[ordinal] != -1;
-		}
+		return getGlobalCache().snapshot != null;
 	}
 
+	/**
+	 * Clears the shared cache.  This does not wait for any load in progress;
+	 * an in-progress load will not be installed once invalidated.
+	 */
 	@Override
 	public void clearCache() {
 		super.clearCache();
-		Table.TableID tableID=getTableID();
-		int ordinal = tableID.ordinal();
-		synchronized(locks[ordinal]) {
-			lastLoadeds[ordinal] = -1;
-		}
+		GlobalCache cache = getGlobalCache();
+		cache.invalidations.incrementAndGet();
+		cache.snapshot = null;
 	}
 
 	/**
-	 * Reloads the cache if the cache time has expired.
+	 * Gets the current snapshot, loading when needed.
 	 */
-	@SuppressWarnings({"unchecked"})
-	private void validateCache() throws IOException, SQLException {
-		Table.TableID tableID=getTableID();
-		int ordinal = tableID.ordinal();
-		synchronized(locks[ordinal]) {
-			long currentTime=System.currentTimeMillis();
-			long lastLoaded=lastLoadeds[ordinal];
-			if(lastLoaded==-1) {
-				List<GlobalObject<?, ?>> list=(List)getObjects(true, AoservProtocol.CommandID.GET_TABLE, ordinal);
-				synchronized(tableObjs) {
-					tableObjs.set(ordinal, Collections.unmodifiableList(list));
+	private TableSnapshot<V> getSnapshot() throws IOException, SQLException {
+		connector.listenForBeforeLoad(getTableID());
+		GlobalCache cache = getGlobalCache();
+		@SuppressWarnings("unchecked")
+		TableSnapshot<V> snapshot = (TableSnapshot<V>)cache.snapshot;
+		if(snapshot == null) {
+			long startNanos = System.nanoTime();
+			synchronized(cache) {
+				statistics.blocked(startNanos);
+				@SuppressWarnings("unchecked")
+				TableSnapshot<V> loaded = (TableSnapshot<V>)cache.snapshot;
+				if(loaded == null) {
+					long invalidations = cache.invalidations.get();
+					long currentTime = System.currentTimeMillis();
+					// Sorted by the snapshot when first needed
+					loaded = new TableSnapshot<>(this, loadTable(new ArrayList<>(), false), currentTime);
+					cache.loads.incrementAndGet();
+					// Only install when not invalidated during the load, but still
+					// use it for this request since it is no older than the request.
+					if(cache.invalidations.get() == invalidations) {
+						cache.snapshot = loaded;
+						List<GlobalTable<?, ?>> awaiting;
+						synchronized(cache.awaitingReload) {
+							awaiting = new ArrayList<>(cache.awaitingReload);
+							cache.awaitingReload.clear();
+						}
+						for(GlobalTable<?, ?> table : awaiting) {
+							table.snapshotLoaded();
+						}
+					}
+					lastSeen = loaded;
+					return loaded;
 				}
-				BitSet loaded=hashLoadeds[ordinal];
-				if(loaded!=null) loaded.clear();
-				BitSet indexed=indexLoadeds[ordinal];
-				if(indexed!=null) indexed.clear();
-				lastLoadeds[ordinal]=currentTime;
+				snapshot = loaded;
 			}
 		}
+		if(snapshot != lastSeen) {
+			lastSeen = snapshot;
+			cache.shares.incrementAndGet();
+		}
+		return snapshot;
 	}
 }
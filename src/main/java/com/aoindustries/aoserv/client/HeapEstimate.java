@@ -0,0 +1,92 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoindustries.aoserv.client.schema.Table;
+
+/**
+ * The approximate heap retained by the rows and indexes cached for one table.
+ * The estimate walks the objects reachable from the cache, assuming a 64-bit
+ * JVM with compressed references, and does not include the rows of other tables.
+ * <p>
+ * Values shared between tables, such as those deduplicated by the
+ * {@link ValuePool}, are counted once, in the first table estimated.
+ * </p>
+ *
+ * @see  AOServTable#getHeapEstimate()
+ * @see  AOServConnector#getHeapEstimates()
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class HeapEstimate {
+
+	private final Table.TableID tableID;
+	private final int rows;
+	private final long rowBytes;
+	private final long indexBytes;
+
+	HeapEstimate(Table.TableID tableID, int rows, long rowBytes, long indexBytes) {
+		this.tableID = tableID;
+		this.rows = rows;
+		this.rowBytes = rowBytes;
+		this.indexBytes = indexBytes;
+	}
+
+	@Override
+	public String toString() {
+		return tableID + ": " + rows + " rows, " + rowBytes + " row bytes, " + indexBytes + " index bytes";
+	}
+
+	public Table.TableID getTableID() {
+		return tableID;
+	}
+
+	/**
+	 * Gets the number of rows cached.
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Gets the approximate bytes retained by the rows and their values.
+	 */
+	public long getRowBytes() {
+		return rowBytes;
+	}
+
+	/**
+	 * Gets the approximate bytes retained by the hashes, indexes, and sort order,
+	 * not including the rows themselves.
+	 */
+	public long getIndexBytes() {
+		return indexBytes;
+	}
+
+	/**
+	 * Gets the approximate total bytes retained.
+	 */
+	public long getTotalBytes() {
+		return rowBytes + indexBytes;
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap retained by cached rows and indexes, counting each object
+ * once across all estimates made by the same instance.
+ * <p>
+ * The objects of this package are walked by their fields.  Strings, arrays,
+ * and standard collections and maps are estimated from their lengths, so no
+ * access to the internals of the JDK is required.  Other objects of the JDK
+ * are counted by their own fields only.  Tables and connectors are never
+ * walked.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class HeapEstimator {
+
+	private static final int OBJECT_HEADER = 12;
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+	private static final int ALIGNMENT = 8;
+
+	/**
+	 * The approximate size of each entry of a hash map, not including its key and value.
+	 */
+	private static final int MAP_ENTRY = 32;
+
+	private static final int MAP = 48;
+
+	private static final int COLLECTION = 24;
+
+	private static long align(long size) {
+		return (size + (ALIGNMENT - 1)) & -ALIGNMENT;
+	}
+
+	private static int primitiveSize(Class<?> type) {
+		if(type == long.class || type == double.class) return 8;
+		if(type == int.class || type == float.class) return 4;
+		if(type == short.class || type == char.class) return 2;
+		return 1;
+	}
+
+	/**
+	 * The size and walked fields of one class.
+	 */
+	private static final class Layout {
+		private final long size;
+		private final Field[] references;
+
+		private Layout(long size, Field[] references) {
+			this.size = size;
+			this.references = references;
+		}
+	}
+
+	private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<Class<?>, Layout> layouts = new HashMap<>();
+	private final Deque<Object> pending = new ArrayDeque<>();
+
+	/**
+	 * Estimates the heap retained by one table, for the snapshot of the table
+	 * or <code>null</code> when not loaded.
+	 */
+	HeapEstimate estimate(AOServTable<?, ?> table, TableSnapshot<?> snapshot) {
+		if(snapshot == null) return null;
+		return snapshot.estimate(table.getTableID(), this);
+	}
+
+	/**
+	 * Adds the given object and all objects reachable from it.
+	 *
+	 * @return  the approximate bytes not already counted
+	 */
+	long add(Object root) {
+		long bytes = 0;
+		if(root != null) pending.push(root);
+		while(!pending.isEmpty()) {
+			Object obj = pending.pop();
+			if(isStopped(obj) || !visited.add(obj)) continue;
+			Class<?> clazz = obj.getClass();
+			if(clazz.isArray()) {
+				int length = Array.getLength(obj);
+				Class<?> componentType = clazz.getComponentType();
+				if(componentType.isPrimitive()) {
+					bytes += align(ARRAY_HEADER + (long)length * primitiveSize(componentType));
+				} else {
+					bytes += align(ARRAY_HEADER + (long)length * REFERENCE);
+					for(Object element : (Object[])obj) {
+						if(element != null) pending.push(element);
+					}
+				}
+			} else if(obj instanceof String) {
+				bytes += align(OBJECT_HEADER + REFERENCE + 8) + align(ARRAY_HEADER + 2L * ((String)obj).length());
+			} else if(!isWalked(clazz) && obj instanceof Map) {
+				Map<?, ?> map = (Map<?, ?>)obj;
+				int size = map.size();
+				bytes += MAP + (long)size * MAP_ENTRY + align(ARRAY_HEADER + (long)tableSize(size) * REFERENCE);
+				for(Map.Entry<?, ?> entry : map.entrySet()) {
+					Object key = entry.getKey();
+					if(key != null) pending.push(key);
+					Object value = entry.getValue();
+					if(value != null) pending.push(value);
+				}
+			} else if(!isWalked(clazz) && obj instanceof Collection) {
+				Collection<?> collection = (Collection<?>)obj;
+				bytes += COLLECTION + align(ARRAY_HEADER + (long)collection.size() * REFERENCE);
+				for(Object element : collection) {
+					if(element != null) pending.push(element);
+				}
+			} else {
+				Layout layout = getLayout(clazz);
+				bytes += layout.size;
+				for(Field field : layout.references) {
+					Object value;
+					try {
+						value = field.get(obj);
+					} catch(IllegalAccessException e) {
+						throw new AssertionError(e);
+					}
+					if(value != null) pending.push(value);
+				}
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Tables, connectors, and classes are referenced by rows, but are not part of the cache.
+	 */
+	private static boolean isStopped(Object obj) {
+		return
+			obj instanceof AOServTable
+			|| obj instanceof AOServConnector
+			|| obj instanceof Class
+			|| obj instanceof ClassLoader
+			|| obj instanceof Thread;
+	}
+
+	/**
+	 * Only the classes outside the JDK are walked by their fields.
+	 */
+	private static boolean isWalked(Class<?> clazz) {
+		String name = clazz.getName();
+		return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("sun.") && !name.startsWith("jdk.");
+	}
+
+	/**
+	 * The capacity of a hash map of the given size at the default load factor.
+	 */
+	private static int tableSize(int size) {
+		int capacity = 16;
+		while(capacity * 3L < size * 4L) capacity <<= 1;
+		return capacity;
+	}
+
+	private Layout getLayout(Class<?> clazz) {
+		Layout layout = layouts.get(clazz);
+		if(layout == null) {
+			boolean walked = isWalked(clazz);
+			long size = OBJECT_HEADER;
+			List<Field> references = new ArrayList<>();
+			for(Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+				for(Field field : c.getDeclaredFields()) {
+					if(Modifier.isStatic(field.getModifiers())) continue;
+					Class<?> type = field.getType();
+					if(type.isPrimitive()) {
+						size += primitiveSize(type);
+					} else {
+						size += REFERENCE;
+						if(walked) references.add(field);
+					}
+				}
+			}
+			Field[] fields = references.toArray(new Field[references.size()]);
+			try {
+				for(Field field : fields) field.setAccessible(true);
+			} catch(RuntimeException e) {
+				// Not accessible, count this object only
+				fields = new Field[0];
+			}
+			layout = new Layout(align(size), fields);
+			layouts.put(clazz, layout);
+		}
+		return layout;
+	}
+}
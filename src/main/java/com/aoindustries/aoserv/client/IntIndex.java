@@ -0,0 +1,170 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A map from primitive <code>int</code> keys to non-null values, used to index
+ * integer columns without boxing each key.  When the keys are compact, such as
+ * most serial primary keys, the values are stored directly in an array offset
+ * by the minimum key.  Otherwise, an open-addressing hash table with linear
+ * probing is used.
+ * <p>
+ * This is not thread-safe.  It is populated once then published for read-only use.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class IntIndex<E> {
+
+	/**
+	 * Dense arrays may be at most this many times larger than the number of keys.
+	 */
+	private static final int MAX_DENSE_RATIO = 2;
+
+	/**
+	 * Small ranges are always dense.
+	 */
+	private static final int MIN_DENSE_RANGE = 64;
+
+	private final int min;
+
+	/**
+	 * The values, indexed by key minus {@link #min}, or <code>null</code> when hashed.
+	 */
+	private final Object[] dense;
+
+	private final int[] keys;
+	private final Object[] values;
+	private final int mask;
+
+	private int size;
+
+	/**
+	 * Creates an index for the given number of keys in the given range, choosing the
+	 * representation that fits the range.
+	 */
+	IntIndex(int min, int max, int count) {
+		long range = (long)max - min + 1;
+		if(count == 0) {
+			this.min = 0;
+			this.dense = new Object[0];
+			this.keys = null;
+			this.values = null;
+			this.mask = 0;
+		} else if(range <= Math.max(MIN_DENSE_RANGE, (long)count * MAX_DENSE_RATIO)) {
+			this.min = min;
+			this.dense = new Object[(int)range];
+			this.keys = null;
+			this.values = null;
+			this.mask = 0;
+		} else {
+			// Load factor at most 50%
+			int capacity = Integer.highestOneBit(Math.max(count, 2) * 2 - 1) << 1;
+			this.min = 0;
+			this.dense = null;
+			this.keys = new int[capacity];
+			this.values = new Object[capacity];
+			this.mask = capacity - 1;
+		}
+	}
+
+	private static int hash(int key) {
+		// Murmur3 finalizer, spreads sequential keys
+		int h = key;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	boolean isDense() {
+		return dense != null;
+	}
+
+	int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	E get(int key) {
+		if(dense != null) {
+			int index = key - min;
+			return (index >= 0 && index < dense.length) ? (E)dense[index] : null;
+		}
+		int slot = hash(key) & mask;
+		while(true) {
+			Object value = values[slot];
+			if(value == null) return null;
+			if(keys[slot] == key) return (E)value;
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * Adds or replaces a value.  The key must be within the range given at creation.
+	 *
+	 * @return  the previous value or <code>null</code> when none
+	 */
+	@SuppressWarnings("unchecked")
+	E put(int key, E value) {
+		if(value == null) throw new IllegalArgumentException("value is null");
+		if(dense != null) {
+			int index = key - min;
+			Object old = dense[index];
+			dense[index] = value;
+			if(old == null) size++;
+			return (E)old;
+		}
+		int slot = hash(key) & mask;
+		while(true) {
+			Object old = values[slot];
+			if(old == null) {
+				keys[slot] = key;
+				values[slot] = value;
+				size++;
+				return null;
+			}
+			if(keys[slot] == key) {
+				values[slot] = value;
+				return (E)old;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * Replaces each value with the result of the given function.
+	 */
+	@SuppressWarnings("unchecked")
+	void replaceAll(UnaryOperator<E> function) {
+		Object[] array = dense != null ? dense : values;
+		for(int i = 0; i < array.length; i++) {
+			Object value = array[i];
+			if(value != null) array[i] = function.apply((E)value);
+		}
+	}
+}
@@ -0,0 +1,354 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.collections.IntArrayList;
+import com.aoapps.collections.IntList;
+import com.aoapps.hodgepodge.io.stream.StreamableInput;
+import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import com.aoapps.hodgepodge.table.TableListener;
+import com.aoapps.lang.Throwables;
+import com.aoapps.lang.validation.ValidationException;
+import com.aoapps.net.HostAddress;
+import com.aoapps.net.Port;
+import com.aoindustries.aoserv.client.account.User;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Table;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * A <code>LocalCacheConnector</code> loads tables from a {@link LocalCacheServer}
+ * on the loopback interface, which holds warm caches shared by all the
+ * processes on the host.  The tables are invalidated by the local cache server,
+ * which listens for invalidations from the server once for all processes.  All
+ * other commands are sent to the server by another connector.
+ * <p>
+ * Short-lived processes, such as cron jobs and shell commands, then load their
+ * tables from memory on the same host instead of from the server.  Only whole
+ * tables are loaded from the local cache server: lookups by key, such as
+ * {@link AoservProtocol.CommandID#GET_OBJECT} for tables not cached in full,
+ * are sent to the server.
+ * </p>
+ * <p>
+ * When the local cache server is unavailable, such as while it is restarted,
+ * tables are loaded from the server instead, and their invalidations are
+ * relayed from the other connector.  The local cache server is tried again
+ * after a delay, doubled on each failure.
+ * </p>
+ * <p>
+ * The local cache server must authenticate as the same user, since the rows
+ * of most tables depend on the user.
+ * </p>
+ *
+ * @see  LocalCacheServer
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LocalCacheConnector extends TCPConnector {
+
+	/**
+	 * The protocol of this type of connector.
+	 */
+	public static final String LOCAL_PROTOCOL = "local";
+
+	/**
+	 * Instances of connectors are created once and then reused.
+	 */
+	private static final List<LocalCacheConnector> connectors = new ArrayList<>();
+
+	private static final HostAddress LOOPBACK;
+	static {
+		try {
+			LOOPBACK = HostAddress.valueOf(java.net.InetAddress.getLoopbackAddress().getHostAddress());
+		} catch(ValidationException e) {
+			throw new AssertionError("The loopback address is valid", e);
+		}
+	}
+
+	/**
+	 * Gets the address the local cache server listens on.
+	 */
+	static HostAddress getLoopback() {
+		return LOOPBACK;
+	}
+
+	/**
+	 * The delay before trying the local cache server again after the first failure.
+	 */
+	private static final long MIN_RETRY_DELAY = 5L * 1000;
+
+	/**
+	 * The maximum delay before trying the local cache server again.
+	 */
+	private static final long MAX_RETRY_DELAY = 5L * 60 * 1000;
+
+	/**
+	 * The connector used for all commands other than loading tables.
+	 */
+	private final AOServConnector upstream;
+
+	private final Object retryLock = new Object();
+
+	/**
+	 * The time the local cache server will be tried again, or <code>0</code>
+	 * while it is available.
+	 */
+	private volatile long retryTime;
+
+	/**
+	 * The current delay before trying the local cache server again, or
+	 * <code>0</code> while it is available.
+	 */
+	private long retryDelay;
+
+	/**
+	 * The tables having a relay registered on the other connector, indexed by table ID.
+	 */
+	private final boolean[] relayed = new boolean[Table.TableID.values().length];
+
+	/**
+	 * Relays invalidations from the other connector, for tables loaded from
+	 * the server while the local cache server was unavailable.
+	 */
+	private final TableListener relay = table -> {
+		IntList tableList = new IntArrayList(1);
+		tableList.add(((AOServTable<?, ?>)table).getTableID().ordinal());
+		tablesUpdated(tableList);
+	};
+
+	protected LocalCacheConnector(
+		Port port,
+		AOServConnector upstream,
+		int poolSize,
+		long maxConnectionAge
+	) {
+		super(
+			LOOPBACK,
+			null,
+			port,
+			upstream.connectAs,
+			upstream.authenticateAs,
+			upstream.password,
+			upstream.daemonServer,
+			poolSize,
+			maxConnectionAge
+		);
+		this.upstream = upstream;
+	}
+
+	public static synchronized LocalCacheConnector getLocalCacheConnector(
+		Port port,
+		AOServConnector upstream,
+		int poolSize,
+		long maxConnectionAge
+	) {
+		if(upstream == null) throw new IllegalArgumentException("upstream is null");
+		if(upstream instanceof LocalCacheConnector) throw new IllegalArgumentException("upstream is a local cache: " + upstream);
+		for(LocalCacheConnector connector : connectors) {
+			if(
+				connector.port == port
+				&& connector.upstream == upstream
+				&& connector.poolSize == poolSize
+				&& connector.maxConnectionAge == maxConnectionAge
+			) return connector;
+		}
+		LocalCacheConnector newConnector = new LocalCacheConnector(
+			port,
+			upstream,
+			poolSize,
+			maxConnectionAge
+		);
+		connectors.add(newConnector);
+		return newConnector;
+	}
+
+	/**
+	 * Gets the connector used for all commands other than loading tables.
+	 */
+	public AOServConnector getUpstream() {
+		return upstream;
+	}
+
+	@Override
+	public String getProtocol() {
+		return LOCAL_PROTOCOL;
+	}
+
+	/**
+	 * Tables and their invalidations are from the local cache server, while all
+	 * other commands are sent to the server.  When the local cache server is
+	 * unavailable, all commands are sent to the server.
+	 */
+	@Override
+	AOServConnection getConnection(AoservProtocol.CommandID commID, int maxConnections) throws InterruptedIOException, IOException {
+		if(isLocal(commID) && isLocalAvailable()) {
+			try {
+				AOServConnection conn = getConnection(maxConnections);
+				localAvailable();
+				return conn;
+			} catch(InterruptedIOException err) {
+				throw err;
+			} catch(IOException err) {
+				localUnavailable(err);
+			}
+		}
+		return upstream.getConnection(commID, maxConnections);
+	}
+
+	/**
+	 * Checks if the local cache server is to be tried, which is until it fails
+	 * and then again once the retry delay has passed.
+	 */
+	private boolean isLocalAvailable() {
+		long time = retryTime;
+		if(time == 0) return true;
+		long currentTime = System.currentTimeMillis();
+		// Also when the system time is reset to the past
+		return currentTime >= time || (time - currentTime) > MAX_RETRY_DELAY;
+	}
+
+	private void localAvailable() {
+		if(retryTime != 0) {
+			synchronized(retryLock) {
+				if(retryTime != 0) {
+					getLogger().log(Level.INFO, "Local cache server available again on port {0}", port.getPort());
+					retryTime = 0;
+					retryDelay = 0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Backs off before trying the local cache server again, and relays the
+	 * invalidations of the tables listened for, since they will be loaded from
+	 * the server meanwhile.
+	 */
+	private void localUnavailable(IOException err) {
+		synchronized(retryLock) {
+			retryDelay = retryDelay == 0 ? MIN_RETRY_DELAY : Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+			retryTime = System.currentTimeMillis() + retryDelay;
+			getLogger().log(Level.WARNING, "Local cache server unavailable on port " + port.getPort() + ", loading tables from the server for " + retryDelay + " ms", err);
+		}
+		for(Table.TableID tableID : Table.TableID.values()) {
+			if(isListeningFor(tableID)) relay(tableID);
+		}
+	}
+
+	/**
+	 * Registers the relay on the other connector, once per table, so the other
+	 * connector listens for the table from the server.
+	 */
+	private void relay(Table.TableID tableID) {
+		boolean register;
+		synchronized(relayed) {
+			register = !relayed[tableID.ordinal()];
+			relayed[tableID.ordinal()] = true;
+		}
+		if(register) upstream.getTable(tableID.ordinal()).addTableListener(relay, 0);
+	}
+
+	/**
+	 * Also relays the invalidations of the table from the other connector while
+	 * the local cache server is unavailable.  Tables listened for when the local
+	 * cache server fails are relayed on failure.
+	 */
+	@Override
+	void listenForBeforeLoad(Table.TableID tableID) throws InterruptedIOException {
+		super.listenForBeforeLoad(tableID);
+		if(!isLocalAvailable()) relay(tableID);
+	}
+
+	/**
+	 * Checks if the given command is served by the local cache server.
+	 */
+	static boolean isLocal(AoservProtocol.CommandID commID) {
+		return
+			commID == AoservProtocol.CommandID.GET_TABLE
+			|| commID == AoservProtocol.CommandID.LISTEN_CACHES_SELECTIVE
+		;
+	}
+
+	/**
+	 * The local cache server is on the loopback interface, so is secure when the
+	 * connection to the server is secure.
+	 */
+	@Override
+	public boolean isSecure() throws IOException {
+		return upstream.isSecure();
+	}
+
+	/**
+	 * Forwards invalidations from commands sent by this connector to the local
+	 * cache server, so tables reloaded next are not from its cache from before
+	 * the command.  Invalidations from the local cache server itself are not
+	 * forwarded back.
+	 */
+	@Override
+	void tablesUpdating(IntList invalidateList) {
+		if(
+			invalidateList.isEmpty()
+			|| Thread.currentThread() instanceof CacheMonitor
+			|| !isLocalAvailable()
+		) return;
+		try (SocketConnection conn = getConnection(1)) {
+			try {
+				int size = invalidateList.size();
+				for(int c = 0; c < size; c++) {
+					StreamableOutput out = conn.getRequestOut(AoservProtocol.CommandID.INVALIDATE_TABLE);
+					out.writeCompressedInt(invalidateList.getInt(c));
+					out.writeCompressedInt(-1);
+					out.flush();
+
+					StreamableInput in = conn.getResponseIn();
+					int code = in.readByte();
+					if(code == AoservProtocol.DONE) readInvalidateList(in);
+					else {
+						AoservProtocol.checkResult(code, in);
+						throw new IOException("Unknown response code: " + code);
+					}
+				}
+			} catch(Error | RuntimeException | IOException | SQLException err) {
+				throw Throwables.wrap(conn.abort(err), IOException.class, IOException::new);
+			}
+		} catch(IOException err) {
+			// The local cache server will still be invalidated by the server, only later
+			getLogger().log(Level.WARNING, null, err);
+		}
+	}
+
+	/**
+	 * The local cache server only serves its own user, so other users connect
+	 * directly to the server.
+	 */
+	@Override
+	public AOServConnector switchUsers(User.Name username) throws IOException {
+		if(username.equals(connectAs)) return this;
+		return upstream.switchUsers(username);
+	}
+}
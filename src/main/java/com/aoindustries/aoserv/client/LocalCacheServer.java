@@ -0,0 +1,494 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.collections.IntArrayList;
+import com.aoapps.collections.IntList;
+import com.aoapps.hodgepodge.io.stream.StreamableInput;
+import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import com.aoapps.hodgepodge.table.TableListener;
+import com.aoapps.lang.SysExits;
+import com.aoapps.net.Port;
+import com.aoapps.security.Identifier;
+import com.aoapps.security.SecurityStreamables;
+import com.aoindustries.aoserv.client.account.User;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Table;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A <code>LocalCacheServer</code> holds the warm caches of one connector and
+ * serves its tables to the {@linkplain LocalCacheConnector local cache connectors}
+ * of the other processes on the same host, over the loopback interface.  It
+ * listens for invalidations from the server once, and relays them to the
+ * processes that loaded each table.
+ * <p>
+ * Only the commands used to load and invalidate tables are supported, using the
+ * same protocol as the server, so the tables are loaded by
+ * {@link AOServTable} unchanged.  The rows of cached tables are from the current
+ * snapshot, while tables that are not cached are loaded from the server on each
+ * request.
+ * </p>
+ * <p>
+ * Connections must authenticate as the user of the connector, since the rows of
+ * most tables depend on the user.  Java 8 has no Unix domain sockets, so only
+ * the loopback interface is used.
+ * </p>
+ *
+ * @see  LocalCacheConnector
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class LocalCacheServer implements Closeable {
+
+	private static final Logger logger = Logger.getLogger(LocalCacheServer.class.getName());
+
+	/**
+	 * The time between pings sent to connections listening for invalidations,
+	 * so that idle connections are detected by both sides.
+	 */
+	private static final long PING_INTERVAL = 60L * 1000;
+
+	private static final int numTables = Table.TableID.values().length;
+
+	/**
+	 * Runs a local cache server for the configured user, connecting to the
+	 * server by the configured protocols other than {@link LocalCacheConnector#LOCAL_PROTOCOL}.
+	 */
+	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+	public static void main(String[] args) {
+		try {
+			User.Name username = AOServClientConfiguration.getUsername();
+			if(username == null) throw new IllegalStateException("aoserv.client.username not configured");
+			List<String> protocols = new ArrayList<>(AOServClientConfiguration.getProtocols());
+			protocols.remove(LocalCacheConnector.LOCAL_PROTOCOL);
+			AOServConnector upstream = AOServConnector.getConnector(
+				protocols,
+				username,
+				username,
+				AOServClientConfiguration.getPassword(),
+				AOServClientConfiguration.getDaemonServer()
+			);
+			new LocalCacheServer(upstream, AOServClientConfiguration.getLocalPort()).start();
+		} catch(Throwable t) {
+			logger.log(Level.SEVERE, null, t);
+			System.exit(SysExits.getSysExit(t));
+		}
+	}
+
+	private final AOServConnector connector;
+	private final Port port;
+
+	private final Object acceptLock = new Object();
+	private ServerSocket serverSocket;
+
+	/**
+	 * The connections currently listening for invalidations.
+	 */
+	private final CopyOnWriteArraySet<Listener> listeners = new CopyOnWriteArraySet<>();
+
+	/**
+	 * The tables having a relay registered, indexed by table ID.
+	 */
+	private final boolean[] relayed = new boolean[numTables];
+
+	/**
+	 * Relays invalidations to the connections listening for each table.  The
+	 * caches of the connector are already cleared when called.
+	 */
+	private final TableListener relay = table -> {
+		int tableID = ((AOServTable<?, ?>)table).getTableID().ordinal();
+		for(Listener listener : listeners) {
+			if(listener.isListening(tableID)) listener.send(tableID);
+		}
+	};
+
+	/**
+	 * @param  connector  the connector that holds the caches and receives
+	 *                    invalidations from the server
+	 * @param  port       the loopback port to listen on
+	 */
+	public LocalCacheServer(AOServConnector connector, Port port) {
+		if(connector instanceof LocalCacheConnector) throw new IllegalArgumentException("connector is a local cache: " + connector);
+		if(port.getProtocol() != com.aoapps.net.Protocol.TCP) throw new IllegalArgumentException("Only TCP supported: " + port);
+		this.connector = connector;
+		this.port = port;
+	}
+
+	public AOServConnector getConnector() {
+		return connector;
+	}
+
+	public Port getPort() {
+		return port;
+	}
+
+	/**
+	 * Starts accepting connections on the loopback interface.
+	 */
+	public void start() throws IOException {
+		synchronized(acceptLock) {
+			if(serverSocket != null) throw new IllegalStateException("Already started");
+			ServerSocket ss = new ServerSocket();
+			try {
+				ss.bind(new InetSocketAddress(LocalCacheConnector.getLoopback().toString(), port.getPort()));
+			} catch(IOException e) {
+				ss.close();
+				throw e;
+			}
+			serverSocket = ss;
+			Thread acceptor = new Thread(() -> accept(ss), "LocalCacheServer - Acceptor - " + port.getPort());
+			acceptor.start();
+			Thread pinger = new Thread(() -> ping(ss), "LocalCacheServer - Pinger - " + port.getPort());
+			pinger.setDaemon(true);
+			pinger.start();
+		}
+	}
+
+	/**
+	 * Stops accepting new connections.  Existing connections are closed by their
+	 * clients.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized(acceptLock) {
+			ServerSocket ss = serverSocket;
+			if(ss != null) {
+				serverSocket = null;
+				ss.close();
+			}
+		}
+	}
+
+	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+	private void accept(ServerSocket ss) {
+		while(!ss.isClosed()) {
+			try {
+				Socket socket = ss.accept();
+				try {
+					socket.setKeepAlive(true);
+					socket.setTcpNoDelay(true);
+					Thread thread = new Thread(() -> serve(socket), "LocalCacheServer - Connection - " + socket.getRemoteSocketAddress());
+					thread.setDaemon(true);
+					thread.start();
+				} catch(Throwable t) {
+					socket.close();
+					throw t;
+				}
+			} catch(ThreadDeath td) {
+				throw td;
+			} catch(Throwable t) {
+				if(!ss.isClosed()) logger.log(Level.SEVERE, null, t);
+			}
+		}
+	}
+
+	@SuppressWarnings("SleepWhileInLoop")
+	private void ping(ServerSocket ss) {
+		while(!ss.isClosed()) {
+			try {
+				Thread.sleep(PING_INTERVAL);
+			} catch(InterruptedException e) {
+				logger.log(Level.WARNING, null, e);
+				// Restore the interrupted status
+				Thread.currentThread().interrupt();
+				return;
+			}
+			for(Listener listener : listeners) listener.send(-1);
+		}
+	}
+
+	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+	private void serve(Socket socket) {
+		try (Socket s = socket) {
+			StreamableOutput out = new StreamableOutput(new BufferedOutputStream(s.getOutputStream()));
+			StreamableInput in = new StreamableInput(new BufferedInputStream(s.getInputStream()));
+			if(!authenticate(in, out)) return;
+			long seq = AOServConnector.getSecureRandom().nextLong();
+			out.writeLong(seq);
+			out.flush();
+			while(true) {
+				seq = in.readLong();
+				int commandOrdinal = in.readCompressedInt();
+				AoservProtocol.CommandID commID =
+					commandOrdinal >= 0 && commandOrdinal < AoservProtocol.CommandID.values().length
+					? AoservProtocol.CommandID.values()[commandOrdinal]
+					: null;
+				if(commID == AoservProtocol.CommandID.GET_TABLE) {
+					getTable(in, out, seq);
+				} else if(commID == AoservProtocol.CommandID.INVALIDATE_TABLE) {
+					invalidateTable(in, out, seq);
+				} else if(commID == AoservProtocol.CommandID.LISTEN_CACHES_SELECTIVE) {
+					listen(in, out, seq);
+					return;
+				} else {
+					// The parameters of other commands are unknown, so the connection may not be reused
+					out.writeLong(seq);
+					out.writeByte(AoservProtocol.IO_EXCEPTION);
+					out.writeUTF("Command not supported by local cache: " + (commID == null ? commandOrdinal : commID));
+					out.flush();
+					return;
+				}
+			}
+		} catch(EOFException | SocketException e) {
+			// Normal when the client disconnects
+			logger.log(Level.FINE, null, e);
+		} catch(ThreadDeath td) {
+			throw td;
+		} catch(Throwable t) {
+			logger.log(Level.WARNING, null, t);
+		}
+	}
+
+	/**
+	 * Reads the same handshake as the server, accepting only the user of the connector.
+	 */
+	private boolean authenticate(StreamableInput in, StreamableOutput out) throws IOException {
+		String version = in.readUTF();
+		String daemonServer = in.readNullUTF();
+		String connectAs = in.readUTF();
+		String authenticateAs = in.readUTF();
+		String password = in.readUTF();
+		Identifier connectorId = SecurityStreamables.readNullIdentifier(in);
+		String message;
+		if(!AoservProtocol.Version.CURRENT_VERSION.getVersion().equals(version)) {
+			message = "Unsupported protocol version: " + version;
+		} else if(
+			!connector.connectAs.toString().equals(connectAs)
+			|| !connector.authenticateAs.toString().equals(authenticateAs)
+			|| !Objects.equals(Objects.toString(connector.daemonServer, null), daemonServer)
+			|| !MessageDigest.isEqual(
+				connector.password.getBytes(StandardCharsets.UTF_8),
+				password.getBytes(StandardCharsets.UTF_8)
+			)
+		) {
+			message = "Local cache is for a different user";
+		} else {
+			message = null;
+		}
+		if(message != null) {
+			out.writeBoolean(false);
+			out.writeUTF(message);
+			out.flush();
+			return false;
+		}
+		out.writeBoolean(true);
+		if(connectorId == null) {
+			SecurityStreamables.writeNullIdentifier(new Identifier(AOServConnector.getSecureRandom()), out);
+		}
+		return true;
+	}
+
+	private static Table.TableID getTableID(int ordinal) throws IOException {
+		Table.TableID[] tableIDs = Table.TableID.values();
+		if(ordinal < 0 || ordinal >= tableIDs.length) throw new IOException("Unknown table: " + ordinal);
+		return tableIDs[ordinal];
+	}
+
+	/**
+	 * Gets the rows from the current snapshot of cached tables, otherwise loads
+	 * them from the server.
+	 */
+	private List<?> getRows(AOServTable<?, ?> table) throws IOException, SQLException {
+		try {
+			return table.pinSnapshot().getRows();
+		} catch(UnsupportedOperationException e) {
+			return table.loadTable();
+		}
+	}
+
+	/**
+	 * Writes the rows in the same format as the server.
+	 */
+	private void getTable(StreamableInput in, StreamableOutput out, long seq) throws IOException {
+		boolean withProgress = in.readBoolean();
+		Table.TableID tableID = getTableID(in.readCompressedInt());
+		List<?> rows;
+		byte errorCode;
+		String errorMessage;
+		try {
+			rows = getRows(connector.getTable(tableID.ordinal()));
+			errorCode = AoservProtocol.DONE;
+			errorMessage = null;
+		} catch(IOException e) {
+			logger.log(Level.WARNING, null, e);
+			rows = null;
+			errorCode = AoservProtocol.IO_EXCEPTION;
+			errorMessage = Objects.toString(e.getMessage(), e.toString());
+		} catch(SQLException e) {
+			logger.log(Level.WARNING, null, e);
+			rows = null;
+			errorCode = AoservProtocol.SQL_EXCEPTION;
+			errorMessage = Objects.toString(e.getMessage(), e.toString());
+		}
+		out.writeLong(seq);
+		if(rows == null) {
+			out.writeByte(errorCode);
+			out.writeUTF(errorMessage);
+		} else {
+			if(withProgress) {
+				out.writeByte(AoservProtocol.NEXT);
+				out.writeLong(rows.size());
+			}
+			for(Object row : rows) {
+				out.writeByte(AoservProtocol.NEXT);
+				((AOServObject<?, ?>)row).write(out, AoservProtocol.Version.CURRENT_VERSION);
+			}
+			out.writeByte(AoservProtocol.DONE);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Clears the cache of a table changed by a client, relaying the invalidation
+	 * to all listening connections.  The server is not notified, since it already
+	 * invalidated the table for the command that changed it.
+	 */
+	private void invalidateTable(StreamableInput in, StreamableOutput out, long seq) throws IOException {
+		Table.TableID tableID = getTableID(in.readCompressedInt());
+		in.readCompressedInt(); // server
+		IntList tableList = new IntArrayList(1);
+		tableList.add(tableID.ordinal());
+		connector.tablesUpdated(tableList);
+		out.writeLong(seq);
+		out.writeByte(AoservProtocol.DONE);
+		out.writeCompressedInt(-1);
+		out.flush();
+	}
+
+	/**
+	 * Relays invalidations for the selected tables until the client disconnects,
+	 * using the same protocol as the server.
+	 */
+	private void listen(StreamableInput in, StreamableOutput out, long seq) throws IOException {
+		Listener listener = new Listener(out);
+		listener.add(in);
+		listeners.add(listener);
+		try {
+			synchronized(out) {
+				out.writeLong(seq);
+				out.flush();
+			}
+			while(true) {
+				if(!in.readBoolean()) {
+					listener.add(in);
+					synchronized(out) {
+						out.writeBoolean(false);
+						out.writeCompressedInt(TCPConnector.LISTEN_CONFIRMED);
+						out.flush();
+					}
+				}
+				// Otherwise acknowledges a synchronous invalidation, which are not sent
+			}
+		} finally {
+			listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Registers the relay on each table listened for, so the connector listens
+	 * for the table from the server.
+	 */
+	private void relay(Table.TableID tableID) {
+		boolean register;
+		synchronized(relayed) {
+			register = !relayed[tableID.ordinal()];
+			relayed[tableID.ordinal()] = true;
+		}
+		if(register) connector.getTable(tableID.ordinal()).addTableListener(relay, 0);
+	}
+
+	/**
+	 * One connection listening for invalidations.
+	 */
+	private final class Listener {
+
+		private final StreamableOutput out;
+
+		/**
+		 * The tables listened for, indexed by table ID.  Copy-on-write so the
+		 * relay does not lock.
+		 */
+		private volatile boolean[] listening = new boolean[numTables];
+
+		private Listener(StreamableOutput out) {
+			this.out = out;
+		}
+
+		/**
+		 * Reads the count and IDs of tables to add.
+		 */
+		private void add(StreamableInput in) throws IOException {
+			int count = in.readCompressedInt();
+			boolean[] copy = listening.clone();
+			for(int c = 0; c < count; c++) {
+				Table.TableID tableID = getTableID(in.readCompressedInt());
+				relay(tableID);
+				copy[tableID.ordinal()] = true;
+			}
+			listening = copy;
+		}
+
+		private boolean isListening(int tableID) {
+			return listening[tableID];
+		}
+
+		/**
+		 * Sends one invalidation, or a ping for <code>-1</code>.
+		 */
+		private void send(int tableID) {
+			try {
+				synchronized(out) {
+					out.writeBoolean(false);
+					if(tableID == -1) {
+						out.writeCompressedInt(-1);
+					} else {
+						out.writeCompressedInt(1);
+						out.writeCompressedInt(tableID);
+					}
+					out.flush();
+				}
+			} catch(IOException e) {
+				// The connection is closed by its reading thread
+				logger.log(Level.FINE, null, e);
+			}
+		}
+	}
+}
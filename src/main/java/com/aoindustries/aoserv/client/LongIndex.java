@@ -0,0 +1,119 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A map from primitive <code>long</code> keys to non-null values, used to index
+ * long columns without boxing each key.  This is an open-addressing hash table
+ * with linear probing.
+ * <p>
+ * This is not thread-safe.  It is populated once then published for read-only use.
+ * </p>
+ *
+ * @see  IntIndex
+ *
+ * @author  AO Industries, Inc.
+ */
+final class LongIndex<E> {
+
+	private final long[] keys;
+	private final Object[] values;
+	private final int mask;
+
+	private int size;
+
+	/**
+	 * Creates an index for the given number of keys.
+	 */
+	LongIndex(int count) {
+		// Load factor at most 50%
+		int capacity = Integer.highestOneBit(Math.max(count, 2) * 2 - 1) << 1;
+		this.keys = new long[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+
+	private static int hash(long key) {
+		// Murmur3 64-bit finalizer, spreads sequential keys
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int)h;
+	}
+
+	int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	E get(long key) {
+		int slot = hash(key) & mask;
+		while(true) {
+			Object value = values[slot];
+			if(value == null) return null;
+			if(keys[slot] == key) return (E)value;
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * Adds or replaces a value.
+	 *
+	 * @return  the previous value or <code>null</code> when none
+	 */
+	@SuppressWarnings("unchecked")
+	E put(long key, E value) {
+		if(value == null) throw new IllegalArgumentException("value is null");
+		int slot = hash(key) & mask;
+		while(true) {
+			Object old = values[slot];
+			if(old == null) {
+				keys[slot] = key;
+				values[slot] = value;
+				size++;
+				return null;
+			}
+			if(keys[slot] == key) {
+				values[slot] = value;
+				return (E)old;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * Replaces each value with the result of the given function.
+	 */
+	@SuppressWarnings("unchecked")
+	void replaceAll(UnaryOperator<E> function) {
+		for(int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			if(value != null) values[i] = function.apply((E)value);
+		}
+	}
+}
@@ -0,0 +1,376 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.hodgepodge.io.FileListObjectFactory;
+import com.aoapps.lang.exception.WrappedException;
+import com.aoindustries.aoserv.client.sql.SQLExpression;
+import com.aoindustries.aoserv.client.sql.SQLSortKeys;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list of fixed-length records in a memory-mapped temporary
+ * file.  Records are only deserialized when accessed, and the pages are
+ * cached by the operating system instead of the heap.
+ * <p>
+ * The records are kept in the order received, and listed in their default
+ * order through an off-heap permutation set by {@link #setOrder(com.aoindustries.aoserv.client.AOServConnector, com.aoindustries.aoserv.client.sql.SQLExpression[], boolean[])}.
+ * </p>
+ * <p>
+ * Indexes are kept off-heap in direct buffers.  An index on an <code>int</code>
+ * column at a known offset within each record is built and searched directly
+ * on the mapped bytes, without deserializing any record.  Any other column is
+ * indexed by a permutation of the records sorted on keys read once per record.
+ * </p>
+ *
+ * @see  FilesystemCachedTable
+ *
+ * @author  AO Industries, Inc.
+ */
+final class MappedRecords<V extends FilesystemCachedObject<?, V>> extends AbstractList<V> implements RandomAccess {
+
+	/**
+	 * Writes the records to a temporary file.  Only supports {@link #add(java.lang.Object)},
+	 * {@link #clear()}, and {@link #size()}, which are all that are used while
+	 * loading a table.
+	 */
+	static final class Writer<V extends FilesystemCachedObject<?, V>> extends AbstractList<V> {
+
+		private final String prefix;
+		private final int recordLength;
+		private final FileListObjectFactory<V> factory;
+		private final ByteArrayOutputStream recordBytes;
+		private final DataOutputStream recordOut;
+		private final byte[] padding;
+
+		private File file;
+		private OutputStream out;
+		private int size;
+
+		Writer(String prefix, int recordLength, FileListObjectFactory<V> factory) throws IOException {
+			if(recordLength <= 0) throw new IllegalArgumentException("recordLength <= 0: " + recordLength);
+			this.prefix = prefix;
+			this.recordLength = recordLength;
+			this.factory = factory;
+			this.recordBytes = new ByteArrayOutputStream(recordLength);
+			this.recordOut = new DataOutputStream(recordBytes);
+			this.padding = new byte[recordLength];
+			open();
+		}
+
+		private void open() throws IOException {
+			// Deleted by map() or discard(), since deleteOnExit() would retain every path until exit
+			file = File.createTempFile(prefix + '.', ".rows");
+			out = new BufferedOutputStream(new FileOutputStream(file));
+			size = 0;
+		}
+
+		@Override
+		public boolean add(V obj) {
+			try {
+				recordBytes.reset();
+				obj.writeRecord(recordOut);
+				recordOut.flush();
+				int len = recordBytes.size();
+				if(len > recordLength) throw new IOException("Record longer than recordLength: " + len + " > " + recordLength);
+				recordBytes.writeTo(out);
+				out.write(padding, 0, recordLength - len);
+				size++;
+				return true;
+			} catch(IOException e) {
+				throw new WrappedException(e);
+			}
+		}
+
+		@Override
+		public void clear() {
+			try {
+				discard();
+				open();
+			} catch(IOException e) {
+				throw new WrappedException(e);
+			}
+		}
+
+		@Override
+		public V get(int index) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Deletes the file without mapping it.
+		 */
+		void discard() throws IOException {
+			try {
+				out.close();
+			} finally {
+				if(!file.delete()) file.deleteOnExit();
+			}
+		}
+
+		/**
+		 * Maps the records written so far.  The file is deleted once mapped where
+		 * supported, with its space freed when the mapping is garbage collected.
+		 */
+		MappedRecords<V> map() throws IOException {
+			try {
+				out.close();
+				return new MappedRecords<>(file, recordLength, size, factory);
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * The maximum number of bytes in one mapped segment.
+	 */
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+	private final int recordLength;
+	private final int size;
+	private final FileListObjectFactory<V> factory;
+	private final int recordsPerSegment;
+	private final MappedByteBuffer[] segments;
+
+	/**
+	 * The record at each position of this list, or <code>null</code> when in the order received.
+	 */
+	private IntBuffer order;
+
+	/**
+	 * The <code>int</code> indexes, indexed by column, published copy-on-write.
+	 * Each element is a {@link LongBuffer} of the value in the high 32 bits and
+	 * the position in the low, sorted, or <code>null</code> when not yet indexed.
+	 */
+	private volatile LongBuffer[] intIndexes = new LongBuffer[0];
+
+	/**
+	 * The sorted permutations, indexed by column, published copy-on-write.
+	 */
+	private volatile IntBuffer[] sortedIndexes = new IntBuffer[0];
+
+	private MappedRecords(File file, int recordLength, int size, FileListObjectFactory<V> factory) throws IOException {
+		this.recordLength = recordLength;
+		this.size = size;
+		this.factory = factory;
+		this.recordsPerSegment = Math.max(1, MAX_SEGMENT_SIZE / recordLength);
+		int segmentCount = size == 0 ? 0 : (size - 1) / recordsPerSegment + 1;
+		segments = new MappedByteBuffer[segmentCount];
+		try (
+			RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel()
+		) {
+			for(int i = 0; i < segmentCount; i++) {
+				long start = (long)i * recordsPerSegment * recordLength;
+				int records = Math.min(recordsPerSegment, size - i * recordsPerSegment);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, (long)records * recordLength);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Sorts this list by the given expressions, without moving any record.
+	 * Each record is deserialized once to evaluate its sort keys.
+	 * Must be called before this list is shared with other threads.
+	 *
+	 * @see  SQLSortKeys#sortIndexes(com.aoindustries.aoserv.client.AOServConnector, java.util.List, com.aoindustries.aoserv.client.sql.SQLExpression[], boolean[], boolean)
+	 */
+	void setOrder(AOServConnector conn, SQLExpression[] sortExpressions, boolean[] sortOrders) throws IOException, SQLException {
+		int[] positions = SQLSortKeys.sortIndexes(conn, this, sortExpressions, sortOrders, conn.isParallelSort(size));
+		IntBuffer newOrder = ByteBuffer.allocateDirect(size * 4).asIntBuffer();
+		for(int i : positions) {
+			newOrder.put(order == null ? i : order.get(i));
+		}
+		newOrder.flip();
+		order = newOrder;
+	}
+
+	/**
+	 * Deserializes the record at the given position of this list.
+	 */
+	@Override
+	public V get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+		if(order != null) index = order.get(index);
+		try {
+			byte[] bytes = new byte[recordLength];
+			// Duplicate since the position is not thread safe
+			ByteBuffer buffer = segments[index / recordsPerSegment].duplicate();
+			buffer.position((index % recordsPerSegment) * recordLength);
+			buffer.get(bytes);
+			V obj = factory.createInstance();
+			obj.readRecord(new DataInputStream(new ByteArrayInputStream(bytes)));
+			return obj;
+		} catch(IOException e) {
+			throw new WrappedException(e);
+		}
+	}
+
+	/**
+	 * Reads an <code>int</code> directly from the mapped record at the given position of this list.
+	 */
+	private int getInt(int index, int offset) {
+		if(order != null) index = order.get(index);
+		return segments[index / recordsPerSegment].getInt((index % recordsPerSegment) * recordLength + offset);
+	}
+
+	/**
+	 * Finds the positions, in ascending order, of the records with the given value of an
+	 * <code>int</code> column at the given offset within each record, indexing
+	 * the column on first use.
+	 */
+	int[] findInt(int col, int offset, int value) {
+		LongBuffer index = getIntIndex(col, offset);
+		long key = (long)value << 32;
+		int low = 0;
+		int high = index.limit();
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(index.get(mid) < key) low = mid + 1;
+			else high = mid;
+		}
+		int end = low;
+		while(end < index.limit() && (index.get(end) & 0xffffffff00000000L) == key) end++;
+		// Already in list order, since sorted by value then position
+		int[] found = new int[end - low];
+		for(int i = low; i < end; i++) {
+			found[i - low] = (int)index.get(i);
+		}
+		return found;
+	}
+
+	private LongBuffer getIntIndex(int col, int offset) {
+		LongBuffer[] indexes = intIndexes;
+		LongBuffer index = col < indexes.length ? indexes[col] : null;
+		if(index == null) index = buildIntIndex(col, offset);
+		return index;
+	}
+
+	private synchronized LongBuffer buildIntIndex(int col, int offset) {
+		LongBuffer[] indexes = intIndexes;
+		if(col < indexes.length && indexes[col] != null) return indexes[col];
+		long[] packed = new long[size];
+		for(int i = 0; i < size; i++) {
+			packed[i] = ((long)getInt(i, offset) << 32) | i;
+		}
+		Arrays.sort(packed);
+		LongBuffer index = ByteBuffer.allocateDirect(size * 8).asLongBuffer();
+		index.put(packed);
+		index.flip();
+		LongBuffer[] copy = Arrays.copyOf(indexes, Math.max(indexes.length, col + 1));
+		copy[col] = index;
+		intIndexes = copy;
+		return index;
+	}
+
+	/**
+	 * Finds the position of a record that compares equal to the given value, sorting
+	 * the column by the given expression on first use.
+	 *
+	 * @param  expression       the value of the column
+	 * @param  valueComparator  compares a record to a value
+	 *
+	 * @return  the position or <code>-1</code> when not found
+	 */
+	int findSorted(int col, AOServConnector conn, SQLExpression expression, Comparator<Object> valueComparator, Object value) throws IOException, SQLException {
+		IntBuffer index = getSortedIndex(col, conn, expression);
+		int low = 0;
+		int high = index.limit() - 1;
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+			int diff = valueComparator.compare(get(index.get(mid)), value);
+			if(diff < 0) low = mid + 1;
+			else if(diff > 0) high = mid - 1;
+			else return index.get(mid);
+		}
+		return -1;
+	}
+
+	private IntBuffer getSortedIndex(int col, AOServConnector conn, SQLExpression expression) throws IOException, SQLException {
+		IntBuffer[] indexes = sortedIndexes;
+		IntBuffer index = col < indexes.length ? indexes[col] : null;
+		if(index == null) index = buildSortedIndex(col, conn, expression);
+		return index;
+	}
+
+	private synchronized IntBuffer buildSortedIndex(int col, AOServConnector conn, SQLExpression expression) throws IOException, SQLException {
+		IntBuffer[] indexes = sortedIndexes;
+		if(col < indexes.length && indexes[col] != null) return indexes[col];
+		int[] order = SQLSortKeys.sortIndexes(
+			conn,
+			this,
+			new SQLExpression[] {expression},
+			new boolean[] {AOServTable.ASCENDING},
+			conn.isParallelSort(size)
+		);
+		IntBuffer index = ByteBuffer.allocateDirect(size * 4).asIntBuffer();
+		index.put(order);
+		index.flip();
+		IntBuffer[] copy = Arrays.copyOf(indexes, Math.max(indexes.length, col + 1));
+		copy[col] = index;
+		sortedIndexes = copy;
+		return index;
+	}
+
+	/**
+	 * Determines if the given column is currently indexed.
+	 */
+	boolean isIndexed(int col) {
+		LongBuffer[] ints = intIndexes;
+		IntBuffer[] sorted = sortedIndexes;
+		return
+			(col < ints.length && ints[col] != null)
+			|| (col < sorted.length && sorted[col] != null)
+		;
+	}
+}
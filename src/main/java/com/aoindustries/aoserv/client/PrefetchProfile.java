@@ -0,0 +1,94 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoindustries.aoserv.client.schema.Table;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Named sets of root tables for {@link AOServConnector#prefetch(com.aoindustries.aoserv.client.PrefetchProfile)}.
+ * Each profile lists only the tables a typical view starts from; the tables
+ * they reference are added from the schema foreign keys.
+ *
+ * @author  AO Industries, Inc.
+ */
+public enum PrefetchProfile {
+
+	ACCOUNTS(
+		Table.TableID.BUSINESSES,
+		Table.TableID.BUSINESS_ADMINISTRATORS,
+		Table.TableID.BUSINESS_SERVERS,
+		Table.TableID.PACKAGES
+	),
+	DATABASES(
+		Table.TableID.MYSQL_DATABASES,
+		Table.TableID.MYSQL_DB_USERS,
+		Table.TableID.POSTGRES_DATABASES,
+		Table.TableID.POSTGRES_SERVER_USERS
+	),
+	DNS(
+		Table.TableID.DNS_ZONES,
+		Table.TableID.DNS_RECORDS
+	),
+	EMAIL(
+		Table.TableID.EMAIL_ADDRESSES,
+		Table.TableID.EMAIL_FORWARDING,
+		Table.TableID.EMAIL_LIST_ADDRESSES,
+		Table.TableID.EMAIL_PIPE_ADDRESSES,
+		Table.TableID.LINUX_ACC_ADDRESSES
+	),
+	LINUX(
+		Table.TableID.LINUX_SERVER_ACCOUNTS,
+		Table.TableID.LINUX_SERVER_GROUPS,
+		Table.TableID.LINUX_GROUP_ACCOUNTS
+	),
+	NETWORK(
+		Table.TableID.NET_BINDS,
+		Table.TableID.IP_ADDRESSES,
+		Table.TableID.NET_DEVICES
+	),
+	WEB(
+		Table.TableID.HTTPD_SITES,
+		Table.TableID.HTTPD_SITE_BINDS,
+		Table.TableID.HTTPD_SITE_URLS,
+		Table.TableID.HTTPD_TOMCAT_SITES,
+		Table.TableID.HTTPD_STATIC_SITES
+	);
+
+	private final Set<Table.TableID> roots;
+
+	private PrefetchProfile(Table.TableID ... roots) {
+		this.roots = Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(roots)));
+	}
+
+	/**
+	 * Gets the root tables of this profile.
+	 */
+	@SuppressWarnings("ReturnOfCollectionOrArrayField") // Returning unmodifiable
+	public Set<Table.TableID> getRoots() {
+		return roots;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declares a sorted index on a column of comparable values, such as the time
+ * of a log entry.  A table declares its range indexes as constants, then finds
+ * rows within a range of values with {@link AOServTable#getRowsBetween(com.aoindustries.aoserv.client.RangeIndex, java.lang.Comparable, java.lang.Comparable)}
+ * or the rows with the greatest values with {@link AOServTable#getLatestRows(com.aoindustries.aoserv.client.RangeIndex, int)}.
+ * Cached tables sort the rows once per load, when first used, then answer each
+ * query with a binary search in <code>O(log n + k)</code>.
+ * <p>
+ * Rows with a <code>null</code> value are not in the index.  Rows with equal
+ * values remain in their default order.
+ * </p>
+ * <p>
+ * Index instances are compared by identity, so each should be created once.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class RangeIndex<T extends Comparable<? super T>> {
+
+	private final int column;
+	private final Class<T> type;
+
+	/**
+	 * @param  column  the column index
+	 * @param  type    the type of the column values
+	 */
+	public RangeIndex(int column, Class<T> type) {
+		this.column = column;
+		this.type = type;
+	}
+
+	public int getColumn() {
+		return column;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	@Override
+	public String toString() {
+		return "range[" + column + "]";
+	}
+
+	/**
+	 * Gets the value of the column for the given row.
+	 */
+	T getValue(AOServObject<?, ?> row) {
+		return type.cast(row.getColumn(column));
+	}
+
+	/**
+	 * Sorts the given rows on this index.
+	 */
+	<V extends AOServObject<?, ?>> Sorted<T, V> sort(List<V> rows) {
+		List<V> sorted = new ArrayList<>(rows.size());
+		for(V row : rows) {
+			if(getValue(row) != null) sorted.add(row);
+		}
+		// Stable, so equal values remain in their default order
+		Collections.sort(sorted, (row1, row2) -> getValue(row1).compareTo(getValue(row2)));
+		int size = sorted.size();
+		Object[] keys = new Object[size];
+		for(int i = 0; i < size; i++) {
+			keys[i] = getValue(sorted.get(i));
+		}
+		return new Sorted<>(keys, sorted);
+	}
+
+	/**
+	 * Sorts the given columnar rows on this index, using the extracted column
+	 * values so that only the rows returned by each query are materialized.
+	 *
+	 * @param  defaultOrder  the row at each position of the default order, or
+	 *                       <code>null</code> when the rows are already in default order
+	 */
+	<V extends AOServObject<?, ?>> Sorted<T, V> sort(ColumnarRows<V> rows, int[] defaultOrder) {
+		int size = rows.size();
+		List<Integer> sorted = new ArrayList<>(size);
+		for(int pos = 0; pos < size; pos++) {
+			int row = defaultOrder == null ? pos : defaultOrder[pos];
+			if(rows.getValue(row, column) != null) sorted.add(row);
+		}
+		// Stable, so equal values remain in their default order
+		Collections.sort(sorted, (row1, row2) -> type.cast(rows.getValue(row1, column)).compareTo(type.cast(rows.getValue(row2, column))));
+		int count = sorted.size();
+		Object[] keys = new Object[count];
+		int[] order = new int[count];
+		for(int i = 0; i < count; i++) {
+			int row = sorted.get(i);
+			keys[i] = rows.getValue(row, column);
+			order[i] = row;
+		}
+		return new Sorted<>(keys, rows.view(order));
+	}
+
+	/**
+	 * The rows of a table sorted on a range index, along with their values.
+	 */
+	static final class Sorted<T extends Comparable<? super T>, V> {
+
+		private final Object[] keys;
+
+		/**
+		 * Not wrapped, so the columnar view may be estimated without materializing its rows.
+		 * Only exposed through unmodifiable lists.
+		 */
+		private final List<V> rows;
+
+		private Sorted(Object[] keys, List<V> rows) {
+			this.keys = keys;
+			this.rows = rows;
+		}
+
+		/**
+		 * Finds the index of the first key that is greater than or equal to the given value.
+		 */
+		private int lowerBound(T value) {
+			int low = 0;
+			int high = keys.length;
+			while(low < high) {
+				int mid = (low + high) >>> 1;
+				@SuppressWarnings("unchecked")
+				T key = (T)keys[mid];
+				if(key.compareTo(value) < 0) low = mid + 1;
+				else high = mid;
+			}
+			return low;
+		}
+
+		/**
+		 * Gets the rows with values from <code>from</code>, inclusive, to <code>to</code>, exclusive.
+		 *
+		 * @param  from  the lower bound or {@code null} for no lower bound
+		 * @param  to    the upper bound or {@code null} for no upper bound
+		 */
+		List<V> between(T from, T to) {
+			int start = from == null ? 0 : lowerBound(from);
+			int end = to == null ? keys.length : lowerBound(to);
+			if(start >= end) return Collections.emptyList();
+			return Collections.unmodifiableList(rows.subList(start, end));
+		}
+
+		/**
+		 * Gets up to the given number of rows with the greatest values, in ascending order.
+		 */
+		List<V> latest(int count) {
+			if(count < 0) throw new IllegalArgumentException("count < 0: " + count);
+			int size = rows.size();
+			return Collections.unmodifiableList(rows.subList(Math.max(0, size - count), size));
+		}
+	}
+}
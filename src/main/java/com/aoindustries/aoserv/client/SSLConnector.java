@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -187,18 +187,20 @@ public class SSLConnector extends TCPConnector {
 	@Override
 	public AOServConnector switchUsers(User.Name username) {
 		if(username.equals(connectAs)) return this;
-		return getSSLConnector(
-			hostname,
-			local_ip,
-			port,
-			username,
-			authenticateAs,
-			password,
-			daemonServer,
-			poolSize,
-			maxConnectionAge,
-			trustStorePath,
-			trustStorePassword
+		return inheritColumnar(
+			getSSLConnector(
+				hostname,
+				local_ip,
+				port,
+				username,
+				authenticateAs,
+				password,
+				daemonServer,
+				poolSize,
+				maxConnectionAge,
+				trustStorePath,
+				trustStorePassword
+			)
 		);
 	}
 }
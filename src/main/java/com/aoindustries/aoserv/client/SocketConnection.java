@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -22,6 +22,7 @@
  */
 package com.aoindustries.aoserv.client;
 
+import com.aoapps.hodgepodge.io.ByteCountInputStream;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.AutoCloseables;
@@ -49,6 +50,18 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final public class SocketConnection extends AOServConnection {
 
+	/**
+	 * Thrown when the server refuses the connection during the handshake.
+	 */
+	static class RejectedException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		RejectedException(String message) {
+			super(message);
+		}
+	}
+
 	/**
 	 * Keeps a flag of the connection status.
 	 */
@@ -69,6 +82,11 @@ final public class SocketConnection extends AOServConnection {
 	 */
 	private final StreamableInput in;
 
+	/**
+	 * Counts the bytes read from the socket, below the buffer.
+	 */
+	private final ByteCountInputStream byteCountIn;
+
 	/**
 	 * The first command sequence for this connection.
 	 */
@@ -79,16 +97,23 @@ final public class SocketConnection extends AOServConnection {
 	 */
 	private final AtomicLong seq;
 
+	/**
+	 * The protocol version spoken on this connection.
+	 */
+	private final AoservProtocol.Version version;
+
 	@SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
-	SocketConnection(TCPConnector connector) throws InterruptedIOException, IOException {
+	SocketConnection(TCPConnector connector, AoservProtocol.Version version) throws InterruptedIOException, IOException {
 		super(connector);
+		this.version = version;
 		socket = connector.getSocket();
 		try {
 			this.isClosed.set(false);
 			out = new StreamableOutput(new BufferedOutputStream(socket.getOutputStream()));
-			in = new StreamableInput(new BufferedInputStream(socket.getInputStream()));
+			byteCountIn = new ByteCountInputStream(socket.getInputStream());
+			in = new StreamableInput(new BufferedInputStream(byteCountIn));
 
-			out.writeUTF(AoservProtocol.Version.CURRENT_VERSION.getVersion());
+			out.writeUTF(version.getVersion());
 			out.writeNullUTF(Objects.toString(connector.daemonServer, null));
 			out.writeUTF(connector.connectAs.toString());
 			out.writeUTF(connector.authenticateAs.toString());
@@ -102,7 +127,7 @@ final public class SocketConnection extends AOServConnection {
 					SecurityStreamables.writeNullIdentifier(null, out);
 					out.flush();
 					if(Thread.interrupted()) throw new InterruptedIOException();
-					if(!in.readBoolean()) throw new IOException(in.readUTF());
+					if(!in.readBoolean()) throw new RejectedException(in.readUTF());
 					connectorId = SecurityStreamables.readIdentifier(in);
 					connector.id = connectorId;
 					hadConnectorId = false;
@@ -115,7 +140,7 @@ final public class SocketConnection extends AOServConnection {
 				SecurityStreamables.writeNullIdentifier(connectorId, out);
 				out.flush();
 				if(Thread.interrupted()) throw new InterruptedIOException();
-				if(!in.readBoolean()) throw new IOException(in.readUTF());
+				if(!in.readBoolean()) throw new RejectedException(in.readUTF());
 			}
 			final long startSeq = in.readLong();
 			this.seq = new AtomicLong(startSeq);
@@ -143,6 +168,13 @@ final public class SocketConnection extends AOServConnection {
 		return t0;
 	}
 
+	/**
+	 * Gets the protocol version spoken on this connection.
+	 */
+	AoservProtocol.Version getVersion() {
+		return version;
+	}
+
 	InetAddress getLocalInetAddress() throws IOException {
 		return socket.getLocalAddress();
 	}
@@ -165,6 +197,11 @@ final public class SocketConnection extends AOServConnection {
 		return in;
 	}
 
+	@Override
+	long getBytesRead() {
+		return byteCountIn.getCount();
+	}
+
 	/**
 	 * Determines if this connection has been closed.
 	 */
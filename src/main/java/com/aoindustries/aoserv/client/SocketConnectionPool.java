@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -74,7 +74,7 @@ final class SocketConnectionPool extends AOPool<SocketConnection, IOException, I
 
 	@Override
 	protected SocketConnection getConnectionObject() throws InterruptedIOException, IOException {
-		return new SocketConnection(connector);
+		return connector.newSocketConnection();
 	}
 
 	@Override
@@ -98,12 +98,20 @@ final class SocketConnectionPool extends AOPool<SocketConnection, IOException, I
 			int totalHashed=0;
 			int totalIndexed=0;
 			int totalRows=0;
+			long totalGlobalLoads=0;
+			long totalGlobalShares=0;
+			long totalBoundedHits=0;
+			long totalBoundedMisses=0;
+			long totalBoundedEvictions=0;
 			for(AOServTable<?, ?> table : connector.getTables()) {
 				totalLoaded++;
 				if(table instanceof CachedTable<?, ?>) {
 					totalCaches++;
 					int columnCount=table.getTableSchema().getSchemaColumns(connector).size();
 					CachedTable<?, ?> cached=(CachedTable<?, ?>)table;
+					totalBoundedHits+=cached.getBoundedCacheHits();
+					totalBoundedMisses+=cached.getBoundedCacheMisses();
+					totalBoundedEvictions+=cached.getBoundedCacheEvictions();
 					if(cached.isLoaded()) {
 						totalActive++;
 						for(int d=0;d<columnCount;d++) {
@@ -116,6 +124,8 @@ final class SocketConnectionPool extends AOPool<SocketConnection, IOException, I
 					totalCaches++;
 					int columnCount=table.getTableSchema().getSchemaColumns(connector).size();
 					GlobalTable<?, ?> global=(GlobalTable<?, ?>)table;
+					totalGlobalLoads+=global.getGlobalLoadCount();
+					totalGlobalShares+=global.getGlobalShareCount();
 					if(global.isLoaded()) {
 						totalActive++;
 						for(int d=0;d<columnCount;d++) {
@@ -139,6 +149,11 @@ final class SocketConnectionPool extends AOPool<SocketConnection, IOException, I
 					+ "    <tr><td>Hashed:</td><td>").append(Integer.toString(totalHashed)).append("</td></tr>\n"
 					+ "    <tr><td>Indexes:</td><td>").append(Integer.toString(totalIndexed)).append("</td></tr>\n"
 					+ "    <tr><td>Total Rows:</td><td>").append(Integer.toString(totalRows)).append("</td></tr>\n"
+					+ "    <tr><td>Global Loads:</td><td>").append(Long.toString(totalGlobalLoads)).append("</td></tr>\n"
+					+ "    <tr><td>Global Shares:</td><td>").append(Long.toString(totalGlobalShares)).append("</td></tr>\n"
+					+ "    <tr><td>Bounded Hits:</td><td>").append(Long.toString(totalBoundedHits)).append("</td></tr>\n"
+					+ "    <tr><td>Bounded Misses:</td><td>").append(Long.toString(totalBoundedMisses)).append("</td></tr>\n"
+					+ "    <tr><td>Bounded Evictions:</td><td>").append(Long.toString(totalBoundedEvictions)).append("</td></tr>\n"
 					+ "  </tbody>\n"
 					+ "</table>\n");
 			if(isXhtml) out.append("<br /><br />\n");
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -35,6 +35,7 @@ import com.aoapps.net.HostAddress;
 import com.aoapps.net.Port;
 import com.aoindustries.aoserv.client.account.User;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Table;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InterruptedIOException;
@@ -44,6 +45,7 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.ResourceBundle;
@@ -89,6 +91,37 @@ public class TCPConnector extends AOServConnector {
 	// TODO: Use this value, somehow, in a meaningful way.
 	// TODO: private static final long MAX_IDLE_LISTEN_CACHES_NOTHING_CACHED = 60L * 1000;
 
+	/**
+	 * Sent by the server, in place of the table count, to confirm a subscription update.
+	 * <p>
+	 * With {@link AoservProtocol.CommandID#LISTEN_CACHES_SELECTIVE}, the request is
+	 * followed by the count and IDs of the tables to listen for.  While listening,
+	 * the client acknowledges a synchronous invalidation with <code>true</code>, or
+	 * adds tables with <code>false</code> followed by their count and IDs.  The server
+	 * confirms each addition with this value in place of the table count.
+	 * </p>
+	 */
+	static final int LISTEN_CONFIRMED = -2;
+
+	/**
+	 * The maximum time to wait for the server to confirm a subscription update.
+	 * When not confirmed, the table is loaded anyway.
+	 */
+	private static final long LISTEN_CONFIRM_TIMEOUT = 10L * 1000;
+
+	private static final int numTables = Table.TableID.values().length;
+
+	/**
+	 * The first protocol version supporting {@link AoservProtocol.CommandID#LISTEN_CACHES_SELECTIVE}.
+	 */
+	private static final AoservProtocol.Version LISTEN_CACHES_SELECTIVE_VERSION = AoservProtocol.Version.VERSION_1_84_22;
+
+	/**
+	 * The protocol version used when the server rejects {@link AoservProtocol.Version#CURRENT_VERSION}.
+	 * Masters speaking this version are sent {@link AoservProtocol.CommandID#LISTEN_CACHES} for all tables.
+	 */
+	private static final AoservProtocol.Version FALLBACK_VERSION = AoservProtocol.Version.VERSION_1_84_13;
+
 	class CacheMonitor extends Thread {
 
 		CacheMonitor() {
@@ -107,16 +140,37 @@ public class TCPConnector extends AOServConnector {
 						try (SocketConnection conn = getConnection(1)) {
 							try {
 								//System.err.println("DEBUG: TCPConnector("+connectAs+"-"+getConnectorId()+").CacheMonitor: run: conn.identityHashCode="+System.identityHashCode(conn));
-								StreamableOutput out = conn.getRequestOut(AoservProtocol.CommandID.LISTEN_CACHES);
-								// TODO: Only listen for caches on tables where there is either something currently cached
-								// TODO: (how to handle shared caches of global cached tables?) or where there is
-								// TODO: at least one registered table listener.  Otherwise the cache signals are
-								// TODO: of no value.
-								// TODO:
-								// TODO: This would also help a connector shutdown be meaningful after clearCaches()
-								// TODO: As-is, the connector may continue to receive incoming cache notifications,
-								// TODO: Thus keeping itself active potentially forever.
-								out.flush();
+								StreamableOutput out;
+								if(conn.getVersion().compareTo(LISTEN_CACHES_SELECTIVE_VERSION) < 0) {
+									// Older masters send invalidations for all tables
+									out = conn.getRequestOut(AoservProtocol.CommandID.LISTEN_CACHES);
+									synchronized(listenLock) {
+										out.flush();
+										boolean[] all = new boolean[numTables];
+										Arrays.fill(all, true);
+										listening = all;
+									}
+								} else {
+									out = conn.getRequestOut(AoservProtocol.CommandID.LISTEN_CACHES_SELECTIVE);
+									// Only listen for tables that have been loaded or have a listener.  Tables are added
+									// before they are loaded, and the subscription starts over with only the tables having
+									// listeners each time the cache monitor reconnects.
+									synchronized(listenLock) {
+										boolean[] current = listening;
+										int count = 0;
+										for(boolean listen : current) {
+											if(listen) count++;
+										}
+										out.writeCompressedInt(count);
+										for(int i = 0; i < numTables; i++) {
+											if(current[i]) out.writeCompressedInt(i);
+										}
+										out.flush();
+										listenOut = out;
+										listenUpdatesSent = 0;
+										listenUpdatesConfirmed = 0;
+									}
+								}
 
 								StreamableInput in = conn.getResponseIn();
 								IntList tableList=new IntArrayList();
@@ -148,7 +202,12 @@ public class TCPConnector extends AOServConnector {
 										tableList.clear();
 										boolean isSynchronous = in.readBoolean();
 										int size = in.readCompressedInt();
-										if(size!=-1) {
+										if(size == LISTEN_CONFIRMED) {
+											synchronized(listenLock) {
+												listenUpdatesConfirmed++;
+												listenLock.notifyAll();
+											}
+										} else if(size!=-1) {
 											for(int c=0;c<size;c++) {
 												int tableID=in.readCompressedInt();
 												tableList.add(tableID);
@@ -157,12 +216,24 @@ public class TCPConnector extends AOServConnector {
 										// No tables listed for "ping"
 										if(!tableList.isEmpty()) tablesUpdated(tableList);
 										if(isSynchronous) {
-											out.writeBoolean(true);
-											out.flush();
+											synchronized(listenLock) {
+												out.writeBoolean(true);
+												out.flush();
+											}
 										}
 									}
 								}
 							} finally {
+								// Caches are cleared after disconnecting, so start over with only the tables having listeners
+								synchronized(listenLock) {
+									listenOut = null;
+									boolean[] withListeners = new boolean[numTables];
+									for(AOServTable<?, ?> table : getTables()) {
+										if(table.hasAnyTableListener()) withListeners[table.getTableID().ordinal()] = true;
+									}
+									listening = withListeners;
+									listenLock.notifyAll();
+								}
 								// Force closed - no reuse after this normally neverending command
 								Throwable t0 = conn.abort(null);
 								if(t0 != null) {
@@ -244,6 +315,30 @@ public class TCPConnector extends AOServConnector {
 	private long connectionLastUsed;
 	private CacheMonitor cacheMonitor;
 
+	private static class ListenLock {}
+	/**
+	 * Protects writes to the cache monitor connection and the subscription state.
+	 */
+	final private ListenLock listenLock = new ListenLock();
+
+	/**
+	 * The tables being listened for, indexed by table ID.  Copy-on-write so
+	 * the common case of an already listened table does not lock.
+	 */
+	private volatile boolean[] listening = new boolean[numTables];
+
+	/**
+	 * The output of the current cache monitor connection, or <code>null</code> when not connected.
+	 */
+	private StreamableOutput listenOut;
+	private long listenUpdatesSent;
+	private long listenUpdatesConfirmed;
+
+	/**
+	 * The protocol version accepted by the server, or <code>null</code> until first connected.
+	 */
+	private volatile AoservProtocol.Version protocolVersion;
+
 	protected TCPConnector(
 		HostAddress hostname,
 		com.aoapps.net.InetAddress local_ip,
@@ -271,6 +366,95 @@ public class TCPConnector extends AOServConnector {
 		}
 	}
 
+	@Override
+	void listenFor(Table.TableID tableID) {
+		try {
+			listenFor(tableID, false);
+		} catch(InterruptedIOException e) {
+			throw new AssertionError("Not waiting", e);
+		}
+	}
+
+	@Override
+	void listenForBeforeLoad(Table.TableID tableID) throws InterruptedIOException {
+		listenFor(tableID, true);
+	}
+
+	/**
+	 * Checks if this connector listens for invalidations of the given table.
+	 */
+	boolean isListeningFor(Table.TableID tableID) {
+		return listening[tableID.ordinal()];
+	}
+
+	private void listenFor(Table.TableID tableID, boolean wait) throws InterruptedIOException {
+		int ordinal = tableID.ordinal();
+		if(listening[ordinal]) return;
+		synchronized(listenLock) {
+			boolean[] current = listening;
+			if(current[ordinal]) return;
+			boolean[] copy = current.clone();
+			copy[ordinal] = true;
+			listening = copy;
+			StreamableOutput out = listenOut;
+			// Included in the subscription once the cache monitor connects
+			if(out == null) return;
+			try {
+				out.writeBoolean(false);
+				out.writeCompressedInt(1);
+				out.writeCompressedInt(ordinal);
+				out.flush();
+			} catch(IOException e) {
+				// The cache monitor will reconnect and clear the caches
+				getLogger().log(Level.FINE, null, e);
+				return;
+			}
+			long update = ++listenUpdatesSent;
+			// The cache monitor delivers the confirmation, so it must never wait for it
+			if(!wait || Thread.currentThread() instanceof CacheMonitor) return;
+			long startTime = System.currentTimeMillis();
+			while(listenOut == out && listenUpdatesConfirmed < update) {
+				long timeSince = System.currentTimeMillis() - startTime;
+				if(timeSince < 0 || timeSince >= LISTEN_CONFIRM_TIMEOUT) {
+					getLogger().log(Level.WARNING, "Subscription not confirmed by server: {0}", tableID);
+					return;
+				}
+				try {
+					listenLock.wait(LISTEN_CONFIRM_TIMEOUT - timeSince);
+				} catch(InterruptedException err) {
+					InterruptedIOException ioErr = new InterruptedIOException();
+					ioErr.initCause(err);
+					throw ioErr;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a new connection to the server.  The first connection offers
+	 * {@link AoservProtocol.Version#CURRENT_VERSION} and, when rejected, retries with
+	 * {@link #FALLBACK_VERSION}.  The accepted version is used from then on.
+	 */
+	SocketConnection newSocketConnection() throws InterruptedIOException, IOException {
+		AoservProtocol.Version version = protocolVersion;
+		if(version != null) return new SocketConnection(this, version);
+		SocketConnection conn;
+		try {
+			conn = new SocketConnection(this, AoservProtocol.Version.CURRENT_VERSION);
+		} catch(SocketConnection.RejectedException e) {
+			try {
+				conn = new SocketConnection(this, FALLBACK_VERSION);
+			} catch(SocketConnection.RejectedException e2) {
+				// Rejected for another reason, such as authentication
+				e.addSuppressed(e2);
+				throw e;
+			}
+			getLogger().log(Level.INFO, "Server rejected protocol {0}, using {1}", new Object[] {AoservProtocol.Version.CURRENT_VERSION.getVersion(), FALLBACK_VERSION.getVersion()});
+		}
+		protocolVersion = conn.getVersion();
+		return conn;
+	}
+
 	@Override
 	protected final SocketConnection getConnection(int maxConnections) throws InterruptedIOException, IOException {
 		if(SwingUtilities.isEventDispatchThread()) {
@@ -388,16 +572,18 @@ public class TCPConnector extends AOServConnector {
 	@Override
 	public AOServConnector switchUsers(User.Name username) throws IOException {
 		if(username.equals(connectAs)) return this;
-		return getTCPConnector(
-			hostname,
-			local_ip,
-			port,
-			username,
-			authenticateAs,
-			password,
-			daemonServer,
-			poolSize,
-			maxConnectionAge
+		return inheritColumnar(
+			getTCPConnector(
+				hostname,
+				local_ip,
+				port,
+				username,
+				authenticateAs,
+				password,
+				daemonServer,
+				poolSize,
+				maxConnectionAge
+			)
 		);
 	}
 
@@ -0,0 +1,42 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+/**
+ * Notified with the rows inserted, updated, and removed each time a cached
+ * table is reloaded after being updated, so that a listener may update
+ * incrementally instead of reading and comparing the full table itself.
+ *
+ * @see  AOServTable#addTableChangeListener(com.aoindustries.aoserv.client.TableChangeListener, long)
+ *
+ * @author  AO Industries, Inc.
+ */
+@FunctionalInterface
+public interface TableChangeListener<V extends AOServObject<?, ?>> {
+
+	/**
+	 * Called with the changes since the previous call, or since registered.
+	 * Only called when there is at least one change.
+	 */
+	void tableChanged(TableChanges<V> changes);
+}
@@ -0,0 +1,133 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The rows inserted, updated, and removed between two loads of a table, matched
+ * by {@linkplain AOServObject#getKey() key}.  A row is updated when any of its
+ * columns changed.
+ *
+ * @see  TableChangeListener
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class TableChanges<V extends AOServObject<?, ?>> {
+
+	/**
+	 * Compares two snapshots of the given table.
+	 */
+	static <V extends AOServObject<?, ?>> TableChanges<V> diff(AOServTable<?, ?> table, TableSnapshot<V> from, TableSnapshot<V> to) throws IOException, SQLException {
+		AOServConnector connector = table.getConnector();
+		int columns = table.getTableSchema().getSchemaColumns(connector).size();
+		List<V> previous = from.getRows();
+		Map<Object, V> previousByKey = new HashMap<>((previous.size() * 4 + 2) / 3);
+		for(V row : previous) {
+			previousByKey.put(row.getKey(), row);
+		}
+		List<V> inserted = new ArrayList<>();
+		List<V> updated = new ArrayList<>();
+		// In the default order of the new rows
+		for(V row : to.getRows()) {
+			V old = previousByKey.remove(row.getKey());
+			if(old == null) {
+				inserted.add(row);
+			} else if(old != row) {
+				for(int col = 0; col < columns; col++) {
+					if(!Objects.equals(old.getColumn(col), row.getColumn(col))) {
+						updated.add(row);
+						break;
+					}
+				}
+			}
+		}
+		List<V> removed;
+		if(previousByKey.isEmpty()) {
+			removed = Collections.emptyList();
+		} else {
+			// In the default order of the previous rows
+			removed = new ArrayList<>(previousByKey.size());
+			for(V row : previous) {
+				if(previousByKey.containsKey(row.getKey())) removed.add(row);
+			}
+		}
+		return new TableChanges<>(table, inserted, updated, removed);
+	}
+
+	private final AOServTable<?, ?> table;
+	private final List<V> inserted;
+	private final List<V> updated;
+	private final List<V> removed;
+
+	private TableChanges(AOServTable<?, ?> table, List<V> inserted, List<V> updated, List<V> removed) {
+		this.table = table;
+		this.inserted = inserted.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(inserted);
+		this.updated = updated.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(updated);
+		this.removed = removed.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(removed);
+	}
+
+	@Override
+	public String toString() {
+		return table.getTableID() + ": " + inserted.size() + " inserted, " + updated.size() + " updated, " + removed.size() + " removed";
+	}
+
+	public AOServTable<?, ?> getTable() {
+		return table;
+	}
+
+	/**
+	 * Gets the rows that were inserted, in default order.
+	 */
+	public List<V> getInserted() {
+		return inserted;
+	}
+
+	/**
+	 * Gets the new version of the rows that were updated, in default order.
+	 */
+	public List<V> getUpdated() {
+		return updated;
+	}
+
+	/**
+	 * Gets the last version of the rows that were removed, in their previous default order.
+	 */
+	public List<V> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Checks if there are no changes.
+	 */
+	public boolean isEmpty() {
+		return inserted.isEmpty() && updated.isEmpty() && removed.isEmpty();
+	}
+}
@@ -0,0 +1,694 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.collections.AoCollections;
+import com.aoindustries.aoserv.client.schema.Table;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An immutable set of rows loaded from the server, along with the hashes
+ * and indexes built from those rows.  The hashes and indexes are built
+ * lazily on first use of each column and then published for lock-free reads.
+ * A new snapshot is created on each reload; a snapshot is never modified
+ * after its rows are set, so readers holding a reference are never affected
+ * by a concurrent invalidation.
+ * <p>
+ * Columns of <code>int</code> or <code>long</code> values are indexed by
+ * {@link IntIndex} or {@link LongIndex}, avoiding a boxed key per row.
+ * </p>
+ * <p>
+ * When created from {@link ColumnarRows}, all lookups are answered from the
+ * columnar storage instead, and only the matching rows are materialized.
+ * </p>
+ * <p>
+ * The rows are kept in the order loaded, and are only sorted into the default
+ * order of the table when first needed: by {@link #getRows()}, or to build a
+ * non-unique index, whose lists are in default order.  Unique lookups and
+ * {@link #size()} never sort.  The default order may join through the columns
+ * of other tables, loading them, so the rows are sorted without holding any
+ * lock and the first sort to finish is published.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class TableSnapshot<V extends AOServObject<?, ?>> {
+
+	private static final Object[] EMPTY = new Object[0];
+
+	/**
+	 * Marks a column that contains values other than the primitive type of the index.
+	 */
+	private static final Object NOT_PRIMITIVE = new Object();
+
+	/**
+	 * The rows in the order loaded.
+	 */
+	private final List<V> rows;
+
+	/**
+	 * The table used to sort the rows into their default order, or
+	 * <code>null</code> once sorted.  Cleared after {@link #defaultOrder} is set.
+	 */
+	private volatile AOServTable<?, ?> sortTable;
+
+	/**
+	 * The rows in their default order.
+	 */
+	private static final class DefaultOrder<V extends AOServObject<?, ?>> {
+
+		private final List<V> rows;
+
+		/**
+		 * For columnar rows in a table with a default order, the row at each
+		 * position of the default order and the position of each row, or
+		 * <code>null</code> when not sorted.
+		 */
+		private final int[] order;
+		private final int[] rank;
+
+		private DefaultOrder(List<V> rows, int[] order, int[] rank) {
+			this.rows = rows;
+			this.order = order;
+			this.rank = rank;
+		}
+	}
+
+	/**
+	 * The rows in their default order, or <code>null</code> until first needed.
+	 */
+	private final AtomicReference<DefaultOrder<V>> defaultOrder = new AtomicReference<>();
+
+	/**
+	 * The columnar storage of the rows, or <code>null</code> when stored as objects.
+	 */
+	private final ColumnarRows<V> columnar;
+
+	private final long loadedTime;
+
+	/**
+	 * The unique hashes, indexed by column, published copy-on-write.
+	 * Each element is a <code>Map&lt;Object, V&gt;</code> or <code>null</code> when not yet hashed.
+	 */
+	private volatile Object[] uniqueHashes = EMPTY;
+
+	/**
+	 * The non-unique indexes, indexed by column, published copy-on-write.
+	 * Each element is a <code>Map&lt;Object, List&lt;V&gt;&gt;</code> or <code>null</code> when not yet indexed.
+	 * All of the contained lists are unmodifiable.
+	 */
+	private volatile Object[] indexHashes = EMPTY;
+
+	/**
+	 * The unique <code>int</code> indexes, indexed by column, published copy-on-write.
+	 * Each element is an <code>IntIndex&lt;V&gt;</code>, {@link #NOT_PRIMITIVE},
+	 * or <code>null</code> when not yet indexed.
+	 */
+	private volatile Object[] intUniqueIndexes = EMPTY;
+
+	/**
+	 * The non-unique <code>int</code> indexes, indexed by column, published copy-on-write.
+	 * Each element is an <code>IntIndex&lt;List&lt;V&gt;&gt;</code>, {@link #NOT_PRIMITIVE},
+	 * or <code>null</code> when not yet indexed.
+	 */
+	private volatile Object[] intIndexes = EMPTY;
+
+	/**
+	 * The unique <code>long</code> indexes, indexed by column, published copy-on-write.
+	 * Each element is a <code>LongIndex&lt;V&gt;</code>, {@link #NOT_PRIMITIVE},
+	 * or <code>null</code> when not yet indexed.
+	 */
+	private volatile Object[] longUniqueIndexes = EMPTY;
+
+	/**
+	 * The composite indexes, published copy-on-write.
+	 * Each value is a <code>Map&lt;CompositeIndex.Key, V&gt;</code> when unique or
+	 * a <code>Map&lt;CompositeIndex.Key, List&lt;V&gt;&gt;</code> otherwise.
+	 */
+	private volatile Map<CompositeIndex, Map<CompositeIndex.Key, ?>> compositeIndexes = Collections.emptyMap();
+
+	/**
+	 * The range indexes, published copy-on-write.
+	 */
+	private volatile Map<RangeIndex<?>, RangeIndex.Sorted<?, V>> rangeIndexes = Collections.emptyMap();
+
+	/**
+	 * @param  table  the table used to sort the rows into their default order
+	 * @param  rows   the rows, not yet sorted, which must no longer be modified by the caller
+	 */
+	TableSnapshot(AOServTable<?, ?> table, List<V> rows, long loadedTime) {
+		this.rows = Collections.unmodifiableList(rows);
+		this.sortTable = table;
+		this.columnar = null;
+		this.loadedTime = loadedTime;
+	}
+
+	/**
+	 * @param  table     the table used to sort the rows into their default order
+	 * @param  columnar  the rows, not yet sorted
+	 */
+	TableSnapshot(AOServTable<?, ?> table, ColumnarRows<V> columnar, long loadedTime) {
+		this.rows = Collections.unmodifiableList(columnar);
+		this.sortTable = table;
+		this.columnar = columnar;
+		this.loadedTime = loadedTime;
+	}
+
+	/**
+	 * Gets the columnar storage of the rows, or <code>null</code> when stored as objects.
+	 */
+	ColumnarRows<V> getColumnar() {
+		return columnar;
+	}
+
+	/**
+	 * Gets the unmodifiable list of all rows in their default order, sorting on first use.
+	 */
+	List<V> getRows() throws IOException, SQLException {
+		return getDefaultOrder().rows;
+	}
+
+	private DefaultOrder<V> getDefaultOrder() throws IOException, SQLException {
+		DefaultOrder<V> sorted = defaultOrder.get();
+		if(sorted == null) sorted = sort();
+		return sorted;
+	}
+
+	/**
+	 * Sorts the rows into their default order without holding any lock.
+	 * Concurrent callers may each sort, and the first to finish is kept.
+	 */
+	private DefaultOrder<V> sort() throws IOException, SQLException {
+		AOServTable<?, ?> table = sortTable;
+		if(table == null) {
+			// Cleared only once sorted
+			return defaultOrder.get();
+		}
+		DefaultOrder<V> sorted;
+		if(rows.size() < 2 || table.getDefaultOrderBySQLExpressions() == null) {
+			// Already in order
+			sorted = new DefaultOrder<>(rows, null, null);
+		} else if(columnar == null) {
+			List<V> list = new ArrayList<>(rows);
+			table.sortDefault(list);
+			sorted = new DefaultOrder<>(Collections.unmodifiableList(list), null, null);
+		} else {
+			// Sort the materialized rows, then keep only their order
+			int size = columnar.size();
+			List<V> list = new ArrayList<>(columnar);
+			Map<V, Integer> rowOf = new IdentityHashMap<>(size);
+			for(int row = 0; row < size; row++) {
+				rowOf.put(list.get(row), row);
+			}
+			table.sortDefault(list);
+			int[] order = new int[size];
+			int[] rank = new int[size];
+			for(int pos = 0; pos < size; pos++) {
+				int row = rowOf.get(list.get(pos));
+				order[pos] = row;
+				rank[row] = pos;
+			}
+			sorted = new DefaultOrder<>(columnar.view(order), order, rank);
+		}
+		if(!defaultOrder.compareAndSet(null, sorted)) sorted = defaultOrder.get();
+		sortTable = null;
+		return sorted;
+	}
+
+	/**
+	 * Gets the number of rows, without sorting.
+	 */
+	int size() {
+		return rows.size();
+	}
+
+	/**
+	 * Estimates the heap retained by the rows, then by the hashes, indexes, and
+	 * sort order beyond the rows.
+	 */
+	HeapEstimate estimate(Table.TableID tableID, HeapEstimator estimator) {
+		long rowBytes = estimator.add(columnar != null ? columnar : rows);
+		long indexBytes = 0;
+		DefaultOrder<V> sorted = defaultOrder.get();
+		if(sorted != null) {
+			if(sorted.rows != rows) indexBytes += estimator.add(sorted.rows);
+			indexBytes += estimator.add(sorted.order);
+			indexBytes += estimator.add(sorted.rank);
+		}
+		indexBytes += estimator.add(uniqueHashes);
+		indexBytes += estimator.add(indexHashes);
+		indexBytes += estimator.add(intUniqueIndexes);
+		indexBytes += estimator.add(intIndexes);
+		indexBytes += estimator.add(longUniqueIndexes);
+		indexBytes += estimator.add(compositeIndexes);
+		indexBytes += estimator.add(rangeIndexes);
+		return new HeapEstimate(tableID, rows.size(), rowBytes, indexBytes);
+	}
+
+	/**
+	 * Puts the given columnar rows into their default order, sorting on first use.
+	 */
+	private int[] inDefaultOrder(int[] found) throws IOException, SQLException {
+		if(found.length < 2) return found;
+		int[] r = getDefaultOrder().rank;
+		if(r == null) return found;
+		long[] packed = new long[found.length];
+		for(int i = 0; i < found.length; i++) {
+			int row = found[i];
+			packed[i] = ((long)r[row] << 32) | row;
+		}
+		Arrays.sort(packed);
+		int[] sorted = new int[found.length];
+		for(int i = 0; i < found.length; i++) {
+			sorted[i] = (int)packed[i];
+		}
+		return sorted;
+	}
+
+	long getLoadedTime() {
+		return loadedTime;
+	}
+
+	/**
+	 * Gets the row with the given unique value, hashing the column on first use.
+	 */
+	V getUniqueRow(AOServTable<?, ?> table, int col, Object value) throws IOException, SQLException {
+		if(columnar != null) return getUniqueRowColumnar(table, col, value);
+		if(value instanceof Integer) return getUniqueRow(table, col, ((Integer)value).intValue());
+		if(value instanceof Long) return getUniqueRow(table, col, ((Long)value).longValue());
+		return getUniqueRowObject(table, col, value);
+	}
+
+	private V getUniqueRowColumnar(AOServTable<?, ?> table, int col, Object value) throws IOException, SQLException {
+		int[] found = columnar.find(col, value);
+		if(found.length == 0) return null;
+		if(found.length > 1) throw newDuplicateException(table, col, value);
+		return columnar.get(found[0]);
+	}
+
+	private V getUniqueRowObject(AOServTable<?, ?> table, int col, Object value) throws IOException, SQLException {
+		Object[] hashes = uniqueHashes;
+		@SuppressWarnings("unchecked")
+		Map<Object, V> map = col < hashes.length ? (Map<Object, V>)hashes[col] : null;
+		if(map == null) map = buildUniqueHash(table, col);
+		return map.get(value);
+	}
+
+	private synchronized Map<Object, V> buildUniqueHash(AOServTable<?, ?> table, int col) throws IOException, SQLException {
+		Object[] hashes = uniqueHashes;
+		if(col < hashes.length) {
+			@SuppressWarnings("unchecked")
+			Map<Object, V> existing = (Map<Object, V>)hashes[col];
+			if(existing != null) return existing;
+		}
+		int size = rows.size();
+		// Allow 25% growth before rehash
+		Map<Object, V> map = AoCollections.newHashMap((size * 5) >> 2);
+		for(int c = 0; c < size; c++) {
+			V obj = rows.get(c);
+			Object cvalue = obj.getColumn(col);
+			if(cvalue != null) {
+				V old = map.put(cvalue, obj);
+				if(old != null) throw newDuplicateException(table, col, cvalue);
+			}
+		}
+		uniqueHashes = publish(hashes, col, map);
+		return map;
+	}
+
+	private static SQLException newDuplicateException(AOServTable<?, ?> table, int col, Object cvalue) throws IOException, SQLException {
+		return new SQLException("Duplicate unique entry for table #" + table.getTableID() + " (" + table.getTableName() + "), column " + col + ": " + cvalue);
+	}
+
+	/**
+	 * Gets the row with the given unique <code>int</code> value, indexing the column on first use.
+	 */
+	V getUniqueRow(AOServTable<?, ?> table, int col, int value) throws IOException, SQLException {
+		if(columnar != null) return getUniqueRowColumnar(table, col, value);
+		Object[] indexes = intUniqueIndexes;
+		Object index = col < indexes.length ? indexes[col] : null;
+		if(index == null) index = buildIntUniqueIndex(table, col);
+		if(index == NOT_PRIMITIVE) return getUniqueRowObject(table, col, value);
+		@SuppressWarnings("unchecked")
+		IntIndex<V> intIndex = (IntIndex<V>)index;
+		return intIndex.get(value);
+	}
+
+	/**
+	 * Finds the range of <code>int</code> values in a column.
+	 *
+	 * @return  <code>{min, max, count}</code> or <code>null</code> when the column
+	 *          contains any non-null value that is not an {@link Integer}
+	 */
+	private static int[] getIntRange(List<? extends AOServObject<?, ?>> rows, int col) {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		int count = 0;
+		for(AOServObject<?, ?> obj : rows) {
+			Object cvalue = obj.getColumn(col);
+			if(cvalue != null) {
+				if(!(cvalue instanceof Integer)) return null;
+				int i = (Integer)cvalue;
+				if(i < min) min = i;
+				if(i > max) max = i;
+				count++;
+			}
+		}
+		return new int[] {min, max, count};
+	}
+
+	private synchronized Object buildIntUniqueIndex(AOServTable<?, ?> table, int col) throws IOException, SQLException {
+		Object[] indexes = intUniqueIndexes;
+		if(col < indexes.length && indexes[col] != null) return indexes[col];
+		Object index;
+		int[] range = getIntRange(rows, col);
+		if(range == null) {
+			index = NOT_PRIMITIVE;
+		} else {
+			IntIndex<V> intIndex = new IntIndex<>(range[0], range[1], range[2]);
+			for(V obj : rows) {
+				Integer cvalue = (Integer)obj.getColumn(col);
+				if(cvalue != null) {
+					V old = intIndex.put(cvalue, obj);
+					if(old != null) throw newDuplicateException(table, col, cvalue);
+				}
+			}
+			index = intIndex;
+		}
+		intUniqueIndexes = publish(indexes, col, index);
+		return index;
+	}
+
+	/**
+	 * Gets the row with the given unique <code>long</code> value, indexing the column on first use.
+	 */
+	V getUniqueRow(AOServTable<?, ?> table, int col, long value) throws IOException, SQLException {
+		if(columnar != null) return getUniqueRowColumnar(table, col, value);
+		Object[] indexes = longUniqueIndexes;
+		Object index = col < indexes.length ? indexes[col] : null;
+		if(index == null) index = buildLongUniqueIndex(table, col);
+		if(index == NOT_PRIMITIVE) return getUniqueRowObject(table, col, value);
+		@SuppressWarnings("unchecked")
+		LongIndex<V> longIndex = (LongIndex<V>)index;
+		return longIndex.get(value);
+	}
+
+	private synchronized Object buildLongUniqueIndex(AOServTable<?, ?> table, int col) throws IOException, SQLException {
+		Object[] indexes = longUniqueIndexes;
+		if(col < indexes.length && indexes[col] != null) return indexes[col];
+		Object index = null;
+		int count = 0;
+		for(V obj : rows) {
+			Object cvalue = obj.getColumn(col);
+			if(cvalue != null) {
+				if(!(cvalue instanceof Long)) {
+					index = NOT_PRIMITIVE;
+					break;
+				}
+				count++;
+			}
+		}
+		if(index == null) {
+			LongIndex<V> longIndex = new LongIndex<>(count);
+			for(V obj : rows) {
+				Long cvalue = (Long)obj.getColumn(col);
+				if(cvalue != null) {
+					V old = longIndex.put(cvalue, obj);
+					if(old != null) throw newDuplicateException(table, col, cvalue);
+				}
+			}
+			index = longIndex;
+		}
+		longUniqueIndexes = publish(indexes, col, index);
+		return index;
+	}
+
+	/**
+	 * Gets the unmodifiable list of rows with the given value, indexing the column on first use.
+	 */
+	List<V> getIndexedRows(int col, Object value) throws IOException, SQLException {
+		if(columnar != null) return columnar.getRows(inDefaultOrder(columnar.find(col, value)));
+		if(value instanceof Integer) return getIndexedRows(col, ((Integer)value).intValue());
+		return getIndexedRowsObject(col, value);
+	}
+
+	private List<V> getIndexedRowsObject(int col, Object value) throws IOException, SQLException {
+		Object[] indexes = indexHashes;
+		@SuppressWarnings("unchecked")
+		Map<Object, List<V>> map = col < indexes.length ? (Map<Object, List<V>>)indexes[col] : null;
+		if(map == null) map = buildIndex(col, getRows());
+		List<V> list = map.get(value);
+		if(list == null) return Collections.emptyList();
+		return list;
+	}
+
+	/**
+	 * @param  sorted  the rows in default order, sorted before locking
+	 */
+	private synchronized Map<Object, List<V>> buildIndex(int col, List<V> sorted) {
+		Object[] indexes = indexHashes;
+		if(col < indexes.length) {
+			@SuppressWarnings("unchecked")
+			Map<Object, List<V>> existing = (Map<Object, List<V>>)indexes[col];
+			if(existing != null) return existing;
+		}
+		// Build the modifiable lists in a temporary Map, in default order
+		Map<Object, List<V>> map = new HashMap<>();
+		for(V obj : sorted) {
+			Object cvalue = obj.getColumn(col);
+			List<V> list = map.get(cvalue);
+			if(list == null) map.put(cvalue, list = new ArrayList<>());
+			list.add(obj);
+		}
+		// Wrap each of the newly-created indexes to be unmodifiable
+		for(Map.Entry<Object, List<V>> entry : map.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+		indexHashes = publish(indexes, col, map);
+		return map;
+	}
+
+	/**
+	 * Gets the unmodifiable list of rows with the given <code>int</code> value, indexing the column on first use.
+	 */
+	List<V> getIndexedRows(int col, int value) throws IOException, SQLException {
+		if(columnar != null) return columnar.getRows(inDefaultOrder(columnar.find(col, value)));
+		Object[] indexes = intIndexes;
+		Object index = col < indexes.length ? indexes[col] : null;
+		if(index == null) index = buildIntIndex(col, getRows());
+		if(index == NOT_PRIMITIVE) return getIndexedRowsObject(col, value);
+		@SuppressWarnings("unchecked")
+		IntIndex<List<V>> intIndex = (IntIndex<List<V>>)index;
+		List<V> list = intIndex.get(value);
+		if(list == null) return Collections.emptyList();
+		return list;
+	}
+
+	/**
+	 * @param  sorted  the rows in default order, sorted before locking
+	 */
+	private synchronized Object buildIntIndex(int col, List<V> sorted) {
+		Object[] indexes = intIndexes;
+		if(col < indexes.length && indexes[col] != null) return indexes[col];
+		Object index;
+		int[] range = getIntRange(sorted, col);
+		if(range == null) {
+			index = NOT_PRIMITIVE;
+		} else {
+			// Build the modifiable lists first, in default order
+			IntIndex<List<V>> intIndex = new IntIndex<>(range[0], range[1], range[2]);
+			for(V obj : sorted) {
+				Integer cvalue = (Integer)obj.getColumn(col);
+				if(cvalue != null) {
+					List<V> list = intIndex.get(cvalue);
+					if(list == null) intIndex.put(cvalue, list = new ArrayList<>());
+					list.add(obj);
+				}
+			}
+			// Wrap each of the newly-created indexes to be unmodifiable
+			intIndex.replaceAll(Collections::unmodifiableList);
+			index = intIndex;
+		}
+		intIndexes = publish(indexes, col, index);
+		return index;
+	}
+
+	/**
+	 * Gets the row with the given unique values, building the composite index on first use.
+	 */
+	V getUniqueRow(AOServTable<?, ?> table, CompositeIndex index, Object[] values) throws IOException, SQLException {
+		if(!index.isUnique()) throw new IllegalArgumentException("Index is not unique: " + index);
+		index.checkValues(values);
+		for(Object value : values) {
+			if(value == null) return null;
+		}
+		if(columnar != null) {
+			int[] found = columnar.find(index, values);
+			if(found.length == 0) return null;
+			if(found.length > 1) throw new SQLException("Duplicate unique entry for table #" + table.getTableID() + " (" + table.getTableName() + "), " + index + ": " + new CompositeIndex.Key(values));
+			return columnar.get(found[0]);
+		}
+		@SuppressWarnings("unchecked")
+		Map<CompositeIndex.Key, V> map = (Map<CompositeIndex.Key, V>)getCompositeIndex(table, index);
+		return map.get(new CompositeIndex.Key(values));
+	}
+
+	/**
+	 * Gets the unmodifiable list of rows with the given values, building the composite index on first use.
+	 */
+	List<V> getIndexedRows(AOServTable<?, ?> table, CompositeIndex index, Object[] values) throws IOException, SQLException {
+		if(index.isUnique()) {
+			V row = getUniqueRow(table, index, values);
+			return row == null ? Collections.emptyList() : Collections.singletonList(row);
+		}
+		index.checkValues(values);
+		if(columnar != null) return columnar.getRows(inDefaultOrder(columnar.find(index, values)));
+		@SuppressWarnings("unchecked")
+		Map<CompositeIndex.Key, List<V>> map = (Map<CompositeIndex.Key, List<V>>)getCompositeIndex(table, index);
+		List<V> list = map.get(new CompositeIndex.Key(values));
+		if(list == null) return Collections.emptyList();
+		return list;
+	}
+
+	private Map<CompositeIndex.Key, ?> getCompositeIndex(AOServTable<?, ?> table, CompositeIndex index) throws IOException, SQLException {
+		Map<CompositeIndex.Key, ?> map = compositeIndexes.get(index);
+		if(map == null) map = buildCompositeIndex(table, index, index.isUnique() ? null : getRows());
+		return map;
+	}
+
+	/**
+	 * @param  sorted  the rows in default order, sorted before locking, or
+	 *                 <code>null</code> for a unique index
+	 */
+	private synchronized Map<CompositeIndex.Key, ?> buildCompositeIndex(AOServTable<?, ?> table, CompositeIndex index, List<V> sorted) throws IOException, SQLException {
+		Map<CompositeIndex, Map<CompositeIndex.Key, ?>> indexes = compositeIndexes;
+		Map<CompositeIndex.Key, ?> existing = indexes.get(index);
+		if(existing != null) return existing;
+		Map<CompositeIndex.Key, ?> built;
+		if(index.isUnique()) {
+			// Allow 25% growth before rehash
+			Map<CompositeIndex.Key, V> map = AoCollections.newHashMap((rows.size() * 5) >> 2);
+			for(V obj : rows) {
+				CompositeIndex.Key key = index.getKey(obj);
+				if(key != null) {
+					V old = map.put(key, obj);
+					if(old != null) throw new SQLException("Duplicate unique entry for table #" + table.getTableID() + " (" + table.getTableName() + "), " + index + ": " + key);
+				}
+			}
+			built = map;
+		} else {
+			// Build the modifiable lists in a temporary Map, in default order
+			Map<CompositeIndex.Key, List<V>> map = new HashMap<>();
+			for(V obj : sorted) {
+				CompositeIndex.Key key = index.getKey(obj);
+				List<V> list = map.get(key);
+				if(list == null) map.put(key, list = new ArrayList<>());
+				list.add(obj);
+			}
+			// Wrap each of the newly-created indexes to be unmodifiable
+			for(Map.Entry<CompositeIndex.Key, List<V>> entry : map.entrySet()) {
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			built = map;
+		}
+		Map<CompositeIndex, Map<CompositeIndex.Key, ?>> copy = new IdentityHashMap<>(indexes);
+		copy.put(index, built);
+		compositeIndexes = copy;
+		return built;
+	}
+
+	/**
+	 * Gets the rows sorted on the given range index, sorting on first use.
+	 */
+	<T extends Comparable<? super T>> RangeIndex.Sorted<T, V> getSorted(RangeIndex<T> index) throws IOException, SQLException {
+		@SuppressWarnings("unchecked")
+		RangeIndex.Sorted<T, V> sorted = (RangeIndex.Sorted<T, V>)rangeIndexes.get(index);
+		if(sorted == null) sorted = buildSorted(index, getDefaultOrder());
+		return sorted;
+	}
+
+	/**
+	 * @param  defaultOrder  the rows in default order, sorted before locking
+	 */
+	private synchronized <T extends Comparable<? super T>> RangeIndex.Sorted<T, V> buildSorted(RangeIndex<T> index, DefaultOrder<V> defaultOrder) {
+		Map<RangeIndex<?>, RangeIndex.Sorted<?, V>> indexes = rangeIndexes;
+		@SuppressWarnings("unchecked")
+		RangeIndex.Sorted<T, V> sorted = (RangeIndex.Sorted<T, V>)indexes.get(index);
+		if(sorted == null) {
+			// Sorted from default order, so equal values remain in default order
+			sorted = columnar != null ? index.sort(columnar, defaultOrder.order) : index.sort(defaultOrder.rows);
+			Map<RangeIndex<?>, RangeIndex.Sorted<?, V>> copy = new IdentityHashMap<>(indexes);
+			copy.put(index, sorted);
+			rangeIndexes = copy;
+		}
+		return sorted;
+	}
+
+	/**
+	 * Determines if the given column is currently hashed.
+	 */
+	boolean isHashed(int col) {
+		return
+			(columnar != null && columnar.isExtracted(col))
+			|| isSet(uniqueHashes, col)
+			|| isSet(intUniqueIndexes, col)
+			|| isSet(longUniqueIndexes, col)
+		;
+	}
+
+	/**
+	 * Determines if the given column is currently indexed.
+	 */
+	boolean isIndexed(int col) {
+		return
+			(columnar != null && columnar.isExtracted(col))
+			|| isSet(indexHashes, col)
+			|| isSet(intIndexes, col)
+		;
+	}
+
+	private static boolean isSet(Object[] array, int index) {
+		if(index >= array.length) return false;
+		Object value = array[index];
+		return value != null && value != NOT_PRIMITIVE;
+	}
+
+	/**
+	 * Creates a copy of the array, grown as needed, with the given element set.
+	 */
+	private static Object[] publish(Object[] array, int index, Object value) {
+		Object[] copy = new Object[Math.max(array.length, index + 1)];
+		System.arraycopy(array, 0, copy, 0, array.length);
+		copy[index] = value;
+		return copy;
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of one table in one connector, used to find which tables
+ * to tune.  Loads, lookups, and time blocked are only recorded by
+ * {@link CachedTable}, {@link GlobalTable}, and {@link ExpiringTable}, while deliveries are recorded
+ * for the {@linkplain AOServTable#addTableListener(com.aoapps.hodgepodge.table.TableListener, long) listeners}
+ * of any table.
+ * <p>
+ * A lookup is a hit when answered from data already loaded, and a miss
+ * when it caused the table to be loaded or a row to be fetched from the server.
+ * </p>
+ *
+ * @see  AOServTable#getStatistics()
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class TableStatistics {
+
+	private static final class ColumnStatistics {
+		private final AtomicLong hits = new AtomicLong();
+		private final AtomicLong misses = new AtomicLong();
+	}
+
+	private final AtomicLong loads = new AtomicLong();
+	private final AtomicLong loadNanos = new AtomicLong();
+	private final AtomicLong maxLoadNanos = new AtomicLong();
+	private final AtomicLong lastLoadRows = new AtomicLong();
+	private final AtomicLong lastLoadBytes = new AtomicLong();
+	private final AtomicLong loadBytes = new AtomicLong();
+	private final AtomicLong sharedLoads = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final AtomicLong blockedNanos = new AtomicLong();
+	private final AtomicLong deliveries = new AtomicLong();
+	private final AtomicLong deliveryLagNanos = new AtomicLong();
+	private final AtomicLong maxDeliveryLagNanos = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong slowCalls = new AtomicLong();
+	private final AtomicLong maxCallNanos = new AtomicLong();
+	private final ConcurrentMap<Integer, ColumnStatistics> columns = new ConcurrentHashMap<>();
+
+	TableStatistics() {
+	}
+
+	/**
+	 * Records one load from the server.
+	 *
+	 * @param  bytes  the approximate number of bytes received or <code>-1</code> when unknown
+	 */
+	void loaded(long nanos, int rows, long bytes) {
+		loads.incrementAndGet();
+		loadNanos.addAndGet(nanos);
+		maxLoadNanos.accumulateAndGet(nanos, Math::max);
+		lastLoadRows.set(rows);
+		lastLoadBytes.set(bytes);
+		if(bytes > 0) loadBytes.addAndGet(bytes);
+	}
+
+	/**
+	 * Records one load that was found identical to, and now shares its rows
+	 * with, a load by another connector.
+	 */
+	void shared() {
+		sharedLoads.incrementAndGet();
+	}
+
+	/**
+	 * Records one lookup on the given column.
+	 */
+	void lookup(int col, boolean hit) {
+		Integer key = col;
+		ColumnStatistics stats = columns.get(key);
+		if(stats == null) {
+			stats = new ColumnStatistics();
+			ColumnStatistics existing = columns.putIfAbsent(key, stats);
+			if(existing != null) stats = existing;
+		}
+		(hit ? stats.hits : stats.misses).incrementAndGet();
+	}
+
+	/**
+	 * Records one invalidation.
+	 */
+	void invalidated() {
+		invalidations.incrementAndGet();
+	}
+
+	/**
+	 * Records the time blocked on the table monitor since the given {@link System#nanoTime()}.
+	 */
+	void blocked(long startNanos) {
+		long nanos = System.nanoTime() - startNanos;
+		if(nanos > 0) blockedNanos.addAndGet(nanos);
+	}
+
+	/**
+	 * Records one event that was coalesced into an event already pending for a listener.
+	 */
+	void coalesced() {
+		coalesced.incrementAndGet();
+	}
+
+	/**
+	 * Records one slow call to a listener.
+	 */
+	void slow(long nanos) {
+		slowCalls.incrementAndGet();
+		maxCallNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Records the delivery of one event to a listener.
+	 *
+	 * @param  lagNanos  the time between when the event was due and when the listener was called
+	 */
+	void delivered(long lagNanos) {
+		if(lagNanos < 0) lagNanos = 0;
+		deliveries.incrementAndGet();
+		deliveryLagNanos.addAndGet(lagNanos);
+		maxDeliveryLagNanos.accumulateAndGet(lagNanos, Math::max);
+	}
+
+	/**
+	 * Gets the number of times loaded from the server by this connector.
+	 */
+	public long getLoads() {
+		return loads.get();
+	}
+
+	/**
+	 * Gets the total time spent loading, in nanoseconds.
+	 */
+	public long getLoadNanos() {
+		return loadNanos.get();
+	}
+
+	/**
+	 * Gets the longest time spent on one load, in nanoseconds.
+	 */
+	public long getMaxLoadNanos() {
+		return maxLoadNanos.get();
+	}
+
+	/**
+	 * Gets the number of rows in the most recent load.
+	 */
+	public long getLastLoadRows() {
+		return lastLoadRows.get();
+	}
+
+	/**
+	 * Gets the approximate number of bytes received in the most recent load,
+	 * or <code>-1</code> when unknown.
+	 */
+	public long getLastLoadBytes() {
+		return lastLoadBytes.get();
+	}
+
+	/**
+	 * Gets the approximate number of bytes received in all loads.
+	 */
+	public long getLoadBytes() {
+		return loadBytes.get();
+	}
+
+	/**
+	 * Gets the number of loads that share their rows with a load by another connector.
+	 *
+	 * @see  CachedTable#setColumnar(boolean)
+	 */
+	public long getSharedLoads() {
+		return sharedLoads.get();
+	}
+
+	/**
+	 * Gets the number of invalidations received.
+	 */
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Gets the total time threads spent waiting for the table monitor, in nanoseconds.
+	 */
+	public long getBlockedNanos() {
+		return blockedNanos.get();
+	}
+
+	/**
+	 * Gets the number of events delivered to listeners.
+	 */
+	public long getDeliveries() {
+		return deliveries.get();
+	}
+
+	/**
+	 * Gets the total time events waited past their delay to be delivered, in nanoseconds.
+	 */
+	public long getDeliveryLagNanos() {
+		return deliveryLagNanos.get();
+	}
+
+	/**
+	 * Gets the longest time one event waited past its delay to be delivered, in nanoseconds.
+	 */
+	public long getMaxDeliveryLagNanos() {
+		return maxDeliveryLagNanos.get();
+	}
+
+	/**
+	 * Gets the number of events coalesced into an event already pending for a
+	 * listener that was still being called.
+	 */
+	public long getCoalesced() {
+		return coalesced.get();
+	}
+
+	/**
+	 * Gets the number of listener calls that took at least one second.
+	 */
+	public long getSlowCalls() {
+		return slowCalls.get();
+	}
+
+	/**
+	 * Gets the longest slow listener call, in nanoseconds.
+	 */
+	public long getMaxCallNanos() {
+		return maxCallNanos.get();
+	}
+
+	/**
+	 * Gets the columns that have been looked up.
+	 */
+	public SortedSet<Integer> getLookupColumns() {
+		return Collections.unmodifiableSortedSet(new TreeSet<>(columns.keySet()));
+	}
+
+	/**
+	 * Gets the number of lookups on the given column that were hits.
+	 */
+	public long getHits(int col) {
+		ColumnStatistics stats = columns.get(col);
+		return stats == null ? 0 : stats.hits.get();
+	}
+
+	/**
+	 * Gets the number of lookups on the given column that were misses.
+	 */
+	public long getMisses(int col) {
+		ColumnStatistics stats = columns.get(col);
+		return stats == null ? 0 : stats.misses.get();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deduplicates equal values read into the rows of one connector, such as
+ * strings, user names, paths, and addresses, so that each distinct value is
+ * stored once across all of its tables.  This is used instead of
+ * {@link String#intern()}, which keeps every value in the JVM-wide string table
+ * for the life of the JVM.  Values are only weakly referenced, so a value is
+ * released once no longer in any cached row.
+ * <p>
+ * Rows call {@link #dedup(java.lang.Object)} while being read.  Values are only
+ * deduplicated while a table is being loaded by a connector; at other times
+ * the value is returned unchanged.
+ * </p>
+ *
+ * @see  AOServConnector#getValuePool()
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class ValuePool {
+
+	/**
+	 * The pool of the connector currently reading rows on this thread.
+	 */
+	private static final ThreadLocal<ValuePool> current = new ThreadLocal<>();
+
+	/**
+	 * Deduplicates a value in the pool of the connector currently reading rows
+	 * on this thread.
+	 *
+	 * @return  the pooled value equal to the given value, the given value when not
+	 *          reading rows, or <code>null</code> when <code>null</code>
+	 */
+	public static <T> T dedup(T value) {
+		if(value == null) return null;
+		ValuePool pool = current.get();
+		return pool == null ? value : pool.get(value);
+	}
+
+	/**
+	 * Sets the pool used by {@link #dedup(java.lang.Object)} on this thread.
+	 *
+	 * @return  the previous pool, to be restored with {@link #exit(com.aoindustries.aoserv.client.ValuePool)}
+	 */
+	static ValuePool enter(ValuePool pool) {
+		ValuePool previous = current.get();
+		current.set(pool);
+		return previous;
+	}
+
+	/**
+	 * Restores the pool used by {@link #dedup(java.lang.Object)} on this thread.
+	 */
+	static void exit(ValuePool previous) {
+		if(previous == null) current.remove();
+		else current.set(previous);
+	}
+
+	/**
+	 * The values by class then value.  Keyed by class first since values of
+	 * different classes may be equal, such as a {@link com.aoindustries.aoserv.client.linux.User.Name}
+	 * and the {@link com.aoindustries.aoserv.client.account.User.Name} it extends.
+	 */
+	private final Map<Class<?>, Map<Object, WeakReference<Object>>> values = new HashMap<>();
+
+	private final AtomicLong lookups = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+
+	ValuePool() {
+	}
+
+	private <T> T get(T value) {
+		lookups.incrementAndGet();
+		synchronized(values) {
+			Map<Object, WeakReference<Object>> ofClass = values.get(value.getClass());
+			if(ofClass == null) {
+				ofClass = new WeakHashMap<>();
+				values.put(value.getClass(), ofClass);
+			}
+			WeakReference<Object> ref = ofClass.get(value);
+			if(ref != null) {
+				@SuppressWarnings("unchecked")
+				T existing = (T)ref.get();
+				if(existing != null) {
+					hits.incrementAndGet();
+					return existing;
+				}
+			}
+			ofClass.put(value, new WeakReference<>(value));
+			return value;
+		}
+	}
+
+	/**
+	 * Gets the number of distinct values currently in the pool.
+	 */
+	public int size() {
+		synchronized(values) {
+			int size = 0;
+			for(Map<Object, WeakReference<Object>> ofClass : values.values()) {
+				size += ofClass.size();
+			}
+			return size;
+		}
+	}
+
+	/**
+	 * Gets the number of values deduplicated.
+	 */
+	public long getLookups() {
+		return lookups.get();
+	}
+
+	/**
+	 * Gets the number of values that were replaced by an equal value already in the pool.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the fraction of values that were replaced by an equal value already
+	 * in the pool, or <code>0</code> when nothing deduplicated.
+	 */
+	public double getDedupRatio() {
+		long l = lookups.get();
+		return l == 0 ? 0 : (double)hits.get() / l;
+	}
+}
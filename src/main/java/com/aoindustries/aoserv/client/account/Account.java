@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -35,7 +35,6 @@ import com.aoapps.lang.io.FastExternalizable;
 import com.aoapps.lang.io.FastObjectInput;
 import com.aoapps.lang.io.FastObjectOutput;
 import com.aoapps.lang.util.ComparatorUtils;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.util.Internable;
 import com.aoapps.lang.validation.InvalidResult;
 import com.aoapps.lang.validation.ValidResult;
@@ -47,6 +46,7 @@ import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.SimpleAOClient;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.billing.MonthlyCharge;
 import com.aoindustries.aoserv.client.billing.NoticeLog;
 import com.aoindustries.aoserv.client.billing.NoticeLogTable;
@@ -1393,12 +1393,12 @@ final public class Account extends CachedObjectAccountNameKey<Account> implement
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey=Name.valueOf(in.readUTF()).intern();
-			contractVersion=InternUtils.intern(in.readNullUTF());
+			pkey=ValuePool.dedup(Name.valueOf(in.readUTF()));
+			contractVersion=ValuePool.dedup(in.readNullUTF());
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
 			canceled = SQLStreamables.readNullUnmodifiableTimestamp(in);
 			cancelReason=in.readNullUTF();
-			parent=InternUtils.intern(Name.valueOf(in.readNullUTF()));
+			parent=ValuePool.dedup(Name.valueOf(in.readNullUTF()));
 			can_add_backup_server=in.readBoolean();
 			can_add_businesses=in.readBoolean();
 			can_see_prices=in.readBoolean();
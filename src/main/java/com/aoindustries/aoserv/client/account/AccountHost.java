@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.email.Domain;
 import com.aoindustries.aoserv.client.email.Pipe;
@@ -187,7 +188,7 @@ final public class AccountHost extends CachedObjectIntegerKey<AccountHost> imple
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey=in.readCompressedInt();
-			accounting=Account.Name.valueOf(in.readUTF()).intern();
+			accounting=ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			server=in.readCompressedInt();
 			is_default=in.readBoolean();
 			can_control_apache=in.readBoolean();
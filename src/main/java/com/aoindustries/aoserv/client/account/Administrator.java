@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,7 +25,6 @@ package com.aoindustries.aoserv.client.account;
 import com.aoapps.collections.IntList;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.security.HashedPassword;
@@ -36,6 +35,7 @@ import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.billing.MonthlyCharge;
 import com.aoindustries.aoserv.client.billing.Transaction;
 import com.aoindustries.aoserv.client.billing.TransactionTable;
@@ -428,7 +428,7 @@ final public class Administrator extends CachedObjectUserNameKey<Administrator>
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey = User.Name.valueOf(in.readUTF()).intern();
+			pkey = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			password = SecurityStreamables.readHashedPassword(in);
 			name = in.readUTF();
 			title = in.readNullUTF();
@@ -444,8 +444,8 @@ final public class Administrator extends CachedObjectUserNameKey<Administrator>
 			address1 = in.readNullUTF();
 			address2 = in.readNullUTF();
 			city = in.readNullUTF();
-			state = InternUtils.intern(in.readNullUTF());
-			country = InternUtils.intern(in.readNullUTF());
+			state = ValuePool.dedup(in.readNullUTF());
+			country = ValuePool.dedup(in.readNullUTF());
 			zip = in.readNullUTF();
 			disable_log = in.readCompressedInt();
 			can_switch_users = in.readBoolean();
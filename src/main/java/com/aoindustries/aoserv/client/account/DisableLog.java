@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -133,8 +134,8 @@ final public class DisableLog extends CachedObjectIntegerKey<DisableLog> {
 		try {
 			pkey=in.readCompressedInt();
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
-			accounting=Account.Name.valueOf(in.readUTF()).intern();
-			disabled_by = User.Name.valueOf(in.readUTF()).intern();
+			accounting=ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			disabled_by = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			disable_reason=in.readNullUTF();
 		} catch(ValidationException e) {
 			throw new IOException(e);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,12 +26,12 @@ import com.aoapps.collections.AoCollections;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.Strings;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.payment.CountryCode;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -318,7 +318,7 @@ final public class Profile extends CachedObjectIntegerKey<Profile> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey=in.readCompressedInt();
-			accounting=Account.Name.valueOf(in.readUTF()).intern();
+			accounting=ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			priority=in.readCompressedInt();
 			name=in.readUTF();
 			isPrivate=in.readBoolean();
@@ -327,8 +327,8 @@ final public class Profile extends CachedObjectIntegerKey<Profile> {
 			address1=in.readUTF();
 			address2=in.readNullUTF();
 			city=in.readUTF();
-			state=InternUtils.intern(in.readNullUTF());
-			country=in.readUTF().intern();
+			state=ValuePool.dedup(in.readNullUTF());
+			country=ValuePool.dedup(in.readUTF());
 			zip=in.readNullUTF();
 			sendInvoice=in.readBoolean();
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
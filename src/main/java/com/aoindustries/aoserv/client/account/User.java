@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -38,6 +38,7 @@ import com.aoapps.net.Email;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.linux.Group;
 import com.aoindustries.aoserv.client.linux.PosixPath;
@@ -603,8 +604,8 @@ final public class User extends CachedObjectUserNameKey<User> implements Passwor
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey = User.Name.valueOf(in.readUTF()).intern();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
+			pkey = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			disable_log=in.readCompressedInt();
 		} catch(ValidationException e) {
 			throw new IOException(e);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,7 +24,6 @@ package com.aoindustries.aoserv.client.accounting;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.SQLUtility;
@@ -32,6 +31,7 @@ import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServObject;
 import com.aoindustries.aoserv.client.AOServTable;
 import com.aoindustries.aoserv.client.SingleTableObject;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.User;
 import com.aoindustries.aoserv.client.payment.Processor;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -196,11 +196,11 @@ final public class BankTransaction extends AOServObject<Integer, BankTransaction
 		try {
 			id = in.readCompressedInt();
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
-			account = in.readUTF().intern();
-			processor = InternUtils.intern(in.readNullUTF());
-			administrator = User.Name.valueOf(in.readUTF()).intern();
-			type = in.readUTF().intern();
-			expenseCategory = InternUtils.intern(in.readNullUTF());
+			account = ValuePool.dedup(in.readUTF());
+			processor = ValuePool.dedup(in.readNullUTF());
+			administrator = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
+			type = ValuePool.dedup(in.readUTF());
+			expenseCategory = ValuePool.dedup(in.readNullUTF());
 			description = in.readUTF();
 			checkNo = in.readNullUTF();
 			amount = in.readCompressedInt();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -36,6 +36,9 @@ import com.aoapps.sql.SQLUtility;
 import com.aoindustries.aoserv.client.AOServClientConfiguration;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.HeapEstimate;
+import com.aoindustries.aoserv.client.TableStatistics;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.User;
 import com.aoindustries.aoserv.client.linux.Group;
@@ -60,6 +63,8 @@ import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -173,8 +178,10 @@ final public class AOSH extends ShellInterpreter {
 					err.flush();
 				} else return false;
 			} else {
-				if(Command.CLEAR.equalsIgnoreCase(command)) clear(args);
+				if(Command.CACHE_STATS.equalsIgnoreCase(command)) cacheStats(args);
+				else if(Command.CLEAR.equalsIgnoreCase(command)) clear(args);
 				else if(Command.ECHO.equalsIgnoreCase(command)) echo(args);
+				else if(Command.HEAP_STATS.equalsIgnoreCase(command)) heapStats(args);
 				else if(Command.INVALIDATE.equalsIgnoreCase(command)) invalidate(args);
 				else if(Command.JOBS.equalsIgnoreCase(command)) jobs(args);
 				else if(Command.PING.equalsIgnoreCase(command)) ping(args);
@@ -219,6 +226,127 @@ final public class AOSH extends ShellInterpreter {
 		return true;
 	}
 
+	/**
+	 * Shows the statistics of all used tables, or the per-column lookups of one table.
+	 */
+	private void cacheStats(String[] args) throws IOException, SQLException {
+		if(checkRangeParamCount(Command.CACHE_STATS, args, 0, 1, err)) {
+			if(args.length == 1) {
+				List<Object[]> rows = new ArrayList<>();
+				for(AOServTable<?, ?> table : connector.getTables()) {
+					TableStatistics stats = table.getStatistics();
+					long hits = 0;
+					long misses = 0;
+					for(int col : stats.getLookupColumns()) {
+						hits += stats.getHits(col);
+						misses += stats.getMisses(col);
+					}
+					if(stats.getLoads() != 0 || stats.getInvalidations() != 0 || hits != 0 || misses != 0 || stats.getDeliveries() != 0 || stats.getCoalesced() != 0) {
+						rows.add(new Object[] {
+							table.getTableName(),
+							stats.getLoads(),
+							stats.getSharedLoads(),
+							stats.getLoadNanos() / 1000000,
+							stats.getMaxLoadNanos() / 1000000,
+							stats.getLastLoadRows(),
+							stats.getLastLoadBytes(),
+							stats.getInvalidations(),
+							stats.getBlockedNanos() / 1000000,
+							hits,
+							misses,
+							stats.getDeliveries(),
+							stats.getMaxDeliveryLagNanos() / 1000000,
+							stats.getCoalesced(),
+							stats.getSlowCalls(),
+							stats.getMaxCallNanos() / 1000000
+						});
+					}
+				}
+				SQLUtility.printTable(
+					new String[] {"table", "loads", "shared", "load_ms", "max_load_ms", "rows", "bytes", "invalidations", "blocked_ms", "hits", "misses", "deliveries", "max_lag_ms", "coalesced", "slow", "max_call_ms"},
+					rows,
+					out,
+					isInteractive(),
+					new boolean[] {false, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true}
+				);
+				ValuePool pool = connector.getValuePool();
+				out.print("value_pool: ");
+				out.print(pool.size());
+				out.print(" values, ");
+				out.print(pool.getLookups());
+				out.print(" lookups, ");
+				out.print(pool.getHits());
+				out.print(" hits, dedup ratio ");
+				out.println(String.format("%.3f", pool.getDedupRatio()));
+			} else {
+				String tableName = args[1];
+				Table schemaTable = connector.getSchema().getTable().get(tableName);
+				if(schemaTable == null) {
+					err.print("aosh: "+Command.CACHE_STATS+": unable to find table: ");
+					err.println(tableName);
+					err.flush();
+					return;
+				}
+				TableStatistics stats = schemaTable.getAOServTable(connector).getStatistics();
+				List<Object[]> rows = new ArrayList<>();
+				for(int col : stats.getLookupColumns()) {
+					rows.add(new Object[] {
+						schemaTable.getSchemaColumn(connector, col).getName(),
+						stats.getHits(col),
+						stats.getMisses(col)
+					});
+				}
+				SQLUtility.printTable(
+					new String[] {"column", "hits", "misses"},
+					rows,
+					out,
+					isInteractive(),
+					new boolean[] {false, true, true}
+				);
+			}
+			out.flush();
+		}
+	}
+
+	/**
+	 * Shows the approximate heap retained by the cache of each table, with the total for this connector.
+	 */
+	private void heapStats(String[] args) throws IOException, SQLException {
+		if(checkParamCount(Command.HEAP_STATS, args, 0, err)) {
+			List<Object[]> rows = new ArrayList<>();
+			int totalRows = 0;
+			long totalRowBytes = 0;
+			long totalIndexBytes = 0;
+			for(HeapEstimate estimate : connector.getHeapEstimates()) {
+				rows.add(new Object[] {
+					connector.getSchema().getTable().get(estimate.getTableID()).getName(),
+					estimate.getRows(),
+					estimate.getRowBytes(),
+					estimate.getIndexBytes(),
+					estimate.getTotalBytes()
+				});
+				totalRows += estimate.getRows();
+				totalRowBytes += estimate.getRowBytes();
+				totalIndexBytes += estimate.getIndexBytes();
+			}
+			rows.add(new Object[] {
+				"total",
+				totalRows,
+				totalRowBytes,
+				totalIndexBytes,
+				totalRowBytes + totalIndexBytes
+			});
+			SQLUtility.printTable(
+				new String[] {"table", "rows", "row_bytes", "index_bytes", "total_bytes"},
+				rows,
+				out,
+				isInteractive(),
+				new boolean[] {false, true, true, true, true}
+			);
+			out.flush();
+		}
+	}
+
 	private void invalidate(String[] args) throws IllegalArgumentException, SQLException, IOException {
 		if(checkRangeParamCount(Command.INVALIDATE, args, 1, 2, err)) {
 			String tableName=args[1];
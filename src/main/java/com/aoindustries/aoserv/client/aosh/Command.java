@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,9 +25,9 @@ package com.aoindustries.aoserv.client.aosh;
 import com.aoapps.hodgepodge.io.TerminalWriter;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.GlobalObjectStringKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -110,6 +110,7 @@ final public class Command extends GlobalObjectStringKey<Command> {
 		ARE_MYSQL_USER_PASSWORDS_SET = "are_mysql_user_passwords_set",
 		ARE_POSTGRES_USER_PASSWORDS_SET = "are_postgres_user_passwords_set",
 		ARE_USERNAME_PASSWORDS_SET = "are_username_passwords_set",
+		CACHE_STATS = "cache_stats",
 		//BOUNCE_TICKET = "bounce_ticket",
 		CANCEL_BUSINESS = "cancel_business",
 		//CHANGE_TICKET_ADMIN_PRIORITY = "change_ticket_admin_priority",
@@ -194,6 +195,7 @@ final public class Command extends GlobalObjectStringKey<Command> {
 		ENABLE_POSTGRES_USER = "enable_postgres_user",
 		ENABLE_USERNAME = "enable_username",
 		EXIT = "exit",
+		EXPLAIN = "explain",
 		GENERATE_ACCOUNTING = "generate_accounting",
 		GENERATE_MYSQL_DATABASE_NAME = "generate_mysql_database_name",
 		GENERATE_PACKAGE_NAME = "generate_package_name",
@@ -219,6 +221,7 @@ final public class Command extends GlobalObjectStringKey<Command> {
 		GET_ROOT_BUSINESS = "get_root_business",
 		GET_UPS_STATUS = "get_ups_status",
 		GET_VIRTUAL_SERVER_STATUS = "get_virtual_server_status",
+		HEAP_STATS = "heap_stats",
 		HELP = "help",
 		//HOLD_TICKET = "hold_ticket",
 		//INITIALIZE_HTTPD_SITE_PASSWD_FILE = "initialize_httpd_site_passwd_file",
@@ -484,10 +487,10 @@ final public class Command extends GlobalObjectStringKey<Command> {
 
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
-		pkey = in.readUTF().intern();
-		sinceVersion = in.readUTF().intern();
-		lastVersion = InternUtils.intern(in.readNullUTF());
-		table = InternUtils.intern(in.readNullUTF());
+		pkey = ValuePool.dedup(in.readUTF());
+		sinceVersion = ValuePool.dedup(in.readUTF());
+		lastVersion = ValuePool.dedup(in.readNullUTF());
+		table = ValuePool.dedup(in.readNullUTF());
 		description = in.readUTF();
 		syntax = in.readUTF();
 	}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.linux.PosixPath;
 import com.aoindustries.aoserv.client.linux.Server;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -127,7 +128,7 @@ final public class BackupPartition extends CachedObjectIntegerKey<BackupPartitio
 		try {
 			pkey=in.readCompressedInt();
 			ao_server=in.readCompressedInt();
-			path = PosixPath.valueOf(in.readUTF()).intern();
+			path = ValuePool.dedup(PosixPath.valueOf(in.readUTF()));
 			enabled=in.readBoolean();
 			quota_enabled=in.readBoolean();
 		} catch(ValidationException e) {
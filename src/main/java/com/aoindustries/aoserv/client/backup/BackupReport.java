@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -46,6 +46,9 @@ import java.sql.SQLException;
 final public class BackupReport extends AOServObject<Integer, BackupReport> implements SingleTableObject<Integer, BackupReport> {
 
 	static final int COLUMN_PKEY=0;
+	static final int COLUMN_SERVER=1;
+	static final int COLUMN_PACKAGE=2;
+	static final int COLUMN_DATE=3;
 	static final String COLUMN_DATE_name = "date";
 	static final String COLUMN_SERVER_name = "server";
 	static final String COLUMN_PACKAGE_name = "package";
@@ -86,9 +89,9 @@ final public class BackupReport extends AOServObject<Integer, BackupReport> impl
 	protected Object getColumnImpl(int i) {
 		switch(i) {
 			case COLUMN_PKEY: return pkey;
-			case 1: return server;
-			case 2: return package_id;
-			case 3: return getDate();
+			case COLUMN_SERVER: return server;
+			case COLUMN_PACKAGE: return package_id;
+			case COLUMN_DATE: return getDate();
 			case 4: return file_count;
 			case 5: return disk_size;
 			default: throw new IllegalArgumentException("Invalid index: " + i);
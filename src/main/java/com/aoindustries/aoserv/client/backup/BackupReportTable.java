@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,14 +23,14 @@
 package com.aoindustries.aoserv.client.backup;
 
 import com.aoindustries.aoserv.client.AOServConnector;
-import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.ExpiringTable;
+import com.aoindustries.aoserv.client.RangeIndex;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.net.Host;
-import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
+import java.sql.Date;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,10 +38,15 @@ import java.util.List;
  *
  * @author  AO Industries, Inc.
  */
-final public class BackupReportTable extends AOServTable<Integer, BackupReport> {
+final public class BackupReportTable extends ExpiringTable<Integer, BackupReport> {
+
+	/**
+	 * Reports are added once a day, so are kept for a few minutes unless invalidated.
+	 */
+	private static final long TIME_TO_LIVE = 5L * 60 * 1000;
 
 	BackupReportTable(AOServConnector connector) {
-		super(connector, BackupReport.class);
+		super(connector, BackupReport.class, TIME_TO_LIVE);
 	}
 
 	private static final OrderBy[] defaultOrderBy = {
@@ -70,38 +75,41 @@ final public class BackupReportTable extends AOServTable<Integer, BackupReport>
 	 * @see  #get(java.lang.Object)
 	 */
 	public BackupReport get(int pkey) throws IOException, SQLException {
-		return getObject(true, AoservProtocol.CommandID.GET_OBJECT, Table.TableID.BACKUP_REPORTS, pkey);
+		return getUniqueRow(BackupReport.COLUMN_PKEY, pkey);
 	}
 
 	public List<BackupReport> getBackupReports(Package pk) throws IOException, SQLException {
-		int package_id = pk.getPkey();
-		List<BackupReport> cached=getRows();
-		int size=cached.size();
-		List<BackupReport> matches=new ArrayList<>(size);
-		for(int c=0;c<size;c++) {
-			BackupReport br=cached.get(c);
-			if(br.getPackage_id() == package_id) matches.add(br);
-		}
-		return matches;
+		return getIndexedRows(BackupReport.COLUMN_PACKAGE, pk.getPkey());
 	}
 
 	public List<BackupReport> getBackupReports(Host host) throws IOException, SQLException {
-		int hots_id = host.getPkey();
-		List<BackupReport> cached=getRows();
-		int size=cached.size();
-		List<BackupReport> matches=new ArrayList<>(size);
-		for(int c=0;c<size;c++) {
-			BackupReport br=cached.get(c);
-			if(br.getHost_id() == hots_id) matches.add(br);
-		}
-		return matches;
+		return getIndexedRows(BackupReport.COLUMN_SERVER, host.getPkey());
 	}
 
-	@Override
-	public List<BackupReport> getRowsCopy() throws IOException, SQLException {
-		List<BackupReport> list = new ArrayList<>();
-		getObjects(true, list, AoservProtocol.CommandID.GET_TABLE, Table.TableID.BACKUP_REPORTS);
-		return list;
+	private static final RangeIndex<Date> dateIndex = new RangeIndex<>(BackupReport.COLUMN_DATE, Date.class);
+
+	/**
+	 * Gets the backup reports from <code>from</code>, inclusive, to <code>to</code>, exclusive,
+	 * ordered by date.
+	 * <p>
+	 * The full table is retrieved when expired.
+	 * </p>
+	 *
+	 * @param  from  the start date or {@code null} for no lower bound
+	 * @param  to    the end date or {@code null} for no upper bound
+	 */
+	public List<BackupReport> getBackupReportsBetween(Date from, Date to) throws IOException, SQLException {
+		return getRowsBetween(dateIndex, from, to);
+	}
+
+	/**
+	 * Gets up to the given number of most recent backup reports, ordered by date.
+	 * <p>
+	 * The full table is retrieved when expired.
+	 * </p>
+	 */
+	public List<BackupReport> getLatestBackupReports(int count) throws IOException, SQLException {
+		return getLatestRows(dateIndex, count);
 	}
 
 	@Override
@@ -110,8 +118,7 @@ final public class BackupReportTable extends AOServTable<Integer, BackupReport>
 	}
 
 	@Override
-	protected BackupReport getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
-		if(col == BackupReport.COLUMN_PKEY) return get(value);
-		throw new IllegalArgumentException("Not a unique column: " + col);
+	protected int getPrimaryKeyColumn() {
+		return BackupReport.COLUMN_PKEY;
 	}
  }
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,13 +26,13 @@ import com.aoapps.hodgepodge.io.BitRateProvider;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.util.BufferManager;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.HostAddress;
 import com.aoapps.net.InetAddress;
 import com.aoapps.net.Port;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.linux.LinuxId;
 import com.aoindustries.aoserv.client.linux.Server;
 import com.aoindustries.aoserv.client.net.Host;
@@ -214,8 +214,8 @@ final public class FileReplication extends CachedObjectIntegerKey<FileReplicatio
 			max_bit_rate = maxBitRateLong==-1 ? null : maxBitRateLong;
 			use_compression=in.readBoolean();
 			retention=in.readShort();
-			connect_address=InternUtils.intern(HostAddress.valueOf(in.readNullUTF()));
-			connect_from=InternUtils.intern(InetAddress.valueOf(in.readNullUTF()));
+			connect_address=ValuePool.dedup(HostAddress.valueOf(in.readNullUTF()));
+			connect_from=ValuePool.dedup(InetAddress.valueOf(in.readNullUTF()));
 			enabled=in.readBoolean();
 			{
 				int i = in.readCompressedInt();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -45,6 +45,7 @@ import java.sql.SQLException;
 final public class FileReplicationLog extends AOServObject<Integer, FileReplicationLog> implements SingleTableObject<Integer, FileReplicationLog> {
 
 	static final int COLUMN_PKEY = 0;
+	static final int COLUMN_START_TIME = 2;
 	static final String COLUMN_REPLICATION_name = "replication";
 	static final String COLUMN_END_TIME_name = "end_time";
 
@@ -77,7 +78,7 @@ final public class FileReplicationLog extends AOServObject<Integer, FileReplicat
 		switch(i) {
 			case COLUMN_PKEY: return pkey;
 			case 1: return replication;
-			case 2: return startTime;
+			case COLUMN_START_TIME: return startTime;
 			case 3: return endTime;
 			case 4: return scanned;
 			case 5: return updated;
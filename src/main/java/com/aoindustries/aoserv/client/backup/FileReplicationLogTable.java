@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,6 +24,7 @@ package com.aoindustries.aoserv.client.backup;
 
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.RangeIndex;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.linux.Server;
 import com.aoindustries.aoserv.client.net.Host;
@@ -31,6 +32,7 @@ import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -105,6 +107,32 @@ final public class FileReplicationLogTable extends AOServTable<Integer, FileRepl
 		return list;
 	}
 
+	private static final RangeIndex<Timestamp> startTimeIndex = new RangeIndex<>(FileReplicationLog.COLUMN_START_TIME, Timestamp.class);
+
+	/**
+	 * Gets the replication logs started from <code>from</code>, inclusive, to <code>to</code>, exclusive,
+	 * ordered by start time.
+	 * <p>
+	 * This table is not cached, so the full table is retrieved on each call.
+	 * </p>
+	 *
+	 * @param  from  the start time or {@code null} for no lower bound
+	 * @param  to    the end time or {@code null} for no upper bound
+	 */
+	public List<FileReplicationLog> getFailoverFileLogsBetween(Timestamp from, Timestamp to) throws IOException, SQLException {
+		return getRowsBetween(startTimeIndex, from, to);
+	}
+
+	/**
+	 * Gets up to the given number of most recently started replication logs, ordered by start time.
+	 * <p>
+	 * This table is not cached, so the full table is retrieved on each call.
+	 * </p>
+	 */
+	public List<FileReplicationLog> getLatestFailoverFileLogs(int count) throws IOException, SQLException {
+		return getLatestRows(startTimeIndex, count);
+	}
+
 	List<FileReplicationLog> getFailoverFileLogs(FileReplication replication, int maxRows) throws IOException, SQLException {
 		List<FileReplicationLog> list=new ArrayList<>();
 		getObjectsNoProgress(true, list, AoservProtocol.CommandID.GET_FAILOVER_FILE_LOGS_FOR_REPLICATION, replication.getPkey(), maxRows);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Money;
 import com.aoapps.lang.i18n.ThreadLocale;
 import com.aoindustries.aoserv.client.GlobalObjectStringKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -95,7 +96,7 @@ public final class Currency extends GlobalObjectStringKey<Currency> {
 
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
-		pkey = in.readUTF().intern();
+		pkey = ValuePool.dedup(in.readUTF());
 		fractionDigits = in.readShort();
 		autoEnableMinimumPayment = new Money(
 			java.util.Currency.getInstance(pkey),
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -31,6 +31,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.SQLUtility;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -204,14 +205,14 @@ final public class MonthlyCharge extends CachedObjectIntegerKey<MonthlyCharge> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			accounting = Account.Name.valueOf(in.readUTF()).intern();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
-			type = in.readUTF().intern();
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			type = ValuePool.dedup(in.readUTF());
 			description = in.readNullUTF();
 			quantity = in.readCompressedInt();
 			rate = MoneyUtil.readNullMoney(in);
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
-			created_by = User.Name.valueOf(in.readUTF()).intern();
+			created_by = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			active = in.readBoolean();
 		} catch(ValidationException e) {
 			throw new IOException(e);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -461,6 +461,19 @@ final public class MonthlyChargeTable extends CachedTableIntegerKey<MonthlyCharg
 		return getModifiableMonthlyCharges(connector.getCurrentAdministrator(), null, null);
 	}
 
+	/**
+	 * Counts the generated charges, too.
+	 */
+	@Override
+	public int size() throws IOException, SQLException {
+		return getRows().size();
+	}
+
+	@Override
+	public boolean isEmpty() throws IOException, SQLException {
+		return getRows().isEmpty();
+	}
+
 	@Override
 	public Table.TableID getTableID() {
 		return Table.TableID.MONTHLY_CHARGES;
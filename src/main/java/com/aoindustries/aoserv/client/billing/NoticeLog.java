@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.SQLUtility;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -159,10 +160,10 @@ final public class NoticeLog extends CachedObjectIntegerKey<NoticeLog> {
 		try {
 			pkey = in.readCompressedInt();
 			create_time = SQLStreamables.readUnmodifiableTimestamp(in);
-			accounting = Account.Name.valueOf(in.readUTF()).intern();
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			billing_contact = in.readUTF();
 			billing_email = Email.valueOf(in.readUTF());
-			notice_type = in.readUTF().intern();
+			notice_type = ValuePool.dedup(in.readUTF());
 			transid = in.readCompressedInt();
 		} catch(ValidationException e) {
 			throw new IOException(e);
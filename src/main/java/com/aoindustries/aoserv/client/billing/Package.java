@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -31,6 +31,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.Disablable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.DisableLog;
@@ -449,11 +450,11 @@ final public class Package extends CachedObjectIntegerKey<Package> implements Di
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey=in.readCompressedInt();
-			name = Account.Name.valueOf(in.readUTF()).intern();
-			account = Account.Name.valueOf(in.readUTF()).intern();
+			name = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			account = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			package_definition = in.readCompressedInt();
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
-			created_by = com.aoindustries.aoserv.client.account.User.Name.valueOf(in.readUTF()).intern();
+			created_by = ValuePool.dedup(com.aoindustries.aoserv.client.account.User.Name.valueOf(in.readUTF()));
 			disable_log = in.readCompressedInt();
 			email_in_burst = in.readCompressedInt();
 			email_in_rate = in.readFloat();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2005-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2005-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,12 +27,12 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Money;
 import com.aoapps.lang.math.SafeMath;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -255,16 +255,16 @@ public final class PackageDefinition extends CachedObjectIntegerKey<PackageDefin
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			accounting = Account.Name.valueOf(in.readUTF()).intern();
-			category = in.readUTF().intern();
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			category = ValuePool.dedup(in.readUTF());
 			name = in.readUTF();
 			version = in.readUTF();
 			display = in.readUTF();
 			description = in.readUTF();
 			setupFee = MoneyUtil.readNullMoney(in);
-			setup_fee_transaction_type = InternUtils.intern(in.readNullUTF());
+			setup_fee_transaction_type = ValuePool.dedup(in.readNullUTF());
 			monthlyRate = MoneyUtil.readNullMoney(in);
-			monthly_rate_transaction_type = InternUtils.intern(in.readNullUTF());
+			monthly_rate_transaction_type = ValuePool.dedup(in.readNullUTF());
 			active = in.readBoolean();
 			approved = in.readBoolean();
 		} catch(ValidationException e) {
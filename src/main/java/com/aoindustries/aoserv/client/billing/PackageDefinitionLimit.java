@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2005-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2005-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,8 +26,8 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Money;
 import com.aoapps.lang.math.SafeMath;
-import com.aoapps.lang.util.InternUtils;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -194,11 +194,11 @@ public final class PackageDefinitionLimit extends CachedObjectIntegerKey<Package
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		pkey = in.readCompressedInt();
 		package_definition = in.readCompressedInt();
-		resource = in.readUTF().intern();
+		resource = ValuePool.dedup(in.readUTF());
 		soft_limit = in.readCompressedInt();
 		hard_limit = in.readCompressedInt();
 		additionalRate = MoneyUtil.readNullMoney(in);
-		additional_transaction_type = InternUtils.intern(in.readNullUTF());
+		additional_transaction_type = ValuePool.dedup(in.readNullUTF());
 	}
 
 	@Override
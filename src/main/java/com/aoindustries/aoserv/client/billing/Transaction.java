@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,13 +27,13 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Money;
 import com.aoapps.lang.math.SafeMath;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.SQLUtility;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -60,6 +60,7 @@ import java.sql.SQLException;
 final public class Transaction extends CachedObjectIntegerKey<Transaction> {
 
 	static final int
+		COLUMN_TIME = 0,
 		COLUMN_TRANSID = 1,
 		COLUMN_ACCOUNTING = 2,
 		COLUMN_SOURCE_ACCOUNTING = 3,
@@ -293,7 +294,7 @@ final public class Transaction extends CachedObjectIntegerKey<Transaction> {
 	@SuppressWarnings("ReturnOfDateField") // UnmodifiableTimestamp
 	protected Object getColumnImpl(int i) {
 		switch(i) {
-			case 0: return time;
+			case COLUMN_TIME: return time;
 			case COLUMN_TRANSID: return pkey;
 			case COLUMN_ACCOUNTING: return accounting;
 			case COLUMN_SOURCE_ACCOUNTING: return source_accounting;
@@ -432,16 +433,16 @@ final public class Transaction extends CachedObjectIntegerKey<Transaction> {
 		try {
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
 			pkey = in.readCompressedInt();
-			accounting = Account.Name.valueOf(in.readCompressedUTF()).intern();
-			source_accounting = Account.Name.valueOf(in.readCompressedUTF()).intern();
-			username = User.Name.valueOf(in.readCompressedUTF()).intern();
-			type = in.readCompressedUTF().intern();
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readCompressedUTF()));
+			source_accounting = ValuePool.dedup(Account.Name.valueOf(in.readCompressedUTF()));
+			username = ValuePool.dedup(User.Name.valueOf(in.readCompressedUTF()));
+			type = ValuePool.dedup(in.readCompressedUTF());
 			description = in.readCompressedUTF();
 			quantity = in.readCompressedInt();
 			rate = MoneyUtil.readMoney(in);
-			payment_type = InternUtils.intern(in.readNullUTF());
+			payment_type = ValuePool.dedup(in.readNullUTF());
 			payment_info = in.readNullUTF();
-			processor = InternUtils.intern(in.readNullUTF());
+			processor = ValuePool.dedup(in.readNullUTF());
 			creditCardTransaction = in.readCompressedInt();
 			payment_confirmed = in.readByte();
 		} catch(ValidationException e) {
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,12 +25,12 @@ package com.aoindustries.aoserv.client.billing;
 import com.aoapps.hodgepodge.io.stream.Streamable;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.AOServStreamable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -245,12 +245,12 @@ final public class TransactionSearchCriteria implements AOServStreamable {
 				before = SQLStreamables.readNullUnmodifiableTimestamp(in);
 			}
 			transid = in.readCompressedInt();
-			account = InternUtils.intern(Account.Name.valueOf(in.readNullUTF()));
-			sourceAccount = InternUtils.intern(Account.Name.valueOf(in.readNullUTF()));
-			administrator = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			type = InternUtils.intern(in.readNullUTF());
+			account = ValuePool.dedup(Account.Name.valueOf(in.readNullUTF()));
+			sourceAccount = ValuePool.dedup(Account.Name.valueOf(in.readNullUTF()));
+			administrator = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			type = ValuePool.dedup(in.readNullUTF());
 			description = in.readNullUTF();
-			paymentType = InternUtils.intern(in.readNullUTF());
+			paymentType = ValuePool.dedup(in.readNullUTF());
 			paymentInfo = in.readNullUTF();
 			paymentConfirmed = in.readByte();
 			if(protocolVersion.compareTo(AoservProtocol.Version.VERSION_1_83_0) < 0) {
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -35,6 +35,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.SQLUtility;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.RangeIndex;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.aosh.AOSH;
@@ -168,6 +169,11 @@ final public class TransactionTable extends CachedTableIntegerKey<Transaction> {
 		);
 	}
 
+	@Override
+	protected int getPrimaryKeyColumn() {
+		return Transaction.COLUMN_TRANSID;
+	}
+
 	@Override
 	public Transaction get(int transid) throws IOException, SQLException {
 		return getUniqueRow(Transaction.COLUMN_TRANSID, transid);
@@ -494,6 +500,26 @@ final public class TransactionTable extends CachedTableIntegerKey<Transaction> {
 		return getIndexedRows(Transaction.COLUMN_ADMINISTRATOR, ba == null ? null : ba.getUsername_userId());
 	}
 
+	private static final RangeIndex<Timestamp> timeIndex = new RangeIndex<>(Transaction.COLUMN_TIME, Timestamp.class);
+
+	/**
+	 * Gets the transactions from <code>from</code>, inclusive, to <code>to</code>, exclusive,
+	 * ordered by time.
+	 *
+	 * @param  from  the start time or {@code null} for no lower bound
+	 * @param  to    the end time or {@code null} for no upper bound
+	 */
+	public List<Transaction> getTransactionsBetween(Timestamp from, Timestamp to) throws IOException, SQLException {
+		return getRowsBetween(timeIndex, from, to);
+	}
+
+	/**
+	 * Gets up to the given number of most recent transactions, ordered by time.
+	 */
+	public List<Transaction> getLatestTransactions(int count) throws IOException, SQLException {
+		return getLatestRows(timeIndex, count);
+	}
+
 	@Override
 	public boolean handleCommand(String[] args, Reader in, TerminalWriter out, TerminalWriter err, boolean isInteractive) throws IllegalArgumentException, IOException, SQLException {
 		String command = args[0];
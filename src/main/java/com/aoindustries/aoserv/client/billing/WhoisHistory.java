@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -47,6 +48,7 @@ final public class WhoisHistory extends CachedObjectIntegerKey<WhoisHistory> {
 
 	static final int
 		COLUMN_id = 0,
+		COLUMN_time = 2,
 		COLUMN_output = 4,
 		COLUMN_error = 5
 	;
@@ -74,7 +76,7 @@ final public class WhoisHistory extends CachedObjectIntegerKey<WhoisHistory> {
 		switch(i) {
 			case COLUMN_id: return pkey;
 			case 1: return registrableDomain;
-			case 2: return time;
+			case COLUMN_time: return time;
 			case 3: return exitStatus;
 			case COLUMN_output: return getOutput();
 			case COLUMN_error: return getError();
@@ -198,7 +200,7 @@ final public class WhoisHistory extends CachedObjectIntegerKey<WhoisHistory> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			registrableDomain = DomainName.valueOf(in.readUTF()).intern();
+			registrableDomain = ValuePool.dedup(DomainName.valueOf(in.readUTF()));
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
 			exitStatus = in.readNullInteger();
 			// Note: these are loaded in a separate call to the master as-needed to conserve heap space:
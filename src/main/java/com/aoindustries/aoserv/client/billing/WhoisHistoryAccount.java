@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -119,7 +120,7 @@ final public class WhoisHistoryAccount extends CachedObjectIntegerKey<WhoisHisto
 		try {
 			pkey = in.readCompressedInt();
 			whoisHistory = in.readCompressedInt();
-			account = Account.Name.valueOf(in.readUTF()).intern();
+			account = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2007-2013, 2016, 2017, 2018, 2020  AO Industries, Inc.
+ * Copyright (C) 2007-2013, 2016, 2017, 2018, 2020, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,9 +24,11 @@ package com.aoindustries.aoserv.client.billing;
 
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.RangeIndex;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.List;
 
 /**
@@ -36,8 +38,16 @@ import java.util.List;
  */
 final public class WhoisHistoryTable extends CachedTableIntegerKey<WhoisHistory> {
 
+	/**
+	 * The whois history is large and mostly looked up by id from
+	 * {@link WhoisHistoryAccount}, so only the most recently used entries are
+	 * kept.
+	 */
+	private static final int MAX_CACHED_ENTRIES = 1000;
+
 	WhoisHistoryTable(AOServConnector connector) {
 		super(connector, WhoisHistory.class);
+		setMaxCachedEntries(MAX_CACHED_ENTRIES);
 	}
 
 	private static final OrderBy[] defaultOrderBy = {
@@ -50,11 +60,36 @@ final public class WhoisHistoryTable extends CachedTableIntegerKey<WhoisHistory>
 		return defaultOrderBy;
 	}
 
+	@Override
+	protected int getPrimaryKeyColumn() {
+		return WhoisHistory.COLUMN_id;
+	}
+
 	@Override
 	public WhoisHistory get(int id) throws IOException, SQLException {
 		return getUniqueRow(WhoisHistory.COLUMN_id, id);
 	}
 
+	private static final RangeIndex<Timestamp> timeIndex = new RangeIndex<>(WhoisHistory.COLUMN_time, Timestamp.class);
+
+	/**
+	 * Gets the whois history from <code>from</code>, inclusive, to <code>to</code>, exclusive,
+	 * ordered by time.
+	 *
+	 * @param  from  the start time or {@code null} for no lower bound
+	 * @param  to    the end time or {@code null} for no upper bound
+	 */
+	public List<WhoisHistory> getWhoisHistoryBetween(Timestamp from, Timestamp to) throws IOException, SQLException {
+		return getRowsBetween(timeIndex, from, to);
+	}
+
+	/**
+	 * Gets up to the given number of most recent whois history entries, ordered by time.
+	 */
+	public List<WhoisHistory> getLatestWhoisHistory(int count) throws IOException, SQLException {
+		return getLatestRows(timeIndex, count);
+	}
+
 	@Override
 	public List<WhoisHistory> getIndexedRows(int col, Object value) throws IOException, SQLException {
 		if(col == WhoisHistory.COLUMN_output) throw new UnsupportedOperationException("getIndexedRows not supported for WhoisHistory.output because each access is a round-trip to the server");
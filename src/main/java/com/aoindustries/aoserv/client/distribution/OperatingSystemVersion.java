@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.GlobalObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.email.List;
 import com.aoindustries.aoserv.client.linux.PosixPath;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -152,10 +153,10 @@ final public class OperatingSystemVersion extends GlobalObjectIntegerKey<Operati
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		pkey = in.readCompressedInt();
-		operating_system = in.readUTF().intern();
+		operating_system = ValuePool.dedup(in.readUTF());
 		version_number = in.readUTF();
 		version_name = in.readUTF();
-		architecture = in.readUTF().intern();
+		architecture = ValuePool.dedup(in.readUTF());
 		display = in.readUTF();
 		is_aoserv_daemon_supported = in.readBoolean();
 		sort_order = in.readShort();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -29,6 +29,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.GlobalObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.User;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -161,7 +162,7 @@ final public class SoftwareVersion extends GlobalObjectIntegerKey<SoftwareVersio
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			name = in.readUTF().intern();
+			name = ValuePool.dedup(in.readUTF());
 			version = in.readUTF();
 			updated = SQLStreamables.readUnmodifiableTimestamp(in);
 			{
@@ -169,7 +170,7 @@ final public class SoftwareVersion extends GlobalObjectIntegerKey<SoftwareVersio
 				if(AoservProtocol.FILTERED.equals(s)) {
 					owner = null;
 				} else {
-					owner = User.Name.valueOf(s).intern();
+					owner = ValuePool.dedup(User.Name.valueOf(s));
 				}
 			}
 			operating_system_version = in.readCompressedInt();
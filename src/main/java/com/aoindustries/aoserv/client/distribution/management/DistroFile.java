@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.FilesystemCachedObject;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.distribution.OperatingSystemVersion;
 import com.aoindustries.aoserv.client.linux.Group;
 import com.aoindustries.aoserv.client.linux.PosixPath;
@@ -229,10 +230,10 @@ final public class DistroFile extends FilesystemCachedObject<Integer, DistroFile
 			operating_system_version = in.readCompressedInt();
 			path = PosixPath.valueOf(in.readCompressedUTF());
 			optional = in.readBoolean();
-			type = in.readCompressedUTF().intern();
+			type = ValuePool.dedup(in.readCompressedUTF());
 			mode = in.readLong();
-			linux_account = User.Name.valueOf(in.readCompressedUTF()).intern();
-			linux_group = Group.Name.valueOf(in.readCompressedUTF()).intern();
+			linux_account = ValuePool.dedup(User.Name.valueOf(in.readCompressedUTF()));
+			linux_group = ValuePool.dedup(Group.Name.valueOf(in.readCompressedUTF()));
 			size = in.readLong();
 			has_file_sha256 = in.readBoolean();
 			if(has_file_sha256) {
@@ -273,10 +274,10 @@ final public class DistroFile extends FilesystemCachedObject<Integer, DistroFile
 			operating_system_version = in.readInt();
 			path = PosixPath.valueOf(readChars(in));
 			optional = in.readBoolean();
-			type = readChars(in).intern();
+			type = ValuePool.dedup(readChars(in));
 			mode = in.readLong();
-			linux_account = User.Name.valueOf(readChars(in)).intern();
-			linux_group = Group.Name.valueOf(readChars(in)).intern();
+			linux_account = ValuePool.dedup(User.Name.valueOf(readChars(in)));
+			linux_group = ValuePool.dedup(Group.Name.valueOf(readChars(in)));
 			size = in.readLong();
 			has_file_sha256 = in.readBoolean();
 			if(has_file_sha256) {
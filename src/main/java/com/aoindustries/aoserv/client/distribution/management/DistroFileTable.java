@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -88,6 +88,19 @@ final public class DistroFileTable extends FilesystemCachedTable<Integer, Distro
 		;
 	}
 
+	/**
+	 * The <code>pkey</code> and <code>operating_system_version</code> are the
+	 * first two fields of each record.
+	 */
+	@Override
+	protected int getRecordOffset(int col) {
+		switch(col) {
+			case DistroFile.COLUMN_PKEY : return 0;
+			case DistroFile.COLUMN_OPERATING_SYSTEM_VERSION : return 4;
+			default : return -1;
+		}
+	}
+
 	@Override
 	public int getCachedRowCount() throws IOException, SQLException {
 		if(isLoaded()) return super.getCachedRowCount();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2014, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2014, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.net.IpAddress;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -171,13 +172,13 @@ final public class Record extends CachedObjectIntegerKey<Record> implements Remo
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		pkey        = in.readCompressedInt();
-		zone        = in.readUTF().intern();
-		domain      = in.readUTF().intern();
-		type        = in.readUTF().intern();
+		zone        = ValuePool.dedup(in.readUTF());
+		domain      = ValuePool.dedup(in.readUTF());
+		type        = ValuePool.dedup(in.readUTF());
 		priority    = in.readCompressedInt();
 		weight      = in.readCompressedInt();
 		port        = in.readCompressedInt();
-		destination = in.readUTF().intern();
+		destination = ValuePool.dedup(in.readUTF());
 		dhcpAddress = in.readCompressedInt();
 		ttl         = in.readCompressedInt();
 	}
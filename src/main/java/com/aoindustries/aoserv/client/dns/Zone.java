@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoindustries.aoserv.client.CachedObjectStringKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Dumpable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -417,10 +418,10 @@ final public class Zone extends CachedObjectStringKey<Zone> implements Removable
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey=in.readUTF().intern();
+			pkey=ValuePool.dedup(in.readUTF());
 			file=in.readUTF();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
-			hostmaster=in.readUTF().intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			hostmaster=ValuePool.dedup(in.readUTF());
 			serial=in.readLong();
 			ttl=in.readCompressedInt();
 		} catch(ValidationException e) {
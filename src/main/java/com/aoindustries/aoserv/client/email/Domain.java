@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -29,6 +29,7 @@ import com.aoapps.net.DomainName;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.dns.Record;
@@ -156,7 +157,7 @@ public final class Domain extends CachedObjectIntegerKey<Domain> implements Remo
 			pkey = in.readCompressedInt();
 			domain = DomainName.valueOf(in.readUTF());
 			ao_server = in.readCompressedInt();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
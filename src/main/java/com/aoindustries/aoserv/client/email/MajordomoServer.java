@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.linux.GroupServer;
 import com.aoindustries.aoserv.client.linux.PosixPath;
 import com.aoindustries.aoserv.client.linux.UserServer;
@@ -199,7 +200,7 @@ final public class MajordomoServer extends CachedObjectIntegerKey<MajordomoServe
 		pkey=in.readCompressedInt();
 		linux_server_account=in.readCompressedInt();
 		linux_server_group=in.readCompressedInt();
-		version=in.readUTF().intern();
+		version=ValuePool.dedup(in.readUTF());
 		majordomo_pipe_address=in.readCompressedInt();
 		owner_majordomo_add=in.readCompressedInt();
 		majordomo_owner_add=in.readCompressedInt();
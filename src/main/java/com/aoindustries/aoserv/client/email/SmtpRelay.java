@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -32,6 +32,7 @@ import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.DisableLog;
 import com.aoindustries.aoserv.client.billing.Package;
@@ -215,10 +216,10 @@ public final class SmtpRelay extends CachedObjectIntegerKey<SmtpRelay> implement
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			ao_server = in.readCompressedInt();
 			host = HostAddress.valueOf(in.readUTF());
-			type = in.readUTF().intern();
+			type = ValuePool.dedup(in.readUTF());
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
 			last_refreshed = SQLStreamables.readUnmodifiableTimestamp(in);
 			refresh_count = in.readCompressedInt();
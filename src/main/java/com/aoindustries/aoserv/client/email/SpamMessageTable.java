@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,7 +24,7 @@ package com.aoindustries.aoserv.client.email;
 
 import com.aoapps.hodgepodge.io.TerminalWriter;
 import com.aoindustries.aoserv.client.AOServConnector;
-import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.ExpiringTable;
 import com.aoindustries.aoserv.client.aosh.AOSH;
 import com.aoindustries.aoserv.client.aosh.Command;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -32,8 +32,6 @@ import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.io.Reader;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,10 +39,15 @@ import java.util.List;
  *
  * @author  AO Industries, Inc.
  */
-final public class SpamMessageTable extends AOServTable<Integer, SpamMessage> {
+final public class SpamMessageTable extends ExpiringTable<Integer, SpamMessage> {
+
+	/**
+	 * Messages are only added, so are kept for a minute unless invalidated.
+	 */
+	private static final long TIME_TO_LIVE = 60L * 1000;
 
 	SpamMessageTable(AOServConnector connector) {
-		super(connector, SpamMessage.class);
+		super(connector, SpamMessage.class, TIME_TO_LIVE);
 	}
 
 	private static final OrderBy[] defaultOrderBy = {
@@ -66,13 +69,6 @@ final public class SpamMessageTable extends AOServTable<Integer, SpamMessage> {
 		);
 	}
 
-	@Override
-	public List<SpamMessage> getRowsCopy() throws IOException, SQLException {
-		List<SpamMessage> list = new ArrayList<>();
-		getObjects(true, list, AoservProtocol.CommandID.GET_TABLE, Table.TableID.SPAM_EMAIL_MESSAGES);
-		return list;
-	}
-
 	@Override
 	public Table.TableID getTableID() {
 		return Table.TableID.SPAM_EMAIL_MESSAGES;
@@ -92,7 +88,7 @@ final public class SpamMessageTable extends AOServTable<Integer, SpamMessage> {
 	 * @see  #get(java.lang.Object)
 	 */
 	public SpamMessage get(int pkey) throws IOException, SQLException {
-		return getObject(true, AoservProtocol.CommandID.GET_OBJECT, Table.TableID.SPAM_EMAIL_MESSAGES, pkey);
+		return getUniqueRow(SpamMessage.COLUMN_PKEY, pkey);
 	}
 
 	List<SpamMessage> getSpamEmailMessages(SmtpRelay esr) throws IOException, SQLException {
@@ -100,24 +96,23 @@ final public class SpamMessageTable extends AOServTable<Integer, SpamMessage> {
 	}
 
 	List<SpamMessage> getSpamEmailMessages(int esr) throws IOException, SQLException {
-		return getObjects(true, AoservProtocol.CommandID.GET_SPAM_EMAIL_MESSAGES_FOR_EMAIL_SMTP_RELAY, esr);
+		return getIndexedRows(SpamMessage.COLUMN_EMAIL_RELAY, esr);
 	}
 
+	/**
+	 * Fetches the messages of a single relay from the server while not loaded.
+	 */
 	@Override
 	public List<SpamMessage> getIndexedRows(int col, Object value) throws IOException, SQLException {
-		if(col==SpamMessage.COLUMN_PKEY) {
-			SpamMessage sem=get(value);
-			if(sem==null) return Collections.emptyList();
-			else return Collections.singletonList(sem);
+		if(col == SpamMessage.COLUMN_EMAIL_RELAY && !isLoaded()) {
+			return getObjects(true, AoservProtocol.CommandID.GET_SPAM_EMAIL_MESSAGES_FOR_EMAIL_SMTP_RELAY, value);
 		}
-		if(col==SpamMessage.COLUMN_EMAIL_RELAY) return getSpamEmailMessages(((Integer)value));
-		throw new UnsupportedOperationException("Not an indexed column: "+col);
+		return super.getIndexedRows(col, value);
 	}
 
 	@Override
-	protected SpamMessage getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
-		if(col == SpamMessage.COLUMN_PKEY) return get(value);
-		throw new IllegalArgumentException("Not a unique column: " + col);
+	protected int getPrimaryKeyColumn() {
+		return SpamMessage.COLUMN_PKEY;
 	}
 
 	@Override
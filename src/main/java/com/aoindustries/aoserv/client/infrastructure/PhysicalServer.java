@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2008-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2008-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,8 +24,8 @@ package com.aoindustries.aoserv.client.infrastructure;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.net.Host;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -201,7 +201,7 @@ final public class PhysicalServer extends CachedObjectIntegerKey<PhysicalServer>
 		rack = in.readCompressedInt();
 		rackUnits = in.readShort();
 		ram = in.readCompressedInt();
-		processorType = InternUtils.intern(in.readNullUTF());
+		processorType = ValuePool.dedup(in.readNullUTF());
 		processorSpeed = in.readCompressedInt();
 		processorCores = in.readCompressedInt();
 		maxPower = in.readFloat();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2008-2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2008-2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,12 +24,12 @@ package com.aoindustries.aoserv.client.infrastructure;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.HostAddress;
 import com.aoapps.net.Port;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.distribution.Architecture;
 import com.aoindustries.aoserv.client.linux.Server;
 import com.aoindustries.aoserv.client.net.Host;
@@ -245,8 +245,8 @@ final public class VirtualServer extends CachedObjectIntegerKey<VirtualServer> {
 		primaryRamTarget = in.readCompressedInt();
 		secondaryRam = in.readCompressedInt();
 		secondaryRamTarget = in.readCompressedInt();
-		minimumProcessorType = InternUtils.intern(in.readNullUTF());
-		minimumProcessorArchitecture = in.readUTF().intern();
+		minimumProcessorType = ValuePool.dedup(in.readNullUTF());
+		minimumProcessorArchitecture = ValuePool.dedup(in.readUTF());
 		minimumProcessorSpeed = in.readCompressedInt();
 		minimumProcessorSpeedTarget = in.readCompressedInt();
 		processorCores = in.readShort();
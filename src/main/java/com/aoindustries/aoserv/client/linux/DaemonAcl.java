@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.dto.DtoFactory;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.HostAddress;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -96,7 +97,7 @@ public final class DaemonAcl extends CachedObjectIntegerKey<DaemonAcl>
 		try {
 			pkey = in.readCompressedInt();
 			aoServer = in.readCompressedInt();
-			host = HostAddress.valueOf(in.readUTF().intern());
+			host = ValuePool.dedup(HostAddress.valueOf(in.readUTF()));
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
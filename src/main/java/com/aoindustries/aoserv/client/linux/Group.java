@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -33,6 +33,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.lang.validation.ValidationResult;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -470,9 +471,9 @@ final public class Group extends CachedObjectGroupNameKey<Group> implements Remo
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey = Name.valueOf(in.readUTF()).intern();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
-			type=in.readUTF().intern();
+			pkey = ValuePool.dedup(Name.valueOf(in.readUTF()));
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			type=ValuePool.dedup(in.readUTF());
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.email.Domain;
 import com.aoindustries.aoserv.client.email.MajordomoServer;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -138,7 +139,7 @@ final public class GroupServer extends CachedObjectIntegerKey<GroupServer> imple
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey=in.readCompressedInt();
-			name = Group.Name.valueOf(in.readUTF()).intern();
+			name = ValuePool.dedup(Group.Name.valueOf(in.readUTF()));
 			ao_server=in.readCompressedInt();
 			gid = LinuxId.valueOf(in.readCompressedInt());
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2009, 2014, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2009, 2014, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.distribution.OperatingSystemVersion;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -138,8 +139,8 @@ final public class GroupUser extends CachedObjectIntegerKey<GroupUser> implement
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			group = Group.Name.valueOf(in.readUTF()).intern();
-			user = User.Name.valueOf(in.readUTF()).intern();
+			group = ValuePool.dedup(Group.Name.valueOf(in.readUTF()));
+			user = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			isPrimary = in.readBoolean();
 			operatingSystemVersion = in.readCompressedInt();
 		} catch(ValidationException e) {
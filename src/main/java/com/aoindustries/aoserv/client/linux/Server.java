@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2003-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2003-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,7 +30,6 @@ import com.aoapps.lang.dto.DtoFactory;
 import com.aoapps.lang.exception.WrappedException;
 import com.aoapps.lang.i18n.Resources;
 import com.aoapps.lang.util.BufferManager;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.DomainName;
 import com.aoapps.net.Email;
@@ -43,6 +42,7 @@ import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.backup.BackupPartition;
 import com.aoindustries.aoserv.client.backup.MysqlReplication;
 import com.aoindustries.aoserv.client.billing.Package;
@@ -417,12 +417,12 @@ final public class Server
 			distro_hour = in.readCompressedInt();
 			last_distro_time = SQLStreamables.readNullUnmodifiableTimestamp(in);
 			failover_server = in.readCompressedInt();
-			daemonDeviceId = InternUtils.intern(in.readNullUTF());
+			daemonDeviceId = ValuePool.dedup(in.readNullUTF());
 			daemon_connect_bind = in.readCompressedInt();
-			time_zone = in.readUTF().intern();
+			time_zone = ValuePool.dedup(in.readUTF());
 			jilter_bind = in.readCompressedInt();
 			restrict_outbound_email = in.readBoolean();
-			daemon_connect_address = InternUtils.intern(HostAddress.valueOf(in.readNullUTF()));
+			daemon_connect_address = ValuePool.dedup(HostAddress.valueOf(in.readNullUTF()));
 			failover_batch_size = in.readCompressedInt();
 			monitoring_load_low = in.readFloat();
 			monitoring_load_medium = in.readFloat();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -39,6 +39,7 @@ import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.DisableLog;
 import com.aoindustries.aoserv.client.ftp.GuestUser;
 import com.aoindustries.aoserv.client.password.PasswordChecker;
@@ -748,13 +749,13 @@ final public class User extends CachedObjectUserNameKey<User> implements Passwor
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey = Name.valueOf(in.readUTF()).intern();
+			pkey = ValuePool.dedup(Name.valueOf(in.readUTF()));
 			name = Gecos.valueOf(in.readNullUTF());
 			office_location = Gecos.valueOf(in.readNullUTF());
 			office_phone = Gecos.valueOf(in.readNullUTF());
 			home_phone = Gecos.valueOf(in.readNullUTF());
-			type = in.readUTF().intern();
-			shell = PosixPath.valueOf(in.readUTF()).intern();
+			type = ValuePool.dedup(in.readUTF());
+			shell = ValuePool.dedup(PosixPath.valueOf(in.readUTF()));
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
 			disable_log = in.readCompressedInt();
 		} catch(ValidationException e) {
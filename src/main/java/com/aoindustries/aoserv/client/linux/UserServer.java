@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -33,6 +33,7 @@ import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.DisableLog;
 import com.aoindustries.aoserv.client.email.Address;
 import com.aoindustries.aoserv.client.email.AttachmentBlock;
@@ -77,7 +78,8 @@ final public class UserServer extends CachedObjectIntegerKey<UserServer> impleme
 	static final int
 		COLUMN_PKEY=0,
 		COLUMN_USERNAME=1,
-		COLUMN_AO_SERVER=2
+		COLUMN_AO_SERVER=2,
+		COLUMN_UID=3
 	;
 	public static final String COLUMN_USERNAME_name = "username";
 	public static final String COLUMN_AO_SERVER_name = "ao_server";
@@ -220,7 +222,7 @@ final public class UserServer extends CachedObjectIntegerKey<UserServer> impleme
 			case COLUMN_PKEY: return pkey;
 			case COLUMN_USERNAME: return username;
 			case COLUMN_AO_SERVER: return ao_server;
-			case 3: return uid;
+			case COLUMN_UID: return uid;
 			case 4: return home;
 			case 5: return autoresponder_from==-1?null:autoresponder_from;
 			case 6: return autoresponder_subject;
@@ -543,7 +545,7 @@ final public class UserServer extends CachedObjectIntegerKey<UserServer> impleme
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			username = User.Name.valueOf(in.readUTF()).intern();
+			username = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			ao_server = in.readCompressedInt();
 			uid = LinuxId.valueOf(in.readCompressedInt());
 			home = PosixPath.valueOf(in.readUTF());
@@ -557,7 +559,7 @@ final public class UserServer extends CachedObjectIntegerKey<UserServer> impleme
 			use_inbox = in.readBoolean();
 			trash_email_retention = in.readCompressedInt();
 			junk_email_retention = in.readCompressedInt();
-			sa_integration_mode = in.readUTF().intern();
+			sa_integration_mode = ValuePool.dedup(in.readUTF());
 			sa_required_score = in.readFloat();
 			sa_discard_score = in.readCompressedInt();
 			sudo = in.readNullUTF();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.net.DomainName;
 import com.aoapps.sql.SQLUtility;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.CompositeIndex;
 import com.aoindustries.aoserv.client.account.DisableLog;
 import com.aoindustries.aoserv.client.aosh.AOSH;
 import com.aoindustries.aoserv.client.aosh.Command;
@@ -39,9 +40,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import javax.security.auth.login.AccountLockedException;
 import javax.security.auth.login.FailedLoginException;
 import javax.security.auth.login.LoginException;
@@ -107,17 +106,6 @@ final public class UserServerTable extends CachedTableIntegerKey<UserServer> {
 		);
 	}
 
-	@Override
-	public void clearCache() {
-		super.clearCache();
-		synchronized(uidHash) {
-			uidHashBuilt=false;
-		}
-		synchronized(nameHash) {
-			nameHashBuilt=false;
-		}
-	}
-
 	@Override
 	public UserServer get(int pkey) throws IOException, SQLException {
 		return getUniqueRow(UserServer.COLUMN_PKEY, pkey);
@@ -154,29 +142,10 @@ final public class UserServerTable extends CachedTableIntegerKey<UserServer> {
 		return matches;
 	}
 
-	private boolean nameHashBuilt=false;
-	private final Map<Integer, Map<User.Name, UserServer>> nameHash=new HashMap<>();
+	private static final CompositeIndex serverUsernameIndex = new CompositeIndex(true, UserServer.COLUMN_AO_SERVER, UserServer.COLUMN_USERNAME);
 
 	UserServer getLinuxServerAccount(Server aoServer, User.Name username) throws IOException, SQLException {
-		synchronized(nameHash) {
-			if(!nameHashBuilt) {
-				nameHash.clear();
-
-				List<UserServer> list=getRows();
-				int len=list.size();
-				for(int c=0; c<len; c++) {
-					UserServer lsa=list.get(c);
-					Integer I=lsa.getServer().getPkey();
-					Map<User.Name, UserServer> serverHash=nameHash.get(I);
-					if(serverHash==null) nameHash.put(I, serverHash=new HashMap<>());
-					if(serverHash.put(lsa.getLinuxAccount_username_id(), lsa)!=null) throw new SQLException("LinuxServerAccount username exists more than once on server: "+lsa.getLinuxAccount_username_id()+" on "+I);
-				}
-				nameHashBuilt=true;
-			}
-			Map<User.Name, UserServer> serverHash=nameHash.get(aoServer.getPkey());
-			if(serverHash==null) return null;
-			return serverHash.get(username);
-		}
+		return getUniqueRow(serverUsernameIndex, aoServer.getPkey(), username);
 	}
 
 	/**
@@ -265,34 +234,14 @@ final public class UserServerTable extends CachedTableIntegerKey<UserServer> {
 		return null;
 	}
 
-	private boolean uidHashBuilt=false;
-	private final Map<Integer, Map<LinuxId, UserServer>> uidHash=new HashMap<>();
+	private static final CompositeIndex serverUidIndex = new CompositeIndex(false, UserServer.COLUMN_AO_SERVER, UserServer.COLUMN_UID);
 
 	UserServer getLinuxServerAccount(Server aoServer, LinuxId uid) throws IOException, SQLException {
-		synchronized(uidHash) {
-			if(!uidHashBuilt) {
-				uidHash.clear();
-
-				List<UserServer> list = getRows();
-				int len = list.size();
-				for (int c = 0; c < len; c++) {
-					UserServer lsa=list.get(c);
-					LinuxId lsaUID = lsa.getUid();
-					// Only hash the root user for uid of 0
-					if(lsaUID.getId() != UserServer.ROOT_UID || lsa.getLinuxAccount_username_id().equals(User.ROOT)) {
-						Integer aoI=lsa.getServer().getPkey();
-						Map<LinuxId, UserServer> serverHash=uidHash.get(aoI);
-						if(serverHash==null) uidHash.put(aoI, serverHash=new HashMap<>());
-						LinuxId I=lsaUID;
-						if(!serverHash.containsKey(I)) serverHash.put(I, lsa);
-					}
-				}
-				uidHashBuilt=true;
-			}
-			Map<LinuxId, UserServer> serverHash=uidHash.get(aoServer.getPkey());
-			if(serverHash==null) return null;
-			return serverHash.get(uid);
+		for(UserServer lsa : getIndexedRows(serverUidIndex, aoServer.getPkey(), uid)) {
+			// Only find the root user for uid of 0
+			if(uid.getId() != UserServer.ROOT_UID || lsa.getLinuxAccount_username_id().equals(User.ROOT)) return lsa;
 		}
+		return null;
 	}
 
 	List<UserServer> getLinuxServerAccounts(User linuxAccount) throws IOException, SQLException {
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,7 +24,6 @@ package com.aoindustries.aoserv.client.master;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.InetAddress;
 import com.aoapps.security.Identifier;
@@ -35,6 +34,7 @@ import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServObject;
 import com.aoindustries.aoserv.client.AOServTable;
 import com.aoindustries.aoserv.client.SingleTableObject;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -210,18 +210,18 @@ public class Process extends AOServObject<SmallIdentifier, Process> implements S
 		try {
 			id = SecurityStreamables.readSmallIdentifier(in);
 			connectorId = SecurityStreamables.readNullIdentifier(in);
-			authenticated_user = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			effective_user = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
+			authenticated_user = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			effective_user = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
 			daemon_server = in.readCompressedInt();
-			host = InetAddress.valueOf(in.readUTF()).intern();
-			protocol = in.readUTF().intern();
-			aoserv_protocol = InternUtils.intern(in.readNullUTF());
+			host = ValuePool.dedup(InetAddress.valueOf(in.readUTF()));
+			protocol = ValuePool.dedup(in.readUTF());
+			aoserv_protocol = ValuePool.dedup(in.readNullUTF());
 			is_secure = in.readBoolean();
 			connect_time = SQLStreamables.readUnmodifiableTimestamp(in);
 			use_count = in.readLong();
 			total_time = in.readLong();
 			priority = in.readCompressedInt();
-			state = in.readUTF().intern();
+			state = ValuePool.dedup(in.readUTF());
 			int len = in.readCompressedInt();
 			if(len == -1) {
 				command = null;
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,23 +24,25 @@ package com.aoindustries.aoserv.client.master;
 
 import com.aoapps.security.SmallIdentifier;
 import com.aoindustries.aoserv.client.AOServConnector;
-import com.aoindustries.aoserv.client.AOServTable;
-import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.ExpiringTable;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @see  Process
  *
  * @author  AO Industries, Inc.
  */
-final public class ProcessTable extends AOServTable<SmallIdentifier, Process> {
+final public class ProcessTable extends ExpiringTable<SmallIdentifier, Process> {
+
+	/**
+	 * The processes are polled by monitoring, so are kept for a few seconds.
+	 */
+	private static final long TIME_TO_LIVE = 5L * 1000;
 
 	ProcessTable(AOServConnector connector) {
-		super(connector, Process.class);
+		super(connector, Process.class, TIME_TO_LIVE);
 	}
 
 	/**
@@ -65,28 +67,11 @@ final public class ProcessTable extends AOServTable<SmallIdentifier, Process> {
 	 * @see  #get(java.lang.Object)
 	 */
 	public Process get(SmallIdentifier id) throws IOException, SQLException {
-		if(id == null) return null;
-		for(Process process : getRows()) {
-			if(id.equals(process.getId())) return process;
-		}
-		return null;
-	}
-
-	@Override
-	public List<Process> getRowsCopy() throws IOException, SQLException {
-		List<Process> list = new ArrayList<>();
-		getObjects(true, list, AoservProtocol.CommandID.GET_TABLE, Table.TableID.MASTER_PROCESSES);
-		return list;
+		return getUniqueRow(Process.COLUMN_ID, id);
 	}
 
 	@Override
 	public Table.TableID getTableID() {
 		return Table.TableID.MASTER_PROCESSES;
 	}
-
-	@Override
-	protected Process getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
-		if(col == Process.COLUMN_ID) return get(value);
-		throw new IllegalArgumentException("Not a unique column: " + col);
-	}
 }
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,23 +23,25 @@
 package com.aoindustries.aoserv.client.master;
 
 import com.aoindustries.aoserv.client.AOServConnector;
-import com.aoindustries.aoserv.client.AOServTable;
-import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.ExpiringTable;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @see  ServerStat
  *
  * @author  AO Industries, Inc.
  */
-final public class ServerStatTable extends AOServTable<String, ServerStat> {
+final public class ServerStatTable extends ExpiringTable<String, ServerStat> {
+
+	/**
+	 * The statistics are polled by monitoring, so are kept for a few seconds.
+	 */
+	private static final long TIME_TO_LIVE = 5L * 1000;
 
 	ServerStatTable(AOServConnector connector) {
-		super(connector, ServerStat.class);
+		super(connector, ServerStat.class, TIME_TO_LIVE);
 	}
 
 	@Override
@@ -53,31 +55,11 @@ final public class ServerStatTable extends AOServTable<String, ServerStat> {
 	@Deprecated
 	@Override
 	public ServerStat get(Object name) throws IOException, SQLException {
-		if(name == null) return null;
-		List<ServerStat> table=getRows();
-		int size=table.size();
-		for(int c=0;c<size;c++) {
-			ServerStat mss=table.get(c);
-			if(mss.getName().equals(name)) return mss;
-		}
-		return null;
-	}
-
-	@Override
-	public List<ServerStat> getRowsCopy() throws IOException, SQLException {
-		List<ServerStat> list = new ArrayList<>();
-		getObjects(true, list, AoservProtocol.CommandID.GET_TABLE, Table.TableID.MASTER_SERVER_STATS);
-		return list;
+		return getUniqueRow(ServerStat.COLUMN_NAME, name);
 	}
 
 	@Override
 	public Table.TableID getTableID() {
 		return Table.TableID.MASTER_SERVER_STATS;
 	}
-
-	@Override
-	protected ServerStat getUniqueRowImpl(int col, Object value) throws IOException, SQLException {
-		if(col == ServerStat.COLUMN_NAME) return get(value);
-		throw new IllegalArgumentException("Not a unique column: " + col);
-	}
 }
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.HostAddress;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -89,8 +90,8 @@ final public class UserAcl extends CachedObjectIntegerKey<UserAcl> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			username = com.aoindustries.aoserv.client.account.User.Name.valueOf(in.readUTF()).intern();
-			host = HostAddress.valueOf(in.readUTF()).intern();
+			username = ValuePool.dedup(com.aoindustries.aoserv.client.account.User.Name.valueOf(in.readUTF()));
+			host = ValuePool.dedup(HostAddress.valueOf(in.readUTF()));
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
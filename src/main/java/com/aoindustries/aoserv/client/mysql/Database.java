@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,7 @@ import com.aoindustries.aoserv.client.JdbcProvider;
 import com.aoindustries.aoserv.client.NestedInputStream;
 import com.aoindustries.aoserv.client.Removable;
 import com.aoindustries.aoserv.client.StreamHandler;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.backup.MysqlReplication;
 import com.aoindustries.aoserv.client.billing.Package;
@@ -583,7 +584,7 @@ final public class Database extends CachedObjectIntegerKey<Database> implements
 			pkey=in.readCompressedInt();
 			name = Name.valueOf(in.readUTF());
 			mysql_server = in.readCompressedInt();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			maxCheckTableAlertLevel = AlertLevel.valueOf(in.readCompressedUTF());
 		} catch(ValidationException e) {
 			throw new IOException(e);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -39,6 +39,7 @@ import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.distribution.OperatingSystemVersion;
@@ -84,7 +85,8 @@ final public class Bind extends CachedObjectIntegerKey<Bind> implements Removabl
 		COLUMN_ID = 0,
 		COLUMN_PACKAGE = 1,
 		COLUMN_SERVER = 2,
-		COLUMN_IP_ADDRESS = 3
+		COLUMN_IP_ADDRESS = 3,
+		COLUMN_PORT = 4
 	;
 	public static final String COLUMN_SERVER_name = "server";
 	public static final String COLUMN_IP_ADDRESS_name = "ipAddress";
@@ -108,7 +110,7 @@ final public class Bind extends CachedObjectIntegerKey<Bind> implements Removabl
 			case COLUMN_PACKAGE: return packageName;
 			case COLUMN_SERVER: return server;
 			case COLUMN_IP_ADDRESS: return ipAddress;
-			case 4: return port;
+			case COLUMN_PORT: return port;
 			case 5: return app_protocol;
 			case 6: return monitoring_enabled;
 			case 7: return monitoring_parameters;
@@ -209,14 +211,14 @@ final public class Bind extends CachedObjectIntegerKey<Bind> implements Removabl
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			server = in.readCompressedInt();
 			ipAddress = in.readCompressedInt();
 			port = Port.valueOf(
 				in.readCompressedInt(),
 				in.readEnum(com.aoapps.net.Protocol.class)
 			);
-			app_protocol = in.readUTF().intern();
+			app_protocol = ValuePool.dedup(in.readUTF());
 			monitoring_enabled = in.readBoolean();
 			monitoring_parameters = in.readNullUTF();
 		} catch(ValidationException e) {
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.net.Port;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.CompositeIndex;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.aosh.AOSH;
 import com.aoindustries.aoserv.client.aosh.Command;
@@ -168,24 +169,14 @@ final public class BindTable extends CachedTableIntegerKey<Bind> {
 		return matches;
 	}
 
+	private static final CompositeIndex serverIpAddressPortIndex = new CompositeIndex(true, Bind.COLUMN_SERVER, Bind.COLUMN_IP_ADDRESS, Bind.COLUMN_PORT);
+
 	Bind getNetBind(
 		Host se,
 		IpAddress ip,
 		Port port
 	) throws IOException, SQLException {
-		int sePKey=se.getPkey();
-
-		// Use the index first
-		List<Bind> cached=getNetBinds(ip);
-		int size=cached.size();
-		for(int c=0;c<size;c++) {
-			Bind nb=cached.get(c);
-			if(
-				nb.getServer_pkey()==sePKey
-				&& nb.getPort()==port
-			) return nb;
-		}
-		return null;
+		return getUniqueRow(serverIpAddressPortIndex, se.getPkey(), ip.getPkey(), port);
 	}
 
 	List<Bind> getNetBinds(Host se, AppProtocol protocol) throws IOException, SQLException {
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,11 +24,11 @@ package com.aoindustries.aoserv.client.net;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.InetAddress;
 import com.aoapps.net.MacAddress;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.linux.Server;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -221,12 +221,12 @@ final public class Device extends CachedObjectIntegerKey<Device> {
 		try {
 			pkey=in.readCompressedInt();
 			server=in.readCompressedInt();
-			deviceId = in.readUTF().intern();
+			deviceId = ValuePool.dedup(in.readUTF());
 			description=in.readUTF();
-			delete_route=InternUtils.intern(in.readNullUTF());
-			gateway=InternUtils.intern(InetAddress.valueOf(in.readNullUTF()));
-			network=InternUtils.intern(InetAddress.valueOf(in.readNullUTF()));
-			broadcast=InternUtils.intern(InetAddress.valueOf(in.readNullUTF()));
+			delete_route=ValuePool.dedup(in.readNullUTF());
+			gateway=ValuePool.dedup(InetAddress.valueOf(in.readNullUTF()));
+			network=ValuePool.dedup(InetAddress.valueOf(in.readNullUTF()));
+			broadcast=ValuePool.dedup(InetAddress.valueOf(in.readNullUTF()));
 			mac_address = MacAddress.valueOf(in.readNullUTF());
 			max_bit_rate=in.readLong();
 			monitoring_bit_rate_low = in.readLong();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,13 +26,13 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.dto.DtoFactory;
 import com.aoapps.lang.i18n.Resources;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.util.Internable;
 import com.aoapps.lang.validation.InvalidResult;
 import com.aoapps.lang.validation.ValidResult;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.lang.validation.ValidationResult;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -333,9 +333,9 @@ public final class FirewallZone extends CachedObjectIntegerKey<FirewallZone> {
 		try {
 			pkey = in.readCompressedInt();
 			server = in.readCompressedInt();
-			name = Name.valueOf(in.readUTF()).intern();
-			_short = InternUtils.intern(in.readNullUTF());
-			description = InternUtils.intern(in.readNullUTF());
+			name = ValuePool.dedup(Name.valueOf(in.readUTF()));
+			_short = ValuePool.dedup(in.readNullUTF());
+			description = ValuePool.dedup(in.readNullUTF());
 			fail2ban = in.readBoolean();
 		} catch(ValidationException e) {
 			throw new IOException(e);
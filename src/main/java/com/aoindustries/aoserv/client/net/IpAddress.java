@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -31,6 +31,7 @@ import com.aoapps.net.InetAddress;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.billing.Package;
 import com.aoindustries.aoserv.client.ftp.PrivateServer;
@@ -298,7 +299,7 @@ final public class IpAddress extends CachedObjectIntegerKey<IpAddress> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			inetAddress = InetAddress.valueOf(in.readUTF()).intern();
+			inetAddress = ValuePool.dedup(InetAddress.valueOf(in.readUTF()));
 			device = in.readCompressedInt();
 			isAlias = in.readBoolean();
 			hostname = DomainName.valueOf(in.readNullUTF());
@@ -308,7 +309,7 @@ final public class IpAddress extends CachedObjectIntegerKey<IpAddress> {
 			isOverflow = in.readBoolean();
 			isDhcp = in.readBoolean();
 			externalInetAddress = InetAddress.valueOf(in.readNullUTF());
-			netmask = in.readUTF().intern();
+			netmask = ValuePool.dedup(in.readUTF());
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
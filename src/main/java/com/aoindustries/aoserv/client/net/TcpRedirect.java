@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2004-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2004-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.HostAddress;
 import com.aoapps.net.Port;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
@@ -110,7 +111,7 @@ public final class TcpRedirect extends CachedObjectIntegerKey<TcpRedirect> {
 			pkey=in.readCompressedInt();
 			cps=in.readCompressedInt();
 			cps_overload_sleep_time=in.readCompressedInt();
-			destination_host=HostAddress.valueOf(in.readUTF()).intern();
+			destination_host=ValuePool.dedup(HostAddress.valueOf(in.readUTF()));
 			destination_port = Port.valueOf(
 				in.readCompressedInt(),
 				com.aoapps.net.Protocol.TCP
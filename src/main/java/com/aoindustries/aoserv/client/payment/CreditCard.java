@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,7 +26,6 @@ import com.aoapps.collections.IntList;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.math.SafeMath;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.sql.SQLStreamables;
@@ -36,6 +35,7 @@ import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -442,8 +442,8 @@ final public class CreditCard extends CachedObjectIntegerKey<CreditCard> impleme
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			processorId = in.readUTF().intern();
-			accounting = Account.Name.valueOf(in.readUTF()).intern();
+			processorId = ValuePool.dedup(in.readUTF());
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			groupName = in.readNullUTF();
 			cardInfo = in.readUTF();
 			expirationMonth = in.readNullByte();
@@ -460,11 +460,11 @@ final public class CreditCard extends CachedObjectIntegerKey<CreditCard> impleme
 			streetAddress1 = in.readUTF();
 			streetAddress2 = in.readNullUTF();
 			city = in.readUTF();
-			state = InternUtils.intern(in.readNullUTF());
+			state = ValuePool.dedup(in.readNullUTF());
 			postalCode=in.readNullUTF();
-			countryCode = in.readUTF().intern();
+			countryCode = ValuePool.dedup(in.readUTF());
 			created = SQLStreamables.readUnmodifiableTimestamp(in);
-			createdBy = User.Name.valueOf(in.readUTF()).intern();
+			createdBy = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			principalName = in.readNullUTF();
 			useMonthly = in.readBoolean();
 			isActive = in.readBoolean();
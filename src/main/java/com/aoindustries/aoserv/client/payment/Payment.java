@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,13 +27,13 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Money;
 import com.aoapps.lang.math.SafeMath;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -845,8 +845,8 @@ final public class Payment extends CachedObjectIntegerKey<Payment> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			processorId = in.readUTF().intern();
-			accounting = Account.Name.valueOf(in.readUTF()).intern();
+			processorId = ValuePool.dedup(in.readUTF());
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			groupName = in.readNullUTF();
 			testMode = in.readBoolean();
 			duplicateWindow = in.readCompressedInt();
@@ -875,17 +875,17 @@ final public class Payment extends CachedObjectIntegerKey<Payment> {
 			shippingStreetAddress1 = in.readNullUTF();
 			shippingStreetAddress2 = in.readNullUTF();
 			shippingCity = in.readNullUTF();
-			shippingState = InternUtils.intern(in.readNullUTF());
+			shippingState = ValuePool.dedup(in.readNullUTF());
 			shippingPostalCode = in.readNullUTF();
-			shippingCountryCode = InternUtils.intern(in.readNullUTF());
+			shippingCountryCode = ValuePool.dedup(in.readNullUTF());
 			emailCustomer = in.readBoolean();
 			merchantEmail = Email.valueOf(in.readNullUTF());
 			invoiceNumber = in.readNullUTF();
 			purchaseOrderNumber = in.readNullUTF();
 			description = in.readNullUTF();
-			creditCardCreatedBy = User.Name.valueOf(in.readUTF()).intern();
+			creditCardCreatedBy = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			creditCardPrincipalName = in.readNullUTF();
-			creditCardAccounting = Account.Name.valueOf(in.readUTF()).intern();
+			creditCardAccounting = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			creditCardGroupName = in.readNullUTF();
 			creditCardProviderUniqueId = in.readNullUTF();
 			creditCardMaskedCardNumber = in.readUTF();
@@ -902,16 +902,16 @@ final public class Payment extends CachedObjectIntegerKey<Payment> {
 			creditCardStreetAddress1 = in.readUTF();
 			creditCardStreetAddress2 = in.readNullUTF();
 			creditCardCity = in.readUTF();
-			creditCardState = InternUtils.intern(in.readNullUTF());
+			creditCardState = ValuePool.dedup(in.readNullUTF());
 			creditCardPostalCode = in.readNullUTF();
-			creditCardCountryCode = in.readUTF().intern();
+			creditCardCountryCode = ValuePool.dedup(in.readUTF());
 			creditCardComments = in.readNullUTF();
 			authorizationTime = SQLStreamables.readUnmodifiableTimestamp(in);
-			authorizationUsername = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			authorizationPrincipalName = InternUtils.intern(in.readNullUTF());
-			authorizationCommunicationResult = InternUtils.intern(in.readNullUTF());
-			authorizationProviderErrorCode = InternUtils.intern(in.readNullUTF());
-			authorizationErrorCode = InternUtils.intern(in.readNullUTF());
+			authorizationUsername = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			authorizationPrincipalName = ValuePool.dedup(in.readNullUTF());
+			authorizationCommunicationResult = ValuePool.dedup(in.readNullUTF());
+			authorizationProviderErrorCode = ValuePool.dedup(in.readNullUTF());
+			authorizationErrorCode = ValuePool.dedup(in.readNullUTF());
 			authorizationProviderErrorMessage = in.readNullUTF();
 			authorizationProviderUniqueId = in.readNullUTF();
 			authorizationResult_providerReplacementMaskedCardNumber = in.readNullUTF();
@@ -919,34 +919,34 @@ final public class Payment extends CachedObjectIntegerKey<Payment> {
 			authorizationResult_providerReplacementExpiration = in.readNullUTF();
 			authorizationResult_replacementExpirationMonth = in.readNullByte();
 			authorizationResult_replacementExpirationYear = in.readNullShort();
-			authorizationProviderApprovalResult = InternUtils.intern(in.readNullUTF());
-			authorizationApprovalResult = InternUtils.intern(in.readNullUTF());
-			authorizationProviderDeclineReason = InternUtils.intern(in.readNullUTF());
-			authorizationDeclineReason = InternUtils.intern(in.readNullUTF());
-			authorizationProviderReviewReason = InternUtils.intern(in.readNullUTF());
-			authorizationReviewReason = InternUtils.intern(in.readNullUTF());
-			authorizationProviderCvvResult = InternUtils.intern(in.readNullUTF());
-			authorizationCvvResult = InternUtils.intern(in.readNullUTF());
-			authorizationProviderAvsResult = InternUtils.intern(in.readNullUTF());
-			authorizationAvsResult = InternUtils.intern(in.readNullUTF());
+			authorizationProviderApprovalResult = ValuePool.dedup(in.readNullUTF());
+			authorizationApprovalResult = ValuePool.dedup(in.readNullUTF());
+			authorizationProviderDeclineReason = ValuePool.dedup(in.readNullUTF());
+			authorizationDeclineReason = ValuePool.dedup(in.readNullUTF());
+			authorizationProviderReviewReason = ValuePool.dedup(in.readNullUTF());
+			authorizationReviewReason = ValuePool.dedup(in.readNullUTF());
+			authorizationProviderCvvResult = ValuePool.dedup(in.readNullUTF());
+			authorizationCvvResult = ValuePool.dedup(in.readNullUTF());
+			authorizationProviderAvsResult = ValuePool.dedup(in.readNullUTF());
+			authorizationAvsResult = ValuePool.dedup(in.readNullUTF());
 			authorizationApprovalCode = in.readNullUTF();
 			captureTime = SQLStreamables.readNullUnmodifiableTimestamp(in);
-			captureUsername = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			capturePrincipalName = InternUtils.intern(in.readNullUTF());
-			captureCommunicationResult = InternUtils.intern(in.readNullUTF());
-			captureProviderErrorCode = InternUtils.intern(in.readNullUTF());
-			captureErrorCode = InternUtils.intern(in.readNullUTF());
+			captureUsername = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			capturePrincipalName = ValuePool.dedup(in.readNullUTF());
+			captureCommunicationResult = ValuePool.dedup(in.readNullUTF());
+			captureProviderErrorCode = ValuePool.dedup(in.readNullUTF());
+			captureErrorCode = ValuePool.dedup(in.readNullUTF());
 			captureProviderErrorMessage = in.readNullUTF();
 			captureProviderUniqueId = in.readNullUTF();
 			voidTime = SQLStreamables.readNullUnmodifiableTimestamp(in);
-			voidUsername = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			voidPrincipalName = InternUtils.intern(in.readNullUTF());
-			voidCommunicationResult = InternUtils.intern(in.readNullUTF());
-			voidProviderErrorCode = InternUtils.intern(in.readNullUTF());
-			voidErrorCode = InternUtils.intern(in.readNullUTF());
+			voidUsername = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			voidPrincipalName = ValuePool.dedup(in.readNullUTF());
+			voidCommunicationResult = ValuePool.dedup(in.readNullUTF());
+			voidProviderErrorCode = ValuePool.dedup(in.readNullUTF());
+			voidErrorCode = ValuePool.dedup(in.readNullUTF());
 			voidProviderErrorMessage = in.readNullUTF();
 			voidProviderUniqueId = in.readNullUTF();
-			status = in.readUTF().intern();
+			status = ValuePool.dedup(in.readUTF());
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
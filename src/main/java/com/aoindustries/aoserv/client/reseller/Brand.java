@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2009-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2009-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.DomainName;
 import com.aoapps.net.HostAddress;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.CachedObjectAccountNameKey;
 import com.aoindustries.aoserv.client.email.Address;
@@ -395,7 +396,7 @@ final public class Brand extends CachedObjectAccountNameKey<Brand> {
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey=Account.Name.valueOf(in.readUTF()).intern();
+			pkey=ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			nameserver1 = DomainName.valueOf(in.readUTF());
 			nameserver2 = DomainName.valueOf(in.readUTF());
 			nameserver3 = DomainName.valueOf(in.readNullUTF());
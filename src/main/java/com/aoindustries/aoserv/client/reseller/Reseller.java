@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2009-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2009-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,6 +25,7 @@ package com.aoindustries.aoserv.client.reseller;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.validation.ValidationException;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.CachedObjectAccountNameKey;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
@@ -93,7 +94,7 @@ final public class Reseller extends CachedObjectAccountNameKey<Reseller> {
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
-			pkey=Account.Name.valueOf(in.readUTF()).intern();
+			pkey=ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			ticket_auto_escalate = in.readBoolean();
 		} catch(ValidationException e) {
 			throw new IOException(e);
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,7 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.security.HashedPassword;
 import com.aoindustries.aoserv.client.GlobalObjectStringKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import java.io.EOFException;
 import java.io.IOException;
 import java.sql.Date;
@@ -190,9 +191,10 @@ public final class AoservProtocol extends GlobalObjectStringKey<AoservProtocol>
 		VERSION_1_83_0("1.83.0"),
 		VERSION_1_83_1("1.83.1"),
 		VERSION_1_83_2("1.83.2"),
-		VERSION_1_84_13("1.84.13");
+		VERSION_1_84_13("1.84.13"),
+		VERSION_1_84_22("1.84.22");
 
-		public static final Version CURRENT_VERSION = VERSION_1_84_13;
+		public static final Version CURRENT_VERSION = VERSION_1_84_22;
 
 		private static final Map<String, Version> versionMap = new HashMap<>();
 		static {
@@ -606,6 +608,7 @@ public final class AoservProtocol extends GlobalObjectStringKey<AoservProtocol>
 		SET_IP_ADDRESS_MONITORING_ENABLED,
 		web_tomcat_PrivateTomcatSite_tomcatAuthentication_set,
 		web_tomcat_SharedTomcat_tomcatAuthentication_set,
+		LISTEN_CACHES_SELECTIVE,
 	}
 
 	/**
@@ -672,7 +675,7 @@ public final class AoservProtocol extends GlobalObjectStringKey<AoservProtocol>
 
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
-		pkey = in.readUTF().intern();
+		pkey = ValuePool.dedup(in.readUTF());
 		created = in.readLong();
 		comments = in.readUTF();
 		lastUsed = in.readLong();
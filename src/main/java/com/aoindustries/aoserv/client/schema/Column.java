@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,10 +24,10 @@ package com.aoindustries.aoserv.client.schema;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.AOServObject;
 import com.aoindustries.aoserv.client.GlobalObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -198,12 +198,12 @@ final public class Column extends GlobalObjectIntegerKey<Column> {
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		pkey = in.readCompressedInt();
-		table = in.readUTF().intern();
-		name = in.readUTF().intern();
-		sinceVersion = in.readUTF().intern();
-		lastVersion = InternUtils.intern(in.readNullUTF());
+		table = ValuePool.dedup(in.readUTF());
+		name = ValuePool.dedup(in.readUTF());
+		sinceVersion = ValuePool.dedup(in.readUTF());
+		lastVersion = ValuePool.dedup(in.readNullUTF());
 		index = in.readShort();
-		type = in.readUTF().intern();
+		type = ValuePool.dedup(in.readUTF());
 		isNullable = in.readBoolean();
 		isUnique = in.readBoolean();
 		isPublic = in.readBoolean();
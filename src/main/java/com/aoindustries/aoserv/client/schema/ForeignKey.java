@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,9 +24,9 @@ package com.aoindustries.aoserv.client.schema;
 
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
-import com.aoapps.lang.util.InternUtils;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.GlobalObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -123,8 +123,8 @@ final public class ForeignKey extends GlobalObjectIntegerKey<ForeignKey> {
 		pkey = in.readCompressedInt();
 		column = in.readCompressedInt();
 		foreignColumn = in.readCompressedInt();
-		sinceVersion = in.readUTF().intern();
-		lastVersion = InternUtils.intern(in.readNullUTF());
+		sinceVersion = ValuePool.dedup(in.readUTF());
+		lastVersion = ValuePool.dedup(in.readNullUTF());
 	}
 
 	@Override
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -34,7 +34,10 @@ import com.aoindustries.aoserv.client.GlobalTableIntegerKey;
 import com.aoindustries.aoserv.client.aosh.AOSH;
 import com.aoindustries.aoserv.client.aosh.Command;
 import com.aoindustries.aoserv.client.sql.Parser;
+import com.aoindustries.aoserv.client.sql.SQLCondition;
+import com.aoindustries.aoserv.client.sql.SQLEvaluator;
 import com.aoindustries.aoserv.client.sql.SQLExpression;
+import com.aoindustries.aoserv.client.sql.SQLPlan;
 import java.io.IOException;
 import java.io.Reader;
 import java.sql.SQLException;
@@ -139,13 +142,25 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 				if (argCount == 4 && args[1].equalsIgnoreCase("count(*)")) {
 					selectCount(args, out, err, isInteractive);
 				} else {
-					selectRows(args, out, err, isInteractive);
+					selectRows(args, out, err, isInteractive, false);
 				}
 			} else if (argCount < 4) {
 				err.println("aosh: "+Command.SELECT+": not enough parameters");
 				err.flush();
 			}
 			return true;
+		} else if (command.equalsIgnoreCase(Command.EXPLAIN)) {
+			int argCount = args.length;
+			if (argCount >= 5 && args[1].equalsIgnoreCase(Command.SELECT)) {
+				selectRows(Arrays.copyOfRange(args, 1, argCount), out, err, isInteractive, true);
+			} else if (argCount >= 2 && !args[1].equalsIgnoreCase(Command.SELECT)) {
+				err.println("aosh: "+Command.EXPLAIN+": unknown parameter: " + args[1]);
+				err.flush();
+			} else {
+				err.println("aosh: "+Command.EXPLAIN+": not enough parameters");
+				err.flush();
+			}
+			return true;
 		} else if (command.equalsIgnoreCase(Command.SHOW)) {
 			int argCount = args.length;
 			if (argCount >= 2) {
@@ -188,8 +203,14 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 		}
 	}
 
+	/**
+	 * Selects rows, optionally matching a where clause and in an order.
+	 *
+	 * @param  explain  when <code>true</code>, prints how the rows were selected
+	 *                  and how many at each step, instead of the rows
+	 */
 	@SuppressWarnings({"unchecked", "rawtypes", "AssignmentToForLoopParameter", "UseSpecificCatch", "TooBroadCatch"})
-	private void selectRows(String[] args, TerminalWriter out, TerminalWriter err, boolean isInteractive) throws IOException, SQLException {
+	private void selectRows(String[] args, TerminalWriter out, TerminalWriter err, boolean isInteractive, boolean explain) throws IOException, SQLException {
 		int argCount = args.length;
 		List<String> expressionArgs = new ArrayList<>();
 
@@ -211,6 +232,22 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 		String tableName = Parser.unquote(args[++c]);
 		c++;
 
+		// Get the where clause until "order by" is found
+		List<String> whereArgs = null;
+		if(c < argCount && args[c].equalsIgnoreCase("where")) {
+			c++;
+			whereArgs = new ArrayList<>();
+			for(; c < argCount; c++) {
+				String arg = args[c];
+				if(
+					arg.equalsIgnoreCase("order")
+					&& c < (argCount - 1)
+					&& args[c + 1].equalsIgnoreCase("by")
+				) break;
+				whereArgs.add(arg);
+			}
+		}
+
 		Table schemaTable = connector.getSchema().getTable().get(tableName);
 		if(schemaTable != null) {
 			List<String> expressions = new ArrayList<>(expressionArgs.size());
@@ -244,6 +281,10 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 
 			AOServTable<?, ?> aoServTable = schemaTable.getAOServTable(connector);
 
+			// Parse any where clause
+			SQLCondition condition = whereArgs == null ? null : Parser.parseSQLCondition(aoServTable, whereArgs);
+			SQLPlan plan = (condition != null || explain) ? SQLPlan.plan(aoServTable, condition) : null;
+
 			// Parse any order by clause
 			List<SQLExpression> orderExpressions = new ArrayList<>();
 			List<Boolean> sortOrders = new ArrayList<>();
@@ -306,6 +347,7 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 				if(type.supportsPrecision()) supportsAnyPrecisionCount++;
 				rightAligns[d] = type.alignRight();
 			}
+			final SQLEvaluator values = SQLEvaluator.compile(connector, valueExpressions);
 
 			// Get the data
 			List<AOServObject> rows = null;
@@ -319,12 +361,40 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 					for(int d = 0; d < orders.length; d++) {
 						orders[d] = sortOrders.get(d);
 					}
-					rows = (List<AOServObject>)aoServTable.getRowsCopy();
-					rowsCopied = true;
+					if(plan != null) {
+						rows = new ArrayList<>(plan.execute());
+					} else {
+						rows = (List<AOServObject>)aoServTable.getRowsCopy();
+						rowsCopied = true;
+					}
 					connector.sort(JavaSort.getInstance(), rows, exprs, orders);
+				} else if(plan != null) {
+					rows = (List)plan.execute();
+					if(!plan.isDefaultOrder() && rows.size() > 1) {
+						SQLExpression[] exprs = aoServTable.getDefaultOrderBySQLExpressions();
+						if(exprs != null) connector.sort(JavaSort.getInstance(), rows, exprs, aoServTable.getDefaultOrderBySortOrders());
+					}
 				} else {
 					rows = (List<AOServObject>)aoServTable.getRows();
 				}
+				if(explain) {
+					for(String line : plan.explain()) {
+						out.println(line);
+					}
+					if(orderExpressions.size() > 0) {
+						out.print("Sort:");
+						for(int d = 0, size = orderExpressions.size(); d < size; d++) {
+							out.print(d == 0 ? " " : ", ");
+							out.print(orderExpressions.get(d));
+							if(sortOrders.get(d) == AOServTable.DESCENDING) out.print(" desc");
+						}
+						out.print(": ");
+						out.print(rows.size());
+						out.println(rows.size() == 1 ? " row" : " rows");
+					}
+					out.flush();
+					return;
+				}
 				final List<AOServObject> finalRows = rows;
 				final int numRows = rows.size();
 
@@ -349,7 +419,7 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 									|| current == -1
 									|| current < maxPrecision
 								) {
-									int precision = type.getPrecision(valueExpressions[col].evaluate(connector, row));
+									int precision = type.getPrecision(values.evaluate(col, row));
 									if(
 										precision != -1
 										&& (current == -1 || precision > current)
@@ -391,7 +461,7 @@ final public class TableTable extends GlobalTableIntegerKey<Table> {
 									String[] strings = new String[numExpressions];
 									for(int col = 0; col < numExpressions; col++) {
 										strings[col] = valueTypes[col].getString(
-											valueExpressions[col].evaluate(connector, row),
+											values.evaluate(col, row),
 											precisions[col]
 										);
 									}
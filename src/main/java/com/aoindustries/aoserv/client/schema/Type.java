@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,7 +26,6 @@ import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.Strings;
 import com.aoapps.lang.i18n.Money;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.DomainLabel;
 import com.aoapps.net.DomainLabels;
@@ -44,6 +43,7 @@ import com.aoapps.sql.SQLUtility;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.GlobalObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.linux.LinuxId;
 import com.aoindustries.aoserv.client.linux.PosixPath;
@@ -1069,9 +1069,9 @@ final public class Type extends GlobalObjectIntegerKey<Type> {
 	@Override
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		pkey         = in.readCompressedInt();
-		name         = in.readUTF().intern();
-		sinceVersion = in.readUTF().intern();
-		lastVersion  = InternUtils.intern(in.readNullUTF());
+		name         = ValuePool.dedup(in.readUTF());
+		sinceVersion = ValuePool.dedup(in.readUTF());
+		lastVersion  = ValuePool.dedup(in.readNullUTF());
 	}
 
 	@Override
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2007-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,13 +25,13 @@ package com.aoindustries.aoserv.client.signup;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.Strings;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.net.InetAddress;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -209,7 +209,7 @@ final public class Request extends CachedObjectIntegerKey<Request> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			brand = Account.Name.valueOf(in.readUTF()).intern();
+			brand = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
 			ip_address = InetAddress.valueOf(in.readUTF());
 			package_definition = in.readCompressedInt();
@@ -219,8 +219,8 @@ final public class Request extends CachedObjectIntegerKey<Request> {
 			business_address1 = in.readUTF();
 			business_address2 = in.readNullUTF();
 			business_city = in.readUTF();
-			business_state = InternUtils.intern(in.readNullUTF());
-			business_country = in.readUTF().intern();
+			business_state = ValuePool.dedup(in.readNullUTF());
+			business_country = ValuePool.dedup(in.readUTF());
 			business_zip = in.readNullUTF();
 			ba_name = in.readUTF();
 			ba_title = in.readNullUTF();
@@ -232,10 +232,10 @@ final public class Request extends CachedObjectIntegerKey<Request> {
 			ba_address1 = in.readNullUTF();
 			ba_address2 = in.readNullUTF();
 			ba_city = in.readNullUTF();
-			ba_state = InternUtils.intern(in.readNullUTF());
-			ba_country = InternUtils.intern(in.readNullUTF());
+			ba_state = ValuePool.dedup(in.readNullUTF());
+			ba_country = ValuePool.dedup(in.readNullUTF());
 			ba_zip = in.readNullUTF();
-			ba_username = User.Name.valueOf(in.readUTF()).intern();
+			ba_username = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
 			billing_contact = in.readUTF();
 			billing_email = Email.valueOf(in.readUTF());
 			billing_use_monthly = in.readBoolean();
@@ -243,7 +243,7 @@ final public class Request extends CachedObjectIntegerKey<Request> {
 			encrypted_data = in.readUTF();
 			encryption_from = in.readCompressedInt();
 			encryption_recipient = in.readCompressedInt();
-			completed_by = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
+			completed_by = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
 			completed_time = SQLStreamables.readNullUnmodifiableTimestamp(in);
 		} catch(ValidationException e) {
 			throw new IOException(e);
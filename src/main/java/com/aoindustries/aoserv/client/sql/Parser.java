@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,6 +30,7 @@ import com.aoindustries.aoserv.client.schema.Table;
 import com.aoindustries.aoserv.client.schema.Type;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,7 +46,6 @@ public class Parser {
 	 * Find a match only outside quoted section of the expressions.
 	 * Quoted by ", with "" being the escape for a " within the quoted section.
 	 */
-	// TODO: Unit tests
 	public static int indexOfNotQuoted(String expr, char ch, int fromIndex) {
 		boolean quoted = false;
 		for(int i = fromIndex, end = expr.length(); i < end; i++) {
@@ -76,7 +76,6 @@ public class Parser {
 	 * Find a match only outside quoted section of the expressions.
 	 * Quoted by ", with "" being the escape for a " within the quoted section.
 	 */
-	// TODO: Unit tests
 	public static int indexOfNotQuoted(String expr, char ch) {
 		return indexOfNotQuoted(expr, ch, 0);
 	}
@@ -85,11 +84,10 @@ public class Parser {
 	 * Find a match only outside quoted section of the expressions.
 	 * Quoted by ", with "" being the escape for a " within the quoted section.
 	 */
-	// TODO: Unit tests
 	public static int indexOfNotQuoted(String expr, String str, int fromIndex) {
 		boolean quoted = false;
 		int strLen = str.length();
-		for(int i = fromIndex, end = expr.length() - strLen; i < end; i++) {
+		for(int i = fromIndex, end = expr.length(); i < end; i++) {
 			char c = expr.charAt(i);
 			if(!quoted && expr.regionMatches(i, str, 0, strLen)) return i;
 			if(c == '"') {
@@ -117,7 +115,6 @@ public class Parser {
 	 * Find a match only outside quoted section of the expressions.
 	 * Quoted by ", with "" being the escape for a " within the quoted section.
 	 */
-	// TODO: Unit tests
 	public static int indexOfNotQuoted(String expr, String str) {
 		return indexOfNotQuoted(expr, str, 0);
 	}
@@ -127,8 +124,6 @@ public class Parser {
 	 */
 	// TODO: Have AOSH only support ' quotes in command line parsing?  This would help with "" quoting for table/columns not being swallowed by bash-style double quotes
 	//       This should not hurt since we don't support any variable substitution inside double quotes anyway
-
-	// TODO: Unit tests
 	@SuppressWarnings("AssignmentToForLoopParameter")
 	public static String unquote(String str) {
 		int strLen = str.length();
@@ -165,7 +160,6 @@ public class Parser {
 	 * or a character outside normal ASCII range.
 	 * Unicode is not considered for use without quoting, since this is only used to quote AOServ table/column names, which are all ASCII.
 	 */
-	// TODO: Unit tests
 	public static String quote(String str) {
 		int strLen = str.length();
 		if(strLen == 0) return "\"\"";
@@ -197,7 +191,220 @@ public class Parser {
 		}
 	}
 
-	// TODO: Unit tests
+	/**
+	 * Quotes a constant value with ', with '' being the escape for a ' within the value.
+	 */
+	public static String quoteValue(String value) {
+		return '\'' + value.replace("'", "''") + '\'';
+	}
+
+	/**
+	 * Quotes a constant value of the given type for display, leaving right-aligned
+	 * types, such as numbers, unquoted.
+	 */
+	public static String quoteValue(Type type, Object value) {
+		if(value == null) return "NULL";
+		String str = type.getString(value, -1);
+		return type.alignRight() ? str : quoteValue(str);
+	}
+
+	/**
+	 * The operators of comparisons, longest first.
+	 */
+	private static final String[] OPERATORS = {
+		SQLComparison.LESS_THAN_OR_EQUAL,
+		SQLComparison.GREATER_THAN_OR_EQUAL,
+		SQLComparison.NOT_EQUAL,
+		"!=",
+		SQLComparison.EQUAL,
+		SQLComparison.LESS_THAN,
+		SQLComparison.GREATER_THAN
+	};
+
+	/**
+	 * Splits the arguments of a where clause into tokens.  Parentheses, commas,
+	 * and operators outside of " or ' quoted sections are tokens even when not separated
+	 * by spaces.  Any spaces remaining within an argument were quoted, so
+	 * are kept within its token.
+	 */
+	@SuppressWarnings("AssignmentToForLoopParameter")
+	static List<String> tokenize(List<String> args) {
+		List<String> tokens = new ArrayList<>();
+		for(String arg : args) {
+			StringBuilder word = new StringBuilder();
+			boolean quoted = false;
+			boolean valueQuoted = false;
+			for(int i = 0, len = arg.length(); i < len; i++) {
+				char c = arg.charAt(i);
+				String operator = null;
+				if(!quoted && !valueQuoted) {
+					if(c == '(' || c == ')' || c == ',') {
+						operator = String.valueOf(c);
+					} else {
+						for(String op : OPERATORS) {
+							if(arg.startsWith(op, i)) {
+								operator = op;
+								break;
+							}
+						}
+					}
+				}
+				if(operator != null) {
+					if(word.length() > 0) {
+						tokens.add(word.toString());
+						word.setLength(0);
+					}
+					tokens.add(operator.equals("!=") ? SQLComparison.NOT_EQUAL : operator);
+					i += operator.length() - 1;
+				} else {
+					if(c == '"' && !valueQuoted) quoted = !quoted;
+					else if(c == '\'' && !quoted) valueQuoted = !valueQuoted;
+					word.append(c);
+				}
+			}
+			if(word.length() > 0) tokens.add(word.toString());
+		}
+		return tokens;
+	}
+
+	/**
+	 * Parses a where clause, with precedence of <code>OR</code> below
+	 * <code>AND</code>, and parentheses for grouping.  The supported conditions are:
+	 * <ul>
+	 * <li><code><i>expression</i> { = | &lt;&gt; | != | &lt; | &lt;= | &gt; | &gt;= } <i>value</i></code></li>
+	 * <li><code><i>expression</i> [NOT] IN (<i>value</i>[, ...])</code></li>
+	 * <li><code><i>expression</i> [NOT] LIKE <i>pattern</i></code></li>
+	 * <li><code><i>expression</i> IS [NOT] NULL</code></li>
+	 * </ul>
+	 * Each expression is as parsed by {@link #parseSQLExpression(com.aoindustries.aoserv.client.AOServTable, java.lang.String)},
+	 * and each value is parsed by the type of its expression.
+	 *
+	 * @param  args  the arguments following <code>where</code>
+	 */
+	public static SQLCondition parseSQLCondition(AOServTable<?, ?> table, List<String> args) throws SQLException, IOException {
+		ConditionParser parser = new ConditionParser(table, tokenize(args));
+		SQLCondition condition = parser.parseOr();
+		if(parser.pos < parser.tokens.size()) throw new SQLException("Parse error: unexpected '" + parser.tokens.get(parser.pos) + '\'');
+		return condition;
+	}
+
+	private static class ConditionParser {
+
+		private final AOServTable<?, ?> table;
+		private final List<String> tokens;
+		private int pos;
+
+		private ConditionParser(AOServTable<?, ?> table, List<String> tokens) {
+			this.table = table;
+			this.tokens = tokens;
+		}
+
+		private String peek() {
+			return pos < tokens.size() ? tokens.get(pos) : null;
+		}
+
+		private boolean accept(String keyword) {
+			String token = peek();
+			if(token != null && token.equalsIgnoreCase(keyword)) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private String next(String expected) throws SQLException {
+			String token = peek();
+			if(token == null) throw new SQLException("Parse error: " + expected + " expected");
+			pos++;
+			return token;
+		}
+
+		private void expect(String keyword) throws SQLException {
+			if(!accept(keyword)) {
+				String token = peek();
+				throw new SQLException("Parse error: '" + keyword + "' expected" + (token == null ? "" : (", found '" + token + '\'')));
+			}
+		}
+
+		private SQLCondition parseOr() throws SQLException, IOException {
+			List<SQLCondition> conditions = new ArrayList<>();
+			do {
+				conditions.add(parseAnd());
+			} while(accept("or"));
+			return conditions.size() == 1 ? conditions.get(0) : new SQLOr(conditions);
+		}
+
+		private SQLCondition parseAnd() throws SQLException, IOException {
+			List<SQLCondition> conditions = new ArrayList<>();
+			do {
+				conditions.add(parsePrimary());
+			} while(accept("and"));
+			return conditions.size() == 1 ? conditions.get(0) : new SQLAnd(conditions);
+		}
+
+		private SQLCondition parsePrimary() throws SQLException, IOException {
+			if(accept("(")) {
+				SQLCondition condition = parseOr();
+				expect(")");
+				return condition;
+			}
+			SQLExpression expression;
+			try {
+				expression = parseSQLExpression(table, next("expression"));
+			} catch(IllegalArgumentException e) {
+				throw new SQLException("Parse error: " + e.getMessage(), e);
+			}
+			if(accept("is")) {
+				boolean not = accept("not");
+				expect("null");
+				return new SQLIsNull(expression, not);
+			}
+			boolean not = accept("not");
+			if(accept("in")) {
+				expect("(");
+				List<Object> values = new ArrayList<>();
+				do {
+					values.add(parseValue(expression, next("value")));
+				} while(accept(","));
+				expect(")");
+				return new SQLIn(expression, not, values.toArray());
+			}
+			if(accept("like")) {
+				return new SQLLike(expression, not, unquoteValue(next("pattern")));
+			}
+			if(not) throw new SQLException("Parse error: 'in' or 'like' expected after 'not'");
+			String operator = next("operator");
+			boolean found = false;
+			for(String op : OPERATORS) {
+				if(op.equals(operator)) {
+					found = true;
+					break;
+				}
+			}
+			if(!found) throw new SQLException("Parse error: operator expected, found '" + operator + '\'');
+			return new SQLComparison(expression, operator, parseValue(expression, next("value")));
+		}
+
+		private static Object parseValue(SQLExpression expression, String token) throws SQLException {
+			try {
+				return expression.getType().parseString(unquoteValue(token));
+			} catch(IllegalArgumentException | UnsupportedOperationException e) {
+				throw new SQLException("Parse error: invalid value for " + expression + ": " + token, e);
+			}
+		}
+
+		/**
+		 * Removes any ' quotes remaining around a value.
+		 */
+		private static String unquoteValue(String token) {
+			int len = token.length();
+			if(len >= 2 && token.charAt(0) == '\'' && token.charAt(len - 1) == '\'') {
+				return token.substring(1, len - 1).replace("''", "'");
+			}
+			return token;
+		}
+	}
+
 	public static SQLExpression parseSQLExpression(AOServTable<?, ?> table, String expr) throws SQLException, IOException {
 		AOServConnector connector = table.getConnector();
 		int joinPos = indexOfNotQuoted(expr, '.');
@@ -0,0 +1,69 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Matches when all of its conditions match.
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLAnd implements SQLCondition {
+
+	private final List<SQLCondition> conditions;
+
+	public SQLAnd(List<? extends SQLCondition> conditions) {
+		if(conditions.size() < 2) throw new IllegalArgumentException("At least two conditions required");
+		this.conditions = Collections.unmodifiableList(new ArrayList<>(conditions));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append('(');
+		for(int i = 0, size = conditions.size(); i < size; i++) {
+			if(i > 0) sb.append(" AND ");
+			sb.append(conditions.get(i));
+		}
+		return sb.append(')').toString();
+	}
+
+	public List<SQLCondition> getConditions() {
+		return conditions;
+	}
+
+	@Override
+	public boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException {
+		for(SQLCondition condition : conditions) {
+			if(!condition.matches(conn, obj)) return false;
+		}
+		return true;
+	}
+}
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -50,6 +50,13 @@ final public class SQLCast implements SQLExpression {
 		return expression.toString() + "::" + Parser.quote(castToType.getName());
 	}
 
+	/**
+	 * Gets the expression being cast.
+	 */
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
 	@Override
 	public String getColumnName() {
 		return castToType.getName();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -67,6 +67,34 @@ final public class SQLColumnJoin implements SQLExpression {
 		return expression.toString() + "." + Parser.quote(valueColumn.getName());
 	}
 
+	/**
+	 * Gets the expression providing the key value.
+	 */
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
+	/**
+	 * Gets the column the key value is looked up on.
+	 */
+	public Column getKeyColumn() {
+		return keyColumn;
+	}
+
+	/**
+	 * Gets the column of the joined row providing the value.
+	 */
+	public Column getValueColumn() {
+		return valueColumn;
+	}
+
+	/**
+	 * Gets the table the key value is looked up in.
+	 */
+	public AOServTable<?, ?> getTable() {
+		return table;
+	}
+
 	@Override
 	public String getColumnName() {
 		return valueColumn.getName();
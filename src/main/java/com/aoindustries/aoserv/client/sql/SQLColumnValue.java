@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -52,6 +52,13 @@ final public class SQLColumnValue implements SQLExpression {
 		return Parser.quote(column.getName());
 	}
 
+	/**
+	 * Gets the column whose value is selected.
+	 */
+	public Column getColumn() {
+		return column;
+	}
+
 	@Override
 	public String getColumnName() {
 		return column.getName();
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2002-2009, 2016, 2017, 2018, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2002-2009, 2016, 2017, 2018, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,7 +30,8 @@ import java.sql.SQLException;
 import java.util.Comparator;
 
 /**
- * Compares columns.
+ * Compares columns.  The expressions are {@linkplain SQLEvaluator compiled}
+ * once per comparator, so a comparator should be created for each sort.
  *
  * @author  AO Industries, Inc.
  */
@@ -39,6 +40,7 @@ final public class SQLComparator<T> implements Comparator<T> {
 	private final AOServConnector connector;
 	private final SQLExpression[] exprs;
 	private final boolean[] sortOrders;
+	private final SQLEvaluator evaluator;
 
 	public SQLComparator(
 		AOServConnector connector,
@@ -48,6 +50,7 @@ final public class SQLComparator<T> implements Comparator<T> {
 		this.connector=connector;
 		this.exprs=exprs;
 		this.sortOrders=sortOrders;
+		this.evaluator=SQLEvaluator.compile(connector, exprs);
 	}
 
 	@Override
@@ -57,7 +60,7 @@ final public class SQLComparator<T> implements Comparator<T> {
 				AOServObject<?, ?> AO1=(AOServObject)O1;
 				if(O2 instanceof AOServObject) {
 					AOServObject<?, ?> AO2=(AOServObject)O2;
-					return AO1.compareTo(connector, AO2, exprs, sortOrders);
+					return AO1.compareTo(evaluator, AO2, sortOrders);
 				} else if(O2 instanceof Object[]) {
 					return AO1.compareTo(connector, (Object[])O2, exprs, sortOrders);
 				} else if(O2 instanceof Comparable) {
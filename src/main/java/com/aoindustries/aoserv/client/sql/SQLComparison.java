@@ -0,0 +1,102 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Compares the value of an expression to a constant.
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLComparison implements SQLCondition {
+
+	public static final String
+		EQUAL = "=",
+		NOT_EQUAL = "<>",
+		LESS_THAN = "<",
+		LESS_THAN_OR_EQUAL = "<=",
+		GREATER_THAN = ">",
+		GREATER_THAN_OR_EQUAL = ">=";
+
+	private final SQLExpression expression;
+	private final String operator;
+	private final Object value;
+
+	/**
+	 * @param  operator  one of the operator constants of this class
+	 * @param  value  the constant, of the type of the expression
+	 */
+	public SQLComparison(SQLExpression expression, String operator, Object value) {
+		if(
+			!EQUAL.equals(operator)
+			&& !NOT_EQUAL.equals(operator)
+			&& !LESS_THAN.equals(operator)
+			&& !LESS_THAN_OR_EQUAL.equals(operator)
+			&& !GREATER_THAN.equals(operator)
+			&& !GREATER_THAN_OR_EQUAL.equals(operator)
+		) throw new IllegalArgumentException("Unknown operator: " + operator);
+		this.expression = expression;
+		this.operator = operator;
+		this.value = value;
+	}
+
+	@Override
+	public String toString() {
+		return expression.toString() + ' ' + operator + ' ' + Parser.quoteValue(expression.getType(), value);
+	}
+
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
+	public String getOperator() {
+		return operator;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	@Override
+	public boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException {
+		if(value == null) return false;
+		Object evaluated = expression.evaluate(conn, obj);
+		if(evaluated == null) return false;
+		Type type = expression.getType();
+		int diff = type.compareTo(evaluated, value);
+		switch(operator) {
+			case EQUAL                 : return diff == 0;
+			case NOT_EQUAL             : return diff != 0;
+			case LESS_THAN             : return diff < 0;
+			case LESS_THAN_OR_EQUAL    : return diff <= 0;
+			case GREATER_THAN          : return diff > 0;
+			case GREATER_THAN_OR_EQUAL : return diff >= 0;
+			default : throw new AssertionError("Unknown operator: " + operator);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * A condition used in the where clause of select statements.
+ * <p>
+ * As in SQL, a comparison with a <code>null</code> value never matches, other
+ * than by {@link SQLIsNull}.
+ * </p>
+ *
+ * @see  Parser#parseSQLCondition(com.aoindustries.aoserv.client.AOServTable, java.util.List)
+ *
+ * @author  AO Industries, Inc.
+ */
+public interface SQLCondition {
+
+	/**
+	 * Checks if the given object matches this condition.
+	 */
+	boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException;
+}
@@ -0,0 +1,260 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Evaluates expressions compiled once for one query, such as one sort or one
+ * select, instead of interpreting each {@link SQLExpression} per row.
+ * <p>
+ * Column values are accessed by their resolved column index, casts are
+ * resolved to their source and target types, and the rows joined by
+ * {@link SQLColumnJoin} are looked up once per key value for the whole query,
+ * shared by all expressions joining the same column.  The joined rows are
+ * therefore consistent within one query, even when the joined table is
+ * reloaded while the query is running.
+ * </p>
+ * <p>
+ * Expressions of other types are evaluated by {@link SQLExpression#evaluate(com.aoindustries.aoserv.client.AOServConnector, com.aoindustries.aoserv.client.AOServObject)}.
+ * </p>
+ * <p>
+ * An evaluator may be used by multiple threads, such as by a parallel sort,
+ * but should not be kept beyond the query it was compiled for.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLEvaluator {
+
+	/**
+	 * One compiled expression.
+	 */
+	private abstract static class Evaluator {
+		abstract Object evaluate(AOServObject<?, ?> obj) throws IOException, SQLException;
+	}
+
+	private static final class ColumnEvaluator extends Evaluator {
+
+		private final int index;
+
+		private ColumnEvaluator(int index) {
+			this.index = index;
+		}
+
+		@Override
+		Object evaluate(AOServObject<?, ?> obj) {
+			return obj.getColumn(index);
+		}
+	}
+
+	/**
+	 * Marks a key value that joins to no row.
+	 */
+	private static final Object NO_ROW = new Object();
+
+	/**
+	 * The rows joined by one key column, shared by all joins on the same column.
+	 */
+	private static final class JoinedRows {
+
+		private final AOServTable<?, ?> table;
+		private final int keyIndex;
+		private final ConcurrentMap<Object, Object> rows = new ConcurrentHashMap<>();
+
+		private JoinedRows(AOServTable<?, ?> table, int keyIndex) {
+			this.table = table;
+			this.keyIndex = keyIndex;
+		}
+
+		private AOServObject<?, ?> getRow(Object keyValue) throws IOException, SQLException {
+			Object row = rows.get(keyValue);
+			if(row == null) {
+				row = table.getUniqueRow(keyIndex, keyValue);
+				if(row == null) row = NO_ROW;
+				Object existing = rows.putIfAbsent(keyValue, row);
+				if(existing != null) row = existing;
+			}
+			return row == NO_ROW ? null : (AOServObject<?, ?>)row;
+		}
+	}
+
+	private static final class JoinEvaluator extends Evaluator {
+
+		private final Evaluator key;
+		private final JoinedRows joined;
+		private final int valueIndex;
+
+		private JoinEvaluator(Evaluator key, JoinedRows joined, int valueIndex) {
+			this.key = key;
+			this.joined = joined;
+			this.valueIndex = valueIndex;
+		}
+
+		@Override
+		Object evaluate(AOServObject<?, ?> obj) throws IOException, SQLException {
+			Object keyValue = key.evaluate(obj);
+			if(keyValue != null) {
+				AOServObject<?, ?> row = joined.getRow(keyValue);
+				if(row != null) return row.getColumn(valueIndex);
+			}
+			return null;
+		}
+	}
+
+	private static final class CastEvaluator extends Evaluator {
+
+		private final AOServConnector conn;
+		private final Evaluator expression;
+		private final Type fromType;
+		private final Type castToType;
+
+		private CastEvaluator(AOServConnector conn, Evaluator expression, Type fromType, Type castToType) {
+			this.conn = conn;
+			this.expression = expression;
+			this.fromType = fromType;
+			this.castToType = castToType;
+		}
+
+		@Override
+		Object evaluate(AOServObject<?, ?> obj) throws IOException, SQLException {
+			return fromType.cast(conn, expression.evaluate(obj), castToType);
+		}
+	}
+
+	private static final class InterpretedEvaluator extends Evaluator {
+
+		private final AOServConnector conn;
+		private final SQLExpression expression;
+
+		private InterpretedEvaluator(AOServConnector conn, SQLExpression expression) {
+			this.conn = conn;
+			this.expression = expression;
+		}
+
+		@Override
+		Object evaluate(AOServObject<?, ?> obj) throws IOException, SQLException {
+			return expression.evaluate(conn, obj);
+		}
+	}
+
+	/**
+	 * Compiles the given expressions for one query.
+	 */
+	public static SQLEvaluator compile(AOServConnector conn, SQLExpression ... expressions) {
+		Map<AOServTable<?, ?>, Map<Integer, JoinedRows>> joins = new HashMap<>();
+		int len = expressions.length;
+		Evaluator[] evaluators = new Evaluator[len];
+		Type[] types = new Type[len];
+		for(int c = 0; c < len; c++) {
+			SQLExpression expression = expressions[c];
+			evaluators[c] = compile(conn, expression, joins);
+			types[c] = expression.getType();
+		}
+		return new SQLEvaluator(expressions.clone(), evaluators, types);
+	}
+
+	private static Evaluator compile(AOServConnector conn, SQLExpression expression, Map<AOServTable<?, ?>, Map<Integer, JoinedRows>> joins) {
+		if(expression instanceof SQLColumnValue) {
+			return new ColumnEvaluator(((SQLColumnValue)expression).getColumn().getIndex());
+		}
+		if(expression instanceof SQLColumnJoin) {
+			SQLColumnJoin join = (SQLColumnJoin)expression;
+			AOServTable<?, ?> table = join.getTable();
+			int keyIndex = join.getKeyColumn().getIndex();
+			Map<Integer, JoinedRows> byKey = joins.get(table);
+			if(byKey == null) {
+				byKey = new HashMap<>();
+				joins.put(table, byKey);
+			}
+			JoinedRows joined = byKey.get(keyIndex);
+			if(joined == null) {
+				joined = new JoinedRows(table, keyIndex);
+				byKey.put(keyIndex, joined);
+			}
+			return new JoinEvaluator(
+				compile(conn, join.getExpression(), joins),
+				joined,
+				join.getValueColumn().getIndex()
+			);
+		}
+		if(expression instanceof SQLCast) {
+			SQLCast cast = (SQLCast)expression;
+			SQLExpression castExpression = cast.getExpression();
+			return new CastEvaluator(
+				conn,
+				compile(conn, castExpression, joins),
+				castExpression.getType(),
+				cast.getType()
+			);
+		}
+		return new InterpretedEvaluator(conn, expression);
+	}
+
+	private final SQLExpression[] expressions;
+	private final Evaluator[] evaluators;
+	private final Type[] types;
+
+	private SQLEvaluator(SQLExpression[] expressions, Evaluator[] evaluators, Type[] types) {
+		this.expressions = expressions;
+		this.evaluators = evaluators;
+		this.types = types;
+	}
+
+	/**
+	 * Gets the number of expressions.
+	 */
+	public int size() {
+		return expressions.length;
+	}
+
+	/**
+	 * Gets one of the expressions compiled.
+	 */
+	public SQLExpression getExpression(int expr) {
+		return expressions[expr];
+	}
+
+	/**
+	 * Gets the result type of one of the expressions.
+	 */
+	public Type getType(int expr) {
+		return types[expr];
+	}
+
+	/**
+	 * Evaluates one of the expressions on the given object.
+	 */
+	public Object evaluate(int expr, AOServObject<?, ?> obj) throws IOException, SQLException {
+		return evaluators[expr].evaluate(obj);
+	}
+}
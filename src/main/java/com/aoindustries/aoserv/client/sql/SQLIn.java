@@ -0,0 +1,97 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Matches the value of an expression against a list of constants.
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLIn implements SQLCondition {
+
+	private final SQLExpression expression;
+	private final boolean not;
+	private final Object[] values;
+
+	/**
+	 * @param  not  when <code>true</code>, matches values not in the list
+	 * @param  values  the constants, of the type of the expression
+	 */
+	public SQLIn(SQLExpression expression, boolean not, Object ... values) {
+		if(values.length == 0) throw new IllegalArgumentException("values is empty");
+		this.expression = expression;
+		this.not = not;
+		this.values = values.clone();
+	}
+
+	@Override
+	public String toString() {
+		Type type = expression.getType();
+		StringBuilder sb = new StringBuilder();
+		sb.append(expression).append(not ? " NOT IN (" : " IN (");
+		for(int i = 0; i < values.length; i++) {
+			if(i > 0) sb.append(", ");
+			sb.append(Parser.quoteValue(type, values[i]));
+		}
+		return sb.append(')').toString();
+	}
+
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
+	public boolean isNot() {
+		return not;
+	}
+
+	public List<Object> getValues() {
+		return Collections.unmodifiableList(Arrays.asList(values));
+	}
+
+	@Override
+	public boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException {
+		Object evaluated = expression.evaluate(conn, obj);
+		if(evaluated == null) return false;
+		Type type = expression.getType();
+		boolean found = false;
+		for(Object value : values) {
+			if(value == null) {
+				// NOT IN with a null never matches
+				if(not) return false;
+			} else if(type.compareTo(evaluated, value) == 0) {
+				found = true;
+				break;
+			}
+		}
+		return found != not;
+	}
+}
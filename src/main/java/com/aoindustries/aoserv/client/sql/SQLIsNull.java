@@ -0,0 +1,65 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Matches when the value of an expression is, or is not, <code>null</code>.
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLIsNull implements SQLCondition {
+
+	private final SQLExpression expression;
+	private final boolean not;
+
+	/**
+	 * @param  not  when <code>true</code>, matches values that are not <code>null</code>
+	 */
+	public SQLIsNull(SQLExpression expression, boolean not) {
+		this.expression = expression;
+		this.not = not;
+	}
+
+	@Override
+	public String toString() {
+		return expression.toString() + (not ? " IS NOT NULL" : " IS NULL");
+	}
+
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
+	public boolean isNot() {
+		return not;
+	}
+
+	@Override
+	public boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException {
+		return (expression.evaluate(conn, obj) == null) != not;
+	}
+}
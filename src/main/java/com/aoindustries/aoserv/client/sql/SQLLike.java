@@ -0,0 +1,93 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.regex.Pattern;
+
+/**
+ * Matches the value of an expression, as displayed, against a pattern where
+ * <code>%</code> matches any sequence of characters and <code>_</code> matches
+ * any single character.
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLLike implements SQLCondition {
+
+	private final SQLExpression expression;
+	private final boolean not;
+	private final String pattern;
+	private final Pattern compiled;
+
+	/**
+	 * @param  not  when <code>true</code>, matches values not matching the pattern
+	 */
+	public SQLLike(SQLExpression expression, boolean not, String pattern) {
+		this.expression = expression;
+		this.not = not;
+		this.pattern = pattern;
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		for(int i = 0, len = pattern.length(); i < len; i++) {
+			char ch = pattern.charAt(i);
+			if(ch == '%' || ch == '_') {
+				if(literal.length() > 0) {
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				regex.append(ch == '%' ? ".*" : ".");
+			} else {
+				literal.append(ch);
+			}
+		}
+		if(literal.length() > 0) regex.append(Pattern.quote(literal.toString()));
+		this.compiled = Pattern.compile(regex.toString(), Pattern.DOTALL);
+	}
+
+	@Override
+	public String toString() {
+		return expression.toString() + (not ? " NOT LIKE " : " LIKE ") + Parser.quoteValue(pattern);
+	}
+
+	public SQLExpression getExpression() {
+		return expression;
+	}
+
+	public boolean isNot() {
+		return not;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	@Override
+	public boolean matches(AOServConnector conn, AOServObject<?, ?> obj) throws IOException, SQLException {
+		Object evaluated = expression.evaluate(conn, obj);
+		if(evaluated == null) return false;
+		return compiled.matcher(expression.getType().getString(evaluated, -1)).matches() != not;
+	}
+}
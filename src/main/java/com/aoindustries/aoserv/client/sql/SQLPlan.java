@@ -0,0 +1,300 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.schema.Column;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects the rows of one table matching a where clause.  An equality or
+ * <code>IN</code> condition on a column, required by the top-level
+ * <code>AND</code>, is answered by {@link AOServTable#getUniqueRow(int, java.lang.Object)}
+ * for unique columns or {@link AOServTable#getIndexedRows(int, java.lang.Object)}
+ * otherwise, instead of scanning all rows.  The other conditions filter the
+ * rows looked up.
+ * <p>
+ * The rows are selected in the default order of the table, except when looked
+ * up by more than one value, where they are in the order of the values.  See
+ * {@link #isDefaultOrder()}.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLPlan {
+
+	/**
+	 * The ways the rows are accessed.
+	 */
+	public enum Access {
+		SCAN("Sequential scan"),
+		UNIQUE("Unique lookup"),
+		INDEXED("Index lookup");
+
+		private final String display;
+
+		private Access(String display) {
+			this.display = display;
+		}
+
+		@Override
+		public String toString() {
+			return display;
+		}
+	}
+
+	/**
+	 * Plans the selection of the rows of the given table.
+	 *
+	 * @param  condition  the where clause or <code>null</code> to select all rows
+	 */
+	public static SQLPlan plan(AOServTable<?, ?> table, SQLCondition condition) throws IOException, SQLException {
+		List<SQLCondition> conditions;
+		if(condition == null) conditions = Collections.emptyList();
+		else if(condition instanceof SQLAnd) conditions = ((SQLAnd)condition).getConditions();
+		else conditions = Collections.singletonList(condition);
+		// Choose the lookup with the fewest values, preferring unique columns
+		SQLCondition lookup = null;
+		Column lookupColumn = null;
+		List<Object> lookupValues = null;
+		boolean lookupUnique = false;
+		for(SQLCondition c : conditions) {
+			SQLExpression expression;
+			List<Object> values;
+			if(c instanceof SQLComparison && SQLComparison.EQUAL.equals(((SQLComparison)c).getOperator())) {
+				SQLComparison comparison = (SQLComparison)c;
+				expression = comparison.getExpression();
+				values = Collections.singletonList(comparison.getValue());
+			} else if(c instanceof SQLIn && !((SQLIn)c).isNot()) {
+				SQLIn in = (SQLIn)c;
+				expression = in.getExpression();
+				values = new ArrayList<>();
+				for(Object value : in.getValues()) {
+					if(!values.contains(value)) values.add(value);
+				}
+			} else {
+				continue;
+			}
+			if(!(expression instanceof SQLColumnValue) || values.contains(null) || !isLookupType(expression.getType())) continue;
+			Column column = ((SQLColumnValue)expression).getColumn();
+			boolean unique = column.isUnique();
+			if(
+				lookup == null
+				|| (unique && !lookupUnique)
+				|| (unique == lookupUnique && values.size() < lookupValues.size())
+			) {
+				lookup = c;
+				lookupColumn = column;
+				lookupValues = values;
+				lookupUnique = unique;
+			}
+		}
+		List<SQLCondition> filters = new ArrayList<>(conditions);
+		if(lookup != null) filters.remove(lookup);
+		return new SQLPlan(
+			table,
+			conditions,
+			lookup == null ? Access.SCAN : lookupUnique ? Access.UNIQUE : Access.INDEXED,
+			lookup,
+			lookupColumn,
+			lookupValues,
+			filters
+		);
+	}
+
+	/**
+	 * Only types where equal values are also {@link Object#equals(java.lang.Object)}
+	 * are looked up, since the lookups are hashed.
+	 */
+	private static boolean isLookupType(Type type) {
+		switch(type.getId()) {
+			case Type.DATE:
+			case Type.TIME:
+			case Type.DOUBLE:
+			case Type.FLOAT:
+			case Type.BIG_DECIMAL:
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	private final AOServTable<?, ?> table;
+	private final List<SQLCondition> conditions;
+	private final Access access;
+	private final SQLCondition lookup;
+	private final Column lookupColumn;
+	private final List<Object> lookupValues;
+	private final List<SQLCondition> filters;
+
+	/**
+	 * The results of the last execution, for {@link #explain()}.
+	 */
+	private Access executedAccess;
+	private int accessedRows = -1;
+	private int selectedRows = -1;
+
+	private SQLPlan(
+		AOServTable<?, ?> table,
+		List<SQLCondition> conditions,
+		Access access,
+		SQLCondition lookup,
+		Column lookupColumn,
+		List<Object> lookupValues,
+		List<SQLCondition> filters
+	) {
+		this.table = table;
+		this.conditions = conditions;
+		this.access = access;
+		this.lookup = lookup;
+		this.lookupColumn = lookupColumn;
+		this.lookupValues = lookupValues;
+		this.filters = filters;
+	}
+
+	public Access getAccess() {
+		return access;
+	}
+
+	/**
+	 * Gets the condition answered by the lookup or <code>null</code> when scanned.
+	 */
+	public SQLCondition getLookup() {
+		return lookup;
+	}
+
+	/**
+	 * Gets the conditions that filter the rows accessed.
+	 */
+	public List<SQLCondition> getFilters() {
+		return Collections.unmodifiableList(filters);
+	}
+
+	/**
+	 * Checks if the rows are selected in the default order of the table.  Rows
+	 * looked up by more than one value are grouped by value instead, and are
+	 * in a new list that may be sorted by the caller.
+	 */
+	public boolean isDefaultOrder() {
+		Access accessed = executedAccess == null ? access : executedAccess;
+		return accessed == Access.SCAN || lookupValues.size() < 2;
+	}
+
+	/**
+	 * Selects the rows.  When the table does not support unique or index lookups
+	 * on the column, all rows are scanned instead.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<AOServObject<?, ?>> execute() throws IOException, SQLException {
+		AOServConnector conn = table.getConnector();
+		List<AOServObject<?, ?>> rows = null;
+		List<SQLCondition> rowFilters = filters;
+		Access accessed = access;
+		if(access == Access.UNIQUE) {
+			try {
+				rows = new ArrayList<>(lookupValues.size());
+				for(Object value : lookupValues) {
+					AOServObject<?, ?> row = table.getUniqueRow(lookupColumn.getIndex(), value);
+					if(row != null) rows.add(row);
+				}
+			} catch(IllegalArgumentException | UnsupportedOperationException e) {
+				// Not a unique column of the table, or not supported by the table
+				rows = null;
+				rowFilters = conditions;
+				accessed = Access.SCAN;
+			}
+		} else if(access == Access.INDEXED) {
+			try {
+				if(lookupValues.size() == 1) {
+					rows = (List<AOServObject<?, ?>>)table.getIndexedRows(lookupColumn.getIndex(), lookupValues.get(0));
+				} else {
+					rows = new ArrayList<>();
+					for(Object value : lookupValues) {
+						rows.addAll(table.getIndexedRows(lookupColumn.getIndex(), value));
+					}
+				}
+			} catch(UnsupportedOperationException e) {
+				// Not supported by the table for this column
+				rows = null;
+				rowFilters = conditions;
+				accessed = Access.SCAN;
+			}
+		}
+		if(rows == null) {
+			rows = (List<AOServObject<?, ?>>)table.getRows();
+		}
+		int accessedCount = rows.size();
+		if(!rowFilters.isEmpty()) {
+			List<AOServObject<?, ?>> matches = new ArrayList<>();
+			for(AOServObject<?, ?> row : rows) {
+				boolean matched = true;
+				for(SQLCondition filter : rowFilters) {
+					if(!filter.matches(conn, row)) {
+						matched = false;
+						break;
+					}
+				}
+				if(matched) matches.add(row);
+			}
+			rows = matches;
+		}
+		executedAccess = accessed;
+		accessedRows = accessedCount;
+		selectedRows = rows.size();
+		return rows;
+	}
+
+	/**
+	 * Describes this plan, one step per line, including the row counts of the
+	 * last execution.
+	 */
+	public List<String> explain() {
+		List<String> lines = new ArrayList<>();
+		String tableName = Parser.quote(table.getTableName());
+		Access accessed = executedAccess == null ? access : executedAccess;
+		StringBuilder line = new StringBuilder();
+		line.append(accessed).append(" on ").append(tableName);
+		if(accessed != Access.SCAN) {
+			line.append(accessed == Access.UNIQUE ? " using getUniqueRow(" : " using getIndexedRows(").append(lookup).append(')');
+		} else if(access != Access.SCAN) {
+			line.append(" (").append(access).append(" not supported for ").append(Parser.quote(lookupColumn.getName())).append(')');
+		}
+		if(accessedRows != -1) line.append(": ").append(accessedRows).append(accessedRows == 1 ? " row" : " rows");
+		lines.add(line.toString());
+		List<SQLCondition> rowFilters = accessed == access ? filters : conditions;
+		if(!rowFilters.isEmpty()) {
+			line.setLength(0);
+			line.append("Filter: ").append(rowFilters.size() == 1 ? rowFilters.get(0) : new SQLAnd(rowFilters));
+			if(selectedRows != -1) line.append(": ").append(selectedRows).append(selectedRows == 1 ? " row" : " rows");
+			lines.add(line.toString());
+		}
+		return lines;
+	}
+}
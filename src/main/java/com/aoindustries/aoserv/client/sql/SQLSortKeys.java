@@ -0,0 +1,379 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoapps.lang.exception.WrappedException;
+import com.aoindustries.aoserv.client.AOServConnector;
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts rows by evaluating the sort key of each row once, sorting on the
+ * keys, then putting the rows into the order of their keys.  A
+ * {@link SQLComparator} instead evaluates every expression for both rows on
+ * every comparison.
+ * <p>
+ * Keys of the integral, boolean, and date types are kept in a <code>long[]</code>
+ * per expression, and the keys of all other types are compared by
+ * {@link Type#compareTo(java.lang.Object, java.lang.Object)}.  The order is
+ * the same as a {@link SQLComparator}, including nulls sorting before all
+ * other values, and rows with equal keys kept in their original order.
+ * </p>
+ * <p>
+ * The keys are always evaluated by the calling thread, which may be loading a
+ * table while holding its monitor, so that expressions joining back to the
+ * same table do not block on other threads.  Only the comparisons of the
+ * keys are done in parallel.
+ * </p>
+ * <p>
+ * All rows are held in heap while sorting a list or array, so this is not used
+ * for tables that sort with less memory, such as by
+ * {@link com.aoapps.hodgepodge.sort.FastQSort}.  Those may instead get only
+ * the order with {@link #sortIndexes(com.aoindustries.aoserv.client.AOServConnector, java.util.List, com.aoindustries.aoserv.client.sql.SQLExpression[], boolean[], boolean)},
+ * which reads each row once to evaluate its keys without retaining it.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class SQLSortKeys {
+
+	/**
+	 * Checks if the values of the given type are compared by a <code>long</code> key.
+	 */
+	private static boolean isLongKey(Type type) {
+		switch(type.getId()) {
+			case Type.BOOLEAN:
+			case Type.DATE:
+			case Type.DECIMAL_2:
+			case Type.DECIMAL_3:
+			case Type.FKEY:
+			case Type.INT:
+			case Type.PKEY:
+			case Type.INTERVAL:
+			case Type.LONG:
+			case Type.OCTAL_LONG:
+			case Type.SHORT:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Gets the <code>long</code> key, in the same order as {@link Type#compareTo(java.lang.Object, java.lang.Object)}.
+	 */
+	private static long getLongKey(int typeId, Object value) {
+		switch(typeId) {
+			case Type.BOOLEAN:
+				return ((Boolean)value) ? 1 : 0;
+			case Type.DATE:
+				return Type.getDaysFromMillis(((java.sql.Date)value).getTime());
+			default:
+				return ((Number)value).longValue();
+		}
+	}
+
+	/**
+	 * Sorts the given list.
+	 *
+	 * @param  parallel  when <code>true</code>, sorts the keys on multiple threads
+	 */
+	public static <T extends AOServObject<?, ?>> void sort(
+		AOServConnector conn,
+		List<T> list,
+		SQLExpression[] sortExpressions,
+		boolean[] sortOrders,
+		boolean parallel
+	) throws IOException, SQLException {
+		int size = list.size();
+		if(size < 2) return;
+		@SuppressWarnings("unchecked")
+		T[] rows = (T[])list.toArray(new AOServObject<?, ?>[size]);
+		int[] order = new SQLSortKeys(SQLEvaluator.compile(conn, sortExpressions), sortOrders, Arrays.asList(rows)).sortIndexes(parallel);
+		ListIterator<T> iter = list.listIterator();
+		for(int index : order) {
+			iter.next();
+			iter.set(rows[index]);
+		}
+	}
+
+	/**
+	 * Sorts the given array.
+	 *
+	 * @param  parallel  when <code>true</code>, sorts the keys on multiple threads
+	 */
+	public static <T extends AOServObject<?, ?>> void sort(
+		AOServConnector conn,
+		T[] array,
+		SQLExpression[] sortExpressions,
+		boolean[] sortOrders,
+		boolean parallel
+	) throws IOException, SQLException {
+		sort(conn, Arrays.asList(array), sortExpressions, sortOrders, parallel);
+	}
+
+	/**
+	 * Gets the indexes of the given rows in sorted order, without moving any row.
+	 * Each row is read once, by the calling thread, to evaluate its keys.
+	 *
+	 * @param  rows      the rows, which should support fast random access
+	 * @param  parallel  when <code>true</code>, sorts the keys on multiple threads
+	 */
+	public static int[] sortIndexes(
+		AOServConnector conn,
+		List<? extends AOServObject<?, ?>> rows,
+		SQLExpression[] sortExpressions,
+		boolean[] sortOrders,
+		boolean parallel
+	) throws IOException, SQLException {
+		int size = rows.size();
+		if(size < 2) {
+			int[] order = new int[size];
+			for(int index = 0; index < size; index++) {
+				order[index] = index;
+			}
+			return order;
+		}
+		return new SQLSortKeys(SQLEvaluator.compile(conn, sortExpressions), sortOrders, rows).sortIndexes(parallel);
+	}
+
+	private final SQLEvaluator evaluator;
+	private final boolean[] sortOrders;
+	private final int size;
+	private final Type[] types;
+
+	/**
+	 * The <code>long</code> keys per expression, or <code>null</code> when compared as objects.
+	 */
+	private final long[][] longKeys;
+
+	/**
+	 * The null keys per <code>long</code> expression, or <code>null</code> when it has no nulls.
+	 */
+	private final boolean[][] nullKeys;
+
+	/**
+	 * The object keys per expression, or <code>null</code> when compared as <code>long</code>.
+	 */
+	private final Object[][] objectKeys;
+
+	private SQLSortKeys(SQLEvaluator evaluator, boolean[] sortOrders, List<? extends AOServObject<?, ?>> rows) throws IOException, SQLException {
+		int numExprs = evaluator.size();
+		if(sortOrders.length != numExprs) throw new IllegalArgumentException("Mismatched array lengths: sortExpressions.length=" + numExprs + ", sortOrders.length=" + sortOrders.length);
+		this.evaluator = evaluator;
+		this.sortOrders = sortOrders;
+		this.size = rows.size();
+		this.types = new Type[numExprs];
+		this.longKeys = new long[numExprs][];
+		this.nullKeys = new boolean[numExprs][];
+		this.objectKeys = new Object[numExprs][];
+		for(int expr = 0; expr < numExprs; expr++) {
+			Type type = evaluator.getType(expr);
+			types[expr] = type;
+			if(isLongKey(type)) longKeys[expr] = new long[size];
+			else objectKeys[expr] = new Object[size];
+		}
+		for(int index = 0; index < size; index++) {
+			evaluate(rows.get(index), index);
+		}
+	}
+
+	/**
+	 * Evaluates the keys of one row.
+	 */
+	private void evaluate(AOServObject<?, ?> row, int index) throws IOException, SQLException {
+		for(int expr = 0; expr < types.length; expr++) {
+			Object value = evaluator.evaluate(expr, row);
+			long[] longs = longKeys[expr];
+			if(longs == null) {
+				objectKeys[expr][index] = value;
+			} else if(value == null) {
+				boolean[] nulls = nullKeys[expr];
+				if(nulls == null) nullKeys[expr] = nulls = new boolean[size];
+				nulls[index] = true;
+			} else {
+				try {
+					longs[index] = getLongKey(types[expr].getId(), value);
+				} catch(ClassCastException e) {
+					throw new SQLException(
+						"expr......: " + evaluator.getExpression(expr) + "\n"
+						+ "type......: " + types[expr] + "\n"
+						+ "row.......: " + row + "\n"
+						+ "rowKey....: " + row.getKey(),
+						e
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the keys of two rows.
+	 */
+	private int compare(int index1, int index2) throws SQLException {
+		for(int expr = 0; expr < types.length; expr++) {
+			int diff;
+			long[] longs = longKeys[expr];
+			if(longs == null) {
+				Object[] objects = objectKeys[expr];
+				try {
+					diff = types[expr].compareTo(objects[index1], objects[index2]);
+				} catch(IllegalArgumentException | ClassCastException | UnknownHostException e) {
+					throw new SQLException(
+						"expr......: " + evaluator.getExpression(expr) + "\n"
+						+ "type......: " + types[expr],
+						e
+					);
+				}
+			} else {
+				boolean[] nulls = nullKeys[expr];
+				boolean null1 = nulls != null && nulls[index1];
+				boolean null2 = nulls != null && nulls[index2];
+				if(null1) diff = null2 ? 0 : -1;
+				else if(null2) diff = 1;
+				else diff = Long.compare(longs[index1], longs[index2]);
+			}
+			if(diff != 0) return sortOrders[expr] ? diff : -diff;
+		}
+		return 0;
+	}
+
+	/**
+	 * Ranges of at most this many indexes are sorted by insertion sort.
+	 */
+	private static final int INSERTION_SORT_THRESHOLD = 7;
+
+	/**
+	 * Ranges of at most this many indexes are sorted by a single thread.
+	 */
+	private static final int PARALLEL_GRANULARITY = 1 << 13;
+
+	/**
+	 * Sorts the indexes of the rows by their keys.  The merge sort is stable,
+	 * so the parallel sort orders ties the same as the sequential sort.
+	 */
+	private int[] sortIndexes(boolean parallel) throws SQLException {
+		int[] order = new int[size];
+		for(int index = 0; index < size; index++) {
+			order[index] = index;
+		}
+		int[] buffer = order.clone();
+		if(parallel) {
+			try {
+				ForkJoinPool.commonPool().invoke(new MergeSortTask(buffer, order, 0, size));
+			} catch(WrappedException e) {
+				Throwable cause = e.getCause();
+				if(cause instanceof SQLException) throw (SQLException)cause;
+				throw e;
+			}
+		} else {
+			mergeSort(buffer, order, 0, size);
+		}
+		return order;
+	}
+
+	/**
+	 * Sorts <code>dest</code> from <code>low</code>, inclusive, to <code>high</code>,
+	 * exclusive, using <code>src</code>, which starts with the same indexes, as scratch.
+	 */
+	private void mergeSort(int[] src, int[] dest, int low, int high) throws SQLException {
+		if(high - low <= INSERTION_SORT_THRESHOLD) {
+			for(int i = low + 1; i < high; i++) {
+				int index = dest[i];
+				int j = i;
+				while(j > low && compare(dest[j - 1], index) > 0) {
+					dest[j] = dest[j - 1];
+					j--;
+				}
+				dest[j] = index;
+			}
+		} else {
+			int mid = (low + high) >>> 1;
+			mergeSort(dest, src, low, mid);
+			mergeSort(dest, src, mid, high);
+			merge(src, dest, low, mid, high);
+		}
+	}
+
+	/**
+	 * Merges the sorted halves of <code>src</code> into <code>dest</code>,
+	 * taking from the first half on ties.
+	 */
+	private void merge(int[] src, int[] dest, int low, int mid, int high) throws SQLException {
+		if(compare(src[mid - 1], src[mid]) <= 0) {
+			// Already in order
+			System.arraycopy(src, low, dest, low, high - low);
+		} else {
+			for(int i = low, p = low, q = mid; i < high; i++) {
+				if(q >= high || (p < mid && compare(src[p], src[q]) <= 0)) dest[i] = src[p++];
+				else dest[i] = src[q++];
+			}
+		}
+	}
+
+	/**
+	 * Sorts the two halves of a range in parallel, then merges them.
+	 */
+	private final class MergeSortTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] src;
+		private final int[] dest;
+		private final int low;
+		private final int high;
+
+		private MergeSortTask(int[] src, int[] dest, int low, int high) {
+			this.src = src;
+			this.dest = dest;
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				if(high - low <= PARALLEL_GRANULARITY) {
+					mergeSort(src, dest, low, high);
+				} else {
+					int mid = (low + high) >>> 1;
+					invokeAll(
+						new MergeSortTask(dest, src, low, mid),
+						new MergeSortTask(dest, src, mid, high)
+					);
+					merge(src, dest, low, mid, high);
+				}
+			} catch(SQLException e) {
+				throw new WrappedException(e);
+			}
+		}
+	}
+}
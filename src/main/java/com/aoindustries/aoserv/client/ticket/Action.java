@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,12 +25,12 @@ package com.aoindustries.aoserv.client.ticket;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.i18n.Resources;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.User;
@@ -396,19 +396,19 @@ final public class Action extends CachedObjectIntegerKey<Action> {
 		try {
 			pkey = in.readCompressedInt();
 			ticket = in.readCompressedInt();
-			administrator = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
+			administrator = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
 			time = SQLStreamables.readUnmodifiableTimestamp(in);
-			action_type = in.readUTF().intern();
-			old_accounting = InternUtils.intern(Account.Name.valueOf(in.readNullUTF()));
-			new_accounting = InternUtils.intern(Account.Name.valueOf(in.readNullUTF()));
-			old_priority = InternUtils.intern(in.readNullUTF());
-			new_priority = InternUtils.intern(in.readNullUTF());
-			old_type = InternUtils.intern(in.readNullUTF());
-			new_type = InternUtils.intern(in.readNullUTF());
-			old_status = InternUtils.intern(in.readNullUTF());
-			new_status = InternUtils.intern(in.readNullUTF());
-			old_assigned_to = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
-			new_assigned_to = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
+			action_type = ValuePool.dedup(in.readUTF());
+			old_accounting = ValuePool.dedup(Account.Name.valueOf(in.readNullUTF()));
+			new_accounting = ValuePool.dedup(Account.Name.valueOf(in.readNullUTF()));
+			old_priority = ValuePool.dedup(in.readNullUTF());
+			new_priority = ValuePool.dedup(in.readNullUTF());
+			old_type = ValuePool.dedup(in.readNullUTF());
+			new_type = ValuePool.dedup(in.readNullUTF());
+			old_status = ValuePool.dedup(in.readNullUTF());
+			new_status = ValuePool.dedup(in.readNullUTF());
+			old_assigned_to = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
+			new_assigned_to = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
 			old_category = in.readCompressedInt();
 			new_category = in.readCompressedInt();
 			// Loaded only when needed: old_value
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2020  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2020, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,10 +24,12 @@ package com.aoindustries.aoserv.client.ticket;
 
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.RangeIndex;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.schema.Table;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.List;
 
 /**
@@ -66,6 +68,26 @@ final public class ActionTable extends CachedTableIntegerKey<Action> {
 		return getIndexedRows(Action.COLUMN_ADMINISTRATOR, ba.getUsername_userId());
 	}
 
+	private static final RangeIndex<Timestamp> timeIndex = new RangeIndex<>(Action.COLUMN_TIME, Timestamp.class);
+
+	/**
+	 * Gets the actions from <code>from</code>, inclusive, to <code>to</code>, exclusive,
+	 * ordered by time.
+	 *
+	 * @param  from  the start time or {@code null} for no lower bound
+	 * @param  to    the end time or {@code null} for no upper bound
+	 */
+	public List<Action> getActionsBetween(Timestamp from, Timestamp to) throws IOException, SQLException {
+		return getRowsBetween(timeIndex, from, to);
+	}
+
+	/**
+	 * Gets up to the given number of most recent actions, ordered by time.
+	 */
+	public List<Action> getLatestActions(int count) throws IOException, SQLException {
+		return getLatestRows(timeIndex, count);
+	}
+
 	@Override
 	public Table.TableID getTableID() {
 		return Table.TableID.TICKET_ACTIONS;
@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2000-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,13 +27,13 @@ import com.aoapps.collections.IntList;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
 import com.aoapps.lang.Strings;
-import com.aoapps.lang.util.InternUtils;
 import com.aoapps.lang.validation.ValidationException;
 import com.aoapps.net.Email;
 import com.aoapps.sql.SQLStreamables;
 import com.aoapps.sql.UnmodifiableTimestamp;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.Administrator;
 import com.aoindustries.aoserv.client.account.Profile;
@@ -176,24 +176,24 @@ final public class Ticket extends CachedObjectIntegerKey<Ticket> {
 	public void read(StreamableInput in, AoservProtocol.Version protocolVersion) throws IOException {
 		try {
 			pkey = in.readCompressedInt();
-			brand = Account.Name.valueOf(in.readUTF()).intern();
+			brand = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
 			String resellerStr = in.readUTF();
 			if(AoservProtocol.FILTERED.equals(resellerStr)) {
 				reseller = null;
 			} else {
-				reseller = Account.Name.valueOf(resellerStr).intern();
+				reseller = ValuePool.dedup(Account.Name.valueOf(resellerStr));
 			}
-			accounting = InternUtils.intern(Account.Name.valueOf(in.readNullUTF()));
-			language = in.readUTF().intern();
-			created_by = InternUtils.intern(User.Name.valueOf(in.readNullUTF()));
+			accounting = ValuePool.dedup(Account.Name.valueOf(in.readNullUTF()));
+			language = ValuePool.dedup(in.readUTF());
+			created_by = ValuePool.dedup(User.Name.valueOf(in.readNullUTF()));
 			category = in.readCompressedInt();
-			ticket_type = in.readUTF().intern();
+			ticket_type = ValuePool.dedup(in.readUTF());
 			from_address = Email.valueOf(in.readNullUTF());
 			summary = in.readUTF();
 			open_date = SQLStreamables.readUnmodifiableTimestamp(in);
-			client_priority = in.readUTF().intern();
-			admin_priority = InternUtils.intern(in.readNullUTF());
-			status = in.readUTF().intern();
+			client_priority = ValuePool.dedup(in.readUTF());
+			admin_priority = ValuePool.dedup(in.readNullUTF());
+			status = ValuePool.dedup(in.readUTF());
 			status_timeout = SQLStreamables.readNullUnmodifiableTimestamp(in);
 			{
 				int size = in.readCompressedInt();
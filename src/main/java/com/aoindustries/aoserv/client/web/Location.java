@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2006-2009, 2016, 2017, 2018, 2019, 2021  AO Industries, Inc.
+ * Copyright (C) 2006-2009, 2016, 2017, 2018, 2019, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,6 +28,7 @@ import com.aoapps.lang.validation.ValidationException;
 import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.linux.PosixPath;
 import com.aoindustries.aoserv.client.schema.AoservProtocol;
 import com.aoindustries.aoserv.client.schema.Table;
@@ -219,8 +220,8 @@ final public class Location extends CachedObjectIntegerKey<Location> implements
 				String s = in.readCompressedUTF();
 				auth_user_file = s.isEmpty() ? null : PosixPath.valueOf(s);
 			}
-			require=in.readCompressedUTF().intern();
-			handler = in.readBoolean() ? in.readCompressedUTF().intern() : null;
+			require=ValuePool.dedup(in.readCompressedUTF());
+			handler = in.readBoolean() ? ValuePool.dedup(in.readCompressedUTF()) : null;
 		} catch(ValidationException e) {
 			throw new IOException(e);
 		}
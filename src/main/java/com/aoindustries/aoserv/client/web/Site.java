@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2009, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -33,6 +33,7 @@ import com.aoindustries.aoserv.client.CachedObjectIntegerKey;
 import com.aoindustries.aoserv.client.CannotRemoveReason;
 import com.aoindustries.aoserv.client.Disablable;
 import com.aoindustries.aoserv.client.Removable;
+import com.aoindustries.aoserv.client.ValuePool;
 import com.aoindustries.aoserv.client.account.Account;
 import com.aoindustries.aoserv.client.account.DisableLog;
 import com.aoindustries.aoserv.client.billing.Package;
@@ -347,9 +348,9 @@ final public class Site extends CachedObjectIntegerKey<Site> implements Disablab
 			ao_server = in.readCompressedInt();
 			name = in.readUTF();
 			list_first = in.readBoolean();
-			packageName = Account.Name.valueOf(in.readUTF()).intern();
-			linuxAccount = User.Name.valueOf(in.readUTF()).intern();
-			linuxGroup = Group.Name.valueOf(in.readUTF()).intern();
+			packageName = ValuePool.dedup(Account.Name.valueOf(in.readUTF()));
+			linuxAccount = ValuePool.dedup(User.Name.valueOf(in.readUTF()));
+			linuxGroup = ValuePool.dedup(Group.Name.valueOf(in.readUTF()));
 			serverAdmin = Email.valueOf(in.readUTF());
 			disable_log = in.readCompressedInt();
 			isManual = in.readBoolean();
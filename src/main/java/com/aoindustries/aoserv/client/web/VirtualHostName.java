@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2013, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -57,7 +57,8 @@ final public class VirtualHostName extends CachedObjectIntegerKey<VirtualHostNam
 
 	static final int
 		COLUMN_PKEY=0,
-		COLUMN_HTTPD_SITE_BIND=1
+		COLUMN_HTTPD_SITE_BIND=1,
+		COLUMN_IS_PRIMARY=3
 	;
 	static final String COLUMN_HOSTNAME_name = "hostname";
 	static final String COLUMN_HTTPD_SITE_BIND_name = "httpd_site_bind";
@@ -82,7 +83,7 @@ final public class VirtualHostName extends CachedObjectIntegerKey<VirtualHostNam
 			case COLUMN_PKEY: return pkey;
 			case COLUMN_HTTPD_SITE_BIND: return httpd_site_bind;
 			case 2: return hostname;
-			case 3: return isPrimary;
+			case COLUMN_IS_PRIMARY: return isPrimary;
 			default: throw new IllegalArgumentException("Invalid index: " + i);
 		}
 	}
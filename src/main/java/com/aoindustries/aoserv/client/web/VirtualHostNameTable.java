@@ -1,6 +1,6 @@
 /*
  * aoserv-client - Java client for the AOServ Platform.
- * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021  AO Industries, Inc.
+ * Copyright (C) 2001-2012, 2016, 2017, 2018, 2019, 2020, 2021, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,7 @@ import com.aoapps.hodgepodge.io.TerminalWriter;
 import com.aoapps.net.DomainName;
 import com.aoindustries.aoserv.client.AOServConnector;
 import com.aoindustries.aoserv.client.CachedTableIntegerKey;
+import com.aoindustries.aoserv.client.CompositeIndex;
 import com.aoindustries.aoserv.client.aosh.AOSH;
 import com.aoindustries.aoserv.client.aosh.Command;
 import com.aoindustries.aoserv.client.linux.Server;
@@ -85,27 +86,17 @@ final public class VirtualHostNameTable extends CachedTableIntegerKey<VirtualHos
 		return getIndexedRows(VirtualHostName.COLUMN_HTTPD_SITE_BIND, bind.getPkey());
 	}
 
+	private static final CompositeIndex httpdSiteBindIsPrimaryIndex = new CompositeIndex(false, VirtualHostName.COLUMN_HTTPD_SITE_BIND, VirtualHostName.COLUMN_IS_PRIMARY);
+
 	VirtualHostName getPrimaryHttpdSiteURL(VirtualHost bind) throws SQLException, IOException {
-		// Use the index first
-		List<VirtualHostName> cached=getHttpdSiteURLs(bind);
-		int size=cached.size();
-		for(int c=0;c<size;c++) {
-			VirtualHostName hsu=cached.get(c);
-			if(hsu.isPrimary()) return hsu;
-		}
+		List<VirtualHostName> primaries=getIndexedRows(httpdSiteBindIsPrimaryIndex, bind.getPkey(), true);
+		if(!primaries.isEmpty()) return primaries.get(0);
 		throw new SQLException("Unable to find primary HttpdSiteURL for HttpdSiteBind with pkey="+bind.getPkey());
 	}
 
 	List<VirtualHostName> getAltHttpdSiteURLs(VirtualHost bind) throws IOException, SQLException {
-		// Use the index first
-		List<VirtualHostName> cached=getHttpdSiteURLs(bind);
-		int size=cached.size();
-		List<VirtualHostName> matches=new ArrayList<>(size-1);
-		for(int c=0;c<size;c++) {
-			VirtualHostName hsu=cached.get(c);
-			if(!hsu.isPrimary()) matches.add(hsu);
-		}
-		return matches;
+		// Copy since callers have always received a modifiable list
+		return new ArrayList<>(getIndexedRows(httpdSiteBindIsPrimaryIndex, bind.getPkey(), false));
 	}
 
 	@Override
@@ -0,0 +1,139 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoindustries.aoserv.client.billing.WhoisHistoryTable;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundedRowCache}, and {@link CachedTable} while limited by
+ * {@link CachedTable#setMaxCachedEntries(int)}, using the empty whois history
+ * of a {@link TestConnector}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class BoundedRowCacheTest {
+
+	/**
+	 * The <code>time</code> column of {@link com.aoindustries.aoserv.client.billing.WhoisHistory}.
+	 */
+	private static final int WHOIS_HISTORY_TIME = 2;
+
+	private static int count(TestConnector conn, AoservProtocol.CommandID commID) {
+		return Collections.frequency(conn.getCommands(), commID);
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		BoundedRowCache<String> cache = new BoundedRowCache<>(2);
+		cache.putUnique(0, 1, "one");
+		cache.putUnique(0, 2, "two");
+		// Touch 1 so that 2 is the eldest
+		assertTrue(cache.containsUnique(0, 1));
+		cache.putUnique(0, 3, "three");
+		assertEquals(2, cache.getSize());
+		assertEquals(1, cache.getEvictions());
+		assertTrue(cache.containsUnique(0, 1));
+		assertFalse(cache.containsUnique(0, 2));
+		assertTrue(cache.containsUnique(0, 3));
+		assertEquals(3, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testCachesNotFound() {
+		BoundedRowCache<String> cache = new BoundedRowCache<>(10);
+		cache.putUnique(0, 1, null);
+		assertTrue(cache.containsUnique(0, 1));
+		assertNull(cache.getUnique(0, 1));
+	}
+
+	@Test
+	public void testIndexEntriesWeighedByRows() {
+		BoundedRowCache<String> cache = new BoundedRowCache<>(3);
+		cache.putIndexed(1, "a", Arrays.asList("x", "y"));
+		cache.putIndexed(1, "b", Collections.emptyList());
+		assertEquals(3, cache.getSize());
+		cache.putUnique(0, 1, "one");
+		assertEquals(2, cache.getSize());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.getIndexed(1, "a"));
+		assertSame(Collections.emptyList(), cache.getIndexed(1, "b"));
+	}
+
+	@Test
+	public void testScansNotKeptWhileBounded() throws Exception {
+		TestConnector conn = new TestConnector();
+		CachedTable<?, ?> table = conn.getBilling().getWhoisHistory();
+		assertTrue(table.getMaxCachedEntries() > 0);
+		assertEquals(0, table.size());
+		assertFalse(table.isLoaded());
+		assertEquals(0, table.getHeapEstimate().getRows());
+		// Kept only while pinned
+		TableSnapshot<?> pinned = table.pinSnapshot();
+		int loads = count(conn, AoservProtocol.CommandID.GET_TABLE);
+		assertEquals(0, table.size());
+		assertEquals(loads, count(conn, AoservProtocol.CommandID.GET_TABLE));
+		assertTrue(table.isCurrent(pinned));
+		assertFalse(table.isLoaded());
+		table.clearCache();
+		assertFalse(table.isCurrent(pinned));
+		assertEquals(0, table.size());
+		assertEquals(loads + 1, count(conn, AoservProtocol.CommandID.GET_TABLE));
+	}
+
+	@Test
+	public void testLookupsCachedWhileBounded() throws Exception {
+		TestConnector conn = new TestConnector();
+		WhoisHistoryTable whoisHistory = conn.getBilling().getWhoisHistory();
+		CachedTable<?, ?> table = whoisHistory;
+		// By primary key
+		assertNull(whoisHistory.get(1));
+		assertNull(whoisHistory.get(1));
+		assertEquals(1, count(conn, AoservProtocol.CommandID.GET_OBJECT));
+		assertEquals(0, count(conn, AoservProtocol.CommandID.GET_TABLE));
+		// By index, without a keyed command
+		Timestamp time = new Timestamp(0);
+		assertTrue(table.getIndexedRows(WHOIS_HISTORY_TIME, time).isEmpty());
+		int loads = count(conn, AoservProtocol.CommandID.GET_TABLE);
+		assertEquals(1, loads);
+		assertTrue(table.getIndexedRows(WHOIS_HISTORY_TIME, time).isEmpty());
+		assertEquals(loads, count(conn, AoservProtocol.CommandID.GET_TABLE));
+		assertEquals(2, table.getBoundedCacheHits());
+		assertEquals(2, table.getBoundedCacheMisses());
+		assertFalse(table.isLoaded());
+		// Invalidated
+		table.clearCache();
+		assertNull(whoisHistory.get(1));
+		assertEquals(2, count(conn, AoservProtocol.CommandID.GET_OBJECT));
+	}
+}
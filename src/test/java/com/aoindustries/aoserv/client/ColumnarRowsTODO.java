@@ -0,0 +1,96 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoindustries.aoserv.client.account.User;
+import java.util.Collections;
+import java.util.List;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests that every cached table survives the round trip through {@link ColumnarRows},
+ * and that materialized rows keep their identity while in use.
+ *
+ * TODO: This test does not run without a master setup.
+ *
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class ColumnarRowsTODO extends TestCase {
+
+	private List<AOServConnector> conns;
+
+	public ColumnarRowsTODO(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		conns = AOServConnectorTODO.getTestConnectors();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		conns = null;
+	}
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite(ColumnarRowsTODO.class);
+
+		return suite;
+	}
+
+	/**
+	 * Stores the rows of each cached table in columnar form and compares every column of every row.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void testRoundTrip() throws Exception {
+		System.out.println("Testing columnar round trip:");
+		for(AOServConnector conn : conns) {
+			User.Name username = conn.getCurrentAdministrator().getKey();
+			System.out.println("    "+username);
+			for(AOServTable<?, ?> table : conn.getTables()) {
+				if(!(table instanceof CachedTable)) continue;
+				List<AOServObject> rows = (List)table.getRows();
+				System.out.print("        "+table.getTableName()+": "+rows.size()+" rows");
+				int numColumns = table.getTableSchema().getSchemaColumns(conn).size();
+				ColumnarRows<AOServObject> columnar = new ColumnarRows<>(table, rows, Collections.<Integer>emptyList());
+				assertEquals(table.getTableName(), rows.size(), columnar.size());
+				for(int row = 0; row < rows.size(); row++) {
+					AOServObject expected = rows.get(row);
+					AOServObject actual = columnar.get(row);
+					assertEquals(table.getTableName(), expected, actual);
+					assertSame(table.getTableName(), actual, columnar.get(row));
+					for(int col = 0; col < numColumns; col++) {
+						String message = table.getTableName()+", row="+row+", col="+col;
+						assertEquals(message, expected.getColumn(col), actual.getColumn(col));
+						assertEquals(message, expected.getColumn(col), columnar.getValue(row, col));
+					}
+				}
+				System.out.println(": OK");
+			}
+		}
+	}
+}
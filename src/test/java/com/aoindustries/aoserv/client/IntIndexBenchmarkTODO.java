@@ -0,0 +1,109 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Times {@link IntIndex} against the boxed {@link HashMap} previously used to
+ * index integer columns.
+ *
+ * TODO: This benchmark only reports times, so is not run with the tests.
+ *
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class IntIndexBenchmarkTODO extends TestCase {
+
+	public IntIndexBenchmarkTODO(String testName) {
+		super(testName);
+	}
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite(IntIndexBenchmarkTODO.class);
+
+		return suite;
+	}
+
+	private static final int ROWS = 100000;
+	private static final int PASSES = 20;
+
+	/**
+	 * Compares lookup time by serial and sparse keys.  This only reports the times;
+	 * it does not fail when slower.
+	 */
+	public void testBenchmark() {
+		Random random = new Random(67890);
+		int[] serial = new int[ROWS];
+		int[] sparse = new int[ROWS];
+		for(int i = 0; i < ROWS; i++) {
+			serial[i] = i + 1;
+			sparse[i] = random.nextInt();
+		}
+		benchmark("serial", serial);
+		benchmark("sparse", sparse);
+	}
+
+	private static void benchmark(String label, int[] keys) {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for(int key : keys) {
+			if(key < min) min = key;
+			if(key > max) max = key;
+		}
+		Map<Object, Object> hashMap = new HashMap<>();
+		IntIndex<Object> intIndex = new IntIndex<>(min, max, keys.length);
+		for(int key : keys) {
+			Object value = new Object();
+			hashMap.put(key, value);
+			intIndex.put(key, value);
+		}
+		long hashTime = 0;
+		long intTime = 0;
+		int found = 0;
+		for(int pass = 0; pass < PASSES; pass++) {
+			long start = System.nanoTime();
+			for(int key : keys) {
+				if(hashMap.get(key) != null) found++;
+			}
+			hashTime += System.nanoTime() - start;
+			start = System.nanoTime();
+			for(int key : keys) {
+				if(intIndex.get(key) != null) found++;
+			}
+			intTime += System.nanoTime() - start;
+		}
+		assertEquals(2 * PASSES * keys.length, found);
+		System.out.println(
+			"IntIndexBenchmarkTODO: " + label + " " + (intIndex.isDense() ? "dense" : "hashed")
+			+ ": HashMap " + (hashTime / PASSES / 1000) + " µs"
+			+ ", IntIndex " + (intTime / PASSES / 1000) + " µs"
+			+ " per " + keys.length + " lookups"
+		);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests {@link IntIndex} and {@link LongIndex}.
+ *
+ * @see  IntIndexBenchmarkTODO
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntIndexTest {
+
+	@Test
+	public void testDenseForCompactKeys() {
+		IntIndex<String> index = new IntIndex<>(1000, 1999, 1000);
+		assertTrue(index.isDense());
+		for(int i = 1000; i < 2000; i++) {
+			assertNull(index.put(i, Integer.toString(i)));
+		}
+		assertEquals(1000, index.size());
+		assertEquals("1500", index.get(1500));
+		assertNull(index.get(999));
+		assertNull(index.get(2000));
+		assertNull(index.get(Integer.MIN_VALUE));
+		assertNull(index.get(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testHashedForSparseKeys() {
+		int[] keys = {Integer.MIN_VALUE, -1, 0, 1, 1 << 20, Integer.MAX_VALUE};
+		IntIndex<String> index = new IntIndex<>(Integer.MIN_VALUE, Integer.MAX_VALUE, keys.length);
+		assertFalse(index.isDense());
+		for(int key : keys) {
+			assertNull(index.put(key, Integer.toString(key)));
+		}
+		for(int key : keys) {
+			assertEquals(Integer.toString(key), index.get(key));
+		}
+		assertNull(index.get(2));
+		assertEquals("0", index.put(0, "zero"));
+		assertEquals(keys.length, index.size());
+	}
+
+	@Test
+	public void testLongIndex() {
+		LongIndex<String> index = new LongIndex<>(3);
+		assertNull(index.put(Long.MIN_VALUE, "min"));
+		assertNull(index.put(0, "zero"));
+		assertNull(index.put(Long.MAX_VALUE, "max"));
+		assertEquals("min", index.get(Long.MIN_VALUE));
+		assertEquals("max", index.get(Long.MAX_VALUE));
+		assertNull(index.get(1));
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	public void testRandomAgainstHashMap() {
+		Random random = new Random(12345);
+		int count = 10000;
+		Map<Integer, Object> expected = new HashMap<>();
+		while(expected.size() < count) {
+			expected.put(random.nextInt(), new Object());
+		}
+		IntIndex<Object> index = new IntIndex<>(Integer.MIN_VALUE, Integer.MAX_VALUE, count);
+		for(Map.Entry<Integer, Object> entry : expected.entrySet()) {
+			index.put(entry.getKey(), entry.getValue());
+		}
+		for(Map.Entry<Integer, Object> entry : expected.entrySet()) {
+			assertSame(entry.getValue(), index.get(entry.getKey()));
+		}
+		for(int i = 0; i < count; i++) {
+			int key = random.nextInt();
+			assertSame(expected.get(key), index.get(key));
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.collections.IntArrayList;
+import com.aoapps.collections.IntList;
+import com.aoapps.hodgepodge.io.AOPool;
+import com.aoapps.net.Port;
+import com.aoapps.net.Protocol;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Table;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Collections;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link LocalCacheConnector} against a {@link LocalCacheServer} on the
+ * loopback interface.  The server and the upstream of the connector each use
+ * a {@link TestConnector}, so no master is needed.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LocalCacheTest {
+
+	private static final Table.TableID TABLE = Table.TableID.PRIVATE_FTP_SERVERS;
+
+	private static final String PASSWORD = "password";
+
+	private TestConnector master;
+	private LocalCacheServer server;
+
+	@Before
+	public void setUp() throws Exception {
+		int port;
+		try (ServerSocket ss = new ServerSocket(0)) {
+			port = ss.getLocalPort();
+		}
+		master = new TestConnector(PASSWORD);
+		server = new LocalCacheServer(master, Port.valueOf(port, Protocol.TCP));
+		server.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if(server != null) {
+			server.close();
+			server = null;
+		}
+		master = null;
+	}
+
+	private LocalCacheConnector newLocalCacheConnector(TestConnector upstream) {
+		return LocalCacheConnector.getLocalCacheConnector(server.getPort(), upstream, 4, AOPool.DEFAULT_MAX_CONNECTION_AGE);
+	}
+
+	@Test
+	public void testRoutesTablesToLocalCache() throws Exception {
+		TestConnector upstream = new TestConnector(PASSWORD);
+		LocalCacheConnector local = newLocalCacheConnector(upstream);
+		AOServTable<?, ?> table = local.getTable(TABLE.ordinal());
+		assertTrue(table.getRows().isEmpty());
+		assertTrue(table.isLoaded());
+		// Loaded by the local cache server from its connector
+		assertTrue(master.getCommands().contains(AoservProtocol.CommandID.GET_TABLE));
+		assertTrue(master.getTable(TABLE.ordinal()).isLoaded());
+		assertFalse(upstream.getCommands().contains(AoservProtocol.CommandID.GET_TABLE));
+		// All other commands go upstream
+		local.requestUpdateIL(false, AoservProtocol.CommandID.SET_IP_ADDRESS_HOSTNAME, 1, "host.example.com");
+		assertTrue(upstream.getCommands().contains(AoservProtocol.CommandID.SET_IP_ADDRESS_HOSTNAME));
+		assertFalse(master.getCommands().contains(AoservProtocol.CommandID.SET_IP_ADDRESS_HOSTNAME));
+	}
+
+	@Test
+	public void testFallsBackWhenStopped() throws Exception {
+		server.close();
+		TestConnector upstream = new TestConnector(PASSWORD);
+		LocalCacheConnector local = newLocalCacheConnector(upstream);
+		AOServTable<?, ?> table = local.getTable(TABLE.ordinal());
+		assertTrue(table.getRows().isEmpty());
+		assertTrue(table.isLoaded());
+		// Loaded from the server instead
+		assertTrue(upstream.getCommands().contains(AoservProtocol.CommandID.GET_TABLE));
+		assertFalse(master.getCommands().contains(AoservProtocol.CommandID.GET_TABLE));
+		// Loaded from the server again while backing off
+		int loads = Collections.frequency(upstream.getCommands(), AoservProtocol.CommandID.GET_TABLE);
+		table.clearCache();
+		table.getRows();
+		assertEquals(loads + 1, Collections.frequency(upstream.getCommands(), AoservProtocol.CommandID.GET_TABLE));
+		// Invalidations are relayed from the upstream connector
+		IntList invalidateList = new IntArrayList(1);
+		invalidateList.add(TABLE.ordinal());
+		upstream.tablesUpdated(invalidateList);
+		assertFalse(table.isLoaded());
+	}
+
+	@Test
+	public void testRejectsOtherUser() throws Exception {
+		LocalCacheConnector local = newLocalCacheConnector(new TestConnector("other"));
+		try {
+			local.getConnection(1).close();
+			fail("Handshake should be rejected");
+		} catch(IOException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testForwardsInvalidations() throws Exception {
+		TestConnector upstream = new TestConnector(PASSWORD);
+		LocalCacheConnector local = newLocalCacheConnector(upstream);
+		local.getTable(TABLE.ordinal()).getRows();
+		assertTrue(master.getTable(TABLE.ordinal()).isLoaded());
+		// As returned by a command sent upstream
+		IntList invalidateList = new IntArrayList(1);
+		invalidateList.add(TABLE.ordinal());
+		local.tablesUpdated(invalidateList);
+		assertFalse(local.getTable(TABLE.ordinal()).isLoaded());
+		// INVALIDATE_TABLE was answered by the local cache server, clearing its cache
+		assertFalse(master.getTable(TABLE.ordinal()).isLoaded());
+		assertFalse(master.getCommands().contains(AoservProtocol.CommandID.INVALIDATE_TABLE));
+		assertFalse(upstream.getCommands().contains(AoservProtocol.CommandID.INVALIDATE_TABLE));
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.lang.exception.WrappedException;
+import com.aoindustries.aoserv.client.account.User;
+import com.aoindustries.aoserv.client.schema.Table;
+import com.aoindustries.aoserv.client.sql.SQLComparator;
+import com.aoindustries.aoserv.client.sql.SQLExpression;
+import com.aoindustries.aoserv.client.sql.SQLSortKeys;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Times sorting the largest tables into their default order, comparing the
+ * expressions interpreted per comparison, the expressions compiled once
+ * per sort, and the sort keys evaluated once per row, and finds the number of
+ * rows above which sorting in parallel is faster.
+ *
+ * TODO: This test does not run without a master setup.
+ *
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class SortBenchmarkTODO extends TestCase {
+
+	private static final int PASSES = 5;
+
+	private static final Table.TableID[] TABLES = {
+		Table.TableID.TRANSACTIONS,
+		Table.TableID.DISTRO_FILES,
+		Table.TableID.TICKET_ACTIONS,
+		Table.TableID.DNS_RECORDS
+	};
+
+	private List<AOServConnector> conns;
+
+	public SortBenchmarkTODO(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		conns = AOServConnectorTODO.getTestConnectors();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		conns = null;
+	}
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite(SortBenchmarkTODO.class);
+
+		return suite;
+	}
+
+	private interface Sorter {
+		void sort(List<AOServObject<?, ?>> rows) throws IOException, SQLException;
+	}
+
+	/**
+	 * Sorts shuffled copies of the rows, returning the average time in milliseconds.
+	 * The first pass warms up and is not timed.
+	 */
+	private static double time(List<AOServObject<?, ?>> shuffled, List<AOServObject<?, ?>> expected, Sorter sorter) throws IOException, SQLException {
+		long totalNanos = 0;
+		for(int pass = 0; pass <= PASSES; pass++) {
+			List<AOServObject<?, ?>> rows = new ArrayList<>(shuffled);
+			long startNanos = System.nanoTime();
+			sorter.sort(rows);
+			long nanos = System.nanoTime() - startNanos;
+			if(pass > 0) totalNanos += nanos;
+			assertEquals("Mismatched order", expected, rows);
+		}
+		return totalNanos / (PASSES * 1000000.0);
+	}
+
+	/**
+	 * Compares the time to sort each large table.
+	 */
+	public void testSortTimes() throws Exception {
+		System.out.println("Timing sorts into the default order");
+		for(AOServConnector conn : conns) {
+			User.Name username = conn.getCurrentAdministrator().getKey();
+			System.out.println("    "+username);
+			for(Table.TableID tableID : TABLES) {
+				AOServTable<?, ?> table = conn.getTable(tableID.ordinal());
+				SQLExpression[] exprs = table.getDefaultOrderBySQLExpressions();
+				if(exprs == null) continue;
+				AOServTable.OrderBy[] orderBys = table.getDefaultOrderBy();
+				boolean[] orders = new boolean[orderBys.length];
+				for(int c = 0; c < orderBys.length; c++) {
+					orders[c] = orderBys[c].getOrder();
+				}
+				@SuppressWarnings("unchecked")
+				List<AOServObject<?, ?>> expected = new ArrayList<>((List<AOServObject<?, ?>>)table.getRows());
+				if(expected.size() < 2) continue;
+				List<AOServObject<?, ?>> shuffled = new ArrayList<>(expected);
+				Collections.shuffle(shuffled, new Random(expected.size()));
+				// Ties are kept in their shuffled order by the stable sorts, so sort the expected order the same way
+				expected = new ArrayList<>(shuffled);
+				table.sortDefault(expected);
+
+				Comparator<AOServObject<?, ?>> interpreted = (o1, o2) -> {
+					try {
+						return o1.compareTo(conn, o2, exprs, orders);
+					} catch(IOException | SQLException e) {
+						throw new WrappedException(e);
+					}
+				};
+				double interpretedMillis = time(shuffled, expected, rows -> Collections.sort(rows, interpreted));
+				double compiledMillis = time(shuffled, expected, rows -> Collections.sort(rows, new SQLComparator<>(conn, exprs, orders)));
+				double keysMillis = time(shuffled, expected, rows -> SQLSortKeys.sort(conn, rows, exprs, orders, false));
+				double parallelMillis = time(shuffled, expected, rows -> SQLSortKeys.sort(conn, rows, exprs, orders, true));
+				System.out.println(
+					"        " + table.getTableName() + " (" + expected.size() + " rows): "
+					+ "interpreted " + String.format("%.1f", interpretedMillis) + " ms, "
+					+ "compiled " + String.format("%.1f", compiledMillis) + " ms, "
+					+ "sort keys " + String.format("%.1f", keysMillis) + " ms, "
+					+ "parallel " + String.format("%.1f", parallelMillis) + " ms"
+				);
+			}
+		}
+	}
+
+	/**
+	 * Times sorting increasing numbers of rows of the largest table sequentially
+	 * and in parallel, to find the {@linkplain AOServConnector#setParallelSortThreshold(int) threshold}.
+	 */
+	public void testParallelCrossover() throws Exception {
+		System.out.println("Timing sequential and parallel sorts (" + Runtime.getRuntime().availableProcessors() + " processors)");
+		AOServConnector conn = conns.get(0);
+		AOServTable<?, ?> table = conn.getTable(Table.TableID.TRANSACTIONS.ordinal());
+		SQLExpression[] exprs = table.getDefaultOrderBySQLExpressions();
+		AOServTable.OrderBy[] orderBys = table.getDefaultOrderBy();
+		boolean[] orders = new boolean[orderBys.length];
+		for(int c = 0; c < orderBys.length; c++) {
+			orders[c] = orderBys[c].getOrder();
+		}
+		@SuppressWarnings("unchecked")
+		List<AOServObject<?, ?>> all = new ArrayList<>((List<AOServObject<?, ?>>)table.getRows());
+		Collections.shuffle(all, new Random(all.size()));
+		int crossover = -1;
+		for(int size = 1000; size <= all.size(); size *= 2) {
+			List<AOServObject<?, ?>> shuffled = all.subList(0, size);
+			List<AOServObject<?, ?>> expected = new ArrayList<>(shuffled);
+			SQLSortKeys.sort(conn, expected, exprs, orders, false);
+			double sequentialMillis = time(shuffled, expected, rows -> SQLSortKeys.sort(conn, rows, exprs, orders, false));
+			double parallelMillis = time(shuffled, expected, rows -> SQLSortKeys.sort(conn, rows, exprs, orders, true));
+			System.out.println(
+				"    " + size + " rows: "
+				+ "sequential " + String.format("%.2f", sequentialMillis) + " ms, "
+				+ "parallel " + String.format("%.2f", parallelMillis) + " ms"
+			);
+			if(crossover == -1 && parallelMillis < sequentialMillis) crossover = size;
+		}
+		System.out.println("    Parallel faster from: " + (crossover == -1 ? "never" : (crossover + " rows")) + ", threshold: " + conn.getParallelSortThreshold() + " rows");
+	}
+}
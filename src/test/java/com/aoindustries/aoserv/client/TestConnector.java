@@ -0,0 +1,257 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import com.aoapps.hodgepodge.io.stream.StreamableInput;
+import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import com.aoapps.net.Port;
+import com.aoapps.net.Protocol;
+import com.aoindustries.aoserv.client.account.User;
+import com.aoindustries.aoserv.client.schema.AoservProtocol;
+import com.aoindustries.aoserv.client.schema.Column;
+import com.aoindustries.aoserv.client.schema.Table;
+import com.aoindustries.aoserv.client.schema.Type;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Answers every command locally, recording the commands received, so no master
+ * is needed.  {@link AoservProtocol.CommandID#GET_TABLE} is answered with a
+ * minimal schema, so expressions and where clauses may be parsed and executed.
+ * Every table is named by its {@link Table.TableID} in lower case, but only
+ * {@link Table.TableID#SCHEMA_TABLES} and {@link Table.TableID#SCHEMA_COLUMNS}
+ * have columns.  All other tables are empty, so
+ * {@link AoservProtocol.CommandID#GET_OBJECT} finds no row.  All other commands
+ * are answered with no invalidations.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TestConnector extends AOServConnector {
+
+	private static final String VERSION = AoservProtocol.Version.CURRENT_VERSION.getVersion();
+
+	/**
+	 * The types of the columns, by id.
+	 */
+	private static final String[] TYPES = new String[Type.HASHED_KEY + 1];
+	static {
+		TYPES[Type.BOOLEAN] = "boolean";
+		TYPES[Type.PKEY] = "pkey";
+		TYPES[Type.SHORT] = "short";
+		TYPES[Type.STRING] = "string";
+	}
+
+	private static final Table[] TABLES;
+	static {
+		Table.TableID[] tableIDs = Table.TableID.values();
+		TABLES = new Table[tableIDs.length];
+		for(Table.TableID tableID : tableIDs) {
+			String name = getTableName(tableID);
+			TABLES[tableID.ordinal()] = new Table(tableID.ordinal(), name, VERSION, null, name, true, "");
+		}
+	}
+
+	private static final Column[] COLUMNS = {
+		newColumn(0, Table.TableID.SCHEMA_TABLES, "id", 0, "pkey", false, true),
+		newColumn(1, Table.TableID.SCHEMA_TABLES, "name", 1, "string", false, true),
+		newColumn(2, Table.TableID.SCHEMA_TABLES, "since_version", 2, "string", false, false),
+		newColumn(3, Table.TableID.SCHEMA_TABLES, "last_version", 3, "string", true, false),
+		newColumn(4, Table.TableID.SCHEMA_TABLES, "display", 4, "string", false, false),
+		newColumn(5, Table.TableID.SCHEMA_TABLES, "is_public", 5, "boolean", false, false),
+		newColumn(6, Table.TableID.SCHEMA_TABLES, "description", 6, "string", false, false),
+		newColumn(7, Table.TableID.SCHEMA_COLUMNS, "id", 0, "pkey", false, true),
+		newColumn(8, Table.TableID.SCHEMA_COLUMNS, "table", 1, "string", false, false),
+		newColumn(9, Table.TableID.SCHEMA_COLUMNS, "name", 2, "string", false, false),
+		newColumn(10, Table.TableID.SCHEMA_COLUMNS, "since_version", 3, "string", false, false),
+		newColumn(11, Table.TableID.SCHEMA_COLUMNS, "last_version", 4, "string", true, false),
+		newColumn(12, Table.TableID.SCHEMA_COLUMNS, "index", 5, "short", false, false),
+		newColumn(13, Table.TableID.SCHEMA_COLUMNS, "type", 6, "string", false, false),
+		newColumn(14, Table.TableID.SCHEMA_COLUMNS, "is_nullable", 7, "boolean", false, false),
+		newColumn(15, Table.TableID.SCHEMA_COLUMNS, "is_unique", 8, "boolean", false, false),
+		newColumn(16, Table.TableID.SCHEMA_COLUMNS, "is_public", 9, "boolean", false, false),
+		newColumn(17, Table.TableID.SCHEMA_COLUMNS, "description", 10, "string", false, false)
+	};
+
+	/**
+	 * Gets the name of a table in this schema.
+	 */
+	public static String getTableName(Table.TableID tableID) {
+		return tableID.name().toLowerCase(Locale.ROOT);
+	}
+
+	private static Column newColumn(int id, Table.TableID table, String name, int index, String type, boolean isNullable, boolean isUnique) {
+		return new Column(id, getTableName(table), name, VERSION, null, (short)index, type, isNullable, isUnique, true, "");
+	}
+
+	private final List<AoservProtocol.CommandID> commands = new ArrayList<>();
+
+	public TestConnector() throws Exception {
+		this("password");
+	}
+
+	public TestConnector(String password) throws Exception {
+		super(
+			LocalCacheConnector.getLoopback(),
+			null,
+			Port.valueOf(1, Protocol.TCP),
+			User.Name.valueOf("test"),
+			User.Name.valueOf("test"),
+			password,
+			null
+		);
+	}
+
+	/**
+	 * Gets the commands received, in order.
+	 */
+	public List<AoservProtocol.CommandID> getCommands() {
+		synchronized(commands) {
+			return new ArrayList<>(commands);
+		}
+	}
+
+	@Override
+	protected AOServConnection getConnection(int maxConnections) {
+		return new TestConnection(this);
+	}
+
+	@Override
+	public String getProtocol() {
+		return "test";
+	}
+
+	@Override
+	public boolean isSecure() {
+		return true;
+	}
+
+	@Override
+	public void printConnectionStatsHTML(Appendable out, boolean isXhtml) {
+		// No statistics
+	}
+
+	@Override
+	protected void release(AOServConnection connection) {
+		// Not pooled
+	}
+
+	@Override
+	public AOServConnector switchUsers(User.Name username) {
+		throw new UnsupportedOperationException();
+	}
+
+	private static class TestConnection extends AOServConnection {
+
+		private final ByteArrayOutputStream request = new ByteArrayOutputStream();
+		private AoservProtocol.CommandID commID;
+
+		private TestConnection(TestConnector connector) {
+			super(connector);
+		}
+
+		@Override
+		Throwable abort(Throwable t0) {
+			return t0;
+		}
+
+		@Override
+		StreamableOutput getRequestOut(AoservProtocol.CommandID commID) {
+			this.commID = commID;
+			List<AoservProtocol.CommandID> commands = ((TestConnector)connector).commands;
+			synchronized(commands) {
+				commands.add(commID);
+			}
+			return new StreamableOutput(request);
+		}
+
+		@Override
+		StreamableInput getResponseIn() throws IOException {
+			ByteArrayOutputStream bout = new ByteArrayOutputStream();
+			try (StreamableOutput response = new StreamableOutput(bout)) {
+				if(commID == AoservProtocol.CommandID.GET_TABLE) {
+					boolean withProgress;
+					Table.TableID tableID;
+					try (StreamableInput in = new StreamableInput(new ByteArrayInputStream(request.toByteArray()))) {
+						withProgress = in.readBoolean();
+						tableID = Table.TableID.values()[in.readCompressedInt()];
+					}
+					writeTable(tableID, withProgress, response);
+				} else if(commID == AoservProtocol.CommandID.GET_OBJECT) {
+					// Not found
+					response.writeByte(AoservProtocol.DONE);
+				} else {
+					response.writeByte(AoservProtocol.DONE);
+					response.writeCompressedInt(-1);
+				}
+			}
+			return new StreamableInput(new ByteArrayInputStream(bout.toByteArray()));
+		}
+
+		private static void writeTable(Table.TableID tableID, boolean withProgress, StreamableOutput out) throws IOException {
+			AoservProtocol.Version version = AoservProtocol.Version.CURRENT_VERSION;
+			switch(tableID) {
+				case SCHEMA_TABLES :
+					if(withProgress) writeSize(TABLES.length, out);
+					for(Table table : TABLES) {
+						out.writeByte(AoservProtocol.NEXT);
+						table.write(out, version);
+					}
+					break;
+				case SCHEMA_COLUMNS :
+					if(withProgress) writeSize(COLUMNS.length, out);
+					for(Column column : COLUMNS) {
+						out.writeByte(AoservProtocol.NEXT);
+						column.write(out, version);
+					}
+					break;
+				case SCHEMA_TYPES :
+					if(withProgress) writeSize(TYPES.length, out);
+					for(int id = 0; id < TYPES.length; id++) {
+						out.writeByte(AoservProtocol.NEXT);
+						out.writeCompressedInt(id);
+						out.writeUTF(TYPES[id] == null ? ("unused_" + id) : TYPES[id]);
+						out.writeUTF(VERSION);
+						out.writeNullUTF(null);
+					}
+					break;
+				default :
+					if(withProgress) writeSize(0, out);
+			}
+			out.writeByte(AoservProtocol.DONE);
+		}
+
+		private static void writeSize(long size, StreamableOutput out) throws IOException {
+			out.writeByte(AoservProtocol.NEXT);
+			out.writeLong(size);
+		}
+
+		@Override
+		long getBytesRead() {
+			return -1;
+		}
+	}
+}
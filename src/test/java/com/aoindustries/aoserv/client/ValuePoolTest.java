@@ -0,0 +1,81 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * Tests {@link ValuePool}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ValuePoolTest {
+
+	@Test
+	public void testDedupsEqualValues() {
+		ValuePool pool = new ValuePool();
+		ValuePool previous = ValuePool.enter(pool);
+		try {
+			String first = new String("value");
+			String second = new String("value");
+			assertSame(first, ValuePool.dedup(first));
+			assertSame(first, ValuePool.dedup(second));
+		} finally {
+			ValuePool.exit(previous);
+		}
+		assertEquals(1, pool.size());
+		assertEquals(2, pool.getLookups());
+		assertEquals(1, pool.getHits());
+	}
+
+	@Test
+	public void testUnchangedWhenNotReading() {
+		String value = new String("value");
+		assertSame(value, ValuePool.dedup(value));
+	}
+
+	@Test
+	public void testEqualValuesOfDifferentClassesNotMixed() throws Exception {
+		ValuePool pool = new ValuePool();
+		ValuePool previous = ValuePool.enter(pool);
+		try {
+			com.aoindustries.aoserv.client.account.User.Name accountName = com.aoindustries.aoserv.client.account.User.Name.valueOf("test");
+			com.aoindustries.aoserv.client.linux.User.Name linuxName = com.aoindustries.aoserv.client.linux.User.Name.valueOf("test");
+			// Equal, since account.User.Name.equals only checks instanceof
+			assertEquals(accountName, linuxName);
+			assertSame(accountName, ValuePool.dedup(accountName));
+			com.aoindustries.aoserv.client.linux.User.Name deduped = ValuePool.dedup(linuxName);
+			assertSame(linuxName, deduped);
+			assertNotSame(accountName, deduped);
+			// Still deduplicated within each class
+			assertSame(linuxName, ValuePool.dedup(com.aoindustries.aoserv.client.linux.User.Name.valueOf("test")));
+			assertSame(accountName, ValuePool.dedup(com.aoindustries.aoserv.client.account.User.Name.valueOf("test")));
+		} finally {
+			ValuePool.exit(previous);
+		}
+		assertEquals(2, pool.size());
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.TestConnector;
+import java.sql.SQLException;
+import java.util.Arrays;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the quoting and where clause parsing of {@link Parser}.  Conditions are
+ * parsed against the columns of <code>schema_columns</code> in a
+ * {@link TestConnector}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ParserTest {
+
+	private TestConnector conn;
+	private AOServTable<?, ?> table;
+
+	@Before
+	public void setUp() throws Exception {
+		conn = new TestConnector();
+		// The schema tables are shared by all connectors
+		conn.clearCaches();
+		table = conn.getSchema().getColumn();
+	}
+
+	@After
+	public void tearDown() {
+		conn.clearCaches();
+		conn = null;
+		table = null;
+	}
+
+	/**
+	 * Parses a where clause, split into arguments on spaces.
+	 */
+	private SQLCondition parse(String where) throws Exception {
+		return Parser.parseSQLCondition(table, Arrays.asList(where.split(" ")));
+	}
+
+	private void assertParseError(String where) throws Exception {
+		try {
+			parse(where);
+			fail("Parse error expected: " + where);
+		} catch(SQLException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Parse error"));
+		}
+	}
+
+	@Test
+	public void testIndexOfNotQuoted() {
+		assertEquals(3, Parser.indexOfNotQuoted("abc.def", '.'));
+		assertEquals(7, Parser.indexOfNotQuoted("\"a.b.c\".d", '.'));
+		assertEquals(10, Parser.indexOfNotQuoted("\"a\"\".b\"\".\".c", '.'));
+		assertEquals(-1, Parser.indexOfNotQuoted("\"a.b\"", '.'));
+		assertEquals(3, Parser.indexOfNotQuoted("a.b.c", '.', 2));
+		assertEquals(1, Parser.indexOfNotQuoted("a::b", "::"));
+		assertEquals(6, Parser.indexOfNotQuoted("\"a::b\"::c", "::"));
+		assertEquals(2, Parser.indexOfNotQuoted("ab::", "::"));
+		assertEquals(-1, Parser.indexOfNotQuoted("a:b", "::"));
+	}
+
+	@Test
+	public void testQuote() {
+		assertEquals("name", Parser.quote("name"));
+		assertEquals("\"\"", Parser.quote(""));
+		assertEquals("\"a.b\"", Parser.quote("a.b"));
+		assertEquals("\"a b\"", Parser.quote("a b"));
+		assertEquals("\"a\"\"b\"", Parser.quote("a\"b"));
+		assertEquals("'it''s'", Parser.quoteValue("it's"));
+	}
+
+	@Test
+	public void testUnquote() {
+		assertEquals("name", Parser.unquote("name"));
+		assertEquals("a.b", Parser.unquote("\"a.b\""));
+		assertEquals("a\"b", Parser.unquote("\"a\"\"b\""));
+		assertEquals("a.b", Parser.unquote("a\".\"b"));
+		for(String str : new String[] {"", "name", "a.b", "a b", "a\"b", "\"\""}) {
+			assertEquals(str, Parser.unquote(Parser.quote(str)));
+		}
+	}
+
+	@Test
+	public void testTokenize() {
+		assertEquals(
+			Arrays.asList("name", "=", "'a b'"),
+			Parser.tokenize(Arrays.asList("name='a b'"))
+		);
+		assertEquals(
+			Arrays.asList("id", "in", "(", "1", ",", "2", ")"),
+			Parser.tokenize(Arrays.asList("id", "in(1,2)"))
+		);
+		assertEquals(
+			Arrays.asList("index", "<=", "5", "and", "id", "<>", "3"),
+			Parser.tokenize(Arrays.asList("index<=5", "and", "id!=3"))
+		);
+		assertEquals(
+			Arrays.asList("\"a=b\"", "<>", "'x=y'", "or", "(", "\"(\"", ">=", "'),'", ")"),
+			Parser.tokenize(Arrays.asList("\"a=b\"<>'x=y'", "or", "(\"(\">='),')"))
+		);
+	}
+
+	@Test
+	public void testComparison() throws Exception {
+		SQLComparison comparison = (SQLComparison)parse("index >= 2");
+		assertEquals(SQLComparison.GREATER_THAN_OR_EQUAL, comparison.getOperator());
+		assertEquals((short)2, comparison.getValue());
+		assertEquals("index >= 2", comparison.toString());
+		assertEquals("id <> 3", parse("id != 3").toString());
+		assertEquals("is_unique = 'true'", parse("is_unique = yes").toString());
+	}
+
+	@Test
+	public void testAndOr() throws Exception {
+		SQLCondition condition = parse("table = schema_tables and (name like 'is%' or last_version is null)");
+		assertTrue(condition instanceof SQLAnd);
+		assertEquals(2, ((SQLAnd)condition).getConditions().size());
+		assertTrue(((SQLAnd)condition).getConditions().get(1) instanceof SQLOr);
+		assertEquals("(table = 'schema_tables' AND (name LIKE 'is%' OR last_version IS NULL))", condition.toString());
+		// AND before OR
+		assertEquals("(id = 1 OR (id = 2 AND index = 0))", parse("id = 1 or id = 2 and index = 0").toString());
+		assertEquals("((id = 1 OR id = 2) AND index = 0)", parse("(id = 1 or id = 2) AND index = 0").toString());
+	}
+
+	@Test
+	public void testIn() throws Exception {
+		SQLIn in = (SQLIn)parse("id not in (1, 2)");
+		assertTrue(in.isNot());
+		assertEquals(Arrays.<Object>asList(1, 2), in.getValues());
+		assertEquals("id NOT IN (1, 2)", in.toString());
+		assertEquals("name IN ('a', 'b')", parse("name in('a','b')").toString());
+	}
+
+	@Test
+	public void testLike() throws Exception {
+		SQLLike like = (SQLLike)parse("name not like 'a''b%'");
+		assertTrue(like.isNot());
+		assertEquals("a'b%", like.getPattern());
+		assertEquals("name NOT LIKE 'a''b%'", like.toString());
+	}
+
+	@Test
+	public void testIsNull() throws Exception {
+		SQLIsNull isNull = (SQLIsNull)parse("last_version is not null");
+		assertTrue(isNull.isNot());
+		assertEquals("last_version IS NOT NULL", isNull.toString());
+		assertEquals("last_version IS NULL", parse("last_version IS NULL").toString());
+	}
+
+	@Test
+	public void testQuoting() throws Exception {
+		SQLComparison comparison = (SQLComparison)parse("\"name\" = 'it''s'");
+		assertEquals("it's", comparison.getValue());
+		assertEquals("name = 'it''s'", comparison.toString());
+		assertEquals("description = 'a = b'", Parser.parseSQLCondition(table, Arrays.asList("description", "=", "'a = b'")).toString());
+	}
+
+	@Test
+	public void testParseErrors() throws Exception {
+		assertParseError("no_such_column = 1");
+		assertParseError("name not = 'a'");
+		assertParseError("id = 1 )");
+		assertParseError("id in (1");
+		assertParseError("id = one");
+		assertParseError("last_version is");
+		assertParseError("(id = 1");
+		assertParseError("id = 1 and");
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * aoserv-client - Java client for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-client.
+ *
+ * aoserv-client is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-client is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-client.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoindustries.aoserv.client.sql;
+
+import com.aoindustries.aoserv.client.AOServObject;
+import com.aoindustries.aoserv.client.AOServTable;
+import com.aoindustries.aoserv.client.TestConnector;
+import com.aoindustries.aoserv.client.schema.Column;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the access chosen by {@link SQLPlan} and the rows selected, against the
+ * columns of <code>schema_columns</code> in a {@link TestConnector}.  Its
+ * <code>id</code> is unique, while <code>table</code> and <code>index</code>
+ * are looked up by index.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class SQLPlanTest {
+
+	private TestConnector conn;
+	private AOServTable<?, ?> table;
+
+	@Before
+	public void setUp() throws Exception {
+		conn = new TestConnector();
+		// The schema tables are shared by all connectors
+		conn.clearCaches();
+		table = conn.getSchema().getColumn();
+	}
+
+	@After
+	public void tearDown() {
+		conn.clearCaches();
+		conn = null;
+		table = null;
+	}
+
+	private SQLPlan plan(String where) throws Exception {
+		return SQLPlan.plan(table, Parser.parseSQLCondition(table, Arrays.asList(where.split(" "))));
+	}
+
+	/**
+	 * Gets the ids of the selected columns.
+	 */
+	private static List<Integer> getIds(List<AOServObject<?, ?>> rows) {
+		List<Integer> ids = new ArrayList<>(rows.size());
+		for(AOServObject<?, ?> row : rows) {
+			ids.add(((Column)row).getId());
+		}
+		return ids;
+	}
+
+	@Test
+	public void testScanAll() throws Exception {
+		SQLPlan plan = SQLPlan.plan(table, null);
+		assertEquals(SQLPlan.Access.SCAN, plan.getAccess());
+		assertNull(plan.getLookup());
+		assertTrue(plan.getFilters().isEmpty());
+		assertEquals(18, plan.execute().size());
+		assertTrue(plan.isDefaultOrder());
+		assertEquals(Arrays.asList("Sequential scan on schema_columns: 18 rows"), plan.explain());
+	}
+
+	@Test
+	public void testUnique() throws Exception {
+		SQLPlan plan = plan("id = 9");
+		assertEquals(SQLPlan.Access.UNIQUE, plan.getAccess());
+		assertEquals("id = 9", plan.getLookup().toString());
+		assertTrue(plan.getFilters().isEmpty());
+		assertEquals(Arrays.asList(9), getIds(plan.execute()));
+		assertEquals(Arrays.asList("Unique lookup on schema_columns using getUniqueRow(id = 9): 1 row"), plan.explain());
+	}
+
+	@Test
+	public void testIndexed() throws Exception {
+		SQLPlan plan = plan("table = schema_tables and name like '%_version'");
+		assertEquals(SQLPlan.Access.INDEXED, plan.getAccess());
+		assertEquals("table = 'schema_tables'", plan.getLookup().toString());
+		assertEquals("[name LIKE '%_version']", plan.getFilters().toString());
+		assertEquals(Arrays.asList(2, 3), getIds(plan.execute()));
+		assertTrue(plan.isDefaultOrder());
+		assertEquals(
+			Arrays.asList(
+				"Index lookup on schema_columns using getIndexedRows(table = 'schema_tables'): 7 rows",
+				"Filter: name LIKE '%_version': 2 rows"
+			),
+			plan.explain()
+		);
+	}
+
+	@Test
+	public void testPrefersUnique() throws Exception {
+		SQLPlan plan = plan("table = schema_columns and id in (8, 7)");
+		assertEquals(SQLPlan.Access.UNIQUE, plan.getAccess());
+		assertEquals("id IN (8, 7)", plan.getLookup().toString());
+		assertEquals("[table = 'schema_columns']", plan.getFilters().toString());
+		// Grouped by value
+		assertEquals(Arrays.asList(8, 7), getIds(plan.execute()));
+		assertFalse(plan.isDefaultOrder());
+	}
+
+	@Test
+	public void testPrefersFewestValues() throws Exception {
+		SQLPlan plan = plan("table in (schema_tables, schema_columns) and index = 0");
+		assertEquals(SQLPlan.Access.INDEXED, plan.getAccess());
+		assertEquals("index = 0", plan.getLookup().toString());
+		assertEquals(Arrays.asList(0, 7), getIds(plan.execute()));
+		assertTrue(plan.isDefaultOrder());
+	}
+
+	@Test
+	public void testDuplicateValues() throws Exception {
+		SQLPlan plan = plan("id in (3, 3)");
+		assertEquals(SQLPlan.Access.UNIQUE, plan.getAccess());
+		assertEquals(Arrays.asList(3), getIds(plan.execute()));
+		assertTrue(plan.isDefaultOrder());
+	}
+
+	@Test
+	public void testScan() throws Exception {
+		for(String where : new String[] {
+			"name like 'is%'",
+			"id = 1 or id = 2",
+			"id not in (1)",
+			"id <> 1",
+			"last_version is null"
+		}) {
+			SQLPlan plan = plan(where);
+			assertEquals(where, SQLPlan.Access.SCAN, plan.getAccess());
+			assertNull(where, plan.getLookup());
+			assertEquals(where, 1, plan.getFilters().size());
+		}
+		assertEquals(Arrays.asList(5, 14, 15, 16), getIds(plan("name like 'is%'").execute()));
+	}
+}